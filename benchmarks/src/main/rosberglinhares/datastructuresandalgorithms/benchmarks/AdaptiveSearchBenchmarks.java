@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.benchmarks;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import rosberglinhares.datastructuresandalgorithms.algorithms.searching.BinarySearch;
+import rosberglinhares.datastructuresandalgorithms.algorithms.searching.ExponentialSearch;
+import rosberglinhares.datastructuresandalgorithms.algorithms.searching.InterpolationSearch;
+
+/**
+ * Compares the exponential and the interpolation searches with the binary search on {@code long} arrays, for the
+ * cases each of them was designed for: values spread uniformly or growing quickly, and keys anywhere in the array
+ * or only near its start.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AdaptiveSearchBenchmarks {
+    
+    public enum ValueDistribution {
+        /** Random values, which are uniformly spread once sorted. */
+        UNIFORM,
+        
+        /** The cubes of the positions, a skewed distribution that misleads the interpolation. */
+        CUBES
+    }
+    
+    public enum KeyPosition {
+        ANYWHERE,
+        
+        /** Among the first thousand elements. */
+        NEAR_START
+    }
+    
+    private static final int KEYS_COUNT = 1024;
+    private static final int NEAR_START_LENGTH = 1000;
+    
+    @Param({ "10000", "1000000" })
+    private int size;
+    
+    @Param
+    private ValueDistribution distribution;
+    
+    @Param
+    private KeyPosition keyPosition;
+    
+    private long[] elements;
+    private long[] keys;
+    private int keyIndex;
+    
+    private BinarySearch binarySearch;
+    private ExponentialSearch exponentialSearch;
+    private InterpolationSearch interpolationSearch;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(this.size);
+        this.elements = new long[this.size];
+        
+        for (int i = 0; i < this.size; i++) {
+            this.elements[i] = (this.distribution == ValueDistribution.UNIFORM) ? random.nextLong() : (long)i * i * i;
+        }
+        
+        Arrays.sort(this.elements);
+        
+        int keyRange = (this.keyPosition == KeyPosition.NEAR_START) ? NEAR_START_LENGTH : this.size;
+        this.keys = new long[KEYS_COUNT];
+        
+        for (int i = 0; i < KEYS_COUNT; i++) {
+            // Half of the keys are missing, one more than an element
+            this.keys[i] = this.elements[random.nextInt(keyRange)] + (i % 2);
+        }
+        
+        this.binarySearch = new BinarySearch();
+        this.exponentialSearch = new ExponentialSearch();
+        this.interpolationSearch = new InterpolationSearch();
+    }
+    
+    private long nextKey() {
+        // KEYS_COUNT is a power of two
+        return this.keys[this.keyIndex++ & (KEYS_COUNT - 1)];
+    }
+    
+    @Benchmark
+    public boolean iterativeBinarySearch() {
+        return this.binarySearch.iterativeBinarySearch(this.elements, this.nextKey());
+    }
+    
+    @Benchmark
+    public int exponentialSearch() {
+        return this.exponentialSearch.indexOf(this.elements, this.nextKey());
+    }
+    
+    @Benchmark
+    public int interpolationSearch() {
+        return this.interpolationSearch.indexOf(this.elements, this.nextKey());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,149 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.benchmarks;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import rosberglinhares.datastructuresandalgorithms.datastructures.arrays.IntOrderedArray;
+import rosberglinhares.datastructuresandalgorithms.datastructures.arrays.OrderedArray;
+import rosberglinhares.datastructuresandalgorithms.datastructures.arrays.UnorderedArray;
+import rosberglinhares.datastructuresandalgorithms.datastructures.arrays.UnorderedArray.DeletionMode;
+
+/**
+ * Measures the search operations of {@link OrderedArray} and {@link UnorderedArray}. The arrays are filled once per
+ * trial and never changed; the operations that change them are measured by {@link ArrayUpdateBenchmarks}.
+ * 
+ * The indexed benchmarks use an unordered array with a hash index that swaps the last element into the hole on
+ * deletion, the fastest configuration when the order of the elements doesn't matter.
+ * 
+ * The off-heap benchmarks measure the same operations on an {@link IntOrderedArray}, whose elements are kept in native
+ * memory instead of as {@link Integer} objects. Running them with the GC profiler shows the difference in allocation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayBenchmarks {
+    
+    private static final int KEYS_COUNT = 1024;
+    
+    @State(Scope.Thread)
+    public static class FilledArrays {
+        
+        @Param({ "1000", "10000" })
+        int size;
+        
+        @Param
+        InputDistribution distribution;
+        
+        OrderedArray<Integer> orderedArray;
+        UnorderedArray<Integer> unorderedArray;
+        UnorderedArray<Integer> indexedArray;
+        IntOrderedArray offHeapArray;
+        
+        /** Keys drawn from the contents of the arrays. */
+        Integer[] keys;
+        int keyIndex;
+        
+        @Setup(Level.Trial)
+        public void setUp() {
+            Integer[] values = this.distribution.generate(this.size);
+            
+            this.orderedArray = new OrderedArray<Integer>(this.size);
+            this.offHeapArray = new IntOrderedArray(this.size);
+            this.unorderedArray = new UnorderedArray<Integer>(this.size);
+            this.indexedArray = new UnorderedArray<Integer>(this.size, UnorderedArray.FIXED_CAPACITY,
+                                                            DeletionMode.SWAP_WITH_LAST, true);
+            
+            for (Integer value : values) {
+                this.unorderedArray.insert(value);
+                this.indexedArray.insert(value);
+            }
+            
+            // Inserting in ascending order avoids a quadratic number of shifts while filling the ordered array
+            Integer[] sortedValues = values.clone();
+            Arrays.sort(sortedValues);
+            
+            for (Integer value : sortedValues) {
+                this.orderedArray.insert(value);
+                this.offHeapArray.insert(value);
+            }
+            
+            Random random = new Random(this.size);
+            this.keys = new Integer[KEYS_COUNT];
+            
+            for (int i = 0; i < KEYS_COUNT; i++) {
+                this.keys[i] = values[random.nextInt(this.size)];
+            }
+        }
+        
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            this.offHeapArray.close();
+        }
+        
+        Integer nextKey() {
+            // KEYS_COUNT is a power of two
+            return this.keys[this.keyIndex++ & (KEYS_COUNT - 1)];
+        }
+    }
+    
+    @Benchmark
+    public boolean orderedArrayBinarySearch(FilledArrays arrays) {
+        return arrays.orderedArray.binarySearch(arrays.nextKey());
+    }
+    
+    @Benchmark
+    public boolean offHeapArrayBinarySearch(FilledArrays arrays) {
+        return arrays.offHeapArray.binarySearch(arrays.nextKey());
+    }
+    
+    @Benchmark
+    public int unorderedArraySearch(FilledArrays arrays) {
+        return arrays.unorderedArray.search(arrays.nextKey());
+    }
+    
+    @Benchmark
+    public int indexedArraySearch(FilledArrays arrays) {
+        return arrays.indexedArray.search(arrays.nextKey());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,227 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package rosberglinhares.datastructuresandalgorithms.benchmarks;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import rosberglinhares.datastructuresandalgorithms.datastructures.arrays.IntOrderedArray;
+import rosberglinhares.datastructuresandalgorithms.datastructures.arrays.OrderedArray;
+import rosberglinhares.datastructuresandalgorithms.datastructures.arrays.UnorderedArray;
+import rosberglinhares.datastructuresandalgorithms.datastructures.arrays.UnorderedArray.DeletionMode;
+
+/**
+ * Measures the insert and delete operations of {@link OrderedArray}, {@link UnorderedArray} and
+ * {@link IntOrderedArray}, which change the arrays they run on.
+ * 
+ * A single insertion or deletion takes too little time to be timed on its own, and restoring the array around every
+ * call with invocation level fixtures would distort the result. Instead, the arrays are rebuilt before each iteration,
+ * and each iteration times a batch of {@code BATCH_SIZE} operations on them, reported as the time of the whole batch.
+ * The batch is small compared to the arrays, so their size barely changes during an iteration.
+ * 
+ * The bulk benchmarks compare loading and purging a whole batch of values one by one with the
+ * {@link OrderedArray#insertAll(Object[]) insertAll} and {@link OrderedArray#deleteAll(Object[]) deleteAll} methods.
+ * Each of their invocations already takes long enough, so they are timed one invocation per iteration.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20, batchSize = ArrayUpdateBenchmarks.BATCH_SIZE)
+@Measurement(iterations = 50, batchSize = ArrayUpdateBenchmarks.BATCH_SIZE)
+@Fork(1)
+@State(Scope.Thread)
+public class ArrayUpdateBenchmarks {
+    
+    static final int BATCH_SIZE = 100;
+    
+    @Param({ "1000", "10000" })
+    private int size;
+    
+    @Param
+    private InputDistribution distribution;
+    
+    /** The contents of the arrays, in the order they were generated. */
+    private Integer[] values;
+    
+    private Integer[] sortedValues;
+    
+    /** Keys drawn from the contents of the arrays, one for each operation of a batch. */
+    private Integer[] insertionKeys;
+    
+    /**
+     * Keys drawn from distinct positions of the arrays, so every deletion of a batch finds an element to delete, even
+     * among duplicates.
+     */
+    private Integer[] deletionKeys;
+    
+    private int keyIndex;
+    
+    private OrderedArray<Integer> orderedArray;
+    private UnorderedArray<Integer> unorderedArray;
+    private UnorderedArray<Integer> indexedArray;
+    private IntOrderedArray offHeapArray;
+    
+    private OrderedArray<Integer> emptyArray;
+    
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        this.values = this.distribution.generate(this.size);
+        
+        this.sortedValues = this.values.clone();
+        Arrays.sort(this.sortedValues);
+        
+        Random random = new Random(this.size);
+        this.insertionKeys = new Integer[BATCH_SIZE];
+        
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            this.insertionKeys[i] = this.values[random.nextInt(this.size)];
+        }
+        
+        List<Integer> shuffledValues = Arrays.asList(this.values.clone());
+        Collections.shuffle(shuffledValues, random);
+        this.deletionKeys = shuffledValues.subList(0, BATCH_SIZE).toArray(new Integer[BATCH_SIZE]);
+    }
+    
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        this.keyIndex = 0;
+        
+        // Room for a whole batch of insertions, so the arrays never grow while being measured
+        this.orderedArray = new OrderedArray<Integer>(this.size + BATCH_SIZE);
+        this.orderedArray.insertAll(this.sortedValues);
+        
+        this.offHeapArray = new IntOrderedArray(this.size + BATCH_SIZE);
+        
+        for (Integer value : this.sortedValues) {
+            this.offHeapArray.insert(value);
+        }
+        
+        this.unorderedArray = new UnorderedArray<Integer>(this.size + BATCH_SIZE);
+        this.indexedArray = new UnorderedArray<Integer>(this.size + BATCH_SIZE, UnorderedArray.FIXED_CAPACITY,
+                                                        DeletionMode.SWAP_WITH_LAST, true);
+        
+        for (Integer value : this.values) {
+            this.unorderedArray.insert(value);
+            this.indexedArray.insert(value);
+        }
+        
+        this.emptyArray = new OrderedArray<Integer>(this.size);
+    }
+    
+    @TearDown(Level.Iteration)
+    public void tearDownIteration() {
+        this.offHeapArray.close();
+    }
+    
+    private Integer nextInsertionKey() {
+        return this.insertionKeys[this.keyIndex++];
+    }
+    
+    private Integer nextDeletionKey() {
+        return this.deletionKeys[this.keyIndex++];
+    }
+    
+    @Benchmark
+    public void orderedArrayInsert() {
+        this.orderedArray.insert(this.nextInsertionKey());
+    }
+    
+    @Benchmark
+    public boolean orderedArrayDelete() {
+        return this.orderedArray.delete(this.nextDeletionKey());
+    }
+    
+    @Benchmark
+    public void offHeapArrayInsert() {
+        this.offHeapArray.insert(this.nextInsertionKey());
+    }
+    
+    @Benchmark
+    public void unorderedArrayInsert() {
+        this.unorderedArray.insert(this.nextInsertionKey());
+    }
+    
+    @Benchmark
+    public boolean unorderedArrayDelete() {
+        return this.unorderedArray.delete(this.nextDeletionKey());
+    }
+    
+    @Benchmark
+    public boolean indexedArrayDelete() {
+        return this.indexedArray.delete(this.nextDeletionKey());
+    }
+    
+    @Benchmark
+    @Warmup(iterations = 20, batchSize = 1)
+    @Measurement(iterations = 50, batchSize = 1)
+    public OrderedArray<Integer> orderedArrayInsertOneByOne() {
+        for (Integer value : this.values) {
+            this.emptyArray.insert(value);
+        }
+        
+        return this.emptyArray;
+    }
+    
+    @Benchmark
+    @Warmup(iterations = 20, batchSize = 1)
+    @Measurement(iterations = 50, batchSize = 1)
+    public OrderedArray<Integer> orderedArrayInsertAll() {
+        this.emptyArray.insertAll(this.values);
+        return this.emptyArray;
+    }
+    
+    @Benchmark
+    @Warmup(iterations = 20, batchSize = 1)
+    @Measurement(iterations = 50, batchSize = 1)
+    public OrderedArray<Integer> orderedArrayDeleteOneByOne() {
+        for (Integer key : this.deletionKeys) {
+            this.orderedArray.delete(key);
+        }
+        
+        return this.orderedArray;
+    }
+    
+    @Benchmark
+    @Warmup(iterations = 20, batchSize = 1)
+    @Measurement(iterations = 50, batchSize = 1)
+    public int orderedArrayDeleteAll() {
+        return this.orderedArray.deleteAll(this.deletionKeys);
+    }
+}
\ No newline at end of file
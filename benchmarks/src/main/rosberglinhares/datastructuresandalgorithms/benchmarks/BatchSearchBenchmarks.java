@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.benchmarks;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import rosberglinhares.datastructuresandalgorithms.algorithms.searching.BatchSearch;
+import rosberglinhares.datastructuresandalgorithms.algorithms.searching.BinarySearch;
+
+/**
+ * Measures the search of a batch of keys in the same array: one binary search per key, the interleaved searches of
+ * {@link BatchSearch} on the keys in random order, and its single pass over the same keys once sorted.
+ * 
+ * The sizes are 256 KB, which fits in the cache, and 64 MB, which doesn't, where hiding the memory latency matters.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BatchSearchBenchmarks {
+    
+    @Param({ "65536", "16777216" })
+    private int size;
+    
+    @Param({ "64", "4096" })
+    private int keysCount;
+    
+    private int[] elements;
+    private int[] keys;
+    private int[] sortedKeys;
+    
+    private BinarySearch binarySearch;
+    private BatchSearch batchSearch;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.elements = InputDistribution.RANDOM.generateInts(this.size);
+        Arrays.sort(this.elements);
+        
+        Random random = new Random(this.size);
+        this.keys = new int[this.keysCount];
+        
+        for (int i = 0; i < this.keysCount; i++) {
+            this.keys[i] = (i % 2 == 0) ? this.elements[random.nextInt(this.size)] : random.nextInt();
+        }
+        
+        this.sortedKeys = this.keys.clone();
+        Arrays.sort(this.sortedKeys);
+        
+        this.binarySearch = new BinarySearch();
+        this.batchSearch = new BatchSearch();
+    }
+    
+    @Benchmark
+    public int[] binarySearchPerKey() {
+        int[] results = new int[this.keysCount];
+        
+        for (int i = 0; i < this.keysCount; i++) {
+            results[i] = this.binarySearch.indexOf(this.elements, this.keys[i]);
+        }
+        
+        return results;
+    }
+    
+    @Benchmark
+    public int[] batchInterleaved() {
+        return this.batchSearch.indexOf(this.elements, this.keys);
+    }
+    
+    @Benchmark
+    public int[] batchSortedSweep() {
+        return this.batchSearch.indexOf(this.elements, this.sortedKeys);
+    }
+}
\ No newline at end of file
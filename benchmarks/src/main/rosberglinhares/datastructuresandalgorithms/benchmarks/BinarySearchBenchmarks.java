@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.benchmarks;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import rosberglinhares.datastructuresandalgorithms.algorithms.searching.BinarySearch;
+
+/**
+ * Measures the iterative and recursive binary searches. The searched keys are drawn from the input itself,
+ * mixed with the same amount of keys that are not present, so both the hit and the miss paths are exercised.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BinarySearchBenchmarks {
+    
+    private static final int KEYS_COUNT = 1024;
+    
+    @Param({ "1000", "100000", "1000000" })
+    private int size;
+    
+    // Sorted and reversed inputs are identical once sorted
+    @Param({ "RANDOM", "FEW_UNIQUE" })
+    private InputDistribution distribution;
+    
+    private Integer[] elements;
+    private Integer[] keys;
+    private int keyIndex;
+    
+    private BinarySearch binarySearch;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.elements = this.distribution.generate(this.size);
+        Arrays.sort(this.elements);
+        
+        Random random = new Random(this.size);
+        this.keys = new Integer[KEYS_COUNT];
+        
+        for (int i = 0; i < KEYS_COUNT; i++) {
+            this.keys[i] = (i % 2 == 0) ? this.elements[random.nextInt(this.size)] : random.nextInt();
+        }
+        
+        this.binarySearch = new BinarySearch();
+    }
+    
+    private Integer nextKey() {
+        // KEYS_COUNT is a power of two
+        return this.keys[this.keyIndex++ & (KEYS_COUNT - 1)];
+    }
+    
+    @Benchmark
+    public boolean iterativeBinarySearch() {
+        return this.binarySearch.iterativeBinarySearch(this.elements, this.nextKey());
+    }
+    
+    @Benchmark
+    public boolean recursiveBinarySearch() {
+        return this.binarySearch.recursiveBinarySearch(this.elements, this.nextKey());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,321 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import rosberglinhares.datastructuresandalgorithms.datastructures.stacksandqueues.ConcurrentQueue;
+import rosberglinhares.datastructuresandalgorithms.datastructures.stacksandqueues.MpscQueueArray;
+import rosberglinhares.datastructuresandalgorithms.datastructures.stacksandqueues.QueueArray;
+import rosberglinhares.datastructuresandalgorithms.datastructures.stacksandqueues.SpscQueueArray;
+
+/**
+ * Measures the throughput of the handoff between producer threads and one consumer thread.
+ * 
+ * Each benchmark group runs its producers and its consumer at the same time over a shared queue. The {@code spsc}
+ * group measures {@link SpscQueueArray} with a single producer, while the {@code producersN} groups measure
+ * {@link MpscQueueArray} and a {@link QueueArray} guarded by a lock with N producers.
+ * 
+ * Neither side ever blocks: an offer to a full queue or a poll from an empty one just fails, so no thread is left
+ * waiting for the other when an iteration ends. Only the elements actually transferred are counted, in the
+ * {@code offered} and {@code polled} secondary results; the primary score also counts the failed attempts.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentQueueBenchmarks {
+    
+    private static final int CAPACITY = 1024;
+    
+    public enum Implementation {
+        LOCKED_ARRAY,
+        MPSC
+    }
+    
+    /**
+     * The queue shared by a benchmark group. JMH only accepts parameters in classes annotated with {@link State},
+     * so the batch size is declared by each subclass and passed in by its setup.
+     */
+    public abstract static class BaseQueueState {
+        
+        ConcurrentQueue<Integer> queue;
+        Integer[] batch;
+        
+        /**
+         * @param batchSize elements moved by each call. With 1, the single element methods are used instead of the
+         *                  batch ones.
+         */
+        void setUp(ConcurrentQueue<Integer> queue, int batchSize) {
+            this.queue = queue;
+            this.batch = new Integer[batchSize];
+            
+            for (int i = 0; i < batchSize; i++) {
+                this.batch[i] = i;
+            }
+        }
+        
+        int offer() {
+            if (this.batch.length == 1) {
+                return this.queue.offer(this.batch[0]) ? 1 : 0;
+            } else {
+                return this.queue.offer(this.batch, 0, this.batch.length);
+            }
+        }
+        
+        int poll(Consumer<Integer> consumer) {
+            if (this.batch.length == 1) {
+                Integer element = this.queue.poll();
+                
+                if (element != null) {
+                    consumer.accept(element);
+                    return 1;
+                } else {
+                    return 0;
+                }
+            } else {
+                return this.queue.drain(consumer, this.batch.length);
+            }
+        }
+    }
+    
+    @State(Scope.Group)
+    public static class SpscQueueState extends BaseQueueState {
+        
+        @Param({ "1", "32" })
+        private int batchSize;
+        
+        @Setup(Level.Trial)
+        public void setUp() {
+            this.setUp(new SpscQueueArray<Integer>(CAPACITY), this.batchSize);
+        }
+    }
+    
+    @State(Scope.Group)
+    public static class MpscQueueState extends BaseQueueState {
+        
+        @Param({ "1", "32" })
+        private int batchSize;
+        
+        @Param
+        private Implementation implementation;
+        
+        @Setup(Level.Trial)
+        public void setUp() {
+            switch (this.implementation) {
+                case LOCKED_ARRAY:
+                    this.setUp(new LockedQueue<Integer>(CAPACITY), this.batchSize);
+                    break;
+                case MPSC:
+                    this.setUp(new MpscQueueArray<Integer>(CAPACITY), this.batchSize);
+                    break;
+                default:
+                    throw new IllegalStateException(this.implementation.toString());
+            }
+        }
+    }
+    
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long offered;
+        public long polled;
+        
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.offered = 0;
+            this.polled = 0;
+        }
+    }
+    
+    @Benchmark
+    @Group("spsc")
+    @GroupThreads(1)
+    public void spscOffer(SpscQueueState state, Counters counters) {
+        counters.offered += state.offer();
+    }
+    
+    @Benchmark
+    @Group("spsc")
+    @GroupThreads(1)
+    public void spscPoll(SpscQueueState state, Counters counters, Blackhole blackhole) {
+        counters.polled += state.poll(blackhole::consume);
+    }
+    
+    @Benchmark
+    @Group("producers1")
+    @GroupThreads(1)
+    public void producers1Offer(MpscQueueState state, Counters counters) {
+        counters.offered += state.offer();
+    }
+    
+    @Benchmark
+    @Group("producers1")
+    @GroupThreads(1)
+    public void producers1Poll(MpscQueueState state, Counters counters, Blackhole blackhole) {
+        counters.polled += state.poll(blackhole::consume);
+    }
+    
+    @Benchmark
+    @Group("producers2")
+    @GroupThreads(2)
+    public void producers2Offer(MpscQueueState state, Counters counters) {
+        counters.offered += state.offer();
+    }
+    
+    @Benchmark
+    @Group("producers2")
+    @GroupThreads(1)
+    public void producers2Poll(MpscQueueState state, Counters counters, Blackhole blackhole) {
+        counters.polled += state.poll(blackhole::consume);
+    }
+    
+    @Benchmark
+    @Group("producers4")
+    @GroupThreads(4)
+    public void producers4Offer(MpscQueueState state, Counters counters) {
+        counters.offered += state.offer();
+    }
+    
+    @Benchmark
+    @Group("producers4")
+    @GroupThreads(1)
+    public void producers4Poll(MpscQueueState state, Counters counters, Blackhole blackhole) {
+        counters.polled += state.poll(blackhole::consume);
+    }
+    
+    @Benchmark
+    @Group("producers8")
+    @GroupThreads(8)
+    public void producers8Offer(MpscQueueState state, Counters counters) {
+        counters.offered += state.offer();
+    }
+    
+    @Benchmark
+    @Group("producers8")
+    @GroupThreads(1)
+    public void producers8Poll(MpscQueueState state, Counters counters, Blackhole blackhole) {
+        counters.polled += state.poll(blackhole::consume);
+    }
+    
+    /**
+     * The usual way of sharing a queue that isn't thread-safe: every operation holds the same lock.
+     */
+    private static class LockedQueue<T> implements ConcurrentQueue<T> {
+        private final QueueArray<T> queue;
+        
+        public LockedQueue(int maxSize) {
+            this.queue = new QueueArray<T>(maxSize);
+        }
+        
+        @Override
+        public synchronized boolean isEmpty() {
+            return this.queue.isEmpty();
+        }
+        
+        @Override
+        public synchronized int size() {
+            return this.queue.size();
+        }
+        
+        @Override
+        public int capacity() {
+            return this.queue.capacity();
+        }
+        
+        @Override
+        public synchronized void enqueue(T element) {
+            this.queue.enqueue(element);
+        }
+        
+        @Override
+        public synchronized T dequeue() {
+            return this.queue.dequeue();
+        }
+        
+        @Override
+        public synchronized T peek() {
+            return this.queue.peek();
+        }
+        
+        @Override
+        public synchronized boolean offer(T element) {
+            if (this.queue.isFull()) {
+                return false;
+            }
+            
+            this.queue.enqueue(element);
+            return true;
+        }
+        
+        @Override
+        public synchronized int offer(T[] elements, int offset, int length) {
+            int count = 0;
+            
+            while (count < length && !this.queue.isFull()) {
+                this.queue.enqueue(elements[offset + count]);
+                count++;
+            }
+            
+            return count;
+        }
+        
+        @Override
+        public synchronized T poll() {
+            return this.queue.isEmpty() ? null : this.queue.dequeue();
+        }
+        
+        @Override
+        public synchronized int drain(Consumer<? super T> consumer, int limit) {
+            int count = 0;
+            
+            while (count < limit && !this.queue.isEmpty()) {
+                consumer.accept(this.queue.dequeue());
+                count++;
+            }
+            
+            return count;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,148 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import rosberglinhares.datastructuresandalgorithms.datastructures.stacksandqueues.ConcurrentStack;
+import rosberglinhares.datastructuresandalgorithms.datastructures.stacksandqueues.Stack;
+import rosberglinhares.datastructuresandalgorithms.datastructures.stacksandqueues.StackArray;
+
+/**
+ * Measures a stack shared by several threads, comparing {@link ConcurrentStack}, with and without the elimination
+ * array, against a {@link StackArray} guarded by a lock.
+ * 
+ * Every thread pushes an element and pops one back, so all of them compete for the top of the stack all the time.
+ * The number of threads defaults to 4 and can be changed with the {@code -t} option of the command line,
+ * e.g. {@code -t 1} for the uncontended cost.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ConcurrentStackBenchmarks {
+    
+    public enum Implementation {
+        SYNCHRONIZED_ARRAY,
+        CONCURRENT,
+        CONCURRENT_ELIMINATION
+    }
+    
+    /**
+     * Elements pushed before the measurement, so the pops don't always find the stack almost empty.
+     */
+    private static final int INITIAL_DEPTH = 1024;
+    
+    private static final int INITIAL_CAPACITY = 2 * INITIAL_DEPTH;
+    private static final double GROWTH_FACTOR = 2.0;
+    private static final int ELIMINATION_ARRAY_SIZE = 4;
+    
+    @Param
+    private Implementation implementation;
+    
+    private Stack<Integer> stack;
+    
+    private final Integer value = 42;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        switch (this.implementation) {
+            case SYNCHRONIZED_ARRAY:
+                this.stack = new SynchronizedStack<Integer>(new StackArray<Integer>(INITIAL_CAPACITY, GROWTH_FACTOR));
+                break;
+            case CONCURRENT:
+                this.stack = new ConcurrentStack<Integer>();
+                break;
+            case CONCURRENT_ELIMINATION:
+                this.stack = new ConcurrentStack<Integer>(ELIMINATION_ARRAY_SIZE);
+                break;
+            default:
+                throw new IllegalStateException(this.implementation.toString());
+        }
+        
+        for (int i = 0; i < INITIAL_DEPTH; i++) {
+            this.stack.push(i);
+        }
+    }
+    
+    @Benchmark
+    public Integer pushPop() {
+        this.stack.push(this.value);
+        return this.stack.pop();
+    }
+    
+    /**
+     * The usual way of sharing a stack that isn't thread-safe: every operation holds the same lock.
+     */
+    private static class SynchronizedStack<T> implements Stack<T> {
+        private final Stack<T> stack;
+        
+        public SynchronizedStack(Stack<T> stack) {
+            this.stack = stack;
+        }
+        
+        @Override
+        public synchronized boolean isEmpty() {
+            return this.stack.isEmpty();
+        }
+        
+        @Override
+        public synchronized int size() {
+            return this.stack.size();
+        }
+        
+        @Override
+        public synchronized void push(T element) {
+            this.stack.push(element);
+        }
+        
+        @Override
+        public synchronized T pop() {
+            return this.stack.pop();
+        }
+        
+        @Override
+        public synchronized T peek() {
+            return this.stack.peek();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,133 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.benchmarks;
+
+import java.util.Random;
+
+/**
+ * The shapes of input data the benchmarks are swept over. The elementary sorts in particular behave very differently
+ * depending on how the data is arranged: the insertion sort is linear on sorted data and quadratic on reversed data,
+ * for example.
+ */
+public enum InputDistribution {
+    
+    /** Uniformly distributed values. */
+    RANDOM {
+        @Override
+        int[] generateValues(int size, Random random) {
+            int[] values = new int[size];
+            
+            for (int i = 0; i < size; i++) {
+                values[i] = random.nextInt();
+            }
+            
+            return values;
+        }
+    },
+    
+    /** Values already in ascending order. */
+    SORTED {
+        @Override
+        int[] generateValues(int size, Random random) {
+            int[] values = new int[size];
+            
+            for (int i = 0; i < size; i++) {
+                values[i] = i;
+            }
+            
+            return values;
+        }
+    },
+    
+    /** Values in descending order, usually the worst case for the elementary sorts. */
+    REVERSED {
+        @Override
+        int[] generateValues(int size, Random random) {
+            int[] values = new int[size];
+            
+            for (int i = 0; i < size; i++) {
+                values[i] = size - i;
+            }
+            
+            return values;
+        }
+    },
+    
+    /** Values in ascending order followed by a few random ones, like a log with new entries appended. */
+    APPENDED {
+        @Override
+        int[] generateValues(int size, Random random) {
+            int[] values = new int[size];
+            int sortedCount = size - size / APPENDED_PERCENTAGE_DIVISOR;
+            
+            for (int i = 0; i < size; i++) {
+                values[i] = i < sortedCount ? i : random.nextInt(size);
+            }
+            
+            return values;
+        }
+    },
+    
+    /** Random values drawn from a small set, so most of the elements have duplicates. */
+    FEW_UNIQUE {
+        @Override
+        int[] generateValues(int size, Random random) {
+            int[] values = new int[size];
+            
+            for (int i = 0; i < size; i++) {
+                values[i] = random.nextInt(FEW_UNIQUE_VALUES_COUNT);
+            }
+            
+            return values;
+        }
+    };
+    
+    private static final int FEW_UNIQUE_VALUES_COUNT = 16;
+    
+    /** One in this many values of the APPENDED distribution is random. */
+    private static final int APPENDED_PERCENTAGE_DIVISOR = 100;
+    
+    /**
+     * A fixed seed keeps the generated inputs identical between runs, so the results can be compared.
+     */
+    private static final long SEED = 0x5EED_CAFEL;
+    
+    abstract int[] generateValues(int size, Random random);
+    
+    public int[] generateInts(int size) {
+        return this.generateValues(size, new Random(SEED));
+    }
+    
+    public Integer[] generate(int size) {
+        int[] values = this.generateInts(size);
+        Integer[] items = new Integer[size];
+        
+        for (int i = 0; i < size; i++) {
+            items[i] = values[i];
+        }
+        
+        return items;
+    }
+}
\ No newline at end of file
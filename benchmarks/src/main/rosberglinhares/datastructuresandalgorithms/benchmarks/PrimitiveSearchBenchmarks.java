@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.benchmarks;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import rosberglinhares.datastructuresandalgorithms.algorithms.searching.BinarySearch;
+import rosberglinhares.datastructuresandalgorithms.algorithms.searching.EytzingerSearch;
+
+/**
+ * Compares the searches on {@code int} arrays as the array outgrows each level of the memory hierarchy. The sizes
+ * are 4 KB, 256 KB, 4 MB and 64 MB, which usually fit in the L1, L2 and L3 caches and in the main memory,
+ * respectively.
+ * 
+ * The keys are random, so that the branch predictor can't learn the path of the searches and the cache only keeps
+ * the elements that every search visits.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitiveSearchBenchmarks {
+    
+    private static final int KEYS_COUNT = 4096;
+    
+    @Param({ "1024", "65536", "1048576", "16777216" })
+    private int size;
+    
+    private int[] elements;
+    private int[] keys;
+    private int keyIndex;
+    
+    private BinarySearch binarySearch;
+    private EytzingerSearch eytzingerSearch;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.elements = InputDistribution.RANDOM.generateInts(this.size);
+        Arrays.sort(this.elements);
+        
+        Random random = new Random(this.size);
+        this.keys = new int[KEYS_COUNT];
+        
+        for (int i = 0; i < KEYS_COUNT; i++) {
+            this.keys[i] = (i % 2 == 0) ? this.elements[random.nextInt(this.size)] : random.nextInt();
+        }
+        
+        this.binarySearch = new BinarySearch();
+        this.eytzingerSearch = new EytzingerSearch(this.elements);
+    }
+    
+    private int nextKey() {
+        // KEYS_COUNT is a power of two
+        return this.keys[this.keyIndex++ & (KEYS_COUNT - 1)];
+    }
+    
+    @Benchmark
+    public int arraysBinarySearch() {
+        return Arrays.binarySearch(this.elements, this.nextKey());
+    }
+    
+    @Benchmark
+    public boolean iterativeBinarySearch() {
+        return this.binarySearch.iterativeBinarySearch(this.elements, this.nextKey());
+    }
+    
+    @Benchmark
+    public int branchlessLowerBound() {
+        return this.binarySearch.lowerBound(this.elements, this.nextKey());
+    }
+    
+    @Benchmark
+    public int eytzingerLowerBound() {
+        return this.eytzingerSearch.lowerBound(this.nextKey());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package rosberglinhares.datastructuresandalgorithms.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.channels.Channels;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import rosberglinhares.datastructuresandalgorithms.datastructures.ElementCodec;
+import rosberglinhares.datastructuresandalgorithms.datastructures.arrays.UnorderedArray;
+
+/**
+ * Compares the binary snapshots of {@link UnorderedArray} with Java serialization of the same elements in an array,
+ * both written to and read from memory. The size of the output of each one is printed once per trial.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SnapshotBenchmarks {
+    
+    @Param({ "1000", "100000" })
+    private int size;
+    
+    private Integer[] values;
+    private UnorderedArray<Integer> array;
+    private UnorderedArray<Integer> restoredArray;
+    private ByteArrayOutputStream output;
+    private byte[] snapshot;
+    private byte[] serializedValues;
+    
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.values = InputDistribution.RANDOM.generate(this.size);
+        this.array = new UnorderedArray<Integer>(this.size);
+        this.restoredArray = new UnorderedArray<Integer>(this.size);
+        this.output = new ByteArrayOutputStream();
+        
+        for (Integer value : this.values) {
+            this.array.insert(value);
+        }
+        
+        this.snapshot = this.writeSnapshot().toByteArray();
+        this.serializedValues = this.serialize().toByteArray();
+        
+        System.out.println();
+        System.out.println("Snapshot: " + this.snapshot.length + " bytes, serialization: "
+                           + this.serializedValues.length + " bytes");
+    }
+    
+    @Benchmark
+    public ByteArrayOutputStream writeSnapshot() throws IOException {
+        this.output.reset();
+        this.array.writeSnapshot(Channels.newChannel(this.output), ElementCodec.ints());
+        
+        return this.output;
+    }
+    
+    @Benchmark
+    public UnorderedArray<Integer> readSnapshot() throws IOException {
+        this.restoredArray.readSnapshot(Channels.newChannel(new ByteArrayInputStream(this.snapshot)),
+                                        ElementCodec.ints());
+        
+        return this.restoredArray;
+    }
+    
+    @Benchmark
+    public ByteArrayOutputStream serialize() throws IOException {
+        this.output.reset();
+        
+        try (ObjectOutputStream objectOutput = new ObjectOutputStream(this.output)) {
+            objectOutput.writeObject(this.values);
+        }
+        
+        return this.output;
+    }
+    
+    @Benchmark
+    public Object deserialize() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream objectInput = new ObjectInputStream(new ByteArrayInputStream(this.serializedValues))) {
+            return objectInput.readObject();
+        }
+    }
+}
\ No newline at end of file
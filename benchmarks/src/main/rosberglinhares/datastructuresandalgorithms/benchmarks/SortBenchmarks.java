@@ -0,0 +1,210 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.benchmarks;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import rosberglinhares.datastructuresandalgorithms.algorithms.sorting.BubbleSort;
+import rosberglinhares.datastructuresandalgorithms.algorithms.sorting.HeapSort;
+import rosberglinhares.datastructuresandalgorithms.algorithms.sorting.InsertionSort;
+import rosberglinhares.datastructuresandalgorithms.algorithms.sorting.MergeSort;
+import rosberglinhares.datastructuresandalgorithms.algorithms.sorting.PartialSort;
+import rosberglinhares.datastructuresandalgorithms.algorithms.sorting.QuickSort;
+import rosberglinhares.datastructuresandalgorithms.algorithms.sorting.RadixSort;
+import rosberglinhares.datastructuresandalgorithms.algorithms.sorting.SelectionSort;
+import rosberglinhares.datastructuresandalgorithms.algorithms.sorting.Sorter;
+import rosberglinhares.datastructuresandalgorithms.algorithms.sorting.TimSort;
+import rosberglinhares.datastructuresandalgorithms.algorithms.sorting.TopK;
+
+/**
+ * Measures the iterative and recursive forms of every sort of the {@code algorithms.sorting} package.
+ * 
+ * Each invocation sorts a fresh copy of the same input. Copying it is part of the score, and is measured alone by
+ * {@code copyBaseline}.
+ * 
+ * {@code partialSort} and {@code topK} only order the {@code TOP_COUNT} smallest items, to be compared against the
+ * full sorts of the same input.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SortBenchmarks {
+    
+    private static final int TOP_COUNT = 10;
+    
+    @Param({ "100", "1000", "10000" })
+    private int size;
+    
+    @Param
+    private InputDistribution distribution;
+    
+    private Integer[] source;
+    private Integer[] items;
+    
+    private BubbleSort bubbleSort;
+    private InsertionSort insertionSort;
+    private SelectionSort selectionSort;
+    private MergeSort mergeSort;
+    private QuickSort quickSort;
+    private HeapSort heapSort;
+    private TimSort timSort;
+    private RadixSort radixSort;
+    private PartialSort partialSort;
+    private Sorter sorter;
+    
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        this.source = this.distribution.generate(this.size);
+        this.items = new Integer[this.size];
+        
+        this.bubbleSort = new BubbleSort();
+        this.insertionSort = new InsertionSort();
+        this.selectionSort = new SelectionSort();
+        this.mergeSort = new MergeSort();
+        this.quickSort = new QuickSort();
+        this.heapSort = new HeapSort();
+        this.timSort = new TimSort();
+        this.radixSort = new RadixSort();
+        this.partialSort = new PartialSort();
+        this.sorter = new Sorter();
+    }
+    
+    /**
+     * Restores the input of the sorts. The copy is part of the measured region, as restoring it in an invocation level
+     * fixture would distort the timing of the faster sorts far more; {@code copyBaseline} measures it alone.
+     */
+    private Integer[] freshItems() {
+        System.arraycopy(this.source, 0, this.items, 0, this.size);
+        return this.items;
+    }
+    
+    @Benchmark
+    public Integer[] copyBaseline() {
+        return this.freshItems();
+    }
+    
+    @Benchmark
+    public Integer[] iterativeBubbleSort() {
+        this.bubbleSort.iterativeBubbleSort(this.freshItems());
+        return this.items;
+    }
+    
+    @Benchmark
+    public Integer[] recursiveBubbleSort() {
+        this.bubbleSort.recursiveBubbleSort(this.freshItems());
+        return this.items;
+    }
+    
+    @Benchmark
+    public Integer[] iterativeInsertionSort() {
+        this.insertionSort.iterativeInsertionSort(this.freshItems());
+        return this.items;
+    }
+    
+    @Benchmark
+    public Integer[] recursiveInsertionSort() {
+        this.insertionSort.recursiveInsertionSort(this.freshItems());
+        return this.items;
+    }
+    
+    @Benchmark
+    public Integer[] iterativeSelectionSort() {
+        this.selectionSort.iterativeSelectionSort(this.freshItems());
+        return this.items;
+    }
+    
+    @Benchmark
+    public Integer[] recursiveSelectionSort() {
+        this.selectionSort.recursiveSelectionSort(this.freshItems());
+        return this.items;
+    }
+    
+    @Benchmark
+    public Integer[] mergeSort() {
+        this.mergeSort.sort(this.freshItems());
+        return this.items;
+    }
+    
+    @Benchmark
+    public Integer[] quickSort() {
+        this.quickSort.sort(this.freshItems());
+        return this.items;
+    }
+    
+    @Benchmark
+    public Integer[] heapSort() {
+        this.heapSort.sort(this.freshItems());
+        return this.items;
+    }
+    
+    @Benchmark
+    public Integer[] timSort() {
+        this.timSort.sort(this.freshItems());
+        return this.items;
+    }
+    
+    @Benchmark
+    public Integer[] radixSort() {
+        this.radixSort.sortByIntKey(this.freshItems(), Integer::intValue);
+        return this.items;
+    }
+    
+    @Benchmark
+    public Integer[] sorterAsync() {
+        return this.sorter.sortAsync(this.freshItems()).join();
+    }
+    
+    @Benchmark
+    public Integer[] partialSort() {
+        this.partialSort.sort(this.freshItems(), Math.min(TOP_COUNT, this.size));
+        return this.items;
+    }
+    
+    @Benchmark
+    public List<Integer> topK() {
+        TopK<Integer> topK = new TopK<Integer>(TOP_COUNT, Comparator.naturalOrder());
+        topK.addAll(Arrays.asList(this.source).iterator());
+        return topK.toList();
+    }
+}
\ No newline at end of file
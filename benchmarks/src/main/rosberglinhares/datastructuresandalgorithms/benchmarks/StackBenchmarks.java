@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import rosberglinhares.datastructuresandalgorithms.datastructures.stacksandqueues.Stack;
+import rosberglinhares.datastructuresandalgorithms.datastructures.stacksandqueues.StackArray;
+import rosberglinhares.datastructuresandalgorithms.datastructures.stacksandqueues.StackLinkedList;
+
+/**
+ * Measures the push and pop operations of {@link StackArray} and {@link StackLinkedList}.
+ * 
+ * {@code pushPop} measures a single push followed by a pop on a stack that already holds {@code depth} elements,
+ * while {@code fillAndDrain} pushes {@code depth} elements onto an empty stack and pops all of them back.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StackBenchmarks {
+    
+    public enum Implementation {
+        ARRAY,
+        LINKED_LIST
+    }
+    
+    @Param({ "16", "1024", "65536" })
+    private int depth;
+    
+    @Param
+    private Implementation implementation;
+    
+    private Integer[] values;
+    
+    /** Holds {@code depth} elements during the whole trial. */
+    private Stack<Integer> filledStack;
+    
+    /** Empty before and after every {@code fillAndDrain} invocation. */
+    private Stack<Integer> emptyStack;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.values = InputDistribution.RANDOM.generate(this.depth);
+        
+        this.filledStack = this.createStack();
+        this.emptyStack = this.createStack();
+        
+        for (Integer value : this.values) {
+            this.filledStack.push(value);
+        }
+    }
+    
+    private Stack<Integer> createStack() {
+        switch (this.implementation) {
+            case ARRAY:
+                // One spare slot for the push done by pushPop
+                return new StackArray<Integer>(this.depth + 1);
+            case LINKED_LIST:
+                return new StackLinkedList<Integer>();
+            default:
+                throw new IllegalStateException(this.implementation.toString());
+        }
+    }
+    
+    @Benchmark
+    public Integer pushPop() {
+        this.filledStack.push(this.values[0]);
+        return this.filledStack.pop();
+    }
+    
+    @Benchmark
+    public int fillAndDrain() {
+        Stack<Integer> stack = this.emptyStack;
+        int checksum = 0;
+        
+        for (Integer value : this.values) {
+            stack.push(value);
+        }
+        
+        while (!stack.isEmpty()) {
+            checksum += stack.pop();
+        }
+        
+        return checksum;
+    }
+}
\ No newline at end of file
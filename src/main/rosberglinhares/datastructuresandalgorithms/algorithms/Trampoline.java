@@ -0,0 +1,121 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.algorithms;
+
+/**
+ * Runs a recursive computation in a loop, so it uses a constant amount of the call stack no matter how deep the
+ * recursion goes.
+ * 
+ * Java doesn't eliminate tail calls: every recursive call takes a new frame of the call stack, even when it is the
+ * last thing the method does, and a recursion a few tens of thousands of calls deep throws a
+ * {@link StackOverflowError}. With a trampoline, a recursive method doesn't make the recursive call itself. Instead,
+ * it returns the call as a step to be run next, and {@link #run()} keeps running the steps returned until one of them
+ * completes the computation. Each step returns before the next one starts, so the stack never holds more than one of
+ * them.
+ * 
+ * A recursive method written with it keeps its recursive shape:
+ * 
+ * <pre>
+ * private Trampoline&lt;Integer&gt; sum(int[] values, int index, int partialSum) {
+ *     if (index == values.length) {
+ *         return Trampoline.done(partialSum);
+ *     } else {
+ *         return Trampoline.call(() -&gt; this.sum(values, index + 1, partialSum + values[index]));
+ *     }
+ * }
+ * </pre>
+ * 
+ * Only tail calls can be trampolined this way, since nothing can be done with the result of the recursive call
+ * after it returns.
+ * 
+ * @param <R> the type of the result of the computation.
+ */
+@FunctionalInterface
+public interface Trampoline<R> {
+    
+    /**
+     * Runs the next step of the computation.
+     * 
+     * @return the step that follows, or a completed trampoline holding the result.
+     */
+    public Trampoline<R> bounce();
+    
+    public default boolean isComplete() {
+        return false;
+    }
+    
+    public default R result() {
+        throw new IllegalStateException("The computation is not complete.");
+    }
+    
+    /**
+     * Runs the steps of the computation until it completes.
+     * 
+     * Time complexity: O(S), where S is the number of steps
+     * Space complexity: O(1)
+     * 
+     * @return the result of the computation.
+     */
+    public default R run() {
+        Trampoline<R> trampoline = this;
+        
+        while (!trampoline.isComplete()) {
+            trampoline = trampoline.bounce();
+        }
+        
+        return trampoline.result();
+    }
+    
+    /**
+     * Returns a completed computation.
+     */
+    public static <R> Trampoline<R> done(R result) {
+        return new Trampoline<R>() {
+            
+            @Override
+            public Trampoline<R> bounce() {
+                throw new IllegalStateException("The computation is already complete.");
+            }
+            
+            @Override
+            public boolean isComplete() {
+                return true;
+            }
+            
+            @Override
+            public R result() {
+                return result;
+            }
+        };
+    }
+    
+    /**
+     * Returns a recursive call as the next step of the computation, instead of making it. This method only gives
+     * a name to what a recursive method is doing, since the lambda is already the step.
+     */
+    public static <R> Trampoline<R> call(Trampoline<R> nextStep) {
+        return nextStep;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,287 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.algorithms.searching;
+
+import java.util.BitSet;
+
+/**
+ * Searches many keys at once in the same sorted array, amortizing the cost of the separate searches.
+ * 
+ * When the keys are sorted, they are matched to the array in a single pass, like in the merge of two sorted arrays.
+ * The position of each key is found with an exponential search starting from the position of the previous one, so
+ * keys close to each other take a few steps, and the whole pass never takes more than a binary search per key.
+ * 
+ * Otherwise, the keys are searched in groups of {@value #LANES}, advancing all the searches of a group one step at
+ * a time. Each step of a binary search waits for an element of the array to be loaded, which takes hundreds of
+ * cycles when it is not in the cache. The steps of different searches don't depend on each other, so the processor
+ * can load the elements of all the searches of the group at the same time, and a group takes little more time than
+ * a single search. The searches are branchless, as in {@link BinarySearch#lowerBound(int[], int)}, so all of them
+ * take the same number of steps.
+ * 
+ * The results are returned in the order of the keys, either as an index array, in the format of
+ * {@link java.util.Arrays#binarySearch(int[], int)}, or as a bitset of the keys found.
+ */
+public class BatchSearch {
+    
+    /**
+     * The number of searches advanced together. It should be at least the number of cache misses a core can wait
+     * for at the same time, usually between 10 and 20.
+     */
+    public static final int LANES = 16;
+    
+    private final BinarySearch binarySearch = new BinarySearch();
+    
+    /**
+     * Searches each key in the array.
+     * 
+     * Time complexity: O(M*log N), or O(M*log(N/M)) if the keys are sorted, where M is the number of keys
+     * Space complexity: O(M)
+     * 
+     * @param elements a sorted array containing the elements to search.
+     * @param keys the values to search, in any order.
+     * @return an array where the position of each key holds the index of the first element equal to it, if it is
+     *         found, or {@code (-(insertion point) - 1)} otherwise.
+     */
+    public int[] indexOf(int[] elements, int[] keys) {
+        int[] results = new int[keys.length];
+        
+        if (isSorted(keys)) {
+            this.sortedLowerBounds(elements, keys, results);
+        } else {
+            interleavedLowerBounds(elements, keys, results);
+        }
+        
+        for (int i = 0; i < keys.length; i++) {
+            int index = results[i];
+            
+            if (index == elements.length || elements[index] != keys[i]) {
+                results[i] = -index - 1;
+            }
+        }
+        
+        return results;
+    }
+    
+    /**
+     * Checks which keys are in the array.
+     * 
+     * Time complexity: O(M*log N), or O(M*log(N/M)) if the keys are sorted, where M is the number of keys
+     * Space complexity: O(M)
+     * 
+     * @param elements a sorted array containing the elements to search.
+     * @param keys the values to search, in any order.
+     * @return a bitset with the bit of each key set if the key is found.
+     */
+    public BitSet contains(int[] elements, int[] keys) {
+        return toBitSet(this.indexOf(elements, keys));
+    }
+    
+    /**
+     * Searches each key in the array.
+     * 
+     * Time complexity: O(M*log N), or O(M*log(N/M)) if the keys are sorted, where M is the number of keys
+     * Space complexity: O(M)
+     * 
+     * @param elements a sorted array containing the elements to search.
+     * @param keys the values to search, in any order.
+     * @return an array where the position of each key holds the index of the first element equal to it, if it is
+     *         found, or {@code (-(insertion point) - 1)} otherwise.
+     */
+    public int[] indexOf(long[] elements, long[] keys) {
+        int[] results = new int[keys.length];
+        
+        if (isSorted(keys)) {
+            this.sortedLowerBounds(elements, keys, results);
+        } else {
+            interleavedLowerBounds(elements, keys, results);
+        }
+        
+        for (int i = 0; i < keys.length; i++) {
+            int index = results[i];
+            
+            if (index == elements.length || elements[index] != keys[i]) {
+                results[i] = -index - 1;
+            }
+        }
+        
+        return results;
+    }
+    
+    /**
+     * Checks which keys are in the array.
+     * 
+     * Time complexity: O(M*log N), or O(M*log(N/M)) if the keys are sorted, where M is the number of keys
+     * Space complexity: O(M)
+     * 
+     * @param elements a sorted array containing the elements to search.
+     * @param keys the values to search, in any order.
+     * @return a bitset with the bit of each key set if the key is found.
+     */
+    public BitSet contains(long[] elements, long[] keys) {
+        return toBitSet(this.indexOf(elements, keys));
+    }
+    
+    private static BitSet toBitSet(int[] indexes) {
+        BitSet found = new BitSet(indexes.length);
+        
+        for (int i = 0; i < indexes.length; i++) {
+            if (indexes[i] >= 0) {
+                found.set(i);
+            }
+        }
+        
+        return found;
+    }
+    
+    private static boolean isSorted(int[] keys) {
+        for (int i = 1; i < keys.length; i++) {
+            if (keys[i] < keys[i - 1]) {
+                return false;
+            }
+        }
+        
+        return true;
+    }
+    
+    private static boolean isSorted(long[] keys) {
+        for (int i = 1; i < keys.length; i++) {
+            if (keys[i] < keys[i - 1]) {
+                return false;
+            }
+        }
+        
+        return true;
+    }
+    
+    /**
+     * Finds the lower bound of each sorted key, starting the search of each key from the lower bound of the previous
+     * one.
+     */
+    private void sortedLowerBounds(int[] elements, int[] keys, int[] results) {
+        int length = elements.length;
+        int position = 0;
+        
+        for (int i = 0; i < keys.length; i++) {
+            int key = keys[i];
+            int lowerIndex = position;
+            int upperIndex = position;
+            int step = 1;
+            
+            // Gallops until the element at upperIndex is not less than the key, keeping the elements before
+            // lowerIndex less than it
+            while (upperIndex < length && elements[upperIndex] < key) {
+                lowerIndex = upperIndex + 1;
+                upperIndex = lowerIndex + Math.min(step, length - lowerIndex);
+                step = (int)Math.min(2L * step, length);
+            }
+            
+            position = this.binarySearch.lowerBound(elements, lowerIndex, Math.min(upperIndex, length - 1), key);
+            results[i] = position;
+        }
+    }
+    
+    /**
+     * Same as {@link #sortedLowerBounds(int[], int[], int[])}, for {@code long} values.
+     */
+    private void sortedLowerBounds(long[] elements, long[] keys, int[] results) {
+        int length = elements.length;
+        int position = 0;
+        
+        for (int i = 0; i < keys.length; i++) {
+            long key = keys[i];
+            int lowerIndex = position;
+            int upperIndex = position;
+            int step = 1;
+            
+            while (upperIndex < length && elements[upperIndex] < key) {
+                lowerIndex = upperIndex + 1;
+                upperIndex = lowerIndex + Math.min(step, length - lowerIndex);
+                step = (int)Math.min(2L * step, length);
+            }
+            
+            position = this.binarySearch.lowerBound(elements, lowerIndex, Math.min(upperIndex, length - 1), key);
+            results[i] = position;
+        }
+    }
+    
+    /**
+     * Finds the lower bound of each key with branchless searches, {@value #LANES} keys at a time. The results array
+     * holds the start of the range of each search while it runs.
+     */
+    private static void interleavedLowerBounds(int[] elements, int[] keys, int[] results) {
+        if (elements.length == 0) {
+            return;  // All the results are 0
+        }
+        
+        for (int first = 0; first < keys.length; first += LANES) {
+            int last = Math.min(first + LANES, keys.length);
+            int length = elements.length;
+            
+            while (length > 1) {
+                int half = length >>> 1;
+                
+                for (int j = first; j < last; j++) {
+                    int base = results[j];
+                    results[j] = (elements[base + half] < keys[j]) ? base + half : base;
+                }
+                
+                length -= half;
+            }
+            
+            for (int j = first; j < last; j++) {
+                results[j] += (elements[results[j]] < keys[j]) ? 1 : 0;
+            }
+        }
+    }
+    
+    /**
+     * Same as {@link #interleavedLowerBounds(int[], int[], int[])}, for {@code long} values.
+     */
+    private static void interleavedLowerBounds(long[] elements, long[] keys, int[] results) {
+        if (elements.length == 0) {
+            return;
+        }
+        
+        for (int first = 0; first < keys.length; first += LANES) {
+            int last = Math.min(first + LANES, keys.length);
+            int length = elements.length;
+            
+            while (length > 1) {
+                int half = length >>> 1;
+                
+                for (int j = first; j < last; j++) {
+                    int base = results[j];
+                    results[j] = (elements[base + half] < keys[j]) ? base + half : base;
+                }
+                
+                length -= half;
+            }
+            
+            for (int j = first; j < last; j++) {
+                results[j] += (elements[results[j]] < keys[j]) ? 1 : 0;
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -24,6 +24,10 @@
 
 package rosberglinhares.datastructuresandalgorithms.algorithms.searching;
 
+import java.util.Comparator;
+
+import rosberglinhares.datastructuresandalgorithms.algorithms.Trampoline;
+
 /**
  * Searches for a specified item by repeatedly dividing in half the range of array elements to be considered.
  */
@@ -46,12 +50,32 @@ public class BinarySearch {
     }
     
     public <T extends Comparable<T>> boolean iterativeBinarySearch(T[] elements, int lowerIndex, int upperIndex, T value) {
+        return this.iterativeBinarySearch(elements, lowerIndex, upperIndex, value, Comparator.<T>naturalOrder());
+    }
+    
+    /**
+     * Executes an iterative binary search on an array sorted by a comparator instead of the natural ordering
+     * of its elements.
+     * 
+     * @param <T> the type of elements in the array.
+     * @param elements an array containing the elements to search, sorted by the given comparator.
+     * @param value the value to search.
+     * @param comparator the comparator by which the array is sorted.
+     * @return {@code true} if the element is found.
+     */
+    public <T> boolean iterativeBinarySearch(T[] elements, T value, Comparator<? super T> comparator) {
+        return this.iterativeBinarySearch(elements, 0, elements.length - 1, value, comparator);
+    }
+    
+    public <T> boolean iterativeBinarySearch(T[] elements, int lowerIndex, int upperIndex, T value,
+                                             Comparator<? super T> comparator) {
         while (lowerIndex <= upperIndex) {
-            int middleIndex = (lowerIndex + upperIndex) / 2;
+            int middleIndex = (lowerIndex + upperIndex) >>> 1;
+            int comparisonResult = comparator.compare(value, elements[middleIndex]);
             
-            if (value.compareTo(elements[middleIndex]) == 0) {
+            if (comparisonResult == 0) {
                 return true;
-            } else if (value.compareTo(elements[middleIndex]) < 0) {
+            } else if (comparisonResult < 0) {
                 upperIndex = middleIndex - 1;
             } else {
                 lowerIndex = middleIndex + 1;
@@ -62,10 +86,93 @@ public class BinarySearch {
     }
     
     /**
-     * Executes a recursive binary search.
+     * Executes an iterative binary search that reports where the value is, or where it would be inserted.
+     * 
+     * Time complexity: O(log N)
+     * Space complexity: O(1)
+     * 
+     * @param <T> the type of elements in the array.
+     * @param elements an array containing the elements to search, sorted by the given comparator.
+     * @param lowerIndex the index of the first element to be searched.
+     * @param upperIndex the index of the last element to be searched.
+     * @param value the value to search.
+     * @param comparator the comparator by which the array is sorted.
+     * @return the index of the first element equal to the value, if it is found. Otherwise,
+     *         {@code (-(insertion point) - 1)}, where the insertion point is the index at which the value would be
+     *         inserted to keep the array sorted, as in {@link java.util.Arrays#binarySearch(Object[], Object)}.
+     *         The return value is non-negative only if the value is found.
+     */
+    public <T> int indexOf(T[] elements, int lowerIndex, int upperIndex, T value, Comparator<? super T> comparator) {
+        int index = this.lowerBound(elements, lowerIndex, upperIndex, value, comparator);
+        
+        if (index <= upperIndex && comparator.compare(value, elements[index]) == 0) {
+            return index;
+        } else {
+            return -index - 1;
+        }
+    }
+    
+    /**
+     * Finds the first position whose element is not less than the value. This is the position of the first element
+     * equal to the value, if there is one, or the position where the value would be inserted otherwise.
+     * 
+     * Unlike {@link #iterativeBinarySearch(Object[], int, int, Object, Comparator)}, the search doesn't stop when an
+     * equal element is found, so it takes always about log N steps, with only one comparison per step.
+     * 
+     * Time complexity: O(log N)
+     * Space complexity: O(1)
+     * 
+     * @return an index between {@code lowerIndex} and {@code upperIndex + 1}, both inclusive.
+     */
+    public <T> int lowerBound(T[] elements, int lowerIndex, int upperIndex, T value, Comparator<? super T> comparator) {
+        int endIndex = upperIndex + 1;
+        
+        // Invariant: elements before lowerIndex are less than the value, and elements from endIndex on are not
+        while (lowerIndex < endIndex) {
+            int middleIndex = (lowerIndex + endIndex) >>> 1;
+            
+            if (comparator.compare(elements[middleIndex], value) < 0) {
+                lowerIndex = middleIndex + 1;
+            } else {
+                endIndex = middleIndex;
+            }
+        }
+        
+        return lowerIndex;
+    }
+    
+    /**
+     * Finds the first position whose element is greater than the value. This is the position just after the last
+     * element equal to the value, so elements in the range between {@link #lowerBound lowerBound} and
+     * {@code upperBound} are all equal to the value.
+     * 
+     * Time complexity: O(log N)
+     * Space complexity: O(1)
+     * 
+     * @return an index between {@code lowerIndex} and {@code upperIndex + 1}, both inclusive.
+     */
+    public <T> int upperBound(T[] elements, int lowerIndex, int upperIndex, T value, Comparator<? super T> comparator) {
+        int endIndex = upperIndex + 1;
+        
+        // Invariant: elements before lowerIndex are not greater than the value, and elements from endIndex on are
+        while (lowerIndex < endIndex) {
+            int middleIndex = (lowerIndex + endIndex) >>> 1;
+            
+            if (comparator.compare(elements[middleIndex], value) <= 0) {
+                lowerIndex = middleIndex + 1;
+            } else {
+                endIndex = middleIndex;
+            }
+        }
+        
+        return lowerIndex;
+    }
+    
+    /**
+     * Executes a recursive binary search. The recursion runs on a {@link Trampoline}, so it doesn't use the call stack.
      *
      * Time complexity: O(log N)
-     * Space complexity: O(log N)
+     * Space complexity: O(1)
      * 
      * @param <T> the type of elements in the array. In order for the search to work, these elements must be
      *            {@link java.lang.Comparable} to themselves.
@@ -74,22 +181,229 @@ public class BinarySearch {
      * @return {@code true} if the element is found.
      */
     public <T extends Comparable<T>> boolean recursiveBinarySearch(T[] elements, T value) {
-        return this.recursiveBinarySearch(elements, 0, elements.length - 1, value);
+        return this.recursiveBinarySearch(elements, value, Comparator.<T>naturalOrder());
     }
     
-    private <T extends Comparable<T>> boolean recursiveBinarySearch(T[] elements, int lowerIndex, int upperIndex, T value) {
+    /**
+     * Executes a recursive binary search on an array sorted by a comparator instead of the natural ordering
+     * of its elements.
+     * 
+     * @param <T> the type of elements in the array.
+     * @param elements an array containing the elements to search, sorted by the given comparator.
+     * @param value the value to search.
+     * @param comparator the comparator by which the array is sorted.
+     * @return {@code true} if the element is found.
+     */
+    public <T> boolean recursiveBinarySearch(T[] elements, T value, Comparator<? super T> comparator) {
+        return this.recursiveBinarySearch(elements, 0, elements.length - 1, value, comparator).run();
+    }
+    
+    private <T> Trampoline<Boolean> recursiveBinarySearch(T[] elements, int lowerIndex, int upperIndex, T value,
+                                                          Comparator<? super T> comparator) {
         if (lowerIndex <= upperIndex) {
-            int middleIndex = (lowerIndex + upperIndex) / 2;
+            int middleIndex = (lowerIndex + upperIndex) >>> 1;
+            int comparisonResult = comparator.compare(value, elements[middleIndex]);
             
-            if (value.compareTo(elements[middleIndex]) == 0) {
-                return true;
-            } else if (value.compareTo(elements[middleIndex]) < 0) {
-                return this.recursiveBinarySearch(elements, lowerIndex, middleIndex - 1, value);
+            if (comparisonResult == 0) {
+                return Trampoline.done(true);
+            } else if (comparisonResult < 0) {
+                return Trampoline.call(() -> this.recursiveBinarySearch(elements, lowerIndex, middleIndex - 1, value,
+                                                                        comparator));
             } else {
-                return this.recursiveBinarySearch(elements, middleIndex + 1, upperIndex, value);
+                return Trampoline.call(() -> this.recursiveBinarySearch(elements, middleIndex + 1, upperIndex, value,
+                                                                        comparator));
             }
         } else {
-            return false;
+            return Trampoline.done(false);
+        }
+    }
+    
+    /**
+     * Executes an iterative binary search on primitive values, without boxing them.
+     * 
+     * Time complexity: O(log N)
+     * Space complexity: O(1)
+     * 
+     * @param elements a sorted array containing the elements to search.
+     * @param value the value to search.
+     * @return {@code true} if the element is found.
+     */
+    public boolean iterativeBinarySearch(int[] elements, int value) {
+        return this.iterativeBinarySearch(elements, 0, elements.length - 1, value);
+    }
+    
+    public boolean iterativeBinarySearch(int[] elements, int lowerIndex, int upperIndex, int value) {
+        while (lowerIndex <= upperIndex) {
+            int middleIndex = (lowerIndex + upperIndex) >>> 1;
+            int middleValue = elements[middleIndex];
+            
+            if (value == middleValue) {
+                return true;
+            } else if (value < middleValue) {
+                upperIndex = middleIndex - 1;
+            } else {
+                lowerIndex = middleIndex + 1;
+            }
+        }
+        
+        return false;
+    }
+    
+    /**
+     * Executes an iterative binary search on primitive values, without boxing them.
+     * 
+     * Time complexity: O(log N)
+     * Space complexity: O(1)
+     * 
+     * @param elements a sorted array containing the elements to search.
+     * @param value the value to search.
+     * @return {@code true} if the element is found.
+     */
+    public boolean iterativeBinarySearch(long[] elements, long value) {
+        return this.iterativeBinarySearch(elements, 0, elements.length - 1, value);
+    }
+    
+    public boolean iterativeBinarySearch(long[] elements, int lowerIndex, int upperIndex, long value) {
+        while (lowerIndex <= upperIndex) {
+            int middleIndex = (lowerIndex + upperIndex) >>> 1;
+            long middleValue = elements[middleIndex];
+            
+            if (value == middleValue) {
+                return true;
+            } else if (value < middleValue) {
+                upperIndex = middleIndex - 1;
+            } else {
+                lowerIndex = middleIndex + 1;
+            }
+        }
+        
+        return false;
+    }
+    
+    /**
+     * Executes an iterative binary search on primitive values, without boxing them.
+     * The values are compared as in {@link Double#compare(double, double)}, so {@code -0.0} and {@code 0.0} are
+     * distinct values and {@code NaN} can be found in an array sorted by {@link java.util.Arrays#sort(double[])}.
+     * 
+     * Time complexity: O(log N)
+     * Space complexity: O(1)
+     * 
+     * @param elements a sorted array containing the elements to search.
+     * @param value the value to search.
+     * @return {@code true} if the element is found.
+     */
+    public boolean iterativeBinarySearch(double[] elements, double value) {
+        return this.iterativeBinarySearch(elements, 0, elements.length - 1, value);
+    }
+    
+    public boolean iterativeBinarySearch(double[] elements, int lowerIndex, int upperIndex, double value) {
+        while (lowerIndex <= upperIndex) {
+            int middleIndex = (lowerIndex + upperIndex) >>> 1;
+            int comparisonResult = Double.compare(value, elements[middleIndex]);
+            
+            if (comparisonResult == 0) {
+                return true;
+            } else if (comparisonResult < 0) {
+                upperIndex = middleIndex - 1;
+            } else {
+                lowerIndex = middleIndex + 1;
+            }
+        }
+        
+        return false;
+    }
+    
+    /**
+     * Finds the first position whose element is not less than the value, on primitive values.
+     * 
+     * This search is branchless: instead of moving one of the two ends of the range depending on the comparison,
+     * it always halves the length of the range and only decides whether its start moves. The decision is a
+     * conditional move rather than a jump, so there are no branch mispredictions, which cost about half of the
+     * time of a classic binary search on arrays that fit in the cache. Since the number of steps depends only on the
+     * length of the array, the loads of successive searches can also overlap in the processor.
+     * 
+     * Time complexity: O(log N)
+     * Space complexity: O(1)
+     * 
+     * @param elements a sorted array containing the elements to search.
+     * @param value the value to search.
+     * @return an index between 0 and {@code elements.length}, both inclusive.
+     */
+    public int lowerBound(int[] elements, int value) {
+        return this.lowerBound(elements, 0, elements.length - 1, value);
+    }
+    
+    /**
+     * @return an index between {@code lowerIndex} and {@code upperIndex + 1}, both inclusive.
+     */
+    public int lowerBound(int[] elements, int lowerIndex, int upperIndex, int value) {
+        int length = upperIndex - lowerIndex + 1;
+        
+        if (length <= 0) {
+            return lowerIndex;
+        }
+        
+        int base = lowerIndex;
+        
+        // Invariant: the result is in [base, base + length]
+        while (length > 1) {
+            int half = length >>> 1;
+            base = (elements[base + half] < value) ? base + half : base;
+            length -= half;
+        }
+        
+        return base + (elements[base] < value ? 1 : 0);
+    }
+    
+    /**
+     * Same as {@link #lowerBound(int[], int)}, for {@code long} values.
+     */
+    public int lowerBound(long[] elements, long value) {
+        return this.lowerBound(elements, 0, elements.length - 1, value);
+    }
+    
+    public int lowerBound(long[] elements, int lowerIndex, int upperIndex, long value) {
+        int length = upperIndex - lowerIndex + 1;
+        
+        if (length <= 0) {
+            return lowerIndex;
+        }
+        
+        int base = lowerIndex;
+        
+        while (length > 1) {
+            int half = length >>> 1;
+            base = (elements[base + half] < value) ? base + half : base;
+            length -= half;
         }
+        
+        return base + (elements[base] < value ? 1 : 0);
+    }
+    
+    /**
+     * Executes a branchless binary search on primitive values that reports where the value is, or where it would be
+     * inserted.
+     * 
+     * Time complexity: O(log N)
+     * Space complexity: O(1)
+     * 
+     * @param elements a sorted array containing the elements to search.
+     * @param value the value to search.
+     * @return the index of the first element equal to the value, if it is found. Otherwise,
+     *         {@code (-(insertion point) - 1)}, as in {@link java.util.Arrays#binarySearch(int[], int)}.
+     */
+    public int indexOf(int[] elements, int value) {
+        int index = this.lowerBound(elements, value);
+        
+        return (index < elements.length && elements[index] == value) ? index : -index - 1;
+    }
+    
+    /**
+     * Same as {@link #indexOf(int[], int)}, for {@code long} values.
+     */
+    public int indexOf(long[] elements, long value) {
+        int index = this.lowerBound(elements, value);
+        
+        return (index < elements.length && elements[index] == value) ? index : -index - 1;
     }
 }
\ No newline at end of file
@@ -0,0 +1,164 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.algorithms.searching;
+
+import java.util.Comparator;
+
+/**
+ * The exponential search, also called galloping search, first looks for a range that contains the value, probing the
+ * positions 1, 2, 4, 8... until it finds an element that is not less than the value. Then it finishes with a binary
+ * search inside the last range, between the last two probes.
+ * 
+ * The number of steps depends on the position of the value instead of the size of the array: a value at position i
+ * is found in about 2*log i steps. It is faster than the binary search when the values searched are usually near the
+ * start of the array, and it also works when the size of the array is unknown or unbounded.
+ */
+public class ExponentialSearch {
+    
+    private final BinarySearch binarySearch = new BinarySearch();
+    
+    /**
+     * Executes an exponential search.
+     * 
+     * Time complexity: O(log i), where i is the position of the value
+     * Space complexity: O(1)
+     * 
+     * @param <T> the type of elements in the array. In order for the search to work, these elements must be
+     *            {@link java.lang.Comparable} to themselves.
+     * @param elements a sorted array containing the elements to search.
+     * @param value the value to search.
+     * @return the index of the first element equal to the value, if it is found. Otherwise,
+     *         {@code (-(insertion point) - 1)}, as in {@link java.util.Arrays#binarySearch(Object[], Object)}.
+     */
+    public <T extends Comparable<T>> int indexOf(T[] elements, T value) {
+        return this.indexOf(elements, value, Comparator.<T>naturalOrder());
+    }
+    
+    /**
+     * Executes an exponential search on an array sorted by a comparator instead of the natural ordering of its
+     * elements.
+     * 
+     * @param <T> the type of elements in the array.
+     * @param elements an array containing the elements to search, sorted by the given comparator.
+     * @param value the value to search.
+     * @param comparator the comparator by which the array is sorted.
+     * @return the index of the first element equal to the value, if it is found. Otherwise,
+     *         {@code (-(insertion point) - 1)}.
+     */
+    public <T> int indexOf(T[] elements, T value, Comparator<? super T> comparator) {
+        int index = this.lowerBound(elements, value, comparator);
+        
+        return (index < elements.length && comparator.compare(value, elements[index]) == 0) ? index : -index - 1;
+    }
+    
+    /**
+     * Finds the first position whose element is not less than the value.
+     * 
+     * Time complexity: O(log i), where i is the returned position
+     * Space complexity: O(1)
+     * 
+     * @return an index between 0 and {@code elements.length}, both inclusive.
+     */
+    public <T> int lowerBound(T[] elements, T value, Comparator<? super T> comparator) {
+        int length = elements.length;
+        int bound = 1;
+        
+        // Invariant: the elements before bound / 2 are less than the value
+        while (bound < length && comparator.compare(elements[bound], value) < 0) {
+            bound = nextBound(bound, length);
+        }
+        
+        return this.binarySearch.lowerBound(elements, bound >>> 1, Math.min(bound, length - 1), value, comparator);
+    }
+    
+    /**
+     * Executes an exponential search on primitive values, without boxing them.
+     * 
+     * Time complexity: O(log i), where i is the position of the value
+     * Space complexity: O(1)
+     * 
+     * @param elements a sorted array containing the elements to search.
+     * @param value the value to search.
+     * @return the index of the first element equal to the value, if it is found. Otherwise,
+     *         {@code (-(insertion point) - 1)}, as in {@link java.util.Arrays#binarySearch(int[], int)}.
+     */
+    public int indexOf(int[] elements, int value) {
+        int index = this.lowerBound(elements, value);
+        
+        return (index < elements.length && elements[index] == value) ? index : -index - 1;
+    }
+    
+    /**
+     * @return an index between 0 and {@code elements.length}, both inclusive.
+     */
+    public int lowerBound(int[] elements, int value) {
+        int length = elements.length;
+        int bound = 1;
+        
+        while (bound < length && elements[bound] < value) {
+            bound = nextBound(bound, length);
+        }
+        
+        return this.binarySearch.lowerBound(elements, bound >>> 1, Math.min(bound, length - 1), value);
+    }
+    
+    /**
+     * Executes an exponential search on primitive values, without boxing them.
+     * 
+     * Time complexity: O(log i), where i is the position of the value
+     * Space complexity: O(1)
+     * 
+     * @param elements a sorted array containing the elements to search.
+     * @param value the value to search.
+     * @return the index of the first element equal to the value, if it is found. Otherwise,
+     *         {@code (-(insertion point) - 1)}, as in {@link java.util.Arrays#binarySearch(long[], long)}.
+     */
+    public int indexOf(long[] elements, long value) {
+        int index = this.lowerBound(elements, value);
+        
+        return (index < elements.length && elements[index] == value) ? index : -index - 1;
+    }
+    
+    /**
+     * @return an index between 0 and {@code elements.length}, both inclusive.
+     */
+    public int lowerBound(long[] elements, long value) {
+        int length = elements.length;
+        int bound = 1;
+        
+        while (bound < length && elements[bound] < value) {
+            bound = nextBound(bound, length);
+        }
+        
+        return this.binarySearch.lowerBound(elements, bound >>> 1, Math.min(bound, length - 1), value);
+    }
+    
+    /**
+     * Doubles the bound, or moves it to the end of the array if doubling would overflow.
+     */
+    private static int nextBound(int bound, int length) {
+        return (bound <= (length >>> 1)) ? bound << 1 : length;
+    }
+}
\ No newline at end of file
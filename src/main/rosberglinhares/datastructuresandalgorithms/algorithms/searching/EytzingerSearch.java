@@ -0,0 +1,159 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.algorithms.searching;
+
+/**
+ * Searches a set of sorted values stored in the Eytzinger layout, the order in which a breadth-first traversal
+ * visits a complete binary search tree: the root at index 1, and the children of the node at index k at indexes
+ * 2k and 2k + 1.
+ * 
+ * In a sorted array, the first steps of a binary search jump far away from each other, so almost every step of a
+ * search in a large array is a cache miss. In the Eytzinger layout, the nodes visited first are all at the start of
+ * the array and stay in the cache, and the children of a node are next to each other. Besides, the 16 descendants of
+ * a node four levels below it are in 16 consecutive positions, 16k to 16k + 15, which fill a single cache line of
+ * {@code int} values. Java has no instruction to prefetch them explicitly, but the access pattern is regular enough
+ * for the processor to start loading the next lines while the current comparison is running.
+ * 
+ * The search loop has no branch other than the loop condition: the next index is computed from the result of the
+ * comparison, and the number of steps is always the height of the tree.
+ */
+public class EytzingerSearch {
+    
+    /**
+     * The largest number of values, so that the indexes of the children of any node still fit in an {@code int}.
+     */
+    public static final int MAX_SIZE = (1 << 30) - 1;
+    
+    /** The values in the Eytzinger layout. Index 0 is not used. */
+    private final int[] layout;
+    
+    /** The index in the sorted array of each value of the layout. Index 0 holds the size. */
+    private final int[] sortedIndexes;
+    
+    /**
+     * Copies the values to the Eytzinger layout.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(N)
+     * 
+     * @param sortedElements the values, sorted in ascending order.
+     * @throws IllegalArgumentException if there are more than {@link #MAX_SIZE} values.
+     */
+    public EytzingerSearch(int[] sortedElements) {
+        if (sortedElements.length > MAX_SIZE) {
+            throw new IllegalArgumentException("The number of values must not exceed " + MAX_SIZE + ".");
+        }
+        
+        this.layout = new int[sortedElements.length + 1];
+        this.sortedIndexes = new int[sortedElements.length + 1];
+        this.sortedIndexes[0] = sortedElements.length;
+        
+        this.fill(sortedElements, 0, 1);
+    }
+    
+    /**
+     * Fills the subtree rooted at the given node with an in-order traversal, which visits the nodes in the order
+     * of the sorted values. The recursion goes only as deep as the height of the tree.
+     * 
+     * @return the index of the next sorted value to place.
+     */
+    private int fill(int[] sortedElements, int sortedIndex, int node) {
+        if (node < this.layout.length) {
+            sortedIndex = this.fill(sortedElements, sortedIndex, 2 * node);
+            
+            this.layout[node] = sortedElements[sortedIndex];
+            this.sortedIndexes[node] = sortedIndex++;
+            
+            sortedIndex = this.fill(sortedElements, sortedIndex, 2 * node + 1);
+        }
+        
+        return sortedIndex;
+    }
+    
+    public int size() {
+        return this.layout.length - 1;
+    }
+    
+    /**
+     * Finds the first position, in the sorted order, whose value is not less than the given one.
+     * 
+     * Time complexity: O(log N)
+     * Space complexity: O(1)
+     * 
+     * @param value the value to search.
+     * @return an index between 0 and {@link #size()}, both inclusive.
+     */
+    public int lowerBound(int value) {
+        return this.sortedIndexes[this.lowerBoundNode(value)];
+    }
+    
+    /**
+     * Reports where the value is, or where it would be inserted, in the sorted order.
+     * 
+     * Time complexity: O(log N)
+     * Space complexity: O(1)
+     * 
+     * @param value the value to search.
+     * @return the index of the first value equal to the given one, if it is found. Otherwise,
+     *         {@code (-(insertion point) - 1)}, as in {@link java.util.Arrays#binarySearch(int[], int)}.
+     */
+    public int indexOf(int value) {
+        int node = this.lowerBoundNode(value);
+        int index = this.sortedIndexes[node];
+        
+        return (node != 0 && this.layout[node] == value) ? index : -index - 1;
+    }
+    
+    /**
+     * Time complexity: O(log N)
+     * Space complexity: O(1)
+     * 
+     * @param value the value to search.
+     * @return {@code true} if the value is found.
+     */
+    public boolean contains(int value) {
+        int node = this.lowerBoundNode(value);
+        
+        return node != 0 && this.layout[node] == value;
+    }
+    
+    /**
+     * Descends the whole tree, going right whenever the node is less than the value. The answer is the last node
+     * where the search went left, which is recovered from the final index: going right appends a 1 bit to the index
+     * and going left a 0 bit, so the trailing 1 bits and the last 0 bit are removed.
+     * 
+     * @return the node of the first value not less than the given one, or 0 if all the values are less than it.
+     */
+    private int lowerBoundNode(int value) {
+        int[] layout = this.layout;
+        int node = 1;
+        
+        while (node < layout.length) {
+            node = 2 * node + (layout[node] < value ? 1 : 0);
+        }
+        
+        return node >>> (Integer.numberOfTrailingZeros(~node) + 1);
+    }
+}
\ No newline at end of file
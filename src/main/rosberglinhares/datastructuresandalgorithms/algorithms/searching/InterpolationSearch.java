@@ -0,0 +1,168 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.algorithms.searching;
+
+/**
+ * The interpolation search guesses where the value is from the values at the ends of the range, the way a person
+ * looks up a word in a dictionary: a value 30% of the way between the first and the last element is probed at 30%
+ * of the way between the first and the last position. On uniformly distributed values, each probe shrinks the range
+ * to about its square root, so a value is found in O(log log N) probes.
+ * 
+ * On skewed distributions, like exponentially growing values, the guesses can be far off and the range may shrink
+ * by a single element per probe. To keep the worst case at O(log N), whenever a probe doesn't at least halve the
+ * range, it is followed by a probe in the middle, as in the binary search.
+ */
+public class InterpolationSearch {
+    
+    /**
+     * Executes an interpolation search on primitive values.
+     * 
+     * Time complexity: O(log log N) on uniformly distributed values, O(log N) in the worst case
+     * Space complexity: O(1)
+     * 
+     * @param elements a sorted array containing the elements to search.
+     * @param value the value to search.
+     * @return the index of the first element equal to the value, if it is found. Otherwise,
+     *         {@code (-(insertion point) - 1)}, as in {@link java.util.Arrays#binarySearch(int[], int)}.
+     */
+    public int indexOf(int[] elements, int value) {
+        int index = this.lowerBound(elements, value);
+        
+        return (index < elements.length && elements[index] == value) ? index : -index - 1;
+    }
+    
+    /**
+     * Finds the first position whose element is not less than the value.
+     * 
+     * @return an index between 0 and {@code elements.length}, both inclusive.
+     */
+    public int lowerBound(int[] elements, int value) {
+        int lowerIndex = 0;
+        int endIndex = elements.length;
+        
+        // Invariant: the elements before lowerIndex are less than the value, and the element at endIndex, if any,
+        // is not, so the result is in [lowerIndex, endIndex]
+        while (lowerIndex < endIndex) {
+            int upperIndex = endIndex - 1;
+            int lowerValue = elements[lowerIndex];
+            int upperValue = elements[upperIndex];
+            
+            if (lowerValue >= value) {
+                return lowerIndex;
+            } else if (upperValue < value) {
+                return endIndex;
+            }
+            
+            // lowerValue < value <= upperValue, so the result is in (lowerIndex, upperIndex]. Long arithmetic avoids
+            // overflows in the differences.
+            int rangeSize = endIndex - lowerIndex;
+            int probeIndex = lowerIndex + (int)((long)(upperIndex - lowerIndex) * ((long)value - lowerValue)
+                                                / ((long)upperValue - lowerValue));
+            
+            if (elements[probeIndex] < value) {
+                lowerIndex = probeIndex + 1;
+            } else {
+                endIndex = probeIndex;
+            }
+            
+            if (endIndex - lowerIndex > rangeSize / 2) {
+                int middleIndex = (lowerIndex + endIndex) >>> 1;
+                
+                if (elements[middleIndex] < value) {
+                    lowerIndex = middleIndex + 1;
+                } else {
+                    endIndex = middleIndex;
+                }
+            }
+        }
+        
+        return lowerIndex;
+    }
+    
+    /**
+     * Executes an interpolation search on primitive values.
+     * 
+     * Time complexity: O(log log N) on uniformly distributed values, O(log N) in the worst case
+     * Space complexity: O(1)
+     * 
+     * @param elements a sorted array containing the elements to search.
+     * @param value the value to search.
+     * @return the index of the first element equal to the value, if it is found. Otherwise,
+     *         {@code (-(insertion point) - 1)}, as in {@link java.util.Arrays#binarySearch(long[], long)}.
+     */
+    public int indexOf(long[] elements, long value) {
+        int index = this.lowerBound(elements, value);
+        
+        return (index < elements.length && elements[index] == value) ? index : -index - 1;
+    }
+    
+    /**
+     * Same as {@link #lowerBound(int[], int)}, for {@code long} values. The differences between {@code long} values
+     * may overflow even a {@code long}, so the probe position is computed with {@code double} values.
+     * 
+     * @return an index between 0 and {@code elements.length}, both inclusive.
+     */
+    public int lowerBound(long[] elements, long value) {
+        int lowerIndex = 0;
+        int endIndex = elements.length;
+        
+        while (lowerIndex < endIndex) {
+            int upperIndex = endIndex - 1;
+            long lowerValue = elements[lowerIndex];
+            long upperValue = elements[upperIndex];
+            
+            if (lowerValue >= value) {
+                return lowerIndex;
+            } else if (upperValue < value) {
+                return endIndex;
+            }
+            
+            int rangeSize = endIndex - lowerIndex;
+            double fraction = ((double)value - lowerValue) / ((double)upperValue - lowerValue);
+            
+            // The rounding errors of the doubles may put the probe slightly out of the range
+            int probeIndex = lowerIndex + (int)(fraction * (upperIndex - lowerIndex));
+            probeIndex = Math.max(lowerIndex, Math.min(upperIndex, probeIndex));
+            
+            if (elements[probeIndex] < value) {
+                lowerIndex = probeIndex + 1;
+            } else {
+                endIndex = probeIndex;
+            }
+            
+            if (endIndex - lowerIndex > rangeSize / 2) {
+                int middleIndex = (lowerIndex + endIndex) >>> 1;
+                
+                if (elements[middleIndex] < value) {
+                    lowerIndex = middleIndex + 1;
+                } else {
+                    endIndex = middleIndex;
+                }
+            }
+        }
+        
+        return lowerIndex;
+    }
+}
\ No newline at end of file
@@ -24,6 +24,10 @@
 
 package rosberglinhares.datastructuresandalgorithms.algorithms.sorting;
 
+import java.util.Comparator;
+
+import rosberglinhares.datastructuresandalgorithms.algorithms.Trampoline;
+
 /**
  * The bubble sort is notoriously slow, but its conceptually the simplest of the sorting algorithms and for that
  * reason is a good beginning for the exploration of sorting techniques.
@@ -52,11 +56,22 @@ public class BubbleSort {
      * @param items an array containing the elements to sort.
      */
     public <T extends Comparable<T>> void iterativeBubbleSort(T[] items) {
+        this.iterativeBubbleSort(items, Comparator.<T>naturalOrder());
+    }
+    
+    /**
+     * Implements an iterative bubble sort, ordering the items with a comparator instead of their natural ordering.
+     * 
+     * @param <T> the type of elements in the array.
+     * @param items an array containing the elements to sort.
+     * @param comparator the comparator that determines the order of the items.
+     */
+    public <T> void iterativeBubbleSort(T[] items, Comparator<? super T> comparator) {
         // After N - 1 iterations, we will have N - 1 elements in the right order. Therefore, the last element will
         // be automatically in the right order too.
         for (int n = 1; n <= items.length - 1; n++) {
             for (int i = 0; i < items.length - n; i++) {
-                if (items[i].compareTo(items[i + 1]) > 0) {
+                if (comparator.compare(items[i], items[i + 1]) > 0) {
                     T temp = items[i];
                     items[i] = items[i + 1];
                     items[i + 1] = temp;
@@ -66,30 +81,106 @@ public class BubbleSort {
     }
     
     /**
-     * Implements a recursive bubble sort.
+     * Implements a recursive bubble sort. The recursion runs on a {@link Trampoline}, so it doesn't use the call stack
+     * and can sort arrays of any size.
      * 
      * Time complexity: O(N)
-     * Space complexity: O(N)
+     * Space complexity: O(1)
      * 
      * @param <T> the type of elements in the array. In order for the sort to work, these elements must be
      *            {@link java.lang.Comparable} to themselves.
      * @param items an array containing the elements to sort.
      */
     public <T extends Comparable<T>> void recursiveBubbleSort(T[] items) {
-        this.recursiveBubbleSort(items, items.length - 1);
+        this.recursiveBubbleSort(items, Comparator.<T>naturalOrder());
+    }
+    
+    /**
+     * Implements a recursive bubble sort, ordering the items with a comparator instead of their natural ordering.
+     * 
+     * @param <T> the type of elements in the array.
+     * @param items an array containing the elements to sort.
+     * @param comparator the comparator that determines the order of the items.
+     */
+    public <T> void recursiveBubbleSort(T[] items, Comparator<? super T> comparator) {
+        this.recursiveBubbleSort(items, items.length - 1, comparator).run();
     }
     
-    private <T extends Comparable<T>> void recursiveBubbleSort(T[] items, int upperIndex) {
+    private <T> Trampoline<Void> recursiveBubbleSort(T[] items, int upperIndex, Comparator<? super T> comparator) {
         if (upperIndex > 0) {
             for (int i = 0; i <= upperIndex - 1; i++) {
-                if (items[i].compareTo(items[i + 1]) > 0) {
+                if (comparator.compare(items[i], items[i + 1]) > 0) {
                     T temp = items[i];
                     items[i] = items[i + 1];
                     items[i + 1] = temp;
                 }
             }
             
-            recursiveBubbleSort(items, upperIndex - 1);
+            return Trampoline.call(() -> this.recursiveBubbleSort(items, upperIndex - 1, comparator));
+        } else {
+            return Trampoline.done(null);
+        }
+    }
+    
+    /**
+     * Implements an iterative bubble sort on primitive values, without boxing them.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(1)
+     * 
+     * @param items an array containing the elements to sort.
+     */
+    public void iterativeBubbleSort(int[] items) {
+        for (int n = 1; n <= items.length - 1; n++) {
+            for (int i = 0; i < items.length - n; i++) {
+                if (items[i] > items[i + 1]) {
+                    int temp = items[i];
+                    items[i] = items[i + 1];
+                    items[i + 1] = temp;
+                }
+            }
+        }
+    }
+    
+    /**
+     * Implements an iterative bubble sort on primitive values, without boxing them.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(1)
+     * 
+     * @param items an array containing the elements to sort.
+     */
+    public void iterativeBubbleSort(long[] items) {
+        for (int n = 1; n <= items.length - 1; n++) {
+            for (int i = 0; i < items.length - n; i++) {
+                if (items[i] > items[i + 1]) {
+                    long temp = items[i];
+                    items[i] = items[i + 1];
+                    items[i + 1] = temp;
+                }
+            }
+        }
+    }
+    
+    /**
+     * Implements an iterative bubble sort on primitive values, without boxing them.
+     * The values are ordered as in {@link Double#compare(double, double)}: {@code -0.0} is treated as less than
+     * {@code 0.0} and {@code NaN} as greater than any other value, including positive infinity.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(1)
+     * 
+     * @param items an array containing the elements to sort.
+     */
+    public void iterativeBubbleSort(double[] items) {
+        for (int n = 1; n <= items.length - 1; n++) {
+            for (int i = 0; i < items.length - n; i++) {
+                if (Double.compare(items[i], items[i + 1]) > 0) {
+                    double temp = items[i];
+                    items[i] = items[i + 1];
+                    items[i + 1] = temp;
+                }
+            }
         }
     }
 }
\ No newline at end of file
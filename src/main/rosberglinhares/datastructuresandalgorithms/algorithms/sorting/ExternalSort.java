@@ -0,0 +1,492 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.algorithms.sorting;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The external merge sort sorts files too large to fit in memory. It works in two phases:
+ * 
+ * <ol>
+ *     <li>The input file is read in chunks that fit in the memory budget. Each chunk is sorted in memory with the
+ *         {@link TimSort} and written to a temporary file, called a run. Several chunks are read, sorted and written
+ *         at the same time by a pool of threads, each one reading its own range of the input.</li>
+ *     <li>The runs are merged into the output file. A heap holds the current record of each run, so picking the
+ *         smallest of K records takes O(log K) comparisons. Each run is read through a buffer of its own, taking
+ *         a share of the memory budget. When there are too many runs for the buffers to be of a reasonable size,
+ *         groups of runs are first merged into longer runs.</li>
+ * </ol>
+ * 
+ * The files hold records of a fixed size, described by a {@link RecordFormat}. The sort is stable: records that
+ * compare as equal keep their order from the input file.
+ * 
+ * @param <T> the type of the records.
+ */
+public class ExternalSort<T> {
+    
+    /**
+     * The smallest buffer used to read a run during the merge. Smaller reads would make the disk the bottleneck.
+     */
+    public static final int MIN_MERGE_BUFFER_SIZE = 8192;
+    
+    private final RecordFormat<T> format;
+    private final Comparator<? super T> comparator;
+    private final long memoryBudget;
+    private final int parallelism;
+    private final Path tempDirectory;
+    
+    /**
+     * Creates an external sort that generates the runs with as many threads as there are processors and keeps them
+     * in the default temporary directory.
+     */
+    public ExternalSort(RecordFormat<T> format, Comparator<? super T> comparator, long memoryBudget) {
+        this(format, comparator, memoryBudget, Runtime.getRuntime().availableProcessors(),
+             Path.of(System.getProperty("java.io.tmpdir")));
+    }
+    
+    /**
+     * @param format the format of the records of the files.
+     * @param comparator the comparator that determines the order of the records.
+     * @param memoryBudget the number of bytes of records held in memory at once, shared by all the threads. The
+     *                     objects the records are read into take more memory than their binary form, so the heap
+     *                     must be larger than this.
+     * @param parallelism the number of chunks sorted at the same time.
+     * @param tempDirectory the directory where the runs are written.
+     */
+    public ExternalSort(RecordFormat<T> format, Comparator<? super T> comparator, long memoryBudget, int parallelism,
+                        Path tempDirectory) {
+        if (format == null) {
+            throw new NullPointerException("format");
+        }
+        
+        if (comparator == null) {
+            throw new NullPointerException("comparator");
+        }
+        
+        if (tempDirectory == null) {
+            throw new NullPointerException("tempDirectory");
+        }
+        
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism must be positive.");
+        }
+        
+        if (memoryBudget < 2L * parallelism * format.recordSize()) {
+            throw new IllegalArgumentException("The memory budget must hold at least two records per thread.");
+        }
+        
+        this.format = format;
+        this.comparator = comparator;
+        this.memoryBudget = memoryBudget;
+        this.parallelism = parallelism;
+        this.tempDirectory = tempDirectory;
+    }
+    
+    /**
+     * Sorts the records of the input file into the output file, which is created or overwritten. The temporary
+     * files are deleted before returning, even if the sort fails.
+     * 
+     * Time complexity: O(N*log N) comparisons, with O(N*log_K R) bytes read and written, where R is the number of
+     *                  runs and K the number of runs merged at once
+     * Space complexity: O(M) memory, where M is the memory budget, and O(N) disk
+     * 
+     * @param input the file to sort. Its size must be a multiple of the record size.
+     * @param output the file where the sorted records are written. It must not be the input file.
+     * @throws IOException if an I/O error occurs.
+     * @throws IllegalArgumentException if the size of the input file is not a multiple of the record size.
+     */
+    public void sort(Path input, Path output) throws IOException {
+        int recordSize = this.format.recordSize();
+        long recordCount;
+        
+        try (FileChannel inputChannel = FileChannel.open(input, StandardOpenOption.READ)) {
+            long inputSize = inputChannel.size();
+            
+            if (inputSize % recordSize != 0) {
+                throw new IllegalArgumentException("The size of the input file is not a multiple of the record size.");
+            }
+            
+            recordCount = inputSize / recordSize;
+            
+            if (recordCount * recordSize <= Math.min(this.memoryBudget, Integer.MAX_VALUE)) {
+                // Everything fits in memory, so there is no need for runs
+                this.sortChunk(inputChannel, 0, (int)recordCount, output);
+                return;
+            }
+            
+            List<Path> runs = new ArrayList<Path>();
+            
+            try {
+                this.generateRuns(inputChannel, recordCount, runs);
+                this.mergeRuns(runs, output);
+            } finally {
+                for (Path run : runs) {
+                    Files.deleteIfExists(run);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Splits the input in chunks and sorts each one to a new run. At most {@code parallelism} chunks are in memory
+     * at any time, since each thread of the pool holds a single chunk.
+     * 
+     * If a chunk fails, the chunks not started yet are cancelled, but the ones already running are never interrupted:
+     * interrupting a thread blocked in a read closes the input channel, which is shared by all of them. Instead, this
+     * method waits for them to finish, so no run is written after the caller deletes the runs.
+     */
+    private void generateRuns(FileChannel inputChannel, long recordCount, List<Path> runs) throws IOException {
+        int recordSize = this.format.recordSize();
+        long chunkRecords = Math.min(this.memoryBudget / this.parallelism / recordSize, Integer.MAX_VALUE / recordSize);
+        List<Future<Void>> tasks = new ArrayList<Future<Void>>();
+        ExecutorService executor = Executors.newFixedThreadPool(this.parallelism);
+        
+        try {
+            for (long firstRecord = 0; firstRecord < recordCount; firstRecord += chunkRecords) {
+                Path run = Files.createTempFile(this.tempDirectory, "run", ".tmp");
+                long position = firstRecord * recordSize;
+                int count = (int)Math.min(chunkRecords, recordCount - firstRecord);
+                
+                runs.add(run);
+                tasks.add(executor.submit(() -> {
+                    // Positional reads don't change the position of the channel, so the threads can share it
+                    this.sortChunk(inputChannel, position, count, run);
+                    return null;
+                }));
+            }
+            
+            for (Future<Void> task : tasks) {
+                awaitTask(task);
+            }
+        } finally {
+            for (Future<Void> task : tasks) {
+                task.cancel(false);
+            }
+            
+            executor.shutdown();
+            awaitTermination(executor);
+        }
+    }
+    
+    /**
+     * Waits for all the tasks of the executor to finish. An interrupt doesn't stop the wait, since the tasks could
+     * still be writing the runs, but it is restored before returning.
+     */
+    private static void awaitTermination(ExecutorService executor) {
+        boolean interrupted = false;
+        
+        while (true) {
+            try {
+                if (executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS)) {
+                    break;
+                }
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private static void awaitTask(Future<Void> task) throws IOException {
+        try {
+            task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while generating the runs.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            
+            if (cause instanceof IOException) {
+                throw (IOException)cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            } else if (cause instanceof Error) {
+                throw (Error)cause;
+            } else {
+                throw new IOException(cause);
+            }
+        }
+    }
+    
+    /**
+     * Reads {@code count} records starting at the given position of the input, sorts them and writes them to the
+     * target file.
+     */
+    private void sortChunk(FileChannel inputChannel, long position, int count, Path target) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(count * this.format.recordSize());
+        
+        while (buffer.hasRemaining()) {
+            if (inputChannel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("The input file was truncated while being sorted.");
+            }
+        }
+        
+        buffer.flip();
+        
+        @SuppressWarnings("unchecked")
+        T[] records = (T[])new Object[count];
+        
+        for (int i = 0; i < count; i++) {
+            records[i] = this.format.read(buffer);
+        }
+        
+        new TimSort().sort(records, this.comparator);
+        
+        buffer.clear();
+        
+        for (T record : records) {
+            this.format.write(record, buffer);
+        }
+        
+        buffer.flip();
+        
+        try (FileChannel outputChannel = FileChannel.open(target, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                                                          StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(outputChannel, buffer);
+        }
+    }
+    
+    /**
+     * Merges the runs into the output file. While there are more runs than the memory budget can hold buffers for,
+     * consecutive groups of them are merged into longer runs, which keeps the merge stable.
+     */
+    private void mergeRuns(List<Path> runs, Path output) throws IOException {
+        int maxFanIn = (int)Math.max(2, Math.min(this.memoryBudget / MIN_MERGE_BUFFER_SIZE - 1, Integer.MAX_VALUE));
+        
+        while (runs.size() > maxFanIn) {
+            List<Path> mergedRuns = new ArrayList<Path>();
+            
+            try {
+                for (int i = 0; i < runs.size(); i += maxFanIn) {
+                    Path mergedRun = Files.createTempFile(this.tempDirectory, "run", ".tmp");
+                    mergedRuns.add(mergedRun);
+                    
+                    this.merge(runs.subList(i, Math.min(i + maxFanIn, runs.size())), mergedRun);
+                }
+            } catch (IOException | RuntimeException e) {
+                for (Path mergedRun : mergedRuns) {
+                    Files.deleteIfExists(mergedRun);
+                }
+                
+                throw e;
+            }
+            
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+            
+            runs.clear();
+            runs.addAll(mergedRuns);
+        }
+        
+        this.merge(runs, output);
+    }
+    
+    /**
+     * Merges the runs with a heap of readers, ordered by their current record. The memory budget is split evenly
+     * between the buffers of the runs and the buffer of the target file.
+     */
+    private void merge(List<Path> runs, Path target) throws IOException {
+        int recordSize = this.format.recordSize();
+        long bufferSize = Math.min(this.memoryBudget / (runs.size() + 1), Integer.MAX_VALUE);
+        int bufferRecords = (int)Math.max(1, bufferSize / recordSize);
+        RunReader<T>[] heap = createReaders(runs.size());
+        int heapSize = 0;
+        
+        try {
+            for (int i = 0; i < runs.size(); i++) {
+                RunReader<T> reader = new RunReader<T>(runs.get(i), i, this.format, bufferRecords);
+                heap[heapSize++] = reader;
+                
+                if (!reader.advance()) {
+                    reader.close();
+                    heap[--heapSize] = null;
+                }
+            }
+            
+            for (int i = heapSize / 2 - 1; i >= 0; i--) {
+                this.siftDown(heap, heapSize, i);
+            }
+            
+            try (FileChannel outputChannel = FileChannel.open(target, StandardOpenOption.WRITE,
+                                                              StandardOpenOption.CREATE,
+                                                              StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer outputBuffer = ByteBuffer.allocate(bufferRecords * recordSize);
+                
+                while (heapSize > 0) {
+                    RunReader<T> smallest = heap[0];
+                    
+                    if (!outputBuffer.hasRemaining()) {
+                        outputBuffer.flip();
+                        writeFully(outputChannel, outputBuffer);
+                        outputBuffer.clear();
+                    }
+                    
+                    this.format.write(smallest.current(), outputBuffer);
+                    
+                    if (!smallest.advance()) {
+                        smallest.close();
+                        heap[0] = heap[--heapSize];
+                        heap[heapSize] = null;
+                    }
+                    
+                    this.siftDown(heap, heapSize, 0);
+                }
+                
+                outputBuffer.flip();
+                writeFully(outputChannel, outputBuffer);
+            }
+        } finally {
+            for (int i = 0; i < heapSize; i++) {
+                heap[i].close();
+            }
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <T> RunReader<T>[] createReaders(int count) {
+        return (RunReader<T>[])new RunReader<?>[count];
+    }
+    
+    /**
+     * Moves the reader at the given index down the heap until its record is not greater than the ones of its
+     * children. Equal records are ordered by the index of their runs, so the merge is stable.
+     */
+    private void siftDown(RunReader<T>[] heap, int heapSize, int index) {
+        if (heapSize == 0) {
+            return;
+        }
+        
+        RunReader<T> reader = heap[index];
+        
+        while (true) {
+            int child = 2 * index + 1;
+            
+            if (child >= heapSize) {
+                break;
+            }
+            
+            if (child + 1 < heapSize && this.compare(heap[child + 1], heap[child]) < 0) {
+                child++;
+            }
+            
+            if (this.compare(heap[child], reader) >= 0) {
+                break;
+            }
+            
+            heap[index] = heap[child];
+            index = child;
+        }
+        
+        heap[index] = reader;
+    }
+    
+    private int compare(RunReader<T> reader1, RunReader<T> reader2) {
+        int result = this.comparator.compare(reader1.current(), reader2.current());
+        
+        return result != 0 ? result : Integer.compare(reader1.runIndex(), reader2.runIndex());
+    }
+    
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+    
+    /**
+     * Reads the records of a run, one at a time, through a buffer.
+     */
+    private static class RunReader<T> {
+        private final FileChannel channel;
+        private final int runIndex;
+        private final RecordFormat<T> format;
+        private final ByteBuffer buffer;
+        private T current;
+        
+        public RunReader(Path run, int runIndex, RecordFormat<T> format, int bufferRecords) throws IOException {
+            this.channel = FileChannel.open(run, StandardOpenOption.READ);
+            this.runIndex = runIndex;
+            this.format = format;
+            this.buffer = ByteBuffer.allocate(bufferRecords * format.recordSize());
+            this.buffer.flip();  // Starts empty
+        }
+        
+        public T current() {
+            return this.current;
+        }
+        
+        public int runIndex() {
+            return this.runIndex;
+        }
+        
+        /**
+         * Moves to the next record of the run.
+         * 
+         * @return false if the run has no more records.
+         */
+        public boolean advance() throws IOException {
+            if (this.buffer.remaining() < this.format.recordSize()) {
+                // A read may end in the middle of a record, so the partial record is kept for the next read
+                this.buffer.compact();
+                int bytesRead = 0;
+                
+                while (this.buffer.hasRemaining() && bytesRead >= 0) {
+                    bytesRead = this.channel.read(this.buffer);
+                }
+                
+                this.buffer.flip();
+                
+                if (this.buffer.remaining() < this.format.recordSize()) {
+                    this.current = null;
+                    return false;
+                }
+            }
+            
+            this.current = this.format.read(this.buffer);
+            return true;
+        }
+        
+        public void close() throws IOException {
+            this.channel.close();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,136 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.algorithms.sorting;
+
+import java.util.Comparator;
+
+/**
+ * The heap sort arranges the items in a heap, a binary tree stored in the array itself, in which every item is greater
+ * than or equal to its children. The largest item is then always at the root, in the first cell of the array.
+ * 
+ * The sort swaps the root with the last item of the heap, which puts the largest item in its final position and
+ * shrinks the heap by one. The item moved to the root is sifted down, being swapped with its larger child until
+ * it is not smaller than any of its children, which restores the heap. This is repeated until the heap is empty.
+ * 
+ * The heap sort always runs in O(N*log N) time and needs no additional memory, but in practice it is slower than
+ * the quick sort, since it jumps around the array and compares more items. It is mostly used as a safety net by other
+ * sorts, such as the {@link QuickSort}, when they detect that they are about to degrade to O(N).
+ */
+public class HeapSort {
+    
+    /**
+     * Implements an iterative heap sort.
+     * 
+     * Time complexity: O(N*log N)
+     * Space complexity: O(1)
+     * 
+     * @param <T> the type of elements in the array. In order for the sort to work, these elements must be
+     *            {@link java.lang.Comparable} to themselves.
+     * @param items an array containing the elements to sort.
+     */
+    public <T extends Comparable<T>> void sort(T[] items) {
+        this.sort(items, Comparator.<T>naturalOrder());
+    }
+    
+    /**
+     * Implements an iterative heap sort, ordering the items with a comparator instead of their natural ordering.
+     * 
+     * @param <T> the type of elements in the array.
+     * @param items an array containing the elements to sort.
+     * @param comparator the comparator that determines the order of the items.
+     */
+    public <T> void sort(T[] items, Comparator<? super T> comparator) {
+        this.sort(items, 0, items.length - 1, comparator);
+    }
+    
+    /**
+     * Sorts only the range of the array between {@code lowerIndex} and {@code upperIndex}, both inclusive.
+     * The heap is built over the range, with its root at {@code lowerIndex}.
+     * 
+     * @param <T> the type of elements in the array.
+     * @param items an array containing the elements to sort.
+     * @param lowerIndex the index of the first element to be sorted.
+     * @param upperIndex the index of the last element to be sorted.
+     * @param comparator the comparator that determines the order of the items.
+     */
+    public <T> void sort(T[] items, int lowerIndex, int upperIndex, Comparator<? super T> comparator) {
+        int heapSize = upperIndex - lowerIndex + 1;
+        
+        // The second half of the items are leaves, which are already heaps by themselves
+        for (int i = heapSize / 2 - 1; i >= 0; i--) {
+            siftDown(items, lowerIndex, i, heapSize, comparator);
+        }
+        
+        sortHeap(items, lowerIndex, heapSize, comparator);
+    }
+    
+    /**
+     * Sorts a max-heap rooted at {@code rootIndex} in place, by repeatedly moving its root to the end of the heap.
+     * Shared with the {@link TopK}, whose items are already kept in a max-heap.
+     */
+    static <T> void sortHeap(T[] items, int rootIndex, int heapSize, Comparator<? super T> comparator) {
+        while (heapSize > 1) {
+            heapSize--;
+            
+            T largestItem = items[rootIndex];
+            items[rootIndex] = items[rootIndex + heapSize];
+            items[rootIndex + heapSize] = largestItem;
+            
+            siftDown(items, rootIndex, 0, heapSize, comparator);
+        }
+    }
+    
+    /**
+     * Moves the item at the given position of the heap down, until it is not smaller than any of its children.
+     * The positions are relative to the root, so the children of position i are at positions 2*i + 1 and 2*i + 2.
+     * Shared with the {@link PartialSort} and the {@link TopK}, which keep their items in max-heaps too.
+     */
+    static <T> void siftDown(T[] items, int rootIndex, int position, int heapSize, Comparator<? super T> comparator) {
+        T item = items[rootIndex + position];
+        
+        while (true) {
+            int childPosition = 2 * position + 1;
+            
+            if (childPosition >= heapSize) {
+                break;
+            }
+            
+            if (childPosition + 1 < heapSize &&
+                    comparator.compare(items[rootIndex + childPosition + 1], items[rootIndex + childPosition]) > 0) {
+                childPosition++;  // The right child is the larger one
+            }
+            
+            if (comparator.compare(items[rootIndex + childPosition], item) <= 0) {
+                break;
+            }
+            
+            // The hole moves down instead of swapping the item at each level
+            items[rootIndex + position] = items[rootIndex + childPosition];
+            position = childPosition;
+        }
+        
+        items[rootIndex + position] = item;
+    }
+}
\ No newline at end of file
@@ -24,6 +24,10 @@
 
 package rosberglinhares.datastructuresandalgorithms.algorithms.sorting;
 
+import java.util.Comparator;
+
+import rosberglinhares.datastructuresandalgorithms.algorithms.Trampoline;
+
 /**
  * In most cases the insertion sort is the best of the elementary sorts. It still executes in O(N) time,
  * but its about twice as fast as the bubble sort and somewhat faster than the selection sort in normal situations.
@@ -58,10 +62,38 @@ public class InsertionSort {
      * @param items an array containing the elements to sort.
      */
     public <T extends Comparable<T>> void iterativeInsertionSort(T[] items) {
-        for (int i = 1; i < items.length; i++) {
+        this.iterativeInsertionSort(items, 0, items.length - 1);
+    }
+    
+    /**
+     * Implements an iterative insertion sort, ordering the items with a comparator instead of their natural ordering.
+     * 
+     * @param <T> the type of elements in the array.
+     * @param items an array containing the elements to sort.
+     * @param comparator the comparator that determines the order of the items.
+     */
+    public <T> void iterativeInsertionSort(T[] items, Comparator<? super T> comparator) {
+        this.iterativeInsertionSort(items, 0, items.length - 1, comparator);
+    }
+    
+    /**
+     * Sorts only the range of the array between {@code lowerIndex} and {@code upperIndex}, both inclusive.
+     * This is how the more sophisticated sorts use the insertion sort to finish small subarrays.
+     * 
+     * @param <T> the type of elements in the array.
+     * @param items an array containing the elements to sort.
+     * @param lowerIndex the index of the first element to be sorted.
+     * @param upperIndex the index of the last element to be sorted.
+     */
+    public <T extends Comparable<T>> void iterativeInsertionSort(T[] items, int lowerIndex, int upperIndex) {
+        this.iterativeInsertionSort(items, lowerIndex, upperIndex, Comparator.<T>naturalOrder());
+    }
+    
+    public <T> void iterativeInsertionSort(T[] items, int lowerIndex, int upperIndex, Comparator<? super T> comparator) {
+        for (int i = lowerIndex + 1; i <= upperIndex; i++) {
             T insertItem = items[i];
             
-            for (int j = i; j >= 1 && (items[j].compareTo(items[j - 1]) < 0); j--) {
+            for (int j = i; j >= lowerIndex + 1 && (comparator.compare(items[j], items[j - 1]) < 0); j--) {
                 items[j] = items[j - 1];
                 items[j - 1] = insertItem;
             }
@@ -69,29 +101,109 @@ public class InsertionSort {
     }
     
     /**
-     * Implements a recursive insertion sort.
+     * Implements a recursive insertion sort. The recursion runs on a {@link Trampoline}, so it doesn't use the call
+     * stack and can sort arrays of any size.
      * 
      * Time complexity: O(N)
-     * Space complexity: O(N)
+     * Space complexity: O(1)
      * 
      * @param <T> the type of elements in the array. In order for the sort to work, these elements must be
      *            {@link java.lang.Comparable} to themselves.
      * @param items an array containing the elements to sort.
      */
     public <T extends Comparable<T>> void recursiveInsertionSort(T[] items) {
-        this.recursiveInsertionSort(items, 1);
+        this.recursiveInsertionSort(items, Comparator.<T>naturalOrder());
     }
     
-    private <T extends Comparable<T>> void recursiveInsertionSort(T[] items, int itemIndex) {
+    /**
+     * Implements a recursive insertion sort, ordering the items with a comparator instead of their natural ordering.
+     * 
+     * @param <T> the type of elements in the array.
+     * @param items an array containing the elements to sort.
+     * @param comparator the comparator that determines the order of the items.
+     */
+    public <T> void recursiveInsertionSort(T[] items, Comparator<? super T> comparator) {
+        this.recursiveInsertionSort(items, 1, comparator).run();
+    }
+    
+    private <T> Trampoline<Void> recursiveInsertionSort(T[] items, int itemIndex, Comparator<? super T> comparator) {
         if (itemIndex < items.length) {
             T insertItem = items[itemIndex];
             
-            for (int i = itemIndex; i >= 1 && (items[i].compareTo(items[i - 1]) < 0); i--) {
+            for (int i = itemIndex; i >= 1 && (comparator.compare(items[i], items[i - 1]) < 0); i--) {
                 items[i] = items[i - 1];
                 items[i - 1] = insertItem;
             }
             
-            recursiveInsertionSort(items, itemIndex + 1);
+            return Trampoline.call(() -> this.recursiveInsertionSort(items, itemIndex + 1, comparator));
+        } else {
+            return Trampoline.done(null);
+        }
+    }
+    
+    /**
+     * Implements an iterative insertion sort on primitive values, without boxing them.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(1)
+     * 
+     * @param items an array containing the elements to sort.
+     */
+    public void iterativeInsertionSort(int[] items) {
+        for (int i = 1; i < items.length; i++) {
+            int insertItem = items[i];
+            int j = i;
+            
+            // Shifts the greater items to the right and writes the marked item only once, in the hole left
+            for (; j >= 1 && (insertItem < items[j - 1]); j--) {
+                items[j] = items[j - 1];
+            }
+            
+            items[j] = insertItem;
+        }
+    }
+    
+    /**
+     * Implements an iterative insertion sort on primitive values, without boxing them.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(1)
+     * 
+     * @param items an array containing the elements to sort.
+     */
+    public void iterativeInsertionSort(long[] items) {
+        for (int i = 1; i < items.length; i++) {
+            long insertItem = items[i];
+            int j = i;
+            
+            for (; j >= 1 && (insertItem < items[j - 1]); j--) {
+                items[j] = items[j - 1];
+            }
+            
+            items[j] = insertItem;
+        }
+    }
+    
+    /**
+     * Implements an iterative insertion sort on primitive values, without boxing them.
+     * The values are ordered as in {@link Double#compare(double, double)}: {@code -0.0} is treated as less than
+     * {@code 0.0} and {@code NaN} as greater than any other value, including positive infinity.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(1)
+     * 
+     * @param items an array containing the elements to sort.
+     */
+    public void iterativeInsertionSort(double[] items) {
+        for (int i = 1; i < items.length; i++) {
+            double insertItem = items[i];
+            int j = i;
+            
+            for (; j >= 1 && (Double.compare(insertItem, items[j - 1]) < 0); j--) {
+                items[j] = items[j - 1];
+            }
+            
+            items[j] = insertItem;
         }
     }
 }
\ No newline at end of file
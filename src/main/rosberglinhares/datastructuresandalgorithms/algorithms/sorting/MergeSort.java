@@ -0,0 +1,205 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.algorithms.sorting;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * The merge sort is a much more efficient sorting technique than the elementary sorts, at least in terms of speed.
+ * While the bubble, insertion, and selection sorts take O(N) time, the merge sort is O(N*log N).
+ * The downside of the merge sort is that it requires an additional array in memory, equal in size to the one
+ * being sorted.
+ * 
+ * The heart of the merge sort is merging two already-sorted arrays. You divide the array in half, sort each half,
+ * and then merge the two halves together. Each half is sorted the same way: it is divided in half again and so on,
+ * until the subarrays are small enough to be finished by the insertion sort, which is faster than the merge sort
+ * on a handful of items.
+ * 
+ * Since the two halves are sorted independently of each other, they can be sorted in parallel. This implementation
+ * splits the work as fork/join tasks, so large arrays are sorted using all the cores of the machine. All the tasks
+ * share a single scratch buffer, each one working on its own range of it.
+ */
+public class MergeSort {
+    
+    /**
+     * Subarrays with up to this number of items are sorted with the insertion sort.
+     */
+    public static final int DEFAULT_INSERTION_SORT_THRESHOLD = 32;
+    
+    /**
+     * Subarrays with up to this number of items are sorted by the current task, without forking new ones.
+     * Below this size, the cost of scheduling a task outweighs the gain of running it in parallel.
+     */
+    private static final int SEQUENTIAL_THRESHOLD = 8192;
+    
+    private final ForkJoinPool pool;
+    private final int insertionSortThreshold;
+    
+    public MergeSort() {
+        this(DEFAULT_INSERTION_SORT_THRESHOLD);
+    }
+    
+    public MergeSort(int insertionSortThreshold) {
+        this(ForkJoinPool.commonPool(), insertionSortThreshold);
+    }
+    
+    /**
+     * @param pool the pool in which the sorting tasks will be executed.
+     * @param insertionSortThreshold subarrays with up to this number of items are sorted with the insertion sort.
+     */
+    public MergeSort(ForkJoinPool pool, int insertionSortThreshold) {
+        if (pool == null) {
+            throw new NullPointerException("pool");
+        }
+        
+        if (insertionSortThreshold < 1) {
+            throw new IllegalArgumentException("The insertion sort threshold must be positive.");
+        }
+        
+        this.pool = pool;
+        this.insertionSortThreshold = insertionSortThreshold;
+    }
+    
+    /**
+     * Implements a parallel merge sort.
+     * 
+     * Time complexity: O(N*log N)
+     * Space complexity: O(N)
+     * 
+     * @param <T> the type of elements in the array. In order for the sort to work, these elements must be
+     *            {@link java.lang.Comparable} to themselves.
+     * @param items an array containing the elements to sort.
+     */
+    public <T extends Comparable<T>> void sort(T[] items) {
+        this.sort(items, Comparator.<T>naturalOrder());
+    }
+    
+    /**
+     * Implements a parallel merge sort, ordering the items with a comparator instead of their natural ordering.
+     * The comparator may be called from several threads at the same time.
+     * 
+     * @param <T> the type of elements in the array.
+     * @param items an array containing the elements to sort.
+     * @param comparator the comparator that determines the order of the items.
+     */
+    public <T> void sort(T[] items, Comparator<? super T> comparator) {
+        if (items.length <= this.insertionSortThreshold) {
+            new InsertionSort().iterativeInsertionSort(items, comparator);
+        } else {
+            @SuppressWarnings("unchecked")
+            T[] buffer = (T[])new Object[items.length];
+            
+            this.pool.invoke(new SortTask<T>(items, buffer, 0, items.length - 1, comparator, this.insertionSortThreshold));
+        }
+    }
+    
+    private static class SortTask<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        
+        private final T[] items;
+        private final T[] buffer;
+        private final int lowerIndex;
+        private final int upperIndex;
+        private final Comparator<? super T> comparator;
+        private final int insertionSortThreshold;
+        
+        public SortTask(T[] items, T[] buffer, int lowerIndex, int upperIndex, Comparator<? super T> comparator,
+                        int insertionSortThreshold) {
+            this.items = items;
+            this.buffer = buffer;
+            this.lowerIndex = lowerIndex;
+            this.upperIndex = upperIndex;
+            this.comparator = comparator;
+            this.insertionSortThreshold = insertionSortThreshold;
+        }
+        
+        @Override
+        protected void compute() {
+            if (this.upperIndex - this.lowerIndex + 1 <= SEQUENTIAL_THRESHOLD) {
+                sequentialSort(this.items, this.buffer, this.lowerIndex, this.upperIndex, this.comparator,
+                               this.insertionSortThreshold);
+            } else {
+                int middleIndex = (this.lowerIndex + this.upperIndex) >>> 1;
+                
+                invokeAll(new SortTask<T>(this.items, this.buffer, this.lowerIndex, middleIndex, this.comparator,
+                                          this.insertionSortThreshold),
+                          new SortTask<T>(this.items, this.buffer, middleIndex + 1, this.upperIndex, this.comparator,
+                                          this.insertionSortThreshold));
+                
+                merge(this.items, this.buffer, this.lowerIndex, middleIndex, this.upperIndex, this.comparator);
+            }
+        }
+    }
+    
+    private static <T> void sequentialSort(T[] items, T[] buffer, int lowerIndex, int upperIndex,
+                                           Comparator<? super T> comparator, int insertionSortThreshold) {
+        if (upperIndex - lowerIndex + 1 <= insertionSortThreshold) {
+            new InsertionSort().iterativeInsertionSort(items, lowerIndex, upperIndex, comparator);
+        } else {
+            int middleIndex = (lowerIndex + upperIndex) >>> 1;
+            
+            sequentialSort(items, buffer, lowerIndex, middleIndex, comparator, insertionSortThreshold);
+            sequentialSort(items, buffer, middleIndex + 1, upperIndex, comparator, insertionSortThreshold);
+            
+            merge(items, buffer, lowerIndex, middleIndex, upperIndex, comparator);
+        }
+    }
+    
+    /**
+     * Merges the sorted ranges [lowerIndex, middleIndex] and [middleIndex + 1, upperIndex].
+     * 
+     * The lower range is moved to the buffer, so the merged items can be written back into the array from left to right
+     * without overwriting the items of the upper range that were not merged yet. When the lower range runs out first,
+     * the remaining items of the upper range are already in place.
+     * 
+     * Each merge uses the same positions of the buffer as the range it merges, so tasks running in parallel never
+     * share any position of the buffer.
+     */
+    static <T> void merge(T[] items, T[] buffer, int lowerIndex, int middleIndex, int upperIndex,
+                          Comparator<? super T> comparator) {
+        if (comparator.compare(items[middleIndex], items[middleIndex + 1]) <= 0) {
+            return;  // Already in order, which is common in partially sorted data
+        }
+        
+        System.arraycopy(items, lowerIndex, buffer, lowerIndex, middleIndex - lowerIndex + 1);
+        
+        int i = lowerIndex;       // Next item of the lower range
+        int j = middleIndex + 1;  // Next item of the upper range
+        int k = lowerIndex;       // Next position to write
+        
+        while (i <= middleIndex && j <= upperIndex) {
+            // Taking from the lower range on ties keeps the sort stable
+            if (comparator.compare(items[j], buffer[i]) < 0) {
+                items[k++] = items[j++];
+            } else {
+                items[k++] = buffer[i++];
+            }
+        }
+        
+        System.arraycopy(buffer, i, items, k, middleIndex - i + 1);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,200 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package rosberglinhares.datastructuresandalgorithms.algorithms.sorting;
+
+import java.util.Comparator;
+
+/**
+ * The partial sort puts only the K smallest items of an array in order, at its first K positions, leaving the other
+ * items in no particular order after them. When only the first few items are needed, such as the top entries of
+ * a report, this is much faster than sorting the whole array.
+ * 
+ * It works in two steps. First, a quick select moves the K smallest items to the front of the array: like the quick
+ * sort, it partitions the array around a pivot, but then it only keeps partitioning the side that holds the K-th
+ * position, which takes O(N) time on average instead of O(N*log N). The partitions are split in three parts, with the
+ * items equal to the pivot in the middle, so arrays with many duplicates are selected just as fast. Then the K items
+ * at the front are sorted with the {@link TimSort}.
+ * 
+ * As in the {@link QuickSort}, the depth of the partitioning is limited to 2*log N. A partition that goes deeper is
+ * finished with a heap of K items instead, which is always O(N*log K). This combination is known as introselect.
+ */
+public class PartialSort {
+    
+    /**
+     * Partitions with up to this number of items are sorted with the insertion sort instead of partitioned again.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+    
+    private final InsertionSort insertionSort = new InsertionSort();
+    private final TimSort timSort = new TimSort();
+    
+    /**
+     * Sorts the K smallest items into the first K positions of the array.
+     * 
+     * Time complexity: O(N + K*log K) on average, and O(N*log K) in the worst case
+     * Space complexity: O(K)
+     * 
+     * @param <T> the type of elements in the array. In order for the sort to work, these elements must be
+     *            {@link java.lang.Comparable} to themselves.
+     * @param items an array containing the elements to sort.
+     * @param count the number of items to sort, K.
+     * @throws IllegalArgumentException if the count is negative or greater than the length of the array.
+     */
+    public <T extends Comparable<T>> void sort(T[] items, int count) {
+        this.sort(items, count, Comparator.<T>naturalOrder());
+    }
+    
+    /**
+     * Sorts the K smallest items into the first K positions of the array, ordering the items with a comparator instead
+     * of their natural ordering. To get the K largest items instead, use a reversed comparator.
+     * 
+     * @param <T> the type of elements in the array.
+     * @param items an array containing the elements to sort.
+     * @param count the number of items to sort, K.
+     * @param comparator the comparator that determines the order of the items.
+     * @throws IllegalArgumentException if the count is negative or greater than the length of the array.
+     */
+    public <T> void sort(T[] items, int count, Comparator<? super T> comparator) {
+        if (count < 0 || count > items.length) {
+            throw new IllegalArgumentException("The count must be between 0 and the length of the array.");
+        }
+        
+        if (count > 0) {
+            if (count < items.length) {
+                this.select(items, count - 1, comparator);
+            }
+            
+            this.timSort.sort(items, 0, count - 1, comparator);
+        }
+    }
+    
+    /**
+     * Moves to the given position the item that would be there if the array were sorted, with no greater items before
+     * it and no smaller items after it. The items on each side are left in no particular order.
+     * 
+     * Time complexity: O(N) on average, and O(N*log K) in the worst case, where K is the index plus one
+     * Space complexity: O(1)
+     * 
+     * @param <T> the type of elements in the array.
+     * @param items an array containing the elements to select from.
+     * @param index the position of the item to select.
+     * @param comparator the comparator that determines the order of the items.
+     * @return the selected item.
+     * @throws ArrayIndexOutOfBoundsException if the index is not a position of the array.
+     */
+    public <T> T select(T[] items, int index, Comparator<? super T> comparator) {
+        if (index < 0 || index >= items.length) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+        
+        int lowerIndex = 0;
+        int upperIndex = items.length - 1;
+        int remainingDepth = 2 * (31 - Integer.numberOfLeadingZeros(items.length));
+        
+        while (upperIndex - lowerIndex + 1 > INSERTION_SORT_THRESHOLD) {
+            if (remainingDepth == 0) {
+                heapSelect(items, lowerIndex, upperIndex, index, comparator);
+                return items[index];
+            }
+            
+            remainingDepth--;
+            
+            T pivot = medianOfThree(items[lowerIndex], items[(lowerIndex + upperIndex) >>> 1], items[upperIndex],
+                                    comparator);
+            
+            // Invariant: [lowerIndex, less) < pivot == [less, i) and (great, upperIndex] > pivot
+            int less = lowerIndex;
+            int great = upperIndex;
+            
+            for (int i = lowerIndex; i <= great; ) {
+                int comparisonResult = comparator.compare(items[i], pivot);
+                
+                if (comparisonResult < 0) {
+                    swap(items, less++, i++);
+                } else if (comparisonResult > 0) {
+                    swap(items, i, great--);
+                } else {
+                    i++;
+                }
+            }
+            
+            if (index < less) {
+                upperIndex = less - 1;
+            } else if (index > great) {
+                lowerIndex = great + 1;
+            } else {
+                return items[index];  // Among the items equal to the pivot, all of them already in place
+            }
+        }
+        
+        this.insertionSort.iterativeInsertionSort(items, lowerIndex, upperIndex, comparator);
+        
+        return items[index];
+    }
+    
+    private static <T> T medianOfThree(T a, T b, T c, Comparator<? super T> comparator) {
+        if (comparator.compare(a, b) < 0) {
+            if (comparator.compare(b, c) < 0) {
+                return b;
+            } else {
+                return comparator.compare(a, c) < 0 ? c : a;
+            }
+        } else {
+            if (comparator.compare(a, c) < 0) {
+                return a;
+            } else {
+                return comparator.compare(b, c) < 0 ? c : b;
+            }
+        }
+    }
+    
+    /**
+     * Selects the item of the given index in the range [lowerIndex, upperIndex] by keeping the smallest items of the
+     * range in a max-heap at [lowerIndex, index]. Each following item smaller than the root replaces it, so in the end
+     * the heap holds the smallest items, and its root, the greatest of them, is the selected item.
+     */
+    private static <T> void heapSelect(T[] items, int lowerIndex, int upperIndex, int index,
+                                       Comparator<? super T> comparator) {
+        int heapSize = index - lowerIndex + 1;
+        
+        for (int i = heapSize / 2 - 1; i >= 0; i--) {
+            HeapSort.siftDown(items, lowerIndex, i, heapSize, comparator);
+        }
+        
+        for (int i = index + 1; i <= upperIndex; i++) {
+            if (comparator.compare(items[i], items[lowerIndex]) < 0) {
+                swap(items, i, lowerIndex);
+                HeapSort.siftDown(items, lowerIndex, 0, heapSize, comparator);
+            }
+        }
+        
+        swap(items, lowerIndex, index);
+    }
+    
+    private static <T> void swap(T[] items, int i, int j) {
+        T item = items[i];
+        items[i] = items[j];
+        items[j] = item;
+    }
+}
\ No newline at end of file
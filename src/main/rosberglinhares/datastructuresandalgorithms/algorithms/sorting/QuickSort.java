@@ -0,0 +1,204 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.algorithms.sorting;
+
+import java.util.Comparator;
+
+/**
+ * The quick sort is the most popular sorting algorithm, because in the majority of situations it is the fastest,
+ * operating in O(N*log N) time without any additional array. It works by partitioning the array around a pivot value:
+ * the items smaller than the pivot are moved to its left and the larger ones to its right, which puts the pivot in its
+ * final position. Each side is then partitioned the same way, until the partitions are small enough to be finished by
+ * the insertion sort.
+ * 
+ * This implementation partitions the array around two pivots at once, splitting it in three parts: the items smaller
+ * than the first pivot, the items between the pivots and the items greater than the second pivot. This dual-pivot
+ * scheme makes fewer swaps and scans the array fewer times than the classic one.
+ * 
+ * The pivots are the second and the fourth of five items spread along the partition, after sorting these five items.
+ * This median-of-five selection makes it very unlikely to choose bad pivots, which would produce very unbalanced
+ * partitions. Still, some inputs can defeat any pivot selection and drive the quick sort to O(N) time, so the depth
+ * of the recursion is limited to 2*log N. When a partition goes deeper than that, it is sorted by the {@link HeapSort},
+ * which is always O(N*log N). This combination is known as introsort.
+ */
+public class QuickSort {
+    
+    /**
+     * Partitions with up to this number of items are sorted with the insertion sort.
+     */
+    public static final int DEFAULT_INSERTION_SORT_THRESHOLD = 32;
+    
+    /**
+     * The five items used to choose the pivots must be distinct, so smaller partitions always use the insertion sort.
+     */
+    private static final int MIN_PARTITION_SIZE = 8;
+    
+    private final int insertionSortThreshold;
+    private final InsertionSort insertionSort = new InsertionSort();
+    private final HeapSort heapSort = new HeapSort();
+    
+    public QuickSort() {
+        this(DEFAULT_INSERTION_SORT_THRESHOLD);
+    }
+    
+    /**
+     * @param insertionSortThreshold partitions with up to this number of items are sorted with the insertion sort.
+     */
+    public QuickSort(int insertionSortThreshold) {
+        if (insertionSortThreshold < 1) {
+            throw new IllegalArgumentException("The insertion sort threshold must be positive.");
+        }
+        
+        this.insertionSortThreshold = insertionSortThreshold;
+    }
+    
+    /**
+     * Implements a dual-pivot quick sort that falls back to the heap sort.
+     * 
+     * Time complexity: O(N*log N)
+     * Space complexity: O(log N)
+     * 
+     * @param <T> the type of elements in the array. In order for the sort to work, these elements must be
+     *            {@link java.lang.Comparable} to themselves.
+     * @param items an array containing the elements to sort.
+     */
+    public <T extends Comparable<T>> void sort(T[] items) {
+        this.sort(items, Comparator.<T>naturalOrder());
+    }
+    
+    /**
+     * Implements a dual-pivot quick sort that falls back to the heap sort, ordering the items with a comparator
+     * instead of their natural ordering.
+     * 
+     * @param <T> the type of elements in the array.
+     * @param items an array containing the elements to sort.
+     * @param comparator the comparator that determines the order of the items.
+     */
+    public <T> void sort(T[] items, Comparator<? super T> comparator) {
+        if (items.length > 1) {
+            int maxDepth = 2 * (31 - Integer.numberOfLeadingZeros(items.length));
+            
+            this.sort(items, 0, items.length - 1, maxDepth, comparator);
+        }
+    }
+    
+    /**
+     * Sorts the range [lowerIndex, upperIndex]. The partition with the greatest items is sorted by the loop instead of
+     * a recursive call, which saves a stack frame.
+     */
+    private <T> void sort(T[] items, int lowerIndex, int upperIndex, int remainingDepth,
+                          Comparator<? super T> comparator) {
+        while (true) {
+            int size = upperIndex - lowerIndex + 1;
+            
+            if (size <= this.insertionSortThreshold || size < MIN_PARTITION_SIZE) {
+                this.insertionSort.iterativeInsertionSort(items, lowerIndex, upperIndex, comparator);
+                return;
+            }
+            
+            if (remainingDepth == 0) {
+                this.heapSort.sort(items, lowerIndex, upperIndex, comparator);
+                return;
+            }
+            
+            remainingDepth--;
+            
+            this.selectPivots(items, lowerIndex, upperIndex, comparator);
+            
+            T lowerPivot = items[lowerIndex];
+            T upperPivot = items[upperIndex];
+            
+            // Invariant: (lowerIndex, less) < lowerPivot <= [less, k) <= upperPivot < (great, upperIndex)
+            int less = lowerIndex + 1;
+            int great = upperIndex - 1;
+            
+            for (int k = less; k <= great; k++) {
+                T item = items[k];
+                
+                if (comparator.compare(item, lowerPivot) < 0) {
+                    swap(items, k, less++);
+                } else if (comparator.compare(item, upperPivot) > 0) {
+                    while (k < great && comparator.compare(items[great], upperPivot) > 0) {
+                        great--;
+                    }
+                    
+                    swap(items, k, great--);
+                    
+                    if (comparator.compare(items[k], lowerPivot) < 0) {
+                        swap(items, k, less++);
+                    }
+                }
+            }
+            
+            // Moves the pivots to their final positions
+            less--;
+            great++;
+            swap(items, lowerIndex, less);
+            swap(items, upperIndex, great);
+            
+            this.sort(items, lowerIndex, less - 1, remainingDepth, comparator);
+            
+            // When the pivots are equal, all the items between them are equal too, and already in place
+            if (comparator.compare(lowerPivot, upperPivot) != 0) {
+                this.sort(items, less + 1, great - 1, remainingDepth, comparator);
+            }
+            
+            lowerIndex = great + 1;
+        }
+    }
+    
+    /**
+     * Sorts five items spread along the range and moves the second one to the first position of the range and
+     * the fourth one to the last position, where the partitioning expects the pivots.
+     */
+    private <T> void selectPivots(T[] items, int lowerIndex, int upperIndex, Comparator<? super T> comparator) {
+        int seventh = (upperIndex - lowerIndex + 1) / 7;
+        int middleIndex = (lowerIndex + upperIndex) >>> 1;
+        
+        int[] indexes = {
+            middleIndex - 2 * seventh,
+            middleIndex - seventh,
+            middleIndex,
+            middleIndex + seventh,
+            middleIndex + 2 * seventh
+        };
+        
+        // An insertion sort of the five items
+        for (int i = 1; i < indexes.length; i++) {
+            for (int j = i; j >= 1 && comparator.compare(items[indexes[j]], items[indexes[j - 1]]) < 0; j--) {
+                swap(items, indexes[j], indexes[j - 1]);
+            }
+        }
+        
+        swap(items, lowerIndex, indexes[1]);
+        swap(items, upperIndex, indexes[3]);
+    }
+    
+    private static <T> void swap(T[] items, int index1, int index2) {
+        T temp = items[index1];
+        items[index1] = items[index2];
+        items[index2] = temp;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,422 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.algorithms.sorting;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * The radix sort doesn't compare items at all. It splits the keys in digits and distributes the items in buckets,
+ * one for each possible value of a digit, counting first how many items go to each bucket so they can be moved
+ * straight to their positions in an auxiliary array. This takes linear time, so it beats the O(N*log N) limit of
+ * the comparison sorts when the keys are short compared to the number of items.
+ * 
+ * Numeric keys are sorted least significant digit (LSD) first, with digits of 11 bits: 3 passes for an {@code int}
+ * and 6 for a {@code long}. Each pass is stable, so the order given by the previous digits is kept among the items
+ * with the same digit. The counts of all the passes are taken in a single read of the keys, and a pass where all the
+ * keys have the same digit, like the high digits of small positive numbers, is skipped. The sign bit is flipped
+ * before taking the digits, so negative numbers come before the positive ones.
+ * 
+ * Strings are sorted most significant digit (MSD) first, one byte of each UTF-16 char at a time, which gives the same
+ * order as {@link String#compareTo(String)}. Only the strings that share a prefix are distributed again by the next
+ * digit, and small groups are finished by the insertion sort, which is faster than allocating and clearing 256 counts.
+ */
+public class RadixSort {
+    
+    /**
+     * Arrays and groups of strings with up to this number of items are sorted with the insertion sort.
+     */
+    public static final int INSERTION_SORT_THRESHOLD = 32;
+    
+    private static final int DIGIT_BITS = 11;
+    private static final int DIGIT_COUNT = 1 << DIGIT_BITS;
+    private static final int DIGIT_MASK = DIGIT_COUNT - 1;
+    
+    private static final int INT_PASSES = (Integer.SIZE + DIGIT_BITS - 1) / DIGIT_BITS;
+    private static final int LONG_PASSES = (Long.SIZE + DIGIT_BITS - 1) / DIGIT_BITS;
+    
+    /**
+     * The number of values of a string digit. Strings that end before the digit go to a bucket of their own, before
+     * all the others.
+     */
+    private static final int BYTE_COUNT = 256;
+    
+    /**
+     * Implements a LSD radix sort on primitive values.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(N)
+     * 
+     * @param items an array containing the elements to sort.
+     */
+    public void sort(int[] items) {
+        if (items.length <= INSERTION_SORT_THRESHOLD) {
+            new InsertionSort().iterativeInsertionSort(items);
+        } else {
+            lsdSort(items, null);
+        }
+    }
+    
+    /**
+     * Implements a LSD radix sort on primitive values.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(N)
+     * 
+     * @param items an array containing the elements to sort.
+     */
+    public void sort(long[] items) {
+        if (items.length <= INSERTION_SORT_THRESHOLD) {
+            new InsertionSort().iterativeInsertionSort(items);
+        } else {
+            lsdSort(items, null);
+        }
+    }
+    
+    /**
+     * Implements a LSD radix sort on primitive values. The values are ordered as in
+     * {@link Double#compare(double, double)}: {@code -0.0} is treated as less than {@code 0.0} and {@code NaN} as
+     * greater than any other value, including positive infinity.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(N)
+     * 
+     * @param items an array containing the elements to sort.
+     */
+    public void sort(double[] items) {
+        if (items.length <= INSERTION_SORT_THRESHOLD) {
+            new InsertionSort().iterativeInsertionSort(items);
+            return;
+        }
+        
+        long[] keys = new long[items.length];
+        
+        for (int i = 0; i < items.length; i++) {
+            long bits = Double.doubleToLongBits(items[i]);
+            
+            // Negative numbers are stored as sign and magnitude, so all their bits but the sign must be flipped to
+            // make a greater magnitude sort first. The sign bit itself is flipped by the LSD sort.
+            keys[i] = bits < 0 ? bits ^ Long.MAX_VALUE : bits;
+        }
+        
+        lsdSort(keys, null);
+        
+        for (int i = 0; i < items.length; i++) {
+            long key = keys[i];
+            items[i] = Double.longBitsToDouble(key < 0 ? key ^ Long.MAX_VALUE : key);
+        }
+    }
+    
+    /**
+     * Implements a LSD radix sort on objects, ordering them by an {@code int} key. The key of each item is extracted
+     * only once. The sort is stable: items with the same key keep their relative order.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(N)
+     * 
+     * @param <T> the type of elements in the array.
+     * @param items an array containing the elements to sort.
+     * @param keyExtractor the function that returns the key of an item.
+     */
+    public <T> void sortByIntKey(T[] items, ToIntFunction<? super T> keyExtractor) {
+        if (items.length <= INSERTION_SORT_THRESHOLD) {
+            new InsertionSort().iterativeInsertionSort(items, Comparator.comparingInt(keyExtractor));
+            return;
+        }
+        
+        int[] keys = new int[items.length];
+        
+        for (int i = 0; i < items.length; i++) {
+            keys[i] = keyExtractor.applyAsInt(items[i]);
+        }
+        
+        lsdSort(keys, items);
+    }
+    
+    /**
+     * Implements a LSD radix sort on objects, ordering them by a {@code long} key. The key of each item is extracted
+     * only once. The sort is stable: items with the same key keep their relative order.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(N)
+     * 
+     * @param <T> the type of elements in the array.
+     * @param items an array containing the elements to sort.
+     * @param keyExtractor the function that returns the key of an item.
+     */
+    public <T> void sortByLongKey(T[] items, ToLongFunction<? super T> keyExtractor) {
+        if (items.length <= INSERTION_SORT_THRESHOLD) {
+            new InsertionSort().iterativeInsertionSort(items, Comparator.comparingLong(keyExtractor));
+            return;
+        }
+        
+        long[] keys = new long[items.length];
+        
+        for (int i = 0; i < items.length; i++) {
+            keys[i] = keyExtractor.applyAsLong(items[i]);
+        }
+        
+        lsdSort(keys, items);
+    }
+    
+    /**
+     * Implements a MSD radix sort on strings, in the order of {@link String#compareTo(String)}.
+     * 
+     * Time complexity: O(N*L), where L is the average length of the prefixes that tell the strings apart
+     * Space complexity: O(N)
+     * 
+     * @param items an array containing the elements to sort.
+     * @throws NullPointerException if the array contains a null element.
+     */
+    public void sort(String[] items) {
+        if (items.length <= INSERTION_SORT_THRESHOLD) {
+            new InsertionSort().iterativeInsertionSort(items);
+            return;
+        }
+        
+        String[] buffer = new String[items.length];
+        int[] counts = new int[BYTE_COUNT + 2];
+        
+        // The groups still to be sorted, as triples of lower index, upper index (exclusive) and digit. An explicit
+        // stack avoids a recursion as deep as the longest common prefix.
+        int[] pendingGroups = new int[3 * BYTE_COUNT];
+        int pendingCount = 0;
+        
+        pendingGroups[pendingCount++] = 0;
+        pendingGroups[pendingCount++] = items.length;
+        pendingGroups[pendingCount++] = 0;
+        
+        while (pendingCount > 0) {
+            int digit = pendingGroups[--pendingCount];
+            int upperIndex = pendingGroups[--pendingCount];
+            int lowerIndex = pendingGroups[--pendingCount];
+            int groupSize = upperIndex - lowerIndex;
+            
+            if (groupSize <= INSERTION_SORT_THRESHOLD) {
+                // All the strings of the group share the first digits, so comparing them from the start is correct
+                new InsertionSort().iterativeInsertionSort(items, lowerIndex, upperIndex - 1);
+                continue;
+            }
+            
+            Arrays.fill(counts, 0);
+            
+            for (int i = lowerIndex; i < upperIndex; i++) {
+                counts[byteAt(items[i], digit) + 2]++;
+            }
+            
+            if (counts[1] == groupSize) {
+                continue;  // All the strings ended, so they are equal
+            }
+            
+            boolean singleBucket = false;
+            
+            for (int b = 2; b < counts.length && !singleBucket; b++) {
+                singleBucket = counts[b] == groupSize;
+            }
+            
+            if (!singleBucket) {
+                for (int b = 0; b <= BYTE_COUNT; b++) {
+                    counts[b + 1] += counts[b];
+                }
+                
+                // counts[b + 1] is now the position of the next string of bucket b, the first one being the strings
+                // that ended
+                for (int i = lowerIndex; i < upperIndex; i++) {
+                    String item = items[i];
+                    buffer[counts[byteAt(item, digit) + 1]++] = item;
+                }
+                
+                System.arraycopy(buffer, 0, items, lowerIndex, groupSize);
+            }
+            
+            // After the distribution, bucket b is [counts[b], counts[b + 1]). Without it, the whole group is one
+            // bucket, like the high byte of ASCII chars, and goes straight to the next digit.
+            int bucketCount = singleBucket ? 1 : BYTE_COUNT;
+            int requiredLength = pendingCount + 3 * bucketCount;
+            
+            if (requiredLength > pendingGroups.length) {
+                pendingGroups = Arrays.copyOf(pendingGroups, Math.max(requiredLength, 2 * pendingGroups.length));
+            }
+            
+            for (int b = 0; b < bucketCount; b++) {
+                int bucketLower = singleBucket ? lowerIndex : lowerIndex + counts[b];
+                int bucketUpper = singleBucket ? upperIndex : lowerIndex + counts[b + 1];
+                
+                if (bucketUpper - bucketLower > 1) {
+                    pendingGroups[pendingCount++] = bucketLower;
+                    pendingGroups[pendingCount++] = bucketUpper;
+                    pendingGroups[pendingCount++] = digit + 1;
+                }
+            }
+        }
+    }
+    
+    /**
+     * Returns the digit of a string at the given position, or -1 if the string is shorter. Even digits are the high
+     * bytes of the chars and odd digits the low bytes.
+     */
+    private static int byteAt(String item, int digit) {
+        int charIndex = digit >>> 1;
+        
+        if (charIndex >= item.length()) {
+            return -1;
+        }
+        
+        char c = item.charAt(charIndex);
+        
+        return (digit & 1) == 0 ? c >>> 8 : c & 0xFF;
+    }
+    
+    /**
+     * Sorts the keys and, if not null, moves the items along with them.
+     */
+    private static void lsdSort(int[] keys, Object[] items) {
+        int[][] counts = new int[INT_PASSES][DIGIT_COUNT];
+        
+        for (int key : keys) {
+            int unsignedKey = key ^ Integer.MIN_VALUE;
+            
+            for (int pass = 0; pass < INT_PASSES; pass++) {
+                counts[pass][(unsignedKey >>> (pass * DIGIT_BITS)) & DIGIT_MASK]++;
+            }
+        }
+        
+        int[] sourceKeys = keys;
+        int[] targetKeys = new int[keys.length];
+        Object[] sourceItems = items;
+        Object[] targetItems = items == null ? null : new Object[items.length];
+        
+        for (int pass = 0; pass < INT_PASSES; pass++) {
+            int shift = pass * DIGIT_BITS;
+            int[] positions = counts[pass];
+            
+            if (positions[((sourceKeys[0] ^ Integer.MIN_VALUE) >>> shift) & DIGIT_MASK] == keys.length) {
+                continue;
+            }
+            
+            toPositions(positions);
+            
+            for (int i = 0; i < keys.length; i++) {
+                int key = sourceKeys[i];
+                int position = positions[((key ^ Integer.MIN_VALUE) >>> shift) & DIGIT_MASK]++;
+                
+                targetKeys[position] = key;
+                
+                if (items != null) {
+                    targetItems[position] = sourceItems[i];
+                }
+            }
+            
+            int[] tempKeys = sourceKeys;
+            sourceKeys = targetKeys;
+            targetKeys = tempKeys;
+            
+            Object[] tempItems = sourceItems;
+            sourceItems = targetItems;
+            targetItems = tempItems;
+        }
+        
+        if (sourceKeys != keys) {
+            System.arraycopy(sourceKeys, 0, keys, 0, keys.length);
+            
+            if (items != null) {
+                System.arraycopy(sourceItems, 0, items, 0, items.length);
+            }
+        }
+    }
+    
+    /**
+     * Same as {@link #lsdSort(int[], Object[])}, for {@code long} keys.
+     */
+    private static void lsdSort(long[] keys, Object[] items) {
+        int[][] counts = new int[LONG_PASSES][DIGIT_COUNT];
+        
+        for (long key : keys) {
+            long unsignedKey = key ^ Long.MIN_VALUE;
+            
+            for (int pass = 0; pass < LONG_PASSES; pass++) {
+                counts[pass][(int)(unsignedKey >>> (pass * DIGIT_BITS)) & DIGIT_MASK]++;
+            }
+        }
+        
+        long[] sourceKeys = keys;
+        long[] targetKeys = new long[keys.length];
+        Object[] sourceItems = items;
+        Object[] targetItems = items == null ? null : new Object[items.length];
+        
+        for (int pass = 0; pass < LONG_PASSES; pass++) {
+            int shift = pass * DIGIT_BITS;
+            int[] positions = counts[pass];
+            
+            if (positions[(int)((sourceKeys[0] ^ Long.MIN_VALUE) >>> shift) & DIGIT_MASK] == keys.length) {
+                continue;
+            }
+            
+            toPositions(positions);
+            
+            for (int i = 0; i < keys.length; i++) {
+                long key = sourceKeys[i];
+                int position = positions[(int)((key ^ Long.MIN_VALUE) >>> shift) & DIGIT_MASK]++;
+                
+                targetKeys[position] = key;
+                
+                if (items != null) {
+                    targetItems[position] = sourceItems[i];
+                }
+            }
+            
+            long[] tempKeys = sourceKeys;
+            sourceKeys = targetKeys;
+            targetKeys = tempKeys;
+            
+            Object[] tempItems = sourceItems;
+            sourceItems = targetItems;
+            targetItems = tempItems;
+        }
+        
+        if (sourceKeys != keys) {
+            System.arraycopy(sourceKeys, 0, keys, 0, keys.length);
+            
+            if (items != null) {
+                System.arraycopy(sourceItems, 0, items, 0, items.length);
+            }
+        }
+    }
+    
+    /**
+     * Turns the number of keys with each digit into the position of the first of them in the sorted array.
+     */
+    private static void toPositions(int[] counts) {
+        int position = 0;
+        
+        for (int digit = 0; digit < counts.length; digit++) {
+            int count = counts[digit];
+            counts[digit] = position;
+            position += count;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.algorithms.sorting;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts records of a fixed size between their binary form in a file and objects in memory. The
+ * {@link ExternalSort} uses it to read the records of the input file and to write them back to the sorted runs.
+ * 
+ * @param <T> the type of the records.
+ */
+public interface RecordFormat<T> {
+    
+    /**
+     * @return the number of bytes of each record.
+     */
+    int recordSize();
+    
+    /**
+     * Reads a record at the current position of the buffer, which must be advanced by exactly
+     * {@link #recordSize()} bytes.
+     */
+    T read(ByteBuffer buffer);
+    
+    /**
+     * Writes a record at the current position of the buffer, which must be advanced by exactly
+     * {@link #recordSize()} bytes.
+     */
+    void write(T record, ByteBuffer buffer);
+    
+    /**
+     * @return a format of 4-byte signed integers, in the byte order of the buffers.
+     */
+    static RecordFormat<Integer> ints() {
+        return new RecordFormat<Integer>() {
+            @Override
+            public int recordSize() {
+                return Integer.BYTES;
+            }
+            
+            @Override
+            public Integer read(ByteBuffer buffer) {
+                return buffer.getInt();
+            }
+            
+            @Override
+            public void write(Integer record, ByteBuffer buffer) {
+                buffer.putInt(record);
+            }
+        };
+    }
+    
+    /**
+     * @return a format of 8-byte signed integers, in the byte order of the buffers.
+     */
+    static RecordFormat<Long> longs() {
+        return new RecordFormat<Long>() {
+            @Override
+            public int recordSize() {
+                return Long.BYTES;
+            }
+            
+            @Override
+            public Long read(ByteBuffer buffer) {
+                return buffer.getLong();
+            }
+            
+            @Override
+            public void write(Long record, ByteBuffer buffer) {
+                buffer.putLong(record);
+            }
+        };
+    }
+}
\ No newline at end of file
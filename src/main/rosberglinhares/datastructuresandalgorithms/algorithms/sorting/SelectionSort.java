@@ -24,6 +24,10 @@
 
 package rosberglinhares.datastructuresandalgorithms.algorithms.sorting;
 
+import java.util.Comparator;
+
+import rosberglinhares.datastructuresandalgorithms.algorithms.Trampoline;
+
 /**
  * The selection sort improves on the bubble sort by reducing the number of swaps necessary from O(N) to O(N).
  * Unfortunately, the number of comparisons remains O(N).
@@ -53,11 +57,22 @@ public class SelectionSort {
      * @param items an array containing the elements to sort.
      */
     public <T extends Comparable<T>> void iterativeSelectionSort(T[] items) {
+        this.iterativeSelectionSort(items, Comparator.<T>naturalOrder());
+    }
+    
+    /**
+     * Implements an iterative selection sort, ordering the items with a comparator instead of their natural ordering.
+     * 
+     * @param <T> the type of elements in the array.
+     * @param items an array containing the elements to sort.
+     * @param comparator the comparator that determines the order of the items.
+     */
+    public <T> void iterativeSelectionSort(T[] items, Comparator<? super T> comparator) {
         for (int i = 0; i < items.length - 1; i++) {
             int minimumIndex = i;
             
             for (int j = i + 1; j < items.length; j++) {
-                if (items[j].compareTo(items[minimumIndex]) < 0) {
+                if (comparator.compare(items[j], items[minimumIndex]) < 0) {
                     minimumIndex = j;
                 }
             }
@@ -71,25 +86,37 @@ public class SelectionSort {
     }
     
     /**
-     * Implements a recursive selection sort.
+     * Implements a recursive selection sort. The recursion runs on a {@link Trampoline}, so it doesn't use the call
+     * stack and can sort arrays of any size.
      * 
      * Time complexity: O(N)
-     * Space complexity: O(N)
+     * Space complexity: O(1)
      * 
      * @param <T> the type of elements in the array. In order for the sort to work, these elements must be
      *            {@link java.lang.Comparable} to themselves.
      * @param items an array containing the elements to sort.
      */
     public <T extends Comparable<T>> void recursiveSelectionSort(T[] items) {
-        this.recursiveSelectionSort(items, 0);
+        this.recursiveSelectionSort(items, Comparator.<T>naturalOrder());
     }
     
-    private <T extends Comparable<T>> void recursiveSelectionSort(T[] items, int lowerIndex) {
+    /**
+     * Implements a recursive selection sort, ordering the items with a comparator instead of their natural ordering.
+     * 
+     * @param <T> the type of elements in the array.
+     * @param items an array containing the elements to sort.
+     * @param comparator the comparator that determines the order of the items.
+     */
+    public <T> void recursiveSelectionSort(T[] items, Comparator<? super T> comparator) {
+        this.recursiveSelectionSort(items, 0, comparator).run();
+    }
+    
+    private <T> Trampoline<Void> recursiveSelectionSort(T[] items, int lowerIndex, Comparator<? super T> comparator) {
         if (lowerIndex < items.length - 1) {
             int minimumIndex = lowerIndex;
             
             for (int i = lowerIndex + 1; i < items.length; i++) {
-                if (items[i].compareTo(items[minimumIndex]) < 0) {
+                if (comparator.compare(items[i], items[minimumIndex]) < 0) {
                     minimumIndex = i;
                 }
             }
@@ -100,7 +127,89 @@ public class SelectionSort {
                 items[minimumIndex] = temp;
             }
             
-            recursiveSelectionSort(items, lowerIndex + 1);
+            return Trampoline.call(() -> this.recursiveSelectionSort(items, lowerIndex + 1, comparator));
+        } else {
+            return Trampoline.done(null);
+        }
+    }
+    
+    /**
+     * Implements an iterative selection sort on primitive values, without boxing them.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(1)
+     * 
+     * @param items an array containing the elements to sort.
+     */
+    public void iterativeSelectionSort(int[] items) {
+        for (int i = 0; i < items.length - 1; i++) {
+            int minimumIndex = i;
+            
+            for (int j = i + 1; j < items.length; j++) {
+                if (items[j] < items[minimumIndex]) {
+                    minimumIndex = j;
+                }
+            }
+            
+            if (minimumIndex != i) {
+                int temp = items[i];
+                items[i] = items[minimumIndex];
+                items[minimumIndex] = temp;
+            }
+        }
+    }
+    
+    /**
+     * Implements an iterative selection sort on primitive values, without boxing them.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(1)
+     * 
+     * @param items an array containing the elements to sort.
+     */
+    public void iterativeSelectionSort(long[] items) {
+        for (int i = 0; i < items.length - 1; i++) {
+            int minimumIndex = i;
+            
+            for (int j = i + 1; j < items.length; j++) {
+                if (items[j] < items[minimumIndex]) {
+                    minimumIndex = j;
+                }
+            }
+            
+            if (minimumIndex != i) {
+                long temp = items[i];
+                items[i] = items[minimumIndex];
+                items[minimumIndex] = temp;
+            }
+        }
+    }
+    
+    /**
+     * Implements an iterative selection sort on primitive values, without boxing them.
+     * The values are ordered as in {@link Double#compare(double, double)}: {@code -0.0} is treated as less than
+     * {@code 0.0} and {@code NaN} as greater than any other value, including positive infinity.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(1)
+     * 
+     * @param items an array containing the elements to sort.
+     */
+    public void iterativeSelectionSort(double[] items) {
+        for (int i = 0; i < items.length - 1; i++) {
+            int minimumIndex = i;
+            
+            for (int j = i + 1; j < items.length; j++) {
+                if (Double.compare(items[j], items[minimumIndex]) < 0) {
+                    minimumIndex = j;
+                }
+            }
+            
+            if (minimumIndex != i) {
+                double temp = items[i];
+                items[i] = items[minimumIndex];
+                items[minimumIndex] = temp;
+            }
         }
     }
 }
\ No newline at end of file
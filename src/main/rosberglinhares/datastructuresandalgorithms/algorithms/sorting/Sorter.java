@@ -0,0 +1,184 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.algorithms.sorting;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Sorts arrays asynchronously on a supplied executor. The call returns at once with a {@link CompletableFuture} that
+ * completes with the sorted array, so the calling thread is never blocked waiting for the sort.
+ * 
+ * The array is split in partitions, each one sorted by a task of its own with the {@link TimSort}. Adjacent
+ * partitions are then merged in pairs, and each merge is scheduled as soon as the two partitions it depends on are
+ * ready, until a single sorted range is left. None of the tasks ever waits for another one or holds a lock, so they
+ * can run on a {@link ForkJoinPool} as well as on an executor that starts a new virtual thread per task.
+ * 
+ * The sort is stable, and the array must not be read or modified until the future completes.
+ */
+public class Sorter {
+    
+    /**
+     * Arrays are not split in partitions smaller than this. Below this size, the cost of scheduling a task outweighs
+     * the gain of running it in parallel.
+     */
+    public static final int MIN_PARTITION_SIZE = 8192;
+    
+    private final Executor executor;
+    private final int parallelism;
+    
+    /**
+     * Creates a sorter that runs on the common fork/join pool, with as many partitions as its parallelism.
+     */
+    public Sorter() {
+        this(ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism());
+    }
+    
+    /**
+     * @param executor the executor where the sorting and merging tasks are run.
+     * @param parallelism the maximum number of partitions an array is split in.
+     */
+    public Sorter(Executor executor, int parallelism) {
+        if (executor == null) {
+            throw new NullPointerException("executor");
+        }
+        
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism must be positive.");
+        }
+        
+        this.executor = executor;
+        this.parallelism = parallelism;
+    }
+    
+    /**
+     * Sorts the array asynchronously.
+     * 
+     * Time complexity: O(N*log N)
+     * Space complexity: O(N)
+     * 
+     * @param <T> the type of elements in the array. In order for the sort to work, these elements must be
+     *            {@link java.lang.Comparable} to themselves.
+     * @param items an array containing the elements to sort.
+     * @return a future that completes with the same array once it is sorted, or exceptionally if the sort fails.
+     */
+    public <T extends Comparable<T>> CompletableFuture<T[]> sortAsync(T[] items) {
+        return this.sortAsync(items, Comparator.<T>naturalOrder());
+    }
+    
+    /**
+     * Sorts the array asynchronously, ordering the items with a comparator instead of their natural ordering.
+     * The comparator may be called from several threads at the same time.
+     * 
+     * @param <T> the type of elements in the array.
+     * @param items an array containing the elements to sort.
+     * @param comparator the comparator that determines the order of the items.
+     * @return a future that completes with the same array once it is sorted, or exceptionally if the sort fails.
+     *         Even when it fails, the future only completes after all the tasks stopped touching the array.
+     */
+    public <T> CompletableFuture<T[]> sortAsync(T[] items, Comparator<? super T> comparator) {
+        if (items == null) {
+            throw new NullPointerException("items");
+        }
+        
+        if (comparator == null) {
+            throw new NullPointerException("comparator");
+        }
+        
+        int partitionCount = Math.max(1, Math.min(this.parallelism, items.length / MIN_PARTITION_SIZE));
+        
+        if (partitionCount == 1) {
+            return CompletableFuture.supplyAsync(() -> {
+                new TimSort().sort(items, comparator);
+                return items;
+            }, this.executor);
+        }
+        
+        @SuppressWarnings("unchecked")
+        T[] buffer = (T[])new Object[items.length];
+        List<Partition> partitions = new ArrayList<Partition>(partitionCount);
+        List<CompletableFuture<Void>> tasks = new ArrayList<CompletableFuture<Void>>(2 * partitionCount);
+        
+        for (int i = 0; i < partitionCount; i++) {
+            int lowerIndex = (int)((long)items.length * i / partitionCount);
+            int upperIndex = (int)((long)items.length * (i + 1) / partitionCount) - 1;
+            
+            CompletableFuture<Void> sorted = CompletableFuture.runAsync(() -> {
+                new TimSort().sort(items, lowerIndex, upperIndex, comparator);
+            }, this.executor);
+            
+            partitions.add(new Partition(lowerIndex, upperIndex, sorted));
+            tasks.add(sorted);
+        }
+        
+        // Merges adjacent pairs level by level, like a bottom-up merge sort. Merges of the same level work on
+        // disjoint ranges of the array and of the buffer, so they may run at the same time.
+        while (partitions.size() > 1) {
+            List<Partition> mergedPartitions = new ArrayList<Partition>((partitions.size() + 1) / 2);
+            
+            for (int i = 0; i + 1 < partitions.size(); i += 2) {
+                Partition lower = partitions.get(i);
+                Partition upper = partitions.get(i + 1);
+                
+                CompletableFuture<Void> merged = lower.sorted.thenCombineAsync(upper.sorted, (x, y) -> {
+                    MergeSort.merge(items, buffer, lower.lowerIndex, lower.upperIndex, upper.upperIndex, comparator);
+                    return null;
+                }, this.executor);
+                
+                mergedPartitions.add(new Partition(lower.lowerIndex, upper.upperIndex, merged));
+                tasks.add(merged);
+            }
+            
+            if (partitions.size() % 2 != 0) {
+                mergedPartitions.add(partitions.get(partitions.size() - 1));
+            }
+            
+            partitions = mergedPartitions;
+        }
+        
+        // A merge fails as soon as one of its partitions fails, while the other one may still be sorted. Waiting for
+        // every task keeps the caller from touching the array while some of them are still writing it.
+        return CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).thenApply(v -> items);
+    }
+    
+    /**
+     * A range of the array, both indexes inclusive, and the future that completes when it is sorted.
+     */
+    private static class Partition {
+        private final int lowerIndex;
+        private final int upperIndex;
+        private final CompletableFuture<Void> sorted;
+        
+        public Partition(int lowerIndex, int upperIndex, CompletableFuture<Void> sorted) {
+            this.lowerIndex = lowerIndex;
+            this.upperIndex = upperIndex;
+            this.sorted = sorted;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,705 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.algorithms.sorting;
+
+import java.util.Comparator;
+
+/**
+ * The Tim sort is a natural merge sort: instead of splitting the array in halves regardless of its contents, it merges
+ * the runs of items that are already in order. Real data is often partially sorted, like logs with new entries
+ * appended at the end, and then there are few long runs to merge. An array that is already sorted is a single run,
+ * recognized in O(N) time.
+ * 
+ * The array is scanned from left to right, finding each run. A run is either ascending or strictly descending, in
+ * which case it is reversed in place. Runs shorter than a minimum length, computed from the size of the array, are
+ * extended with a binary insertion sort, so a random array still ends up split in runs of similar lengths. The runs
+ * are pushed onto a stack and merged as soon as their lengths would break a balance rule, which keeps the merges
+ * balanced as in the classic merge sort.
+ * 
+ * The merge itself is adaptive. When one run keeps winning the comparisons, the merge switches to galloping mode:
+ * it looks for the position of the next item of the other run with an exponential search, and then moves the whole
+ * block of items before it at once. Merging runs whose ranges barely overlap takes only O(log N) comparisons.
+ * 
+ * The sort is stable and needs an additional array of at most half the size of the one being sorted.
+ */
+public class TimSort {
+    
+    /**
+     * Arrays smaller than this are sorted with a binary insertion sort, without any merge. It is also the upper bound
+     * of the minimum run length.
+     */
+    private static final int MIN_MERGE = 32;
+    
+    /**
+     * Initial number of consecutive wins of one run that switches the merge to galloping mode.
+     */
+    private static final int MIN_GALLOP = 7;
+    
+    /**
+     * The balance rule makes the run lengths grow at least as fast as the Fibonacci numbers, so this many runs
+     * are enough for any array.
+     */
+    private static final int MAX_RUNS = 49;
+    
+    /**
+     * Implements a Tim sort.
+     * 
+     * Time complexity: O(N*log N), or O(N) when the array is already sorted
+     * Space complexity: O(N)
+     * 
+     * @param <T> the type of elements in the array. In order for the sort to work, these elements must be
+     *            {@link java.lang.Comparable} to themselves.
+     * @param items an array containing the elements to sort.
+     */
+    public <T extends Comparable<T>> void sort(T[] items) {
+        this.sort(items, Comparator.<T>naturalOrder());
+    }
+    
+    /**
+     * Implements a Tim sort, ordering the items with a comparator instead of their natural ordering.
+     * 
+     * @param <T> the type of elements in the array.
+     * @param items an array containing the elements to sort.
+     * @param comparator the comparator that determines the order of the items.
+     * @throws IllegalArgumentException if the comparator is found to be inconsistent, i.e. not transitive.
+     */
+    public <T> void sort(T[] items, Comparator<? super T> comparator) {
+        this.sort(items, 0, items.length - 1, comparator);
+    }
+    
+    /**
+     * Sorts only the range of the array between {@code lowerIndex} and {@code upperIndex}, both inclusive.
+     * 
+     * @param <T> the type of elements in the array.
+     * @param items an array containing the elements to sort.
+     * @param lowerIndex the index of the first element to be sorted.
+     * @param upperIndex the index of the last element to be sorted.
+     * @param comparator the comparator that determines the order of the items.
+     * @throws IllegalArgumentException if the comparator is found to be inconsistent, i.e. not transitive.
+     */
+    public <T> void sort(T[] items, int lowerIndex, int upperIndex, Comparator<? super T> comparator) {
+        int endIndex = upperIndex + 1;
+        int remaining = endIndex - lowerIndex;
+        
+        if (remaining < 2) {
+            return;
+        }
+        
+        if (remaining < MIN_MERGE) {
+            int runLength = countRunAndMakeAscending(items, lowerIndex, endIndex, comparator);
+            binaryInsertionSort(items, lowerIndex, endIndex, lowerIndex + runLength, comparator);
+            return;
+        }
+        
+        Merger<T> merger = new Merger<T>(items, remaining, comparator);
+        int minRunLength = minRunLength(remaining);
+        
+        do {
+            int runLength = countRunAndMakeAscending(items, lowerIndex, endIndex, comparator);
+            
+            if (runLength < minRunLength) {
+                int forcedLength = Math.min(remaining, minRunLength);
+                binaryInsertionSort(items, lowerIndex, lowerIndex + forcedLength, lowerIndex + runLength, comparator);
+                runLength = forcedLength;
+            }
+            
+            merger.pushRun(lowerIndex, runLength);
+            merger.mergeCollapse();
+            
+            lowerIndex += runLength;
+            remaining -= runLength;
+        } while (remaining > 0);
+        
+        merger.mergeForceCollapse();
+    }
+    
+    /**
+     * Returns the minimum run length for an array of the given size. It is a number between MIN_MERGE / 2 and
+     * MIN_MERGE such that the size divided by it is a power of two, or slightly less than one, so the final merges
+     * are between runs of close lengths.
+     */
+    private static int minRunLength(int size) {
+        int lowBitsSet = 0;
+        
+        while (size >= MIN_MERGE) {
+            lowBitsSet |= (size & 1);
+            size >>= 1;
+        }
+        
+        return size + lowBitsSet;
+    }
+    
+    /**
+     * Returns the length of the run that starts at the lower index, reversing it if it is descending. A descending
+     * run must be strictly descending, since reversing equal items would break the stability.
+     * 
+     * @param upperIndex the index after the last item that can be part of the run.
+     */
+    private static <T> int countRunAndMakeAscending(T[] items, int lowerIndex, int upperIndex,
+                                                    Comparator<? super T> comparator) {
+        int runEnd = lowerIndex + 1;
+        
+        if (runEnd == upperIndex) {
+            return 1;
+        }
+        
+        if (comparator.compare(items[runEnd++], items[lowerIndex]) < 0) {
+            while (runEnd < upperIndex && comparator.compare(items[runEnd], items[runEnd - 1]) < 0) {
+                runEnd++;
+            }
+            
+            for (int i = lowerIndex, j = runEnd - 1; i < j; i++, j--) {
+                T temp = items[i];
+                items[i] = items[j];
+                items[j] = temp;
+            }
+        } else {
+            while (runEnd < upperIndex && comparator.compare(items[runEnd], items[runEnd - 1]) >= 0) {
+                runEnd++;
+            }
+        }
+        
+        return runEnd - lowerIndex;
+    }
+    
+    /**
+     * Sorts the range [lowerIndex, upperIndex) whose items before {@code startIndex} are already sorted. Like the
+     * insertion sort, but the position of each item is found with a binary search, so the number of comparisons is
+     * O(N*log N), although the number of moves is still O(N).
+     */
+    private static <T> void binaryInsertionSort(T[] items, int lowerIndex, int upperIndex, int startIndex,
+                                                Comparator<? super T> comparator) {
+        for (int i = startIndex; i < upperIndex; i++) {
+            T insertItem = items[i];
+            int left = lowerIndex;
+            int right = i;
+            
+            // Finds the position after all the items less than or equal to the inserted one, keeping the sort stable
+            while (left < right) {
+                int middle = (left + right) >>> 1;
+                
+                if (comparator.compare(insertItem, items[middle]) < 0) {
+                    right = middle;
+                } else {
+                    left = middle + 1;
+                }
+            }
+            
+            System.arraycopy(items, left, items, left + 1, i - left);
+            items[left] = insertItem;
+        }
+    }
+    
+    /**
+     * Finds the position where the key would be inserted in the sorted range [base, base + length), before any items
+     * equal to it. The search starts at {@code hint} and gallops away from it with steps of 1, 3, 7, 15..., and then
+     * finishes with a binary search between the last two steps. It takes O(log K) comparisons, where K is the distance
+     * between the hint and the result.
+     * 
+     * @return the offset k such that items[base + k - 1] &lt; key &lt;= items[base + k].
+     */
+    private static <T> int gallopLeft(T key, T[] items, int base, int length, int hint,
+                                      Comparator<? super T> comparator) {
+        int lastOffset = 0;
+        int offset = 1;
+        
+        if (comparator.compare(key, items[base + hint]) > 0) {
+            // Gallops right until items[base + hint + lastOffset] < key <= items[base + hint + offset]
+            int maxOffset = length - hint;
+            
+            while (offset < maxOffset && comparator.compare(key, items[base + hint + offset]) > 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                
+                if (offset <= 0) {  // Overflow
+                    offset = maxOffset;
+                }
+            }
+            
+            offset = Math.min(offset, maxOffset);
+            lastOffset += hint;
+            offset += hint;
+        } else {
+            // Gallops left until items[base + hint - offset] < key <= items[base + hint - lastOffset]
+            int maxOffset = hint + 1;
+            
+            while (offset < maxOffset && comparator.compare(key, items[base + hint - offset]) <= 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            
+            offset = Math.min(offset, maxOffset);
+            int temp = lastOffset;
+            lastOffset = hint - offset;
+            offset = hint - temp;
+        }
+        
+        // Now items[base + lastOffset] < key <= items[base + offset], so a binary search finishes the job
+        lastOffset++;
+        
+        while (lastOffset < offset) {
+            int middle = lastOffset + ((offset - lastOffset) >>> 1);
+            
+            if (comparator.compare(key, items[base + middle]) > 0) {
+                lastOffset = middle + 1;
+            } else {
+                offset = middle;
+            }
+        }
+        
+        return offset;
+    }
+    
+    /**
+     * Same as {@link #gallopLeft}, except that the position is after any items equal to the key.
+     * 
+     * @return the offset k such that items[base + k - 1] &lt;= key &lt; items[base + k].
+     */
+    private static <T> int gallopRight(T key, T[] items, int base, int length, int hint,
+                                       Comparator<? super T> comparator) {
+        int lastOffset = 0;
+        int offset = 1;
+        
+        if (comparator.compare(key, items[base + hint]) < 0) {
+            // Gallops left until items[base + hint - offset] <= key < items[base + hint - lastOffset]
+            int maxOffset = hint + 1;
+            
+            while (offset < maxOffset && comparator.compare(key, items[base + hint - offset]) < 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            
+            offset = Math.min(offset, maxOffset);
+            int temp = lastOffset;
+            lastOffset = hint - offset;
+            offset = hint - temp;
+        } else {
+            // Gallops right until items[base + hint + lastOffset] <= key < items[base + hint + offset]
+            int maxOffset = length - hint;
+            
+            while (offset < maxOffset && comparator.compare(key, items[base + hint + offset]) >= 0) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            
+            offset = Math.min(offset, maxOffset);
+            lastOffset += hint;
+            offset += hint;
+        }
+        
+        lastOffset++;
+        
+        while (lastOffset < offset) {
+            int middle = lastOffset + ((offset - lastOffset) >>> 1);
+            
+            if (comparator.compare(key, items[base + middle]) < 0) {
+                offset = middle;
+            } else {
+                lastOffset = middle + 1;
+            }
+        }
+        
+        return offset;
+    }
+    
+    /**
+     * Holds the state of a single sort: the stack of pending runs, the temporary array and the current galloping
+     * threshold. Keeping it out of the {@link TimSort} instance allows the same instance to sort several arrays at once.
+     */
+    private static class Merger<T> {
+        private final T[] items;
+        private final int size;  // Of the range being sorted
+        private final Comparator<? super T> comparator;
+        
+        private final int[] runBase = new int[MAX_RUNS];
+        private final int[] runLength = new int[MAX_RUNS];
+        private int stackSize;
+        
+        private T[] temp;
+        
+        /**
+         * Goes down when galloping pays off and up when it doesn't, so random data rarely enters galloping mode.
+         */
+        private int minGallop = MIN_GALLOP;
+        
+        @SuppressWarnings("unchecked")
+        public Merger(T[] items, int size, Comparator<? super T> comparator) {
+            this.items = items;
+            this.size = size;
+            this.comparator = comparator;
+            this.temp = (T[])new Object[Math.min(256, size >>> 1)];
+        }
+        
+        public void pushRun(int base, int length) {
+            this.runBase[this.stackSize] = base;
+            this.runLength[this.stackSize] = length;
+            this.stackSize++;
+        }
+        
+        /**
+         * Merges runs until the lengths of the runs on the stack satisfy, from the top down:
+         * 
+         * <ol>
+         *     <li>runLength[i - 3] &gt; runLength[i - 2] + runLength[i - 1]</li>
+         *     <li>runLength[i - 2] &gt; runLength[i - 1]</li>
+         * </ol>
+         * 
+         * The merge is always with the smaller neighbor, so the runs merged have similar lengths.
+         */
+        public void mergeCollapse() {
+            while (this.stackSize > 1) {
+                int n = this.stackSize - 2;
+                
+                if (n > 0 && this.runLength[n - 1] <= this.runLength[n] + this.runLength[n + 1] ||
+                        n > 1 && this.runLength[n - 2] <= this.runLength[n] + this.runLength[n - 1]) {
+                    if (this.runLength[n - 1] < this.runLength[n + 1]) {
+                        n--;
+                    }
+                } else if (this.runLength[n] > this.runLength[n + 1]) {
+                    break;
+                }
+                
+                this.mergeAt(n);
+            }
+        }
+        
+        /**
+         * Merges all the runs on the stack, once the whole array has been scanned.
+         */
+        public void mergeForceCollapse() {
+            while (this.stackSize > 1) {
+                int n = this.stackSize - 2;
+                
+                if (n > 0 && this.runLength[n - 1] < this.runLength[n + 1]) {
+                    n--;
+                }
+                
+                this.mergeAt(n);
+            }
+        }
+        
+        /**
+         * Merges the runs at positions i and i + 1 of the stack. The items of the first run that are already smaller
+         * than the whole second run, and the items of the second run that are already greater than the whole first
+         * run, are in their final positions and are left out of the merge.
+         */
+        private void mergeAt(int i) {
+            int base1 = this.runBase[i];
+            int length1 = this.runLength[i];
+            int base2 = this.runBase[i + 1];
+            int length2 = this.runLength[i + 1];
+            
+            this.runLength[i] = length1 + length2;
+            
+            if (i == this.stackSize - 3) {
+                this.runBase[i + 1] = this.runBase[i + 2];
+                this.runLength[i + 1] = this.runLength[i + 2];
+            }
+            
+            this.stackSize--;
+            
+            int skipped = gallopRight(this.items[base2], this.items, base1, length1, 0, this.comparator);
+            base1 += skipped;
+            length1 -= skipped;
+            
+            if (length1 == 0) {
+                return;
+            }
+            
+            length2 = gallopLeft(this.items[base1 + length1 - 1], this.items, base2, length2, length2 - 1,
+                                 this.comparator);
+            
+            if (length2 == 0) {
+                return;
+            }
+            
+            // The shorter run is the one copied to the temporary array
+            if (length1 <= length2) {
+                this.mergeLow(base1, length1, base2, length2);
+            } else {
+                this.mergeHigh(base1, length1, base2, length2);
+            }
+        }
+        
+        /**
+         * Merges two adjacent runs from left to right, copying the first one to the temporary array. The first item
+         * of the second run must be smaller than the first item of the first run, and the last item of the first run
+         * must be greater than all the items of the second run.
+         */
+        private void mergeLow(int base1, int length1, int base2, int length2) {
+            T[] items = this.items;
+            T[] temp = this.ensureTempCapacity(length1);
+            System.arraycopy(items, base1, temp, 0, length1);
+            
+            int cursor1 = 0;       // Next item of the first run, in the temporary array
+            int cursor2 = base2;   // Next item of the second run
+            int destination = base1;
+            
+            items[destination++] = items[cursor2++];
+            
+            if (--length2 == 0) {
+                System.arraycopy(temp, cursor1, items, destination, length1);
+                return;
+            }
+            
+            if (length1 == 1) {
+                System.arraycopy(items, cursor2, items, destination, length2);
+                items[destination + length2] = temp[cursor1];
+                return;
+            }
+            
+            int minGallop = this.minGallop;
+            
+            outer:
+            while (true) {
+                int wins1 = 0;
+                int wins2 = 0;
+                
+                // One item at a time, until one of the runs starts winning consistently
+                do {
+                    if (this.comparator.compare(items[cursor2], temp[cursor1]) < 0) {
+                        items[destination++] = items[cursor2++];
+                        wins2++;
+                        wins1 = 0;
+                        
+                        if (--length2 == 0) {
+                            break outer;
+                        }
+                    } else {
+                        items[destination++] = temp[cursor1++];
+                        wins1++;
+                        wins2 = 0;
+                        
+                        if (--length1 == 1) {
+                            break outer;
+                        }
+                    }
+                } while ((wins1 | wins2) < minGallop);
+                
+                // Galloping, until it stops paying off
+                do {
+                    wins1 = gallopRight(items[cursor2], temp, cursor1, length1, 0, this.comparator);
+                    
+                    if (wins1 != 0) {
+                        System.arraycopy(temp, cursor1, items, destination, wins1);
+                        destination += wins1;
+                        cursor1 += wins1;
+                        length1 -= wins1;
+                        
+                        if (length1 <= 1) {
+                            break outer;
+                        }
+                    }
+                    
+                    items[destination++] = items[cursor2++];
+                    
+                    if (--length2 == 0) {
+                        break outer;
+                    }
+                    
+                    wins2 = gallopLeft(temp[cursor1], items, cursor2, length2, 0, this.comparator);
+                    
+                    if (wins2 != 0) {
+                        System.arraycopy(items, cursor2, items, destination, wins2);
+                        destination += wins2;
+                        cursor2 += wins2;
+                        length2 -= wins2;
+                        
+                        if (length2 == 0) {
+                            break outer;
+                        }
+                    }
+                    
+                    items[destination++] = temp[cursor1++];
+                    
+                    if (--length1 == 1) {
+                        break outer;
+                    }
+                    
+                    minGallop--;
+                } while (wins1 >= MIN_GALLOP || wins2 >= MIN_GALLOP);
+                
+                // Penalizes leaving galloping mode
+                minGallop = Math.max(minGallop, 0) + 2;
+            }
+            
+            this.minGallop = Math.max(minGallop, 1);
+            
+            if (length1 == 1) {
+                System.arraycopy(items, cursor2, items, destination, length2);
+                items[destination + length2] = temp[cursor1];  // The last item of the first run goes at the end
+            } else if (length1 == 0) {
+                throw new IllegalArgumentException("The comparator violates its general contract.");
+            } else {
+                System.arraycopy(temp, cursor1, items, destination, length1);
+            }
+        }
+        
+        /**
+         * Same as {@link #mergeLow}, but merges from right to left, copying the second run to the temporary array.
+         */
+        private void mergeHigh(int base1, int length1, int base2, int length2) {
+            T[] items = this.items;
+            T[] temp = this.ensureTempCapacity(length2);
+            System.arraycopy(items, base2, temp, 0, length2);
+            
+            int cursor1 = base1 + length1 - 1;  // Next item of the first run
+            int cursor2 = length2 - 1;          // Next item of the second run, in the temporary array
+            int destination = base2 + length2 - 1;
+            
+            items[destination--] = items[cursor1--];
+            
+            if (--length1 == 0) {
+                System.arraycopy(temp, 0, items, destination - (length2 - 1), length2);
+                return;
+            }
+            
+            if (length2 == 1) {
+                destination -= length1;
+                cursor1 -= length1;
+                System.arraycopy(items, cursor1 + 1, items, destination + 1, length1);
+                items[destination] = temp[cursor2];
+                return;
+            }
+            
+            int minGallop = this.minGallop;
+            
+            outer:
+            while (true) {
+                int wins1 = 0;
+                int wins2 = 0;
+                
+                do {
+                    if (this.comparator.compare(temp[cursor2], items[cursor1]) < 0) {
+                        items[destination--] = items[cursor1--];
+                        wins1++;
+                        wins2 = 0;
+                        
+                        if (--length1 == 0) {
+                            break outer;
+                        }
+                    } else {
+                        items[destination--] = temp[cursor2--];
+                        wins2++;
+                        wins1 = 0;
+                        
+                        if (--length2 == 1) {
+                            break outer;
+                        }
+                    }
+                } while ((wins1 | wins2) < minGallop);
+                
+                do {
+                    wins1 = length1 - gallopRight(temp[cursor2], items, base1, length1, length1 - 1, this.comparator);
+                    
+                    if (wins1 != 0) {
+                        destination -= wins1;
+                        cursor1 -= wins1;
+                        length1 -= wins1;
+                        System.arraycopy(items, cursor1 + 1, items, destination + 1, wins1);
+                        
+                        if (length1 == 0) {
+                            break outer;
+                        }
+                    }
+                    
+                    items[destination--] = temp[cursor2--];
+                    
+                    if (--length2 == 1) {
+                        break outer;
+                    }
+                    
+                    wins2 = length2 - gallopLeft(items[cursor1], temp, 0, length2, length2 - 1, this.comparator);
+                    
+                    if (wins2 != 0) {
+                        destination -= wins2;
+                        cursor2 -= wins2;
+                        length2 -= wins2;
+                        System.arraycopy(temp, cursor2 + 1, items, destination + 1, wins2);
+                        
+                        if (length2 <= 1) {
+                            break outer;
+                        }
+                    }
+                    
+                    items[destination--] = items[cursor1--];
+                    
+                    if (--length1 == 0) {
+                        break outer;
+                    }
+                    
+                    minGallop--;
+                } while (wins1 >= MIN_GALLOP || wins2 >= MIN_GALLOP);
+                
+                minGallop = Math.max(minGallop, 0) + 2;
+            }
+            
+            this.minGallop = Math.max(minGallop, 1);
+            
+            if (length2 == 1) {
+                destination -= length1;
+                cursor1 -= length1;
+                System.arraycopy(items, cursor1 + 1, items, destination + 1, length1);
+                items[destination] = temp[cursor2];  // The first item of the second run goes at the beginning
+            } else if (length2 == 0) {
+                throw new IllegalArgumentException("The comparator violates its general contract.");
+            } else {
+                System.arraycopy(temp, 0, items, destination - (length2 - 1), length2);
+            }
+        }
+        
+        /**
+         * The temporary array starts small and grows in powers of two, up to half the size of the range being sorted.
+         */
+        @SuppressWarnings("unchecked")
+        private T[] ensureTempCapacity(int minCapacity) {
+            if (this.temp.length < minCapacity) {
+                int newCapacity = Integer.highestOneBit(minCapacity) << 1;
+                
+                if (newCapacity < 0) {  // Overflow
+                    newCapacity = minCapacity;
+                } else {
+                    newCapacity = Math.min(newCapacity, this.size >>> 1);
+                }
+                
+                this.temp = (T[])new Object[Math.max(newCapacity, minCapacity)];
+            }
+            
+            return this.temp;
+        }
+    }
+}
\ No newline at end of file
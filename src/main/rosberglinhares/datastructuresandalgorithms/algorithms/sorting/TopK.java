@@ -0,0 +1,208 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package rosberglinhares.datastructuresandalgorithms.algorithms.sorting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collector;
+
+/**
+ * Collects the K smallest items of a stream of any length in a single pass, keeping only K items in memory. It is the
+ * streaming counterpart of the {@link PartialSort}, for items that are not held in an array, such as the records read
+ * from a file or the elements of a {@link java.util.stream.Stream}.
+ * 
+ * The items kept are held in a max-heap, so the greatest of them is always at the root. Each new item is compared
+ * with the root: if it is smaller, it replaces the root and is sifted down to its place, otherwise it is discarded
+ * right away. Once the collector is warmed up, most items of a large stream are discarded with a single comparison.
+ * 
+ * To collect the K largest items instead, use a reversed comparator.
+ * 
+ * @param <T> the type of the items.
+ */
+public class TopK<T> implements Consumer<T> {
+    
+    /**
+     * The heap starts small and grows up to K, so a large K doesn't allocate memory for items that never come.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+    
+    private final int count;
+    private final Comparator<? super T> comparator;
+    private Object[] heap;
+    private int size;
+    
+    /**
+     * @param count the number of items to keep, K.
+     * @param comparator the comparator that determines the order of the items. The items kept are the first K in
+     *                   this order.
+     */
+    public TopK(int count, Comparator<? super T> comparator) {
+        if (comparator == null) {
+            throw new NullPointerException("comparator");
+        }
+        
+        if (count < 0) {
+            throw new IllegalArgumentException("The count must not be negative.");
+        }
+        
+        this.count = count;
+        this.comparator = comparator;
+        this.heap = new Object[Math.min(count, INITIAL_CAPACITY)];
+    }
+    
+    /**
+     * Returns a collector of the K smallest elements of a stream, in ascending order. Parallel streams are supported:
+     * each thread collects its own K items, which are then combined.
+     * 
+     * @param <T> the type of the elements.
+     * @param count the number of elements to keep, K.
+     * @param comparator the comparator that determines the order of the elements.
+     */
+    public static <T> Collector<T, ?, List<T>> collector(int count, Comparator<? super T> comparator) {
+        if (count < 0) {
+            throw new IllegalArgumentException("The count must not be negative.");
+        }
+        
+        return Collector.of(() -> new TopK<T>(count, comparator),
+                            TopK::add,
+                            (topK, otherTopK) -> {
+                                topK.addAll(otherTopK);
+                                return topK;
+                            },
+                            TopK::toList);
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     * 
+     * @return the number of items kept so far, which is at most K.
+     */
+    public int size() {
+        return this.size;
+    }
+    
+    /**
+     * Offers an item, which is kept if it is among the K smallest offered so far. An item equal to the greatest one
+     * kept is discarded, so among equal items, the first ones offered are kept.
+     * 
+     * Time complexity: O(log K), and O(1) when the item is discarded
+     * Space complexity: O(1), amortized when the heap has to grow
+     */
+    @SuppressWarnings("unchecked")
+    public void add(T item) {
+        if (this.size < this.count) {
+            if (this.size == this.heap.length) {
+                this.heap = Arrays.copyOf(this.heap, (int)Math.min(2L * this.heap.length, this.count));
+            }
+            
+            this.siftUp(this.size++, item);
+        } else if (this.count > 0 && this.comparator.compare(item, this.root()) < 0) {
+            this.heap[0] = item;
+            HeapSort.siftDown((T[])this.heap, 0, 0, this.size, this.comparator);
+        }
+    }
+    
+    /**
+     * Same as {@link #add(Object)}, so the collector can be passed wherever a {@link Consumer} is expected, as in
+     * {@code stream.forEach(topK)}.
+     */
+    @Override
+    public void accept(T item) {
+        this.add(item);
+    }
+    
+    /**
+     * Offers all the items of an iterator, in a single pass.
+     * 
+     * Time complexity: O(M*log K), where M is the number of items of the iterator
+     * Space complexity: O(1), amortized when the heap has to grow
+     */
+    public void addAll(Iterator<? extends T> items) {
+        while (items.hasNext()) {
+            this.add(items.next());
+        }
+    }
+    
+    /**
+     * Offers all the items kept by another collector.
+     * 
+     * Time complexity: O(K*log K)
+     * Space complexity: O(1), amortized when the heap has to grow
+     */
+    @SuppressWarnings("unchecked")
+    public void addAll(TopK<? extends T> other) {
+        for (int i = 0; i < other.size; i++) {
+            this.add((T)other.heap[i]);
+        }
+    }
+    
+    /**
+     * Returns the items kept, in ascending order. The collector is not changed, so it can keep collecting items.
+     * 
+     * Time complexity: O(K*log K)
+     * Space complexity: O(K)
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> toList() {
+        T[] items = (T[])Arrays.copyOf(this.heap, this.size);
+        
+        // The copy of the heap is already a max-heap, so it doesn't have to be built again
+        HeapSort.sortHeap(items, 0, items.length, this.comparator);
+        
+        List<T> list = new ArrayList<T>(items.length);
+        
+        for (T item : items) {
+            list.add(item);
+        }
+        
+        return list;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private T root() {
+        return (T)this.heap[0];
+    }
+    
+    @SuppressWarnings("unchecked")
+    private void siftUp(int position, T item) {
+        while (position > 0) {
+            int parentPosition = (position - 1) / 2;
+            T parent = (T)this.heap[parentPosition];
+            
+            if (this.comparator.compare(item, parent) <= 0) {
+                break;
+            }
+            
+            this.heap[position] = parent;
+            position = parentPosition;
+        }
+        
+        this.heap[position] = item;
+    }
+}
\ No newline at end of file
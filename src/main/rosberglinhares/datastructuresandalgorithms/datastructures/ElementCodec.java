@@ -0,0 +1,243 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package rosberglinhares.datastructuresandalgorithms.datastructures;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Converts the elements of a data structure between objects in memory and their binary form in a snapshot.
+ * 
+ * Codecs of a fixed size, such as the ones for primitive values, are the fast path: their elements are written back
+ * to back, with nothing but the bytes of each value. The elements of the other codecs are each preceded by their
+ * size, so the reader knows how many bytes to hand to {@link #read(ByteBuffer, int)}.
+ * 
+ * @param <T> the type of the elements.
+ * @see SnapshotWriter
+ * @see SnapshotReader
+ */
+public interface ElementCodec<T> {
+    
+    /**
+     * The value returned by {@link #fixedSize()} when the size of the elements varies.
+     */
+    int VARIABLE_SIZE = -1;
+    
+    /**
+     * @return the name of the codec, written to the snapshots so they are not read back with a different codec.
+     *         It must have at most 255 ASCII characters.
+     */
+    String name();
+    
+    /**
+     * @return the number of bytes of every element, or {@link #VARIABLE_SIZE} if it depends on the element.
+     */
+    int fixedSize();
+    
+    /**
+     * @return the number of bytes {@link #write(Object, ByteBuffer)} writes for the element.
+     */
+    int encodedSize(T element);
+    
+    /**
+     * Writes an element at the current position of the buffer, which must be advanced by exactly
+     * {@link #encodedSize(Object)} bytes. The buffer always has room for them.
+     */
+    void write(T element, ByteBuffer buffer);
+    
+    /**
+     * Reads an element at the current position of the buffer, which must be advanced by exactly {@code size} bytes.
+     */
+    T read(ByteBuffer buffer, int size);
+    
+    /**
+     * @return a codec of 4-byte signed integers.
+     */
+    static ElementCodec<Integer> ints() {
+        return new FixedSizeCodec<Integer>("int", Integer.BYTES) {
+            @Override
+            public void write(Integer element, ByteBuffer buffer) {
+                buffer.putInt(element);
+            }
+            
+            @Override
+            public Integer read(ByteBuffer buffer, int size) {
+                return buffer.getInt();
+            }
+        };
+    }
+    
+    /**
+     * @return a codec of 8-byte signed integers.
+     */
+    static ElementCodec<Long> longs() {
+        return new FixedSizeCodec<Long>("long", Long.BYTES) {
+            @Override
+            public void write(Long element, ByteBuffer buffer) {
+                buffer.putLong(element);
+            }
+            
+            @Override
+            public Long read(ByteBuffer buffer, int size) {
+                return buffer.getLong();
+            }
+        };
+    }
+    
+    /**
+     * @return a codec of 8-byte floating-point numbers.
+     */
+    static ElementCodec<Double> doubles() {
+        return new FixedSizeCodec<Double>("double", Double.BYTES) {
+            @Override
+            public void write(Double element, ByteBuffer buffer) {
+                buffer.putDouble(element);
+            }
+            
+            @Override
+            public Double read(ByteBuffer buffer, int size) {
+                return buffer.getDouble();
+            }
+        };
+    }
+    
+    /**
+     * @return a codec of strings in UTF-8. The characters are encoded straight into the buffer, without going through
+     *         an intermediate byte array. As in {@link String#getBytes(java.nio.charset.Charset)}, unpaired surrogates
+     *         are replaced by question marks.
+     */
+    static ElementCodec<String> strings() {
+        return new ElementCodec<String>() {
+            @Override
+            public String name() {
+                return "string";
+            }
+            
+            @Override
+            public int fixedSize() {
+                return VARIABLE_SIZE;
+            }
+            
+            @Override
+            public int encodedSize(String element) {
+                int length = element.length();
+                int size = length;
+                
+                for (int i = 0; i < length; i++) {
+                    char c = element.charAt(i);
+                    
+                    if (c >= 0x80) {
+                        if (c < 0x800) {
+                            size++;
+                        } else if (Character.isHighSurrogate(c) && i + 1 < length
+                                   && Character.isLowSurrogate(element.charAt(i + 1))) {
+                            size += 2;  // Four bytes for the two chars of the pair
+                            i++;
+                        } else if (!Character.isSurrogate(c)) {
+                            size += 2;
+                        }
+                    }
+                }
+                
+                return size;
+            }
+            
+            @Override
+            public void write(String element, ByteBuffer buffer) {
+                int length = element.length();
+                
+                for (int i = 0; i < length; i++) {
+                    char c = element.charAt(i);
+                    
+                    if (c < 0x80) {
+                        buffer.put((byte)c);
+                    } else if (c < 0x800) {
+                        buffer.put((byte)(0xC0 | (c >> 6)));
+                        buffer.put((byte)(0x80 | (c & 0x3F)));
+                    } else if (Character.isHighSurrogate(c) && i + 1 < length
+                               && Character.isLowSurrogate(element.charAt(i + 1))) {
+                        int codePoint = Character.toCodePoint(c, element.charAt(++i));
+                        
+                        buffer.put((byte)(0xF0 | (codePoint >> 18)));
+                        buffer.put((byte)(0x80 | ((codePoint >> 12) & 0x3F)));
+                        buffer.put((byte)(0x80 | ((codePoint >> 6) & 0x3F)));
+                        buffer.put((byte)(0x80 | (codePoint & 0x3F)));
+                    } else if (Character.isSurrogate(c)) {
+                        // An unpaired surrogate is not a valid character, so it is replaced as by String.getBytes
+                        buffer.put((byte)'?');
+                    } else {
+                        buffer.put((byte)(0xE0 | (c >> 12)));
+                        buffer.put((byte)(0x80 | ((c >> 6) & 0x3F)));
+                        buffer.put((byte)(0x80 | (c & 0x3F)));
+                    }
+                }
+            }
+            
+            @Override
+            public String read(ByteBuffer buffer, int size) {
+                String element;
+                
+                if (buffer.hasArray()) {
+                    element = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), size,
+                                         StandardCharsets.UTF_8);
+                    buffer.position(buffer.position() + size);
+                } else {
+                    byte[] bytes = new byte[size];
+                    buffer.get(bytes);
+                    element = new String(bytes, StandardCharsets.UTF_8);
+                }
+                
+                return element;
+            }
+        };
+    }
+    
+    /**
+     * The base of the codecs whose elements all have the same size.
+     */
+    abstract class FixedSizeCodec<T> implements ElementCodec<T> {
+        private final String name;
+        private final int size;
+        
+        FixedSizeCodec(String name, int size) {
+            this.name = name;
+            this.size = size;
+        }
+        
+        @Override
+        public String name() {
+            return this.name;
+        }
+        
+        @Override
+        public int fixedSize() {
+            return this.size;
+        }
+        
+        @Override
+        public int encodedSize(T element) {
+            return this.size;
+        }
+    }
+}
\ No newline at end of file
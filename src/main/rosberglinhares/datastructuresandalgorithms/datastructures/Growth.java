@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package rosberglinhares.datastructuresandalgorithms.datastructures;
+
+/**
+ * The growth policy shared by the array-backed data structures that can be created with a growth factor.
+ * 
+ * When such a structure is full, its capacity is multiplied by the growth factor and the elements are copied to the
+ * larger storage. Since the capacity grows geometrically, the cost of copying the elements is constant on average for
+ * each insertion (amortized O(1)). A growth factor of exactly {@link #FIXED_CAPACITY} keeps the capacity fixed instead,
+ * so inserting into a full structure fails.
+ */
+public final class Growth {
+    
+    /**
+     * The growth factor that keeps the capacity fixed.
+     */
+    public static final double FIXED_CAPACITY = 1.0;
+    
+    /**
+     * The largest capacity of an array of references. Some virtual machines reserve a few header words in an array.
+     */
+    public static final int MAX_ARRAY_CAPACITY = Integer.MAX_VALUE - 8;
+    
+    /**
+     * Small arrays would take too many steps to grow, or even not grow at all when empty, so each growth adds at least
+     * this number of elements.
+     */
+    private static final int MIN_GROWTH = 4;
+    
+    private Growth() {
+    }
+    
+    /**
+     * Validates a growth factor given to a constructor.
+     * 
+     * @return the growth factor.
+     * @throws IllegalArgumentException if the growth factor is smaller than {@link #FIXED_CAPACITY} or NaN.
+     */
+    public static double checkGrowthFactor(double growthFactor) {
+        if (!(growthFactor >= FIXED_CAPACITY)) {  // Also rejects NaN
+            throw new IllegalArgumentException("The growth factor must be at least 1.");
+        }
+        
+        return growthFactor;
+    }
+    
+    /**
+     * Returns whether a structure created with the given growth factor grows when it is full.
+     */
+    public static boolean isGrowable(double growthFactor) {
+        return growthFactor > FIXED_CAPACITY;
+    }
+    
+    /**
+     * Returns the capacity a full structure should grow to.
+     * 
+     * @param capacity the current capacity.
+     * @param minCapacity the capacity needed, which the new capacity is never smaller than.
+     * @param growthFactor the factor by which the capacity is multiplied.
+     * @param maxCapacity the largest capacity the storage of the structure supports.
+     * @throws OutOfMemoryError if the capacity needed is greater than the maximum capacity.
+     */
+    public static int newCapacity(int capacity, long minCapacity, double growthFactor, int maxCapacity) {
+        if (minCapacity > maxCapacity) {
+            throw new OutOfMemoryError("The maximum capacity has been reached.");
+        }
+        
+        long newCapacity = (long)Math.ceil(capacity * growthFactor);
+        
+        newCapacity = Math.max(newCapacity, (long)capacity + MIN_GROWTH);
+        newCapacity = Math.max(newCapacity, minCapacity);
+        newCapacity = Math.min(newCapacity, maxCapacity);
+        
+        return (int)newCapacity;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.datastructures;
+
+/**
+ * Statistics that every data structure can report in constant time, so they can be cheaply exported as metrics or
+ * checked against thresholds. They are maintained incrementally by the operations that modify the structure, instead
+ * of being computed by walking it.
+ */
+public interface Measurable {
+    
+    /**
+     * Returns the number of elements currently held.
+     */
+    public int size();
+    
+    /**
+     * Returns the number of elements that can be held without allocating more memory. For structures that allocate
+     * memory for each element, such as linked lists, the capacity is the same as the size.
+     */
+    public int capacity();
+    
+    /**
+     * Returns the largest number of elements held at the same time since the structure was created.
+     */
+    public int highWaterMark();
+    
+    /**
+     * Returns an estimate of the memory retained by the structure itself: its own header and fields, its backing
+     * arrays and its nodes. The elements are not included, since they may be shared with other objects.
+     * 
+     * @see MemoryLayout
+     */
+    public long retainedBytes();
+}
\ No newline at end of file
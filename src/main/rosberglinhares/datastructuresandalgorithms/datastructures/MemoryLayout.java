@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.datastructures;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Estimates the memory taken by objects and arrays, as laid out by a 64-bit HotSpot virtual machine with compressed
+ * references, which is the default for heaps smaller than 32 GB:
+ * 
+ * <ul>
+ *     <li>An object starts with a 12-byte header, and an array with a 16-byte header (including its length).</li>
+ *     <li>Each reference takes 4 bytes.</li>
+ *     <li>Objects and arrays are aligned to 8 bytes.</li>
+ * </ul>
+ * 
+ * The estimates ignore field packing and padding inside the objects, so they are approximate, but good enough for
+ * capacity planning.
+ */
+public final class MemoryLayout {
+    
+    public static final int OBJECT_HEADER_BYTES = 12;
+    public static final int ARRAY_HEADER_BYTES = 16;
+    public static final int REFERENCE_BYTES = 4;
+    public static final int OBJECT_ALIGNMENT_BYTES = 8;
+    
+    private MemoryLayout() {
+    }
+    
+    /**
+     * Returns the size of an object with the given fields.
+     * 
+     * @param referenceFields the number of reference fields of the object.
+     * @param primitiveBytes the total size of the primitive fields of the object.
+     */
+    public static long objectBytes(int referenceFields, int primitiveBytes) {
+        return align(OBJECT_HEADER_BYTES + (long)referenceFields * REFERENCE_BYTES + primitiveBytes);
+    }
+    
+    /**
+     * Returns the size of an instance of a class, from the instance fields it declares and inherits. The structures
+     * compute their own size with this method once, in a constant, so it never gets out of date when a field is added
+     * or removed.
+     */
+    public static long shallowBytes(Class<?> type) {
+        int referenceFields = 0;
+        int primitiveBytes = 0;
+        
+        for (Class<?> currentType = type; currentType != null; currentType = currentType.getSuperclass()) {
+            for (Field field : currentType.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                
+                Class<?> fieldType = field.getType();
+                
+                if (!fieldType.isPrimitive()) {
+                    referenceFields++;
+                } else if (fieldType == long.class || fieldType == double.class) {
+                    primitiveBytes += Long.BYTES;
+                } else if (fieldType == int.class || fieldType == float.class) {
+                    primitiveBytes += Integer.BYTES;
+                } else if (fieldType == short.class || fieldType == char.class) {
+                    primitiveBytes += Short.BYTES;
+                } else {
+                    primitiveBytes += Byte.BYTES;  // boolean and byte
+                }
+            }
+        }
+        
+        return objectBytes(referenceFields, primitiveBytes);
+    }
+    
+    /**
+     * Returns the size of an array of references with the given length.
+     */
+    public static long referenceArrayBytes(int length) {
+        return primitiveArrayBytes(length, REFERENCE_BYTES);
+    }
+    
+    /**
+     * Returns the size of an array of primitives with the given length.
+     * 
+     * @param elementBytes the size of each element, e.g. {@link Integer#BYTES}.
+     */
+    public static long primitiveArrayBytes(int length, int elementBytes) {
+        return align(ARRAY_HEADER_BYTES + (long)length * elementBytes);
+    }
+    
+    private static long align(long bytes) {
+        return (bytes + OBJECT_ALIGNMENT_BYTES - 1) / OBJECT_ALIGNMENT_BYTES * OBJECT_ALIGNMENT_BYTES;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,331 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package rosberglinhares.datastructuresandalgorithms.datastructures;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+/**
+ * Reads the elements of a snapshot written by a {@link SnapshotWriter}. The snapshot is read from the channel in
+ * chunks, and each element is decoded by the {@link ElementCodec} straight from the buffer. The checksum at the end
+ * of the snapshot is checked by {@link #finish()}, so the data structures read all the elements before replacing
+ * their own.
+ * 
+ * The reader never reads past the end of the snapshot, so several snapshots, or a snapshot and other data, can follow
+ * each other in the same channel, such as a socket or a pipe. It keeps track of how many more bytes the snapshot is
+ * known to hold: the exact number for codecs of a fixed size, and otherwise the size of the pending element plus
+ * one byte for the size of each element left. Each read from the channel is limited to that number, which still lets
+ * a read fetch many elements at once.
+ * 
+ * @param <T> the type of the elements.
+ */
+public final class SnapshotReader<T> {
+    
+    /**
+     * The number of elements {@link #readAll(int)} makes room for at first, so a corrupted element count can't make
+     * it allocate a huge array before the data runs out.
+     */
+    private static final int INITIAL_ARRAY_LENGTH = 1024;
+    
+    private final ReadableByteChannel channel;
+    private final ElementCodec<? extends T> codec;
+    private final int fixedSize;
+    private final int count;
+    private final CRC32C checksum;
+    private ByteBuffer buffer;
+    
+    /** The position of the buffer up to which the bytes were added to the checksum. */
+    private int checksumPosition;
+    private int read;
+    
+    /** The number of bytes read from the channel so far. */
+    private long fetched;
+    
+    /** The number of bytes from the start of the snapshot that the snapshot is known to hold. */
+    private long knownEnd;
+    
+    /**
+     * Reads the header of a snapshot from the channel.
+     * 
+     * @param channel the channel where the snapshot is read from. It is not closed by the reader.
+     * @param codec the codec that reads each element. It must have the same name as the one that wrote the snapshot.
+     * @param layout the order in which the elements are expected.
+     * @throws IOException if an I/O error occurs, or if the header doesn't match the arguments.
+     */
+    public SnapshotReader(ReadableByteChannel channel, ElementCodec<? extends T> codec, SnapshotLayout layout)
+            throws IOException {
+        if (channel == null) {
+            throw new NullPointerException("channel");
+        }
+        
+        if (codec == null) {
+            throw new NullPointerException("codec");
+        }
+        
+        if (layout == null) {
+            throw new NullPointerException("layout");
+        }
+        
+        this.channel = channel;
+        this.codec = codec;
+        this.fixedSize = codec.fixedSize();
+        this.checksum = new CRC32C();
+        this.buffer = ByteBuffer.allocate(SnapshotWriter.BUFFER_SIZE);
+        this.buffer.flip();  // Empty, ready to be read
+        
+        this.knownEnd = Integer.BYTES + Short.BYTES + 2;
+        this.fill(Integer.BYTES + Short.BYTES + 2);
+        
+        if (this.buffer.getInt() != SnapshotWriter.MAGIC) {
+            throw new IOException("The data is not a snapshot.");
+        }
+        
+        short version = this.buffer.getShort();
+        
+        if (version != SnapshotWriter.VERSION) {
+            throw new IOException("Unsupported snapshot version: " + version + ".");
+        }
+        
+        int layoutOrdinal = this.buffer.get();
+        
+        if (layoutOrdinal != layout.ordinal()) {
+            throw new IOException("The snapshot doesn't have the " + layout + " layout.");
+        }
+        
+        int codecNameLength = this.buffer.get() & 0xFF;
+        this.knownEnd += codecNameLength + 2 * Integer.BYTES;
+        this.fill(codecNameLength + 2 * Integer.BYTES);
+        
+        byte[] codecName = new byte[codecNameLength];
+        this.buffer.get(codecName);
+        
+        if (!new String(codecName, StandardCharsets.US_ASCII).equals(codec.name())) {
+            throw new IOException("The snapshot was written with the "
+                                  + new String(codecName, StandardCharsets.US_ASCII) + " codec.");
+        }
+        
+        if (this.buffer.getInt() != this.fixedSize) {
+            throw new IOException("The element size of the snapshot doesn't match the codec.");
+        }
+        
+        this.count = this.buffer.getInt();
+        
+        if (this.count < 0) {
+            throw new IOException("The snapshot is corrupted.");
+        }
+        
+        // At least the size of each element is known to follow when the elements have variable sizes
+        int knownElementSize = (this.fixedSize != ElementCodec.VARIABLE_SIZE) ? this.fixedSize : 1;
+        this.knownEnd += (long)this.count * knownElementSize + Integer.BYTES;
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     * 
+     * @return the number of elements of the snapshot.
+     */
+    public int count() {
+        return this.count;
+    }
+    
+    /**
+     * Reads the next element.
+     * 
+     * Time complexity: O(1), plus the work of the codec
+     * Space complexity: O(1), or O(S) for an element of S bytes larger than the buffer, even if the snapshot is
+     *                   corrupted, where S is then the number of bytes left in the channel
+     * 
+     * @throws IOException if an I/O error occurs, or if the snapshot is truncated or corrupted.
+     * @throws IllegalStateException if all the elements were already read.
+     */
+    public T read() throws IOException {
+        if (this.read == this.count) {
+            throw new IllegalStateException("All the " + this.count + " elements were already read.");
+        }
+        
+        int size;
+        
+        if (this.fixedSize != ElementCodec.VARIABLE_SIZE) {
+            size = this.fixedSize;
+        } else {
+            size = this.readSize();
+            this.knownEnd += size;
+        }
+        
+        this.fill(size);
+        
+        int startPosition = this.buffer.position();
+        int endPosition = startPosition + size;
+        T element;
+        
+        // The codec only sees the bytes of the element, so a corrupted one can't make it read past them
+        int limit = this.buffer.limit();
+        this.buffer.limit(endPosition);
+        
+        try {
+            element = this.codec.read(this.buffer, size);
+        } catch (RuntimeException e) {
+            throw new IOException("The snapshot is corrupted.", e);
+        } finally {
+            this.buffer.limit(limit);
+        }
+        
+        if (this.buffer.position() != endPosition) {
+            throw new IllegalStateException("The codec read " + (this.buffer.position() - startPosition)
+                                            + " bytes instead of " + size + ".");
+        }
+        
+        this.read++;
+        
+        return element;
+    }
+    
+    /**
+     * Reads all the remaining elements and checks the checksum, as in {@link #finish()}.
+     * 
+     * Time complexity: O(N), plus the work of the codec
+     * Space complexity: O(N)
+     * 
+     * @param minLength the minimum length of the array returned.
+     * @return an array whose first {@link #count()} positions hold the elements, and whose length is the largest of
+     *         {@link #count()} and {@code minLength}.
+     * @throws IOException if an I/O error occurs, or if the snapshot is truncated or corrupted.
+     */
+    public Object[] readAll(int minLength) throws IOException {
+        Object[] elements = new Object[Math.max(Math.min(this.count, INITIAL_ARRAY_LENGTH), minLength)];
+        
+        for (int i = this.read; i < this.count; i++) {
+            if (i == elements.length) {
+                elements = Arrays.copyOf(elements, (int)Math.min(2L * elements.length, this.count));
+            }
+            
+            elements[i] = this.read();
+        }
+        
+        this.finish();
+        
+        return elements;
+    }
+    
+    /**
+     * Checks the checksum that ends the snapshot, after all the elements were read.
+     * 
+     * @throws IOException if an I/O error occurs, or if the snapshot is truncated or corrupted.
+     * @throws IllegalStateException if not all the elements were read.
+     */
+    public void finish() throws IOException {
+        if (this.read != this.count) {
+            throw new IllegalStateException("Only " + this.read + " of the " + this.count + " elements were read.");
+        }
+        
+        this.updateChecksum();
+        this.fill(Integer.BYTES);
+        
+        if (this.buffer.getInt() != (int)this.checksum.getValue()) {
+            throw new IOException("The snapshot is corrupted.");
+        }
+    }
+    
+    private int readSize() throws IOException {
+        int size = 0;
+        
+        for (int shift = 0; ; shift += 7) {
+            if (shift == 7 * SnapshotWriter.MAX_VARINT_BYTES) {
+                throw new IOException("The snapshot is corrupted.");
+            }
+            
+            this.fill(1);
+            
+            byte b = this.buffer.get();
+            size |= (b & 0x7F) << shift;
+            
+            if (b >= 0) {
+                break;
+            }
+            
+            this.knownEnd++;  // One more byte of the size follows
+        }
+        
+        if (size < 0) {
+            throw new IOException("The snapshot is corrupted.");
+        }
+        
+        return size;
+    }
+    
+    private void updateChecksum() {
+        ByteBuffer consumed = this.buffer.duplicate();
+        consumed.limit(this.buffer.position()).position(this.checksumPosition);
+        
+        this.checksum.update(consumed);
+        this.checksumPosition = this.buffer.position();
+    }
+    
+    /**
+     * Reads from the channel until the buffer holds at least the given number of unread bytes, without reading past
+     * the bytes the snapshot is known to hold.
+     * 
+     * A buffer too small for the size is doubled each time it fills up, instead of being allocated at once for the
+     * whole size. So a corrupted element size makes the reader run out of data, instead of memory.
+     */
+    private void fill(int size) throws IOException {
+        if (this.buffer.remaining() >= size) {
+            return;
+        }
+        
+        this.updateChecksum();
+        this.buffer.compact();
+        this.checksumPosition = 0;
+        
+        try {
+            while (this.buffer.position() < size) {
+                if (this.buffer.position() == this.buffer.capacity()) {
+                    ByteBuffer buffer = ByteBuffer.allocate((int)Math.min(size, 2L * this.buffer.capacity()));
+                    this.buffer.flip();
+                    buffer.put(this.buffer);
+                    this.buffer = buffer;
+                }
+                
+                long known = this.knownEnd - this.fetched;
+                this.buffer.limit((int)Math.min(this.buffer.capacity(), this.buffer.position() + known));
+                
+                int count = this.channel.read(this.buffer);
+                
+                if (count < 0) {
+                    throw new EOFException("The snapshot is truncated.");
+                }
+                
+                this.fetched += count;
+            }
+        } finally {
+            this.buffer.flip();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,214 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package rosberglinhares.datastructuresandalgorithms.datastructures;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32C;
+
+/**
+ * Writes the elements of a data structure to a channel in a compact binary snapshot, which can be read back by a
+ * {@link SnapshotReader}, possibly in another process.
+ * 
+ * Unlike {@link java.io.Serializable}, a snapshot holds no class descriptors and no object graph: only a short header
+ * and the bytes of each element, as written by an {@link ElementCodec}. The elements are encoded into a buffer that is
+ * written to the channel whenever it fills up, so the snapshot is streamed without ever being held in memory as
+ * a whole. All the values are in big-endian byte order:
+ * 
+ * <pre>
+ * magic number   (4 bytes)
+ * version        (2 bytes)
+ * layout         (1 byte)   see {@link SnapshotLayout}
+ * codec name     (1 byte for the length, followed by the ASCII characters)
+ * element size   (4 bytes)  the fixed size of the codec, or -1 if it is variable
+ * element count  (4 bytes)
+ * elements       each one preceded by its size in a variable-length integer, unless the codec has a fixed size
+ * checksum       (4 bytes)  the CRC-32C of all the bytes before it
+ * </pre>
+ * 
+ * @param <T> the type of the elements.
+ */
+public final class SnapshotWriter<T> {
+    
+    /**
+     * The version of the snapshot format written by this class.
+     */
+    public static final short VERSION = 1;
+    
+    static final int MAGIC = 0x44534153;  // "DSAS" in ASCII
+    static final int BUFFER_SIZE = 64 * 1024;
+    
+    /** The largest number of bytes of a variable-length integer. */
+    static final int MAX_VARINT_BYTES = 5;
+    
+    private final WritableByteChannel channel;
+    private final ElementCodec<? super T> codec;
+    private final int fixedSize;
+    private final int count;
+    private final CRC32C checksum;
+    private ByteBuffer buffer;
+    private int written;
+    
+    /**
+     * Writes the header of a snapshot to the channel.
+     * 
+     * @param channel the channel where the snapshot is written. It is not closed by the writer.
+     * @param codec the codec that writes each element.
+     * @param layout the order in which the elements are written.
+     * @param count the number of elements that will be written.
+     * @throws IOException if an I/O error occurs.
+     */
+    public SnapshotWriter(WritableByteChannel channel, ElementCodec<? super T> codec, SnapshotLayout layout, int count)
+            throws IOException {
+        if (channel == null) {
+            throw new NullPointerException("channel");
+        }
+        
+        if (codec == null) {
+            throw new NullPointerException("codec");
+        }
+        
+        if (layout == null) {
+            throw new NullPointerException("layout");
+        }
+        
+        if (count < 0) {
+            throw new IllegalArgumentException("The element count must not be negative.");
+        }
+        
+        byte[] codecName = codec.name().getBytes(StandardCharsets.US_ASCII);
+        
+        if (codecName.length > 255) {
+            throw new IllegalArgumentException("The codec name must have at most 255 characters.");
+        }
+        
+        this.channel = channel;
+        this.codec = codec;
+        this.fixedSize = codec.fixedSize();
+        this.count = count;
+        this.checksum = new CRC32C();
+        this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        
+        this.buffer.putInt(MAGIC);
+        this.buffer.putShort(VERSION);
+        this.buffer.put((byte)layout.ordinal());
+        this.buffer.put((byte)codecName.length);
+        this.buffer.put(codecName);
+        this.buffer.putInt(this.fixedSize);
+        this.buffer.putInt(count);
+    }
+    
+    /**
+     * Writes the next element.
+     * 
+     * Time complexity: O(1), plus the work of the codec
+     * Space complexity: O(1), or O(S) for an element of S bytes larger than the buffer
+     * 
+     * @throws IOException if an I/O error occurs.
+     * @throws IllegalStateException if all the elements announced were already written.
+     * @throws NullPointerException if the element is {@code null}, which snapshots can't hold.
+     */
+    public void write(T element) throws IOException {
+        if (this.written == this.count) {
+            throw new IllegalStateException("All the " + this.count + " elements were already written.");
+        }
+        
+        if (element == null) {
+            throw new NullPointerException("element");
+        }
+        
+        int size;
+        
+        if (this.fixedSize != ElementCodec.VARIABLE_SIZE) {
+            size = this.fixedSize;
+            this.ensureRemaining(size);
+        } else {
+            size = this.codec.encodedSize(element);
+            this.ensureRemaining(MAX_VARINT_BYTES + size);
+            
+            for (int value = size; ; value >>>= 7) {
+                if ((value & ~0x7F) == 0) {
+                    this.buffer.put((byte)value);
+                    break;
+                }
+                
+                this.buffer.put((byte)(value | 0x80));
+            }
+        }
+        
+        int startPosition = this.buffer.position();
+        this.codec.write(element, this.buffer);
+        
+        if (this.buffer.position() - startPosition != size) {
+            throw new IllegalStateException("The codec wrote " + (this.buffer.position() - startPosition)
+                                            + " bytes instead of " + size + ".");
+        }
+        
+        this.written++;
+    }
+    
+    /**
+     * Writes the checksum that ends the snapshot, after all the elements announced were written.
+     * 
+     * @throws IOException if an I/O error occurs.
+     * @throws IllegalStateException if not all the elements announced were written.
+     */
+    public void finish() throws IOException {
+        if (this.written != this.count) {
+            throw new IllegalStateException("Only " + this.written + " of the " + this.count + " elements were written.");
+        }
+        
+        this.flush();
+        
+        this.buffer.putInt((int)this.checksum.getValue());
+        this.buffer.flip();
+        this.writeBuffer();
+    }
+    
+    private void ensureRemaining(int size) throws IOException {
+        if (this.buffer.remaining() < size) {
+            this.flush();
+            
+            if (this.buffer.capacity() < size) {
+                this.buffer = ByteBuffer.allocate(size);
+            }
+        }
+    }
+    
+    private void flush() throws IOException {
+        this.buffer.flip();
+        this.checksum.update(this.buffer.duplicate());
+        this.writeBuffer();
+    }
+    
+    private void writeBuffer() throws IOException {
+        while (this.buffer.hasRemaining()) {
+            this.channel.write(this.buffer);
+        }
+        
+        this.buffer.clear();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,245 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package rosberglinhares.datastructuresandalgorithms.datastructures.arrays;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import rosberglinhares.datastructuresandalgorithms.datastructures.MemoryLayout;
+
+/**
+ * An open-addressing hash table that maps the values of an array to the slots holding them, so a value can be found
+ * without scanning the array.
+ * 
+ * The table stores only slot numbers: the values themselves stay in the array, which is passed to every operation.
+ * Collisions are resolved by linear probing, and removals shift the following entries of the cluster back instead of
+ * leaving tombstones, so lookups never slow down after many deletions. The table is kept at most half full, which
+ * keeps the clusters short.
+ * 
+ * Equal values share a home position, so their entries always sit in the same cluster. Every operation on a value
+ * held D times walks past those D entries, so the operations are constant time on average only while few elements
+ * are equal, and building an index of N equal values takes O(N^2) time.
+ */
+final class HashIndex {
+    private static final int EMPTY = -1;
+    private static final int MIN_TABLE_LENGTH = 16;
+    private static final int MAX_TABLE_LENGTH = 1 << 30;
+    
+    /**
+     * 2^32 divided by the golden ratio. Multiplying by it spreads the bits of the hash codes over the high bits, which
+     * are the ones used to pick the home position (Fibonacci hashing).
+     */
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+    
+    private static final long SHALLOW_BYTES = MemoryLayout.shallowBytes(HashIndex.class);
+    
+    private int[] table;
+    private int shift;
+    private int count;
+    
+    HashIndex(int expectedCount) {
+        this.allocate(tableLengthFor(expectedCount));
+    }
+    
+    private static int tableLengthFor(int count) {
+        int tableLength = MIN_TABLE_LENGTH;
+        
+        while (tableLength < MAX_TABLE_LENGTH && tableLength / 2 < count) {
+            tableLength <<= 1;
+        }
+        
+        return tableLength;
+    }
+    
+    private void allocate(int tableLength) {
+        this.table = new int[tableLength];
+        this.shift = Integer.numberOfLeadingZeros(tableLength) + 1;
+        Arrays.fill(this.table, EMPTY);
+    }
+    
+    private int home(Object value) {
+        return (Objects.hashCode(value) * GOLDEN_RATIO) >>> this.shift;
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    long retainedBytes() {
+        return SHALLOW_BYTES + MemoryLayout.primitiveArrayBytes(this.table.length, Integer.BYTES);
+    }
+    
+    /**
+     * Finds the lowest slot holding the given value. All the slots holding equal values are in the same cluster,
+     * so the cluster has to be scanned to its end to find the lowest one.
+     * 
+     * Time complexity: O(1 + D) on average, where D is the number of slots holding the value
+     * Space complexity: O(1)
+     * 
+     * @return the lowest slot holding the value or {@code -1} if no slot holds it.
+     */
+    int find(Object[] elements, Object value) {
+        int mask = this.table.length - 1;
+        int lowestSlot = EMPTY;
+        
+        for (int i = this.home(value); this.table[i] != EMPTY; i = (i + 1) & mask) {
+            int slot = this.table[i];
+            
+            if ((lowestSlot == EMPTY || slot < lowestSlot) && Objects.equals(elements[slot], value)) {
+                lowestSlot = slot;
+            }
+        }
+        
+        return lowestSlot;
+    }
+    
+    /**
+     * Finds any slot holding the given value, stopping at the first one in the cluster, for the callers that don't
+     * need the lowest one.
+     * 
+     * Time complexity: O(1) on average
+     * Space complexity: O(1)
+     * 
+     * @return a slot holding the value or {@code -1} if no slot holds it.
+     */
+    int findAny(Object[] elements, Object value) {
+        int mask = this.table.length - 1;
+        
+        for (int i = this.home(value); this.table[i] != EMPTY; i = (i + 1) & mask) {
+            int slot = this.table[i];
+            
+            if (Objects.equals(elements[slot], value)) {
+                return slot;
+            }
+        }
+        
+        return EMPTY;
+    }
+    
+    /**
+     * Adds the value held by the given slot to the index. The new entry goes to the end of the cluster, past the
+     * entries of the equal values.
+     * 
+     * Time complexity: O(1 + D) on average, where D is the number of slots holding the value, amortized when the table
+     *                  has to grow
+     * Space complexity: O(1), or O(N) when the table has to grow
+     */
+    void add(Object[] elements, int slot) {
+        if (2 * (this.count + 1) > this.table.length) {
+            this.grow(elements);
+        }
+        
+        this.insertEntry(elements, slot);
+        this.count++;
+    }
+    
+    private void insertEntry(Object[] elements, int slot) {
+        int mask = this.table.length - 1;
+        int i = this.home(elements[slot]);
+        
+        while (this.table[i] != EMPTY) {
+            i = (i + 1) & mask;
+        }
+        
+        this.table[i] = slot;
+    }
+    
+    /**
+     * Removes the entry of the given slot. The slot must still hold its value, and so must the slots of the other
+     * entries, since their values are rehashed to decide which entries are shifted back. The rest of the cluster is
+     * scanned for entries to shift back, including the ones of the equal values.
+     * 
+     * Time complexity: O(1 + D) on average, where D is the number of slots holding the value
+     * Space complexity: O(1)
+     */
+    void remove(Object[] elements, int slot) {
+        int mask = this.table.length - 1;
+        int hole = this.position(elements, slot);
+        
+        for (int i = (hole + 1) & mask; this.table[i] != EMPTY; i = (i + 1) & mask) {
+            int home = this.home(elements[this.table[i]]);
+            
+            // The entry can fill the hole only if the hole lies between its home position and its current position
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                this.table[hole] = this.table[i];
+                hole = i;
+            }
+        }
+        
+        this.table[hole] = EMPTY;
+        this.count--;
+    }
+    
+    /**
+     * Records that the value held by {@code oldSlot} is moving to {@code newSlot}. It must be called before the value
+     * is moved, while {@code oldSlot} still holds it.
+     * 
+     * Time complexity: O(1) on average
+     * Space complexity: O(1)
+     */
+    void move(Object[] elements, int oldSlot, int newSlot) {
+        this.table[this.position(elements, oldSlot)] = newSlot;
+    }
+    
+    private int position(Object[] elements, int slot) {
+        int mask = this.table.length - 1;
+        int i = this.home(elements[slot]);
+        
+        while (this.table[i] != slot) {
+            i = (i + 1) & mask;
+        }
+        
+        return i;
+    }
+    
+    /**
+     * Replaces the entries of the index with the ones of the first {@code size} slots.
+     * 
+     * Time complexity: O(N) on average
+     * Space complexity: O(N)
+     */
+    void rebuild(Object[] elements, int size) {
+        this.allocate(tableLengthFor(size));
+        this.count = 0;
+        
+        for (int slot = 0; slot < size; slot++) {
+            this.add(elements, slot);
+        }
+    }
+    
+    private void grow(Object[] elements) {
+        if (this.table.length == MAX_TABLE_LENGTH) {
+            throw new OutOfMemoryError("The maximum capacity of the hash index has been reached.");
+        }
+        
+        int[] oldTable = this.table;
+        this.allocate(oldTable.length << 1);
+        
+        for (int slot : oldTable) {
+            if (slot != EMPTY) {
+                this.insertEntry(elements, slot);
+            }
+        }
+    }
+}
\ No newline at end of file
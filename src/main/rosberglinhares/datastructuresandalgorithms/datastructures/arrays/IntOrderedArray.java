@@ -0,0 +1,211 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package rosberglinhares.datastructuresandalgorithms.datastructures.arrays;
+
+import java.nio.ByteBuffer;
+
+import rosberglinhares.datastructuresandalgorithms.datastructures.Growth;
+import rosberglinhares.datastructuresandalgorithms.datastructures.MemoryLayout;
+
+/**
+ * An ordered array of {@code int} values kept outside of the Java heap. It has the same operations as
+ * {@link OrderedArray}, but since the values are stored in native memory instead of as references to {@link Integer}
+ * objects, it takes four bytes per element instead of about twenty, and tens of millions of elements add nothing to
+ * the work of the garbage collector.
+ * 
+ * The array must be closed when it is no longer needed, preferably with a try-with-resources statement.
+ * 
+ * @see OffHeapArray
+ */
+public class IntOrderedArray extends OffHeapArray {
+    
+    /**
+     * The growth factor that keeps the capacity fixed, same as {@link Growth#FIXED_CAPACITY}.
+     */
+    public static final double FIXED_CAPACITY = Growth.FIXED_CAPACITY;
+    
+    private static final long SHALLOW_BYTES = MemoryLayout.shallowBytes(IntOrderedArray.class);
+    
+    public IntOrderedArray(int maxSize) {
+        this(maxSize, FIXED_CAPACITY);
+    }
+    
+    /**
+     * Creates an array that grows as needed.
+     * 
+     * @param initialCapacity the number of elements the array can hold before growing for the first time.
+     * @param growthFactor the factor by which the capacity is multiplied when the array is full, as described in
+     *                     {@link Growth}, or {@link #FIXED_CAPACITY} to keep the capacity fixed.
+     */
+    public IntOrderedArray(int initialCapacity, double growthFactor) {
+        super(initialCapacity, growthFactor, Integer.BYTES);
+    }
+    
+    @Override
+    long shallowBytes() {
+        return SHALLOW_BYTES;
+    }
+    
+    /**
+     * The location of the new value is found with a binary search, and the larger values are moved up by a single
+     * native memory copy. A value equal to others already in the array is inserted after them.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(1), or O(N) when the array has to grow
+     * 
+     * @throws ArrayIndexOutOfBoundsException if the array is full and was created without a growth factor.
+     * @throws IllegalStateException if the array is closed.
+     */
+    public void insert(int value) {
+        this.ensureRoomForOne();
+        
+        int indexToInsert = this.upperBound(value);
+        
+        this.moveElements(indexToInsert, indexToInsert + 1, this.size - indexToInsert);
+        this.buffer().putInt(indexToInsert * Integer.BYTES, value);
+        this.incrementSize();
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     * 
+     * @throws IllegalStateException if the array is closed.
+     */
+    public int get(int index) {
+        ByteBuffer buffer = this.buffer();
+        
+        if (index < 0 || index >= this.size) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+        
+        return buffer.getInt(index * Integer.BYTES);
+    }
+    
+    /**
+     * Time complexity: O(log N)
+     * Space complexity: O(1)
+     * 
+     * @throws IllegalStateException if the array is closed.
+     */
+    public boolean binarySearch(int value) {
+        return this.indexOf(value) >= 0;
+    }
+    
+    /**
+     * Executes a binary search that reports where the value is, or where it would be inserted.
+     * 
+     * Time complexity: O(log N)
+     * Space complexity: O(1)
+     * 
+     * @return the index of the first element equal to the value, if it is found. Otherwise,
+     *         {@code (-(insertion point) - 1)}, as in {@link java.util.Arrays#binarySearch(int[], int)}.
+     * @throws IllegalStateException if the array is closed.
+     */
+    public int indexOf(int value) {
+        int index = this.lowerBound(value);
+        
+        if (index < this.size && this.buffer().getInt(index * Integer.BYTES) == value) {
+            return index;
+        } else {
+            return -index - 1;
+        }
+    }
+    
+    /**
+     * Returns the index of the first element not less than the value, or {@link #size()} if there is no such element.
+     * 
+     * Time complexity: O(log N)
+     * Space complexity: O(1)
+     * 
+     * @throws IllegalStateException if the array is closed.
+     */
+    public int lowerBound(int value) {
+        ByteBuffer buffer = this.buffer();
+        int lowerIndex = 0;
+        int upperIndex = this.size;  // Exclusive
+        
+        while (lowerIndex < upperIndex) {
+            int middleIndex = (lowerIndex + upperIndex) >>> 1;
+            
+            if (buffer.getInt(middleIndex * Integer.BYTES) < value) {
+                lowerIndex = middleIndex + 1;
+            } else {
+                upperIndex = middleIndex;
+            }
+        }
+        
+        return lowerIndex;
+    }
+    
+    /**
+     * Returns the index of the first element greater than the value, or {@link #size()} if there is no such element.
+     * 
+     * Time complexity: O(log N)
+     * Space complexity: O(1)
+     * 
+     * @throws IllegalStateException if the array is closed.
+     */
+    public int upperBound(int value) {
+        ByteBuffer buffer = this.buffer();
+        int lowerIndex = 0;
+        int upperIndex = this.size;  // Exclusive
+        
+        while (lowerIndex < upperIndex) {
+            int middleIndex = (lowerIndex + upperIndex) >>> 1;
+            
+            if (buffer.getInt(middleIndex * Integer.BYTES) <= value) {
+                lowerIndex = middleIndex + 1;
+            } else {
+                upperIndex = middleIndex;
+            }
+        }
+        
+        return lowerIndex;
+    }
+    
+    /**
+     * The element to be deleted is located with a binary search, and the larger values are moved down by a single
+     * native memory copy.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(1)
+     * 
+     * @param value element to be removed from this array, if present.
+     * @return {@code true} if this array contained the specified element.
+     * @throws IllegalStateException if the array is closed.
+     */
+    public boolean delete(int value) {
+        int indexToDelete = this.indexOf(value);
+        
+        if (indexToDelete >= 0) {  // Element found
+            this.moveElements(indexToDelete + 1, indexToDelete, this.size - indexToDelete - 1);
+            this.size--;
+            
+            return true;
+        } else {
+            return false;
+        }
+    }
+}
\ No newline at end of file
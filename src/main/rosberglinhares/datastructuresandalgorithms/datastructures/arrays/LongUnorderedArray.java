@@ -0,0 +1,187 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package rosberglinhares.datastructuresandalgorithms.datastructures.arrays;
+
+import java.nio.ByteBuffer;
+
+import rosberglinhares.datastructuresandalgorithms.datastructures.Growth;
+import rosberglinhares.datastructuresandalgorithms.datastructures.MemoryLayout;
+import rosberglinhares.datastructuresandalgorithms.datastructures.arrays.UnorderedArray.DeletionMode;
+
+/**
+ * An unordered array of {@code long} values kept outside of the Java heap. It has the same operations as
+ * {@link UnorderedArray}, but since the values are stored in native memory instead of as references to {@link Long}
+ * objects, it takes eight bytes per element instead of about twenty-four, and tens of millions of elements add nothing
+ * to the work of the garbage collector.
+ * 
+ * The array must be closed when it is no longer needed, preferably with a try-with-resources statement.
+ * 
+ * @see OffHeapArray
+ */
+public class LongUnorderedArray extends OffHeapArray {
+    private static final int ELEMENT_NOT_FOUND = -1;
+    
+    /**
+     * The growth factor that keeps the capacity fixed, same as {@link Growth#FIXED_CAPACITY}.
+     */
+    public static final double FIXED_CAPACITY = Growth.FIXED_CAPACITY;
+    
+    private static final long SHALLOW_BYTES = MemoryLayout.shallowBytes(LongUnorderedArray.class);
+    
+    private final DeletionMode deletionMode;
+    
+    public LongUnorderedArray(int maxSize) {
+        this(maxSize, FIXED_CAPACITY);
+    }
+    
+    /**
+     * Creates an array that grows as needed.
+     * 
+     * @param initialCapacity the number of elements the array can hold before growing for the first time.
+     * @param growthFactor the factor by which the capacity is multiplied when the array is full, as described in
+     *                     {@link Growth}, or {@link #FIXED_CAPACITY} to keep the capacity fixed.
+     */
+    public LongUnorderedArray(int initialCapacity, double growthFactor) {
+        this(initialCapacity, growthFactor, DeletionMode.PRESERVE_ORDER);
+    }
+    
+    /**
+     * Creates an array that grows as needed and fills the holes left by deletions in the given way.
+     * 
+     * @param initialCapacity the number of elements the array can hold before growing for the first time.
+     * @param growthFactor the factor by which the capacity is multiplied when the array is full, as described in
+     *                     {@link Growth}, or {@link #FIXED_CAPACITY} to keep the capacity fixed.
+     * @param deletionMode how a deletion fills the hole left by the deleted element.
+     */
+    public LongUnorderedArray(int initialCapacity, double growthFactor, DeletionMode deletionMode) {
+        super(initialCapacity, growthFactor, Long.BYTES);
+        
+        if (deletionMode == null) {
+            throw new NullPointerException("deletionMode");
+        }
+        
+        this.deletionMode = deletionMode;
+    }
+    
+    @Override
+    long shallowBytes() {
+        return SHALLOW_BYTES;
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    public DeletionMode deletionMode() {
+        return this.deletionMode;
+    }
+    
+    /**
+     * The new value is simply written after the last element.
+     * 
+     * Time complexity: O(1), amortized when the array has to grow
+     * Space complexity: O(1), or O(N) when the array has to grow
+     * 
+     * @throws ArrayIndexOutOfBoundsException if the array is full and was created without a growth factor.
+     * @throws IllegalStateException if the array is closed.
+     */
+    public void insert(long value) {
+        this.ensureRoomForOne();
+        
+        this.buffer().putLong(this.size * Long.BYTES, value);
+        this.incrementSize();
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     * 
+     * @throws IllegalStateException if the array is closed.
+     */
+    public long get(int index) {
+        ByteBuffer buffer = this.buffer();
+        
+        if (index < 0 || index >= this.size) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+        
+        return buffer.getLong(index * Long.BYTES);
+    }
+    
+    /**
+     * Executes a linear search.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(1)
+     * 
+     * @param value the element to be searched.
+     * @return the index of the element found or {@code -1} if the element was not found.
+     * @throws IllegalStateException if the array is closed.
+     */
+    public int search(long value) {
+        ByteBuffer buffer = this.buffer();
+        
+        for (int i = 0; i < this.size; i++) {
+            if (buffer.getLong(i * Long.BYTES) == value) {
+                return i;
+            }
+        }
+        
+        return ELEMENT_NOT_FOUND;
+    }
+    
+    /**
+     * Deletes the first element equal to the value, filling the hole as given by the {@link DeletionMode}.
+     * In the {@link DeletionMode#PRESERVE_ORDER} mode, the following elements are shifted down by a single native
+     * memory copy. In the {@link DeletionMode#SWAP_WITH_LAST} mode, the hole is filled by the last element instead,
+     * so only one element is moved, but the search still makes the deletion linear.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(1)
+     * 
+     * @param value element to be removed from this array, if present.
+     * @return {@code true} if this array contained the specified element.
+     * @throws IllegalStateException if the array is closed.
+     */
+    public boolean delete(long value) {
+        int indexToDelete = this.search(value);
+        
+        if (indexToDelete > ELEMENT_NOT_FOUND) {
+            int lastIndex = this.size - 1;
+            
+            if (this.deletionMode == DeletionMode.SWAP_WITH_LAST) {
+                ByteBuffer buffer = this.buffer();
+                buffer.putLong(indexToDelete * Long.BYTES, buffer.getLong(lastIndex * Long.BYTES));
+            } else {
+                this.moveElements(indexToDelete + 1, indexToDelete, lastIndex - indexToDelete);
+            }
+            
+            this.size--;
+            
+            return true;
+        } else {
+            return false;
+        }
+    }
+}
\ No newline at end of file
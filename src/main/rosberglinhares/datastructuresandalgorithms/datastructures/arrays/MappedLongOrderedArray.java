@@ -0,0 +1,643 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package rosberglinhares.datastructuresandalgorithms.datastructures.arrays;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import rosberglinhares.datastructuresandalgorithms.datastructures.Measurable;
+import rosberglinhares.datastructuresandalgorithms.datastructures.MemoryLayout;
+
+/**
+ * An ordered array of {@code long} values stored in a memory-mapped file, so it survives restarts of the program.
+ * Reopening the array only maps the file: the elements are already in their sorted binary form, so searches work
+ * right away, without reading or deserializing anything up front. The operating system loads the pages of the file as
+ * they are touched.
+ * 
+ * The file starts with a header holding a magic number, the format version, the capacity and the size, followed by
+ * the elements in ascending order, in little-endian byte order:
+ * 
+ * <pre>
+ *  0  magic number       (8 bytes)
+ *  8  format version     (4 bytes)
+ * 12  element size       (4 bytes)
+ * 16  capacity           (4 bytes)
+ * 20  operation flag     (4 bytes)  non-zero while an insertion or deletion is modifying the elements
+ * 24  size record 0      (16 bytes) sequence number (8 bytes), size (4 bytes) and checksum (4 bytes)
+ * 40  size record 1      (16 bytes)
+ * 56  high water mark    (4 bytes)
+ * 60  synced flag        (4 bytes)  non-zero if nothing changed since the file was last flushed to the disk
+ * 64  elements           (capacity * 8 bytes)
+ * </pre>
+ * 
+ * The size is written to the two records in turn, each one with a sequence number and a checksum. When the array is
+ * opened, the valid record with the highest sequence number wins, so a size torn by a crash in the middle of its
+ * update falls back to the previous one instead of being read as garbage. The operation flag is set before an insertion
+ * or deletion starts moving elements and cleared after the new size is written, so an operation interrupted by a crash
+ * of the program is detected when the file is opened again, instead of silently exposing half-moved elements. Such
+ * a file is refused by {@link #open(Path)}, but can still be opened by {@link #recover(Path)}, at the cost of the
+ * interrupted operation.
+ * 
+ * The changes reach the file in the page cache as soon as they are made, so they survive a crash of the program. To
+ * survive a crash of the whole machine, they must be flushed to the disk with {@link #sync()}, which is also done by
+ * {@link #close()}. The operating system may write the changed pages back at any time and in any order, so the synced
+ * flag is cleared on the disk before the first change after a flush. If the flag is clear when the file is opened,
+ * the elements are checked to be in order before the array is used.
+ * 
+ * A single mapping holds at most {@link Integer#MAX_VALUE} bytes, which limits the capacity to about 268 million
+ * elements. The capacity is fixed when the file is created.
+ */
+public class MappedLongOrderedArray implements Measurable, AutoCloseable {
+    
+    /**
+     * The version of the file format written by this class.
+     */
+    public static final int VERSION = 1;
+    
+    /**
+     * The largest number of elements a file can hold.
+     */
+    public static final int MAX_CAPACITY = (Integer.MAX_VALUE - Header.SIZE) / Long.BYTES;
+    
+    private static final long MAGIC = 0x4F52444152524159L;  // "ORDARRAY" in ASCII
+    private static final int NO_OPERATION = 0;
+    private static final int OPERATION_IN_PROGRESS = 1;
+    
+    private static final class Header {
+        static final int MAGIC = 0;
+        static final int VERSION = 8;
+        static final int ELEMENT_BYTES = 12;
+        static final int CAPACITY = 16;
+        static final int OPERATION = 20;
+        static final int SIZE_RECORDS = 24;
+        static final int SIZE_RECORD_BYTES = 16;
+        static final int HIGH_WATER_MARK = 56;
+        static final int SYNCED = 60;
+        static final int SIZE = 64;
+    }
+    
+    private static final long SHALLOW_BYTES = MemoryLayout.shallowBytes(MappedLongOrderedArray.class);
+    
+    private final FileChannel channel;
+    private final FileLock lock;
+    private MappedByteBuffer buffer;
+    private final int capacity;
+    private int size;
+    private int highWaterMark;
+    private long sequence;
+    private boolean synced;
+    
+    private MappedLongOrderedArray(FileChannel channel, FileLock lock, MappedByteBuffer buffer, int capacity) {
+        this.channel = channel;
+        this.lock = lock;
+        this.buffer = buffer;
+        this.capacity = capacity;
+        
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+    }
+    
+    /**
+     * Creates a file holding an empty array, overwriting the file if it already exists.
+     * 
+     * Time complexity: O(1), plus the time the file system takes to allocate the file
+     * Space complexity: O(1) memory, and O(C) disk, where C is the capacity
+     * 
+     * @param file the file where the array is stored.
+     * @param capacity the number of elements the array can hold.
+     * @throws IOException if an I/O error occurs, or if the file is already open.
+     */
+    public static MappedLongOrderedArray create(Path file, int capacity) throws IOException {
+        if (file == null) {
+            throw new NullPointerException("file");
+        }
+        
+        if (capacity < 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("The capacity must be between 0 and " + MAX_CAPACITY + ".");
+        }
+        
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                               StandardOpenOption.WRITE);
+        
+        try {
+            FileLock lock = lockFile(channel);
+            
+            channel.truncate(0);
+            
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                                                  Header.SIZE + (long)capacity * Long.BYTES);
+            MappedLongOrderedArray array = new MappedLongOrderedArray(channel, lock, buffer, capacity);
+            
+            buffer.putInt(Header.VERSION, VERSION);
+            buffer.putInt(Header.ELEMENT_BYTES, Long.BYTES);
+            buffer.putInt(Header.CAPACITY, capacity);
+            buffer.putInt(Header.OPERATION, NO_OPERATION);
+            array.commitSize();
+            
+            // The magic number goes last and is flushed with the rest, so a half-created file is never accepted
+            buffer.putLong(Header.MAGIC, MAGIC);
+            array.sync();
+            
+            return array;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+    
+    /**
+     * Opens an array stored in a file by {@link #create(Path, int)}. If the array was flushed to the disk after its
+     * last change, only the header is read: the elements are loaded by the operating system as they are accessed.
+     * Otherwise, the elements are read once to check that they are in order.
+     * 
+     * Time complexity: O(1), or O(N) if the array was not flushed after its last change
+     * Space complexity: O(1)
+     * 
+     * @param file the file where the array is stored.
+     * @throws IOException if an I/O error occurs, if the file is already open, if it doesn't hold an array in a
+     *                     supported version, or if it was left inconsistent by a crash.
+     */
+    public static MappedLongOrderedArray open(Path file) throws IOException {
+        return open(file, false);
+    }
+    
+    /**
+     * Opens an array stored in a file by {@link #create(Path, int)}, even if a crash of the program interrupted an
+     * insertion or deletion. The file is only used if its elements are still in order, which is always the case
+     * after a crash of the program, since the elements are moved by a single memory copy, within the page cache.
+     * 
+     * The size is taken from the last size record written, so the interrupted operation is lost: the array has the
+     * size it had before the operation started. Since the elements were being moved, one of the elements next to
+     * the position of the operation may show up twice, in place of the value inserted or deleted. After an
+     * insertion, the largest element may also be missing, pushed past the end of the array.
+     * 
+     * If no operation was interrupted, the array is opened as by {@link #open(Path)}.
+     * 
+     * Time complexity: O(N) if an operation was interrupted, otherwise as in {@link #open(Path)}
+     * Space complexity: O(1)
+     * 
+     * @param file the file where the array is stored.
+     * @throws IOException if an I/O error occurs, if the file is already open, if it doesn't hold an array in a
+     *                     supported version, or if its elements are out of order.
+     */
+    public static MappedLongOrderedArray recover(Path file) throws IOException {
+        return open(file, true);
+    }
+    
+    private static MappedLongOrderedArray open(Path file, boolean recover) throws IOException {
+        if (file == null) {
+            throw new NullPointerException("file");
+        }
+        
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        
+        try {
+            FileLock lock = lockFile(channel);
+            long fileSize = channel.size();
+            
+            if (fileSize < Header.SIZE) {
+                throw new IOException("The file doesn't hold an ordered array.");
+            }
+            
+            ByteBuffer header = ByteBuffer.allocate(Header.SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            
+            while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+                // Reads until the header is complete
+            }
+            
+            if (header.getLong(Header.MAGIC) != MAGIC) {
+                throw new IOException("The file doesn't hold an ordered array.");
+            }
+            
+            if (header.getInt(Header.VERSION) != VERSION) {
+                throw new IOException("Unsupported file version: " + header.getInt(Header.VERSION) + ".");
+            }
+            
+            int capacity = header.getInt(Header.CAPACITY);
+            
+            if (header.getInt(Header.ELEMENT_BYTES) != Long.BYTES || capacity < 0 || capacity > MAX_CAPACITY
+                    || fileSize < Header.SIZE + (long)capacity * Long.BYTES) {
+                throw new IOException("The header of the file is corrupted.");
+            }
+            
+            boolean interrupted = header.getInt(Header.OPERATION) != NO_OPERATION;
+            
+            if (interrupted && !recover) {
+                throw new IOException("An insertion or deletion was interrupted while modifying the file.");
+            }
+            
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                                                  Header.SIZE + (long)capacity * Long.BYTES);
+            MappedLongOrderedArray array = new MappedLongOrderedArray(channel, lock, buffer, capacity);
+            
+            array.loadSize();
+            array.highWaterMark = Math.max(buffer.getInt(Header.HIGH_WATER_MARK), array.size);
+            array.synced = buffer.getInt(Header.SYNCED) != 0 && !interrupted;
+            
+            if (!array.synced && !array.isInOrder()) {
+                throw new IOException("The file was not flushed after its last change, "
+                                      + "and its elements are out of order.");
+            }
+            
+            if (interrupted) {
+                // The synced flag is already clear on the disk, since it is cleared before any change starts
+                buffer.putInt(Header.OPERATION, NO_OPERATION);
+            }
+            
+            return array;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+    
+    /**
+     * Takes an exclusive lock on the file, so another program can't modify it at the same time.
+     */
+    private static FileLock lockFile(FileChannel channel) throws IOException {
+        FileLock lock;
+        
+        try {
+            lock = channel.tryLock();
+        } catch (OverlappingFileLockException e) {  // Already locked by this program
+            lock = null;
+        }
+        
+        if (lock == null) {
+            throw new IOException("The file is already open.");
+        }
+        
+        return lock;
+    }
+    
+    private static int checksum(long sequence, int size) {
+        long hash = (sequence ^ MAGIC) * 0x9E3779B97F4A7C15L + size;
+        hash *= 0xC2B2AE3D27D4EB4FL;
+        
+        return (int)(hash ^ (hash >>> 32));
+    }
+    
+    /**
+     * Reads the size from the valid size record with the highest sequence number.
+     */
+    private void loadSize() throws IOException {
+        boolean found = false;
+        
+        for (int i = 0; i < 2; i++) {
+            int offset = Header.SIZE_RECORDS + i * Header.SIZE_RECORD_BYTES;
+            long sequence = this.buffer.getLong(offset);
+            int size = this.buffer.getInt(offset + Long.BYTES);
+            int checksum = this.buffer.getInt(offset + Long.BYTES + Integer.BYTES);
+            
+            if (checksum == checksum(sequence, size) && size >= 0 && size <= this.capacity
+                    && (!found || sequence > this.sequence)) {
+                this.sequence = sequence;
+                this.size = size;
+                found = true;
+            }
+        }
+        
+        if (!found) {
+            throw new IOException("The size records of the file are corrupted.");
+        }
+    }
+    
+    /**
+     * Writes the size to the record not holding the latest one, so the latest one stays valid if this write is torn.
+     */
+    private void commitSize() {
+        long sequence = this.sequence + 1;
+        int offset = Header.SIZE_RECORDS + (int)(sequence & 1) * Header.SIZE_RECORD_BYTES;
+        
+        this.buffer.putLong(offset, sequence);
+        this.buffer.putInt(offset + Long.BYTES, this.size);
+        this.buffer.putInt(offset + Long.BYTES + Integer.BYTES, checksum(sequence, this.size));
+        this.sequence = sequence;
+    }
+    
+    private boolean isInOrder() {
+        for (int i = 1; i < this.size; i++) {
+            if (this.buffer.getLong(offsetOf(i - 1)) > this.buffer.getLong(offsetOf(i))) {
+                return false;
+            }
+        }
+        
+        return true;
+    }
+    
+    /**
+     * Clears the synced flag on the disk before the first change after a flush. Only the header changed since the
+     * flush, so flushing it is cheap.
+     */
+    private void beginChange(MappedByteBuffer buffer) {
+        if (this.synced) {
+            buffer.putInt(Header.SYNCED, 0);
+            buffer.force();
+            this.synced = false;
+        }
+        
+        buffer.putInt(Header.OPERATION, OPERATION_IN_PROGRESS);
+    }
+    
+    private void endChange(MappedByteBuffer buffer) {
+        this.commitSize();
+        buffer.putInt(Header.OPERATION, NO_OPERATION);
+    }
+    
+    private MappedByteBuffer buffer() {
+        MappedByteBuffer buffer = this.buffer;
+        
+        if (buffer == null) {
+            throw new IllegalStateException("The array is closed.");
+        }
+        
+        return buffer;
+    }
+    
+    private static int offsetOf(int index) {
+        return Header.SIZE + index * Long.BYTES;
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public int capacity() {
+        return this.capacity;
+    }
+    
+    /**
+     * Returns the largest number of elements held at the same time since the file was created.
+     * 
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public int highWaterMark() {
+        return this.highWaterMark;
+    }
+    
+    /**
+     * Returns the memory retained on the heap together with the size of the mapping. The pages of the mapping belong
+     * to the page cache of the operating system, and are only resident while they are being used.
+     * 
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public long retainedBytes() {
+        return SHALLOW_BYTES + Header.SIZE + (long)this.capacity * Long.BYTES;
+    }
+    
+    /**
+     * Inserts the value after any equal elements, moving the larger elements up by a single memory copy.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(1)
+     * 
+     * @throws ArrayIndexOutOfBoundsException if the array is full.
+     * @throws IllegalStateException if the array is closed.
+     */
+    public void insert(long value) {
+        MappedByteBuffer buffer = this.buffer();
+        
+        if (this.size == this.capacity) {
+            throw new ArrayIndexOutOfBoundsException("The array is full.");
+        }
+        
+        int indexToInsert = this.upperBound(value);
+        
+        this.beginChange(buffer);
+        this.moveElements(indexToInsert, indexToInsert + 1, this.size - indexToInsert);
+        buffer.putLong(offsetOf(indexToInsert), value);
+        
+        this.size++;
+        this.endChange(buffer);
+        
+        if (this.size > this.highWaterMark) {
+            this.highWaterMark = this.size;
+            buffer.putInt(Header.HIGH_WATER_MARK, this.highWaterMark);
+        }
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     * 
+     * @throws IllegalStateException if the array is closed.
+     */
+    public long get(int index) {
+        MappedByteBuffer buffer = this.buffer();
+        
+        if (index < 0 || index >= this.size) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+        
+        return buffer.getLong(offsetOf(index));
+    }
+    
+    /**
+     * Time complexity: O(log N)
+     * Space complexity: O(1)
+     * 
+     * @throws IllegalStateException if the array is closed.
+     */
+    public boolean binarySearch(long value) {
+        return this.indexOf(value) >= 0;
+    }
+    
+    /**
+     * Executes a binary search that reports where the value is, or where it would be inserted.
+     * 
+     * Time complexity: O(log N)
+     * Space complexity: O(1)
+     * 
+     * @return the index of the first element equal to the value, if it is found. Otherwise,
+     *         {@code (-(insertion point) - 1)}, as in {@link java.util.Arrays#binarySearch(long[], long)}.
+     * @throws IllegalStateException if the array is closed.
+     */
+    public int indexOf(long value) {
+        int index = this.lowerBound(value);
+        
+        if (index < this.size && this.buffer.getLong(offsetOf(index)) == value) {
+            return index;
+        } else {
+            return -index - 1;
+        }
+    }
+    
+    /**
+     * Returns the index of the first element not less than the value, or {@link #size()} if there is no such element.
+     * 
+     * Time complexity: O(log N)
+     * Space complexity: O(1)
+     * 
+     * @throws IllegalStateException if the array is closed.
+     */
+    public int lowerBound(long value) {
+        MappedByteBuffer buffer = this.buffer();
+        int lowerIndex = 0;
+        int upperIndex = this.size;  // Exclusive
+        
+        while (lowerIndex < upperIndex) {
+            int middleIndex = (lowerIndex + upperIndex) >>> 1;
+            
+            if (buffer.getLong(offsetOf(middleIndex)) < value) {
+                lowerIndex = middleIndex + 1;
+            } else {
+                upperIndex = middleIndex;
+            }
+        }
+        
+        return lowerIndex;
+    }
+    
+    /**
+     * Returns the index of the first element greater than the value, or {@link #size()} if there is no such element.
+     * 
+     * Time complexity: O(log N)
+     * Space complexity: O(1)
+     * 
+     * @throws IllegalStateException if the array is closed.
+     */
+    public int upperBound(long value) {
+        MappedByteBuffer buffer = this.buffer();
+        int lowerIndex = 0;
+        int upperIndex = this.size;  // Exclusive
+        
+        while (lowerIndex < upperIndex) {
+            int middleIndex = (lowerIndex + upperIndex) >>> 1;
+            
+            if (buffer.getLong(offsetOf(middleIndex)) <= value) {
+                lowerIndex = middleIndex + 1;
+            } else {
+                upperIndex = middleIndex;
+            }
+        }
+        
+        return lowerIndex;
+    }
+    
+    /**
+     * Deletes one element equal to the value, moving the larger elements down by a single memory copy.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(1)
+     * 
+     * @param value element to be removed from this array, if present.
+     * @return {@code true} if this array contained the specified element.
+     * @throws IllegalStateException if the array is closed.
+     */
+    public boolean delete(long value) {
+        int indexToDelete = this.indexOf(value);
+        
+        if (indexToDelete >= 0) {  // Element found
+            MappedByteBuffer buffer = this.buffer;
+            
+            this.beginChange(buffer);
+            this.moveElements(indexToDelete + 1, indexToDelete, this.size - indexToDelete - 1);
+            
+            this.size--;
+            this.endChange(buffer);
+            
+            return true;
+        } else {
+            return false;
+        }
+    }
+    
+    private void moveElements(int fromIndex, int toIndex, int count) {
+        if (count > 0) {
+            ByteBuffer source = this.buffer.duplicate();
+            source.limit(offsetOf(fromIndex + count)).position(offsetOf(fromIndex));
+            
+            ByteBuffer target = this.buffer.duplicate();
+            target.position(offsetOf(toIndex));
+            target.put(source);
+        }
+    }
+    
+    /**
+     * Flushes the changes to the disk, so they survive a crash of the whole machine. The synced flag is only set after
+     * the elements and the size are on the disk, so the flag on the disk never covers changes that are not.
+     * 
+     * Time complexity: O(D), where D is the number of pages changed since the last flush
+     * Space complexity: O(1)
+     * 
+     * @throws IOException if an I/O error occurs.
+     * @throws IllegalStateException if the array is closed.
+     */
+    public void sync() throws IOException {
+        MappedByteBuffer buffer = this.buffer();
+        
+        if (!this.synced) {
+            buffer.force();
+            
+            buffer.putInt(Header.SYNCED, 1);
+            buffer.force();
+            this.synced = true;
+        }
+    }
+    
+    /**
+     * Flushes the changes to the disk and releases the file. Closing an array more than once has no effect.
+     * 
+     * The mapping itself is released when the buffer is collected, as Java 11 has no public API to unmap a file
+     * immediately. Some operating systems don't allow a mapped file to be deleted until then.
+     * 
+     * @throws IOException if an I/O error occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.buffer != null) {
+            try {
+                this.sync();
+            } finally {
+                this.buffer = null;
+                
+                try {
+                    this.lock.release();
+                } finally {
+                    this.channel.close();
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
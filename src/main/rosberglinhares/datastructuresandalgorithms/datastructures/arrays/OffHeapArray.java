@@ -0,0 +1,264 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package rosberglinhares.datastructuresandalgorithms.datastructures.arrays;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import rosberglinhares.datastructuresandalgorithms.datastructures.Growth;
+import rosberglinhares.datastructuresandalgorithms.datastructures.Measurable;
+import rosberglinhares.datastructuresandalgorithms.datastructures.MemoryLayout;
+
+/**
+ * The storage shared by the arrays of primitive values kept outside of the Java heap. The elements are stored in a
+ * direct {@link ByteBuffer}, so the garbage collector never has to trace or move them: however many elements the array
+ * holds, the heap only sees this object and the small buffer object pointing to the native memory.
+ * 
+ * The native memory is released when the buffer is collected. Java 11 has no public API to free a direct buffer
+ * immediately, so {@link #close()} drops the only reference to it and rejects any further access, which lets the next
+ * garbage collection reclaim it.
+ */
+abstract class OffHeapArray implements Measurable, AutoCloseable {
+    
+    /**
+     * The size of the buffer object on the heap, besides the native memory it points to.
+     */
+    private static final long BUFFER_BYTES = MemoryLayout.shallowBytes(ByteBuffer.allocateDirect(0).getClass());
+    
+    private ByteBuffer buffer;
+    private final int elementBytes;
+    private final double growthFactor;
+    private final boolean growable;
+    int size;
+    private int highWaterMark;
+    
+    OffHeapArray(int initialCapacity, double growthFactor, int elementBytes) {
+        Growth.checkGrowthFactor(growthFactor);
+        
+        if (initialCapacity < 0 || initialCapacity > maxCapacity(elementBytes)) {
+            throw new IllegalArgumentException("The initial capacity must be between 0 and " + maxCapacity(elementBytes) + ".");
+        }
+        
+        this.elementBytes = elementBytes;
+        this.growthFactor = growthFactor;
+        this.growable = Growth.isGrowable(growthFactor);
+        this.buffer = allocate(initialCapacity, elementBytes);
+    }
+    
+    /**
+     * A direct buffer holds at most {@link Integer#MAX_VALUE} bytes.
+     */
+    private static int maxCapacity(int elementBytes) {
+        return Integer.MAX_VALUE / elementBytes;
+    }
+    
+    private static ByteBuffer allocate(int capacity, int elementBytes) {
+        // The native order avoids swapping the bytes of every element read or written
+        return ByteBuffer.allocateDirect(capacity * elementBytes).order(ByteOrder.nativeOrder());
+    }
+    
+    /**
+     * Returns the buffer holding the elements.
+     * 
+     * @throws IllegalStateException if the array is closed.
+     */
+    final ByteBuffer buffer() {
+        ByteBuffer buffer = this.buffer;
+        
+        if (buffer == null) {
+            throw new IllegalStateException("The array is closed.");
+        }
+        
+        return buffer;
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+    
+    /**
+     * Returns the number of elements this array can hold before its buffer has to grow, or {@code 0} if it is closed.
+     * 
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public int capacity() {
+        return this.buffer != null ? this.buffer.capacity() / this.elementBytes : 0;
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public int highWaterMark() {
+        return this.highWaterMark;
+    }
+    
+    /**
+     * Returns the memory retained on the heap together with the native memory of the buffer.
+     * 
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     * 
+     * @see #offHeapBytes()
+     */
+    @Override
+    public long retainedBytes() {
+        return this.shallowBytes() + BUFFER_BYTES + this.offHeapBytes();
+    }
+    
+    /**
+     * Returns the size of this object itself, including the fields of the subclass.
+     */
+    abstract long shallowBytes();
+    
+    /**
+     * Returns the native memory held by the buffer, which is out of the reach of the garbage collector.
+     * 
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    public long offHeapBytes() {
+        return this.buffer != null ? this.buffer.capacity() : 0;
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    public boolean isClosed() {
+        return this.buffer == null;
+    }
+    
+    /**
+     * Releases the buffer. Any further access to the elements throws an {@link IllegalStateException}.
+     * Closing an array more than once has no effect.
+     * 
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public void close() {
+        this.buffer = null;
+        this.size = 0;
+    }
+    
+    /**
+     * Grows the buffer, if necessary, so this array can hold at least the given number of elements without growing
+     * again. This works even when the array was created without a growth factor.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(N)
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > this.capacity()) {
+            this.resize(minCapacity);
+        }
+    }
+    
+    /**
+     * Shrinks the buffer to the number of elements currently held, releasing the unused memory.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(N)
+     */
+    public void trimToSize() {
+        if (this.size < this.capacity()) {
+            this.resize(this.size);
+        }
+    }
+    
+    /**
+     * Makes room for one more element, growing the buffer if the array was created with a growth factor.
+     * 
+     * @throws ArrayIndexOutOfBoundsException if the array is full and was created without a growth factor.
+     */
+    final void ensureRoomForOne() {
+        int capacity = this.buffer().capacity() / this.elementBytes;
+        
+        if (this.size == capacity) {
+            if (this.growable) {
+                this.grow(capacity);
+            } else {
+                throw new ArrayIndexOutOfBoundsException("The array is full.");
+            }
+        }
+    }
+    
+    /**
+     * Records that one element was added.
+     */
+    final void incrementSize() {
+        this.size++;
+        
+        if (this.size > this.highWaterMark) {
+            this.highWaterMark = this.size;
+        }
+    }
+    
+    /**
+     * Moves a block of elements inside the buffer. The block may overlap its destination, as when elements are shifted
+     * to open or close a hole. The whole block is moved by a single native memory copy.
+     */
+    final void moveElements(int fromIndex, int toIndex, int count) {
+        if (count > 0) {
+            ByteBuffer buffer = this.buffer();
+            
+            ByteBuffer source = buffer.duplicate();
+            source.limit((fromIndex + count) * this.elementBytes).position(fromIndex * this.elementBytes);
+            
+            ByteBuffer target = buffer.duplicate();
+            target.position(toIndex * this.elementBytes);
+            target.put(source);
+        }
+    }
+    
+    /**
+     * Grows the buffer as described in {@link Growth}.
+     */
+    private void grow(int capacity) {
+        this.resize(Growth.newCapacity(capacity, capacity + 1L, this.growthFactor, maxCapacity(this.elementBytes)));
+    }
+    
+    private void resize(int newCapacity) {
+        if (newCapacity > maxCapacity(this.elementBytes)) {
+            throw new OutOfMemoryError("The maximum capacity has been reached.");
+        }
+        
+        ByteBuffer oldBuffer = this.buffer().duplicate();
+        ByteBuffer newBuffer = allocate(newCapacity, this.elementBytes);
+        
+        oldBuffer.limit(this.size * this.elementBytes).position(0);
+        newBuffer.duplicate().put(oldBuffer);
+        
+        this.buffer = newBuffer;
+    }
+}
\ No newline at end of file
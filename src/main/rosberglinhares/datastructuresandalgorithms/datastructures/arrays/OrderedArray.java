@@ -24,7 +24,22 @@
 
 package rosberglinhares.datastructuresandalgorithms.datastructures.arrays;
 
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+
 import rosberglinhares.datastructuresandalgorithms.algorithms.searching.BinarySearch;
+import rosberglinhares.datastructuresandalgorithms.algorithms.sorting.TimSort;
+import rosberglinhares.datastructuresandalgorithms.datastructures.ElementCodec;
+import rosberglinhares.datastructuresandalgorithms.datastructures.Growth;
+import rosberglinhares.datastructuresandalgorithms.datastructures.Measurable;
+import rosberglinhares.datastructuresandalgorithms.datastructures.MemoryLayout;
+import rosberglinhares.datastructuresandalgorithms.datastructures.SnapshotLayout;
+import rosberglinhares.datastructuresandalgorithms.datastructures.SnapshotReader;
+import rosberglinhares.datastructuresandalgorithms.datastructures.SnapshotWriter;
 
 /**
  * Implements an ordered array.
@@ -40,54 +55,226 @@ import rosberglinhares.datastructuresandalgorithms.algorithms.searching.BinarySe
  * so you guess how big it should be. If your guess is too large, youll waste memory by having cells in the array
  * that are never filled. If your guess is too small, youll overflow the array, causing at best a message to the
  * programs user, and at worst a program crash.
+ * To avoid guessing, the array can be created with a growth factor instead: when it gets full, its elements are
+ * copied to a larger array.
+ * 
+ * The elements are kept in their natural ordering, or in the order given by a {@link Comparator} provided at
+ * construction time.
  * 
- * @param <T> the type of elements in this array. For the ordering to work, these elements must be
+ * @param <T> the type of elements in this array. When no comparator is given, these elements must be
  *            {@link java.lang.Comparable} to themselves.
  */
-public class OrderedArray<T extends Comparable<T>> {
+public class OrderedArray<T> implements Measurable {
+    /**
+     * The growth factor that keeps the capacity fixed, same as {@link Growth#FIXED_CAPACITY}.
+     */
+    public static final double FIXED_CAPACITY = Growth.FIXED_CAPACITY;
+    
+    private static final long SHALLOW_BYTES = MemoryLayout.shallowBytes(OrderedArray.class);
+    
     private T[] elements;
     private int size;
+    private final Comparator<? super T> comparator;
+    private final double growthFactor;
+    private int highWaterMark;
     
-    @SuppressWarnings("unchecked")
+    /**
+     * Creates an array that keeps its elements in their natural ordering. All the elements inserted must implement
+     * {@link java.lang.Comparable}, otherwise a {@link ClassCastException} is thrown.
+     */
     public OrderedArray(int maxSize) {
-        // It is not possible to create an array whose component type is a concrete parameterized type
-        this.elements = (T[])new Comparable<?>[maxSize];
+        this(maxSize, FIXED_CAPACITY);
+    }
+    
+    /**
+     * Creates an array that keeps its elements in the order given by a comparator.
+     */
+    public OrderedArray(int maxSize, Comparator<? super T> comparator) {
+        this(maxSize, FIXED_CAPACITY, comparator);
+    }
+    
+    /**
+     * Creates an array that keeps its elements in their natural ordering and grows as needed.
+     * 
+     * @param initialCapacity the number of elements the array can hold before growing for the first time.
+     * @param growthFactor the factor by which the capacity is multiplied when the array is full, as described in
+     *                     {@link Growth}, or {@link #FIXED_CAPACITY} to keep the capacity fixed.
+     */
+    @SuppressWarnings("unchecked")
+    public OrderedArray(int initialCapacity, double growthFactor) {
+        this(initialCapacity, growthFactor, (Comparator<? super T>)Comparator.naturalOrder());
+    }
+    
+    /**
+     * Creates an array that keeps its elements in the order given by a comparator and grows as needed.
+     * 
+     * @param initialCapacity the number of elements the array can hold before growing for the first time.
+     * @param growthFactor the factor by which the capacity is multiplied when the array is full, as described in
+     *                     {@link Growth}, or {@link #FIXED_CAPACITY} to keep the capacity fixed.
+     * @param comparator the comparator that determines the order of the elements.
+     */
+    @SuppressWarnings("unchecked")
+    public OrderedArray(int initialCapacity, double growthFactor, Comparator<? super T> comparator) {
+        if (comparator == null) {
+            throw new NullPointerException("comparator");
+        }
+        
+        this.elements = (T[])new Object[initialCapacity];
         this.size = 0;
+        this.comparator = comparator;
+        this.growthFactor = Growth.checkGrowthFactor(growthFactor);
+    }
+    
+    /**
+     * Returns the comparator that determines the order of the elements of this array.
+     */
+    public Comparator<? super T> comparator() {
+        return this.comparator;
     }
     
     /**
      * Time complexity: O(1)
      * Space complexity: O(1)
      */
+    @Override
     public int size() {
         return this.size;
     }
     
+    /**
+     * Returns the number of elements this array can hold before its backing array has to grow.
+     * 
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public int capacity() {
+        return this.elements.length;
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public int highWaterMark() {
+        return this.highWaterMark;
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public long retainedBytes() {
+        return SHALLOW_BYTES + MemoryLayout.referenceArrayBytes(this.elements.length);
+    }
+    
+    /**
+     * Grows the backing array, if necessary, so this array can hold at least the given number of elements without
+     * growing again. This works even when the array was created without a growth factor.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(N)
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > this.elements.length) {
+            this.elements = Arrays.copyOf(this.elements, minCapacity);
+        }
+    }
+    
+    /**
+     * Shrinks the backing array to the number of elements currently held, releasing the unused cells.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(N)
+     */
+    public void trimToSize() {
+        if (this.size < this.elements.length) {
+            this.elements = Arrays.copyOf(this.elements, this.size);
+        }
+    }
+    
     /**
      * When we insert an item into this array, the correct location must be found for the insertion:
      * just above a smaller value and just below a larger one. Then all the larger values must be moved up to make room.
      * 
-     * We could have used a binary search to locate the position where a new item will be inserted.
-     * But the speed penalty may not be important because an average of half the items must be moved anyway when
-     * an insertion is performed, so insertion will not be very fast even if we locate the item with a binary search.
+     * The location is found with a binary search, so only O(log N) comparisons are needed. The larger values are
+     * still moved one by one, but in a single block copy, which is much cheaper than comparing them.
+     * An element equal to others already in the array is inserted after them.
      * 
      * Time complexity: O(N)
-     * Space complexity: O(1)
+     * Space complexity: O(1), or O(N) when the array has to grow
+     * 
+     * @throws ArrayIndexOutOfBoundsException if the array is full and was created without a growth factor.
      */
     public void insert(T value) {
-        int indexToInsert = 0;
+        this.ensureRoomFor(1);
         
-        while (indexToInsert < this.size && value.compareTo(this.elements[indexToInsert]) > 0) {
-            indexToInsert++;
-        }
+        int indexToInsert = this.upperBound(value);
         
-        for (int i = this.size - 1; i >= indexToInsert; i--) {
-            // An ArrayIndexOutOfBoundsException can be thrown here, if inserting more elements than the capacity.
-            this.elements[i + 1] = this.elements[i];
-        }
+        System.arraycopy(this.elements, indexToInsert, this.elements, indexToInsert + 1, this.size - indexToInsert);
         
         this.elements[indexToInsert] = value;
         this.size++;
+        
+        if (this.size > this.highWaterMark) {
+            this.highWaterMark = this.size;
+        }
+    }
+    
+    /**
+     * Inserts a batch of values at once. Inserting them one by one would move the larger elements once for each value,
+     * so instead the batch is sorted and merged with the elements of this array in a single pass. The merge goes from
+     * the end of both towards their start, so each element is moved only once, directly to its final position.
+     * 
+     * As with {@link #insert(Object)}, values equal to elements already in the array are inserted after them, and
+     * equal values of the batch keep their relative order.
+     * 
+     * Time complexity: O(N + M*log M), where M is the number of values inserted
+     * Space complexity: O(M), or O(N + M) when the array has to grow
+     * 
+     * @param values the values to insert. The array itself is not modified.
+     * @throws ArrayIndexOutOfBoundsException if the values don't fit in the array and it was created without a growth
+     *                                        factor. In this case, none of the values is inserted.
+     */
+    public void insertAll(T[] values) {
+        this.mergeSorted(this.sortedCopy(values));
+    }
+    
+    /**
+     * Same as {@link #insertAll(Object[])}, for the values of a collection, in the order of its iterator.
+     */
+    public void insertAll(Collection<? extends T> values) {
+        @SuppressWarnings("unchecked")
+        T[] batch = (T[])values.toArray();
+        
+        new TimSort().sort(batch, this.comparator);
+        this.mergeSorted(batch);
+    }
+    
+    private void mergeSorted(T[] batch) {
+        this.ensureRoomFor(batch.length);
+        
+        int i = this.size - 1;                 // Next element of the array
+        int j = batch.length - 1;              // Next value of the batch
+        int k = this.size + batch.length - 1;  // Next position to write
+        
+        // When the array runs out first, the remaining elements are already in place
+        while (j >= 0) {
+            // Taking from the batch on ties puts the values after the equal elements
+            if (i >= 0 && this.comparator.compare(this.elements[i], batch[j]) > 0) {
+                this.elements[k--] = this.elements[i--];
+            } else {
+                this.elements[k--] = batch[j--];
+            }
+        }
+        
+        this.size += batch.length;
+        
+        if (this.size > this.highWaterMark) {
+            this.highWaterMark = this.size;
+        }
     }
     
     /**
@@ -107,13 +294,54 @@ public class OrderedArray<T extends Comparable<T>> {
     public boolean binarySearch(T value) {
         BinarySearch binarySearch = new BinarySearch();
         
-        return binarySearch.iterativeBinarySearch(this.elements, 0, this.size - 1, value);
+        return binarySearch.iterativeBinarySearch(this.elements, 0, this.size - 1, value, this.comparator);
+    }
+    
+    /**
+     * Executes a binary search that reports where the value is, or where it would be inserted.
+     * 
+     * Time complexity: O(log N)
+     * Space complexity: O(1)
+     * 
+     * @return the index of the first element equal to the value, if it is found. Otherwise,
+     *         {@code (-(insertion point) - 1)}, as in {@link java.util.Arrays#binarySearch(Object[], Object)}.
+     */
+    public int indexOf(T value) {
+        BinarySearch binarySearch = new BinarySearch();
+        
+        return binarySearch.indexOf(this.elements, 0, this.size - 1, value, this.comparator);
+    }
+    
+    /**
+     * Returns the index of the first element not less than the value, or {@link #size()} if there is no such element.
+     * Together with {@link #upperBound(Object)}, it allows range queries: the elements between
+     * {@code lowerBound(from)} and {@code upperBound(to)} are exactly those in the closed range [from, to].
+     * 
+     * Time complexity: O(log N)
+     * Space complexity: O(1)
+     */
+    public int lowerBound(T value) {
+        BinarySearch binarySearch = new BinarySearch();
+        
+        return binarySearch.lowerBound(this.elements, 0, this.size - 1, value, this.comparator);
+    }
+    
+    /**
+     * Returns the index of the first element greater than the value, or {@link #size()} if there is no such element.
+     * 
+     * Time complexity: O(log N)
+     * Space complexity: O(1)
+     */
+    public int upperBound(T value) {
+        BinarySearch binarySearch = new BinarySearch();
+        
+        return binarySearch.upperBound(this.elements, 0, this.size - 1, value, this.comparator);
     }
     
     /**
      * Deletion works much the same as it did in the {@link UnorderedArray} class, shifting items with higher index
-     * numbers down to fill in the hole left by the deletion. In the ordered array, however, the deletion algorithm can
-     * quit partway through if it doesnt find the item, just as the search routine can.
+     * numbers down to fill in the hole left by the deletion. In the ordered array, however, the item to be deleted
+     * is located with a binary search, and the deletion algorithm quits right away if it doesnt find the item.
      * 
      * Time complexity: O(N)
      * Space complexity: O(1)
@@ -122,23 +350,164 @@ public class OrderedArray<T extends Comparable<T>> {
      * @return {@code true} if this array contained the specified element.
      */
     public boolean delete(T value) {
-        int indexToDelete = 0;
-        int comparisonResult = -1;
-        
-        while (indexToDelete < this.size && (comparisonResult = value.compareTo(this.elements[indexToDelete])) > 0) {
-            indexToDelete++;
-        }
+        int indexToDelete = this.indexOf(value);
         
-        if (comparisonResult == 0) {  // Element found
-            for (int i = indexToDelete; i < this.size - 1; i++) {
-                this.elements[i] = this.elements[i + 1]; 
-            }
+        if (indexToDelete >= 0) {  // Element found
+            System.arraycopy(this.elements, indexToDelete + 1, this.elements, indexToDelete, this.size - indexToDelete - 1);
             
             this.size--;
+            this.elements[this.size] = null;  // Let the garbage collector reclaim the deleted element
             
             return true;
         } else {
             return false;
         }
     }
+    
+    /**
+     * Deletes a batch of values at once. Each value deletes a single element equal to it, as in
+     * {@link #delete(Object)}. Deleting them one by one would move the larger elements once for each value, so instead
+     * the batch is sorted and matched against the elements of this array in a single pass, which moves each element
+     * that is kept only once, directly to its final position.
+     * 
+     * Time complexity: O(N + M*log M), where M is the number of values deleted
+     * Space complexity: O(M)
+     * 
+     * @param values the values to delete. The array itself is not modified.
+     * @return the number of elements deleted.
+     */
+    public int deleteAll(T[] values) {
+        return this.deleteSorted(this.sortedCopy(values));
+    }
+    
+    /**
+     * Same as {@link #deleteAll(Object[])}, for the values of a collection.
+     */
+    public int deleteAll(Collection<? extends T> values) {
+        @SuppressWarnings("unchecked")
+        T[] batch = (T[])values.toArray();
+        
+        new TimSort().sort(batch, this.comparator);
+        return this.deleteSorted(batch);
+    }
+    
+    private int deleteSorted(T[] batch) {
+        int j = 0;          // Next value of the batch
+        int writeIndex = 0;
+        
+        for (int readIndex = 0; readIndex < this.size; readIndex++) {
+            T element = this.elements[readIndex];
+            
+            // Values less than the element are not in the array
+            while (j < batch.length && this.comparator.compare(batch[j], element) < 0) {
+                j++;
+            }
+            
+            if (j < batch.length && this.comparator.compare(batch[j], element) == 0) {
+                j++;  // Deleted, and the value is consumed
+            } else {
+                this.elements[writeIndex++] = element;
+            }
+        }
+        
+        int deletedCount = this.size - writeIndex;
+        
+        // Let the garbage collector reclaim the deleted elements
+        Arrays.fill(this.elements, writeIndex, this.size, null);
+        this.size = writeIndex;
+        
+        return deletedCount;
+    }
+    
+    /**
+     * Writes the elements of this array to a snapshot, in ascending order. The snapshot can be restored with
+     * {@link #readSnapshot(ReadableByteChannel, ElementCodec)}, possibly in another process.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(1)
+     * 
+     * @param channel the channel where the snapshot is written. It is not closed.
+     * @param codec the codec that writes each element.
+     * @throws IOException if an I/O error occurs.
+     * @throws NullPointerException if the array holds a {@code null} element, which snapshots can't hold.
+     * @see SnapshotWriter
+     */
+    public void writeSnapshot(WritableByteChannel channel, ElementCodec<? super T> codec) throws IOException {
+        SnapshotWriter<T> writer = new SnapshotWriter<T>(channel, codec, SnapshotLayout.ARRAY, this.size);
+        
+        for (int i = 0; i < this.size; i++) {
+            writer.write(this.elements[i]);
+        }
+        
+        writer.finish();
+    }
+    
+    /**
+     * Replaces the elements of this array with the ones of a snapshot. The elements are already in order, so they are
+     * only compared once to check it, instead of being inserted one by one. The array grows to fit them even if it was
+     * created without a growth factor.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(N)
+     * 
+     * @param channel the channel where the snapshot is read from. It is not closed.
+     * @param codec the codec that reads each element.
+     * @throws IOException if an I/O error occurs, or if the snapshot is invalid or its elements are not in the order of
+     *                     this array. In this case, the array is left unchanged.
+     * @see SnapshotReader
+     */
+    @SuppressWarnings("unchecked")
+    public void readSnapshot(ReadableByteChannel channel, ElementCodec<? extends T> codec) throws IOException {
+        SnapshotReader<T> reader = new SnapshotReader<T>(channel, codec, SnapshotLayout.ARRAY);
+        int count = reader.count();
+        T[] elements = (T[])reader.readAll(this.elements.length);
+        
+        for (int i = 1; i < count; i++) {
+            if (this.comparator.compare(elements[i - 1], elements[i]) > 0) {
+                throw new IOException("The elements of the snapshot are out of order.");
+            }
+        }
+        
+        this.elements = elements;
+        this.size = count;
+        
+        if (this.size > this.highWaterMark) {
+            this.highWaterMark = this.size;
+        }
+    }
+    
+    @SuppressWarnings("unchecked")
+    private T[] sortedCopy(T[] values) {
+        T[] batch = (T[])Arrays.copyOf(values, values.length, Object[].class);
+        
+        new TimSort().sort(batch, this.comparator);
+        return batch;
+    }
+    
+    /**
+     * Makes sure there is room for the given number of new elements, growing the backing array if needed.
+     * 
+     * @throws ArrayIndexOutOfBoundsException if the array was created without a growth factor and there is no room.
+     */
+    private void ensureRoomFor(int count) {
+        long minCapacity = (long)this.size + count;
+        
+        if (minCapacity > this.elements.length) {
+            if (Growth.isGrowable(this.growthFactor)) {
+                this.grow(minCapacity);
+            } else {
+                throw new ArrayIndexOutOfBoundsException("The array is full.");
+            }
+        }
+    }
+    
+    /**
+     * Grows the backing array as described in {@link Growth}.
+     */
+    private void grow(long minCapacity) {
+        int newCapacity = Growth.newCapacity(this.elements.length, minCapacity, this.growthFactor,
+                                             Growth.MAX_ARRAY_CAPACITY);
+        
+        this.elements = Arrays.copyOf(this.elements, newCapacity);
+    }
 }
\ No newline at end of file
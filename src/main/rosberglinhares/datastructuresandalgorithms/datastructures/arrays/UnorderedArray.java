@@ -24,6 +24,19 @@
 
 package rosberglinhares.datastructuresandalgorithms.datastructures.arrays;
 
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+import rosberglinhares.datastructuresandalgorithms.datastructures.ElementCodec;
+import rosberglinhares.datastructuresandalgorithms.datastructures.Growth;
+import rosberglinhares.datastructuresandalgorithms.datastructures.Measurable;
+import rosberglinhares.datastructuresandalgorithms.datastructures.MemoryLayout;
+import rosberglinhares.datastructuresandalgorithms.datastructures.SnapshotLayout;
+import rosberglinhares.datastructuresandalgorithms.datastructures.SnapshotReader;
+import rosberglinhares.datastructuresandalgorithms.datastructures.SnapshotWriter;
+
 /**
  * Implements an unordered array.
  * 
@@ -32,39 +45,198 @@ package rosberglinhares.datastructuresandalgorithms.datastructures.arrays;
  * so you guess how big it should be. If your guess is too large, youll waste memory by having cells in the array
  * that are never filled. If your guess is too small, youll overflow the array, causing at best a message to the
  * programs user, and at worst a program crash.
+ * To avoid guessing, the array can be created with a growth factor instead: when it gets full, its elements are
+ * copied to a larger array.
+ * 
+ * Large arrays can also keep a hash index of their elements, which makes searching and deleting constant time on
+ * average, at the cost of an extra table of about two integers per element. When the order of insertion doesn't
+ * matter, deletions can move the last element into the hole instead of shifting all the following elements down.
  * 
  * @param <T> the type of elements in this array.
  */
-public class UnorderedArray<T> {
+public class UnorderedArray<T> implements Measurable {
     private static int ELEMENT_NOT_FOUND = -1;
     
+    /**
+     * The growth factor that keeps the capacity fixed, same as {@link Growth#FIXED_CAPACITY}.
+     */
+    public static final double FIXED_CAPACITY = Growth.FIXED_CAPACITY;
+    
+    /**
+     * How a deletion fills the hole left by the deleted element.
+     */
+    public enum DeletionMode {
+        
+        /** Shifts all the following elements down, keeping the order of insertion. */
+        PRESERVE_ORDER,
+        
+        /** Moves the last element into the hole, which takes constant time but changes the order of the elements. */
+        SWAP_WITH_LAST
+    }
+    
+    private static final long SHALLOW_BYTES = MemoryLayout.shallowBytes(UnorderedArray.class);
+    
     private T[] elements;
     private int size;
+    private final double growthFactor;
+    private int highWaterMark;
+    private final DeletionMode deletionMode;
+    
+    /** Maps each element to its slot, or {@code null} if the array is not indexed. */
+    private final HashIndex index;
     
-    @SuppressWarnings("unchecked")
     public UnorderedArray(int maxSize) {
-        this.elements = (T[])new Object[maxSize];
+        this(maxSize, FIXED_CAPACITY);
+    }
+    
+    /**
+     * Creates an array that grows as needed.
+     * 
+     * @param initialCapacity the number of elements the array can hold before growing for the first time.
+     * @param growthFactor the factor by which the capacity is multiplied when the array is full, as described in
+     *                     {@link Growth}, or {@link #FIXED_CAPACITY} to keep the capacity fixed.
+     */
+    public UnorderedArray(int initialCapacity, double growthFactor) {
+        this(initialCapacity, growthFactor, DeletionMode.PRESERVE_ORDER, false);
+    }
+    
+    /**
+     * Creates an array that can keep a hash index of its elements.
+     * 
+     * @param initialCapacity the number of elements the array can hold before growing for the first time.
+     * @param growthFactor the factor by which the capacity is multiplied when the array is full, as described in
+     *                     {@link Growth}, or {@link #FIXED_CAPACITY} to keep the capacity fixed.
+     * @param deletionMode how a deletion fills the hole left by the deleted element.
+     * @param hashIndexed whether searches and deletions look the elements up in a hash index instead of scanning the
+     *                    array. The elements must then implement {@code hashCode} consistently with {@code equals}.
+     */
+    @SuppressWarnings("unchecked")
+    public UnorderedArray(int initialCapacity, double growthFactor, DeletionMode deletionMode, boolean hashIndexed) {
+        if (deletionMode == null) {
+            throw new NullPointerException("deletionMode");
+        }
+        
+        this.elements = (T[])new Object[initialCapacity];
         this.size = 0;
+        this.growthFactor = Growth.checkGrowthFactor(growthFactor);
+        this.deletionMode = deletionMode;
+        this.index = hashIndexed ? new HashIndex(initialCapacity) : null;
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    public DeletionMode deletionMode() {
+        return this.deletionMode;
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    public boolean isHashIndexed() {
+        return this.index != null;
     }
  
     /**
      * Time complexity: O(1)
      * Space complexity: O(1)
      */
+    @Override
     public int size() {
         return this.size;
     }
     
+    /**
+     * Returns the number of elements this array can hold before its backing array has to grow.
+     * 
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public int capacity() {
+        return this.elements.length;
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public int highWaterMark() {
+        return this.highWaterMark;
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public long retainedBytes() {
+        long bytes = SHALLOW_BYTES + MemoryLayout.referenceArrayBytes(this.elements.length);
+        
+        return this.index != null ? bytes + this.index.retainedBytes() : bytes;
+    }
+    
+    /**
+     * Grows the backing array, if necessary, so this array can hold at least the given number of elements without
+     * growing again. This works even when the array was created without a growth factor.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(N)
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > this.elements.length) {
+            this.elements = Arrays.copyOf(this.elements, minCapacity);
+        }
+    }
+    
+    /**
+     * Shrinks the backing array to the number of elements currently held, releasing the unused cells.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(N)
+     */
+    public void trimToSize() {
+        if (this.size < this.elements.length) {
+            this.elements = Arrays.copyOf(this.elements, this.size);
+        }
+    }
+    
     /**
      * A new item is always inserted in the first vacant cell in the array, and the algorithm knows this location
      * because it knows how many items are already in the array. The new item is simply inserted in the next available space.
      * Searching and deletion, however, are not so fast.
      * 
-     * Time complexity: O(1)
-     * Space complexity: O(1)
+     * When the array is hash indexed, the index entry goes past the entries of the elements equal to the value.
+     * 
+     * Time complexity: O(1), amortized when the array or its hash index has to grow, plus O(D) when the array is hash
+     *                  indexed, where D is the number of elements equal to the value
+     * Space complexity: O(1), or O(N) when the array or its hash index has to grow
+     * 
+     * @throws ArrayIndexOutOfBoundsException if the array is full and was created without a growth factor.
      */
     public void insert(T value) {
-        this.elements[this.size++] = value;
+        if (this.size == this.elements.length) {
+            if (Growth.isGrowable(this.growthFactor)) {
+                this.grow();
+            } else {
+                throw new ArrayIndexOutOfBoundsException("The array is full.");
+            }
+        }
+        
+        this.elements[this.size] = value;
+        
+        if (this.index != null) {
+            this.index.add(this.elements, this.size);
+        }
+        
+        this.size++;
+        
+        if (this.size > this.highWaterMark) {
+            this.highWaterMark = this.size;
+        }
     }
     
     /**
@@ -83,13 +255,22 @@ public class UnorderedArray<T> {
      * If N is the number of items, the average number of steps needed to find an item is N/2. In the worst-case scenario,
      * the specified item is in the last occupied cell, and N steps will be required to find it.
      * 
-     * Time complexity: O(N)
+     * When the array is hash indexed, the element is looked up in the index instead, which takes constant time on
+     * average, plus the time to walk past the entries of the equal elements. Either way, the lowest index holding the
+     * element is returned.
+     * 
+     * Time complexity: O(N), or O(1 + D) on average when the array is hash indexed, where D is the number of elements
+     *                  equal to the value
      * Space complexity: O(1)
      * 
      * @param value the element to be searched.
      * @return the index of the element found or {@code -1} if the element was not found.
      */
     public int search(T value) {
+        if (this.index != null) {
+            return this.index.find(this.elements, value);
+        }
+        
         for (int i = 0; i < this.size; i++) {
             if (this.elements[i].equals(value)) {
                 return i;
@@ -107,21 +288,53 @@ public class UnorderedArray<T> {
      * looking at unoccupied cells.
      * A deletion requires searching through an average of N/2 elements and then moving the remaining elements
      * (an average of N/2 moves) to fill up the resulting hole.
+     * In the {@link DeletionMode#SWAP_WITH_LAST} mode, the hole is filled by the last element instead, so only one
+     * element is moved, and any element equal to the value can be deleted, not only the first one. Together with the
+     * hash index, this makes deletion constant time on average, plus the time to walk past the index entries of the
+     * equal elements.
      * 
-     * Time complexity: O(N)
+     * Time complexity: O(N), or O(1 + D) on average when the array is hash indexed and swaps with the last element,
+     *                  where D is the number of elements equal to the value
      * Space complexity: O(1)
      * 
      * @param value element to be removed from this array, if present.
      * @return {@code true} if this array contained the specified element.
      */
     public boolean delete(T value) {
-        int i = this.search(value);
+        int i;
+        
+        if (this.index != null && this.deletionMode == DeletionMode.SWAP_WITH_LAST) {
+            i = this.index.findAny(this.elements, value);  // The order is lost anyway, so any equal element will do
+        } else {
+            i = this.search(value);
+        }
         
         if (i > ELEMENT_NOT_FOUND) {
-            for (; i < this.size - 1; i++) {
-                this.elements[i] = this.elements[i + 1]; 
+            int lastIndex = this.size - 1;
+            
+            if (this.index != null) {
+                this.index.remove(this.elements, i);
             }
             
+            if (this.deletionMode == DeletionMode.SWAP_WITH_LAST) {
+                if (i < lastIndex) {
+                    if (this.index != null) {
+                        this.index.move(this.elements, lastIndex, i);
+                    }
+                    
+                    this.elements[i] = this.elements[lastIndex];
+                }
+            } else {
+                for (; i < lastIndex; i++) {
+                    if (this.index != null) {
+                        this.index.move(this.elements, i + 1, i);
+                    }
+                    
+                    this.elements[i] = this.elements[i + 1]; 
+                }
+            }
+            
+            this.elements[lastIndex] = null;  // Lets the garbage collector reclaim the element
             this.size--;
             
             return true;
@@ -129,4 +342,66 @@ public class UnorderedArray<T> {
             return false;
         }
     }
+    
+    /**
+     * Writes the elements of this array to a snapshot, in their current order. The snapshot can be restored with
+     * {@link #readSnapshot(ReadableByteChannel, ElementCodec)}, possibly in another process.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(1)
+     * 
+     * @param channel the channel where the snapshot is written. It is not closed.
+     * @param codec the codec that writes each element.
+     * @throws IOException if an I/O error occurs.
+     * @throws NullPointerException if the array holds a {@code null} element, which snapshots can't hold.
+     * @see SnapshotWriter
+     */
+    public void writeSnapshot(WritableByteChannel channel, ElementCodec<? super T> codec) throws IOException {
+        SnapshotWriter<T> writer = new SnapshotWriter<T>(channel, codec, SnapshotLayout.ARRAY, this.size);
+        
+        for (int i = 0; i < this.size; i++) {
+            writer.write(this.elements[i]);
+        }
+        
+        writer.finish();
+    }
+    
+    /**
+     * Replaces the elements of this array with the ones of a snapshot, in the same order. The array grows to fit them
+     * even if it was created without a growth factor, and its hash index, if any, is rebuilt.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(N)
+     * 
+     * @param channel the channel where the snapshot is read from. It is not closed.
+     * @param codec the codec that reads each element.
+     * @throws IOException if an I/O error occurs, or if the snapshot is invalid. In this case, the array is left
+     *                     unchanged.
+     * @see SnapshotReader
+     */
+    @SuppressWarnings("unchecked")
+    public void readSnapshot(ReadableByteChannel channel, ElementCodec<? extends T> codec) throws IOException {
+        SnapshotReader<T> reader = new SnapshotReader<T>(channel, codec, SnapshotLayout.ARRAY);
+        
+        this.elements = (T[])reader.readAll(this.elements.length);
+        this.size = reader.count();
+        
+        if (this.index != null) {
+            this.index.rebuild(this.elements, this.size);
+        }
+        
+        if (this.size > this.highWaterMark) {
+            this.highWaterMark = this.size;
+        }
+    }
+    
+    /**
+     * Grows the backing array as described in {@link Growth}.
+     */
+    private void grow() {
+        int newCapacity = Growth.newCapacity(this.elements.length, this.elements.length + 1L, this.growthFactor,
+                                             Growth.MAX_ARRAY_CAPACITY);
+        
+        this.elements = Arrays.copyOf(this.elements, newCapacity);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.datastructures.stacksandqueues;
+
+import java.util.function.Consumer;
+
+/**
+ * A bounded queue that hands elements over from producer threads to a consumer thread.
+ * 
+ * Unlike {@link Queue#enqueue(Object)} and {@link Queue#dequeue()}, which throw an exception when the queue is full or
+ * empty, {@link #offer(Object)} and {@link #poll()} just report it, since a full or empty queue is a normal condition
+ * when other threads are using it. The batch methods move many elements at once, paying for the synchronization
+ * between the threads only once per batch.
+ * 
+ * Null elements aren't allowed, since {@link #poll()} uses null to report an empty queue.
+ * 
+ * @param <T> the type of elements in the queue.
+ */
+public interface ConcurrentQueue<T> extends Queue<T> {
+    
+    public int capacity();
+    
+    /**
+     * @return true if the element was inserted, or false if the queue is full.
+     */
+    public boolean offer(T element);
+    
+    /**
+     * Inserts as many elements of the range as there is room for, in order.
+     * 
+     * @return the number of elements inserted, from the start of the range.
+     */
+    public int offer(T[] elements, int offset, int length);
+    
+    /**
+     * @return the element at the front of the queue, or null if the queue is empty.
+     */
+    public T poll();
+    
+    /**
+     * Removes up to {@code limit} elements from the queue, passing each of them to the consumer in order.
+     * 
+     * @return the number of elements removed.
+     */
+    public int drain(Consumer<? super T> consumer, int limit);
+}
\ No newline at end of file
@@ -0,0 +1,274 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.datastructures.stacksandqueues;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import rosberglinhares.datastructuresandalgorithms.datastructures.Measurable;
+import rosberglinhares.datastructuresandalgorithms.datastructures.MemoryLayout;
+
+/**
+ * Implements a thread-safe stack without locks, known as the Treiber stack.
+ * 
+ * The stack is a linked list whose top is held in an atomic reference. A push links the new node to the current top
+ * and then swings the top to the new node with a compare-and-set, which only succeeds if no other thread changed the
+ * top in the meantime. Otherwise, the operation is just retried. A pop works the same way in the other direction.
+ * Since a node is never reused after being popped, the ABA problem can't happen: the garbage collector keeps a node
+ * alive while any thread still holds a reference to it.
+ * 
+ * Under high contention all the threads keep competing for the same reference, so most of the compare-and-set
+ * operations fail. Optionally, the stack can use an elimination array to back off: a push and a pop that meet at the
+ * same slot of the array cancel each other out, exchanging the element without touching the top at all.
+ * 
+ * Each node records its depth in the stack when it is pushed, so the size is read from the top node alone, without
+ * a shared counter that every push and pop would have to update. Since other threads may change the stack at any time,
+ * {@link #isEmpty()} and {@link #size()} are only snapshots, and a {@link #pop()} after checking that the stack isn't
+ * empty may still fail.
+ * 
+ * @param <T> the type of elements in the stack.
+ */
+public class ConcurrentStack<T> implements Stack<T>, Measurable {
+    
+    /**
+     * How many times a push waits for a pop to take its element from the elimination array before withdrawing it.
+     */
+    private static final int ELIMINATION_SPINS = 64;
+    
+    private static final long NODE_BYTES = MemoryLayout.shallowBytes(Node.class);
+    private static final long SHALLOW_BYTES = MemoryLayout.shallowBytes(ConcurrentStack.class)
+                                              + MemoryLayout.shallowBytes(AtomicReference.class)
+                                              + MemoryLayout.shallowBytes(AtomicInteger.class);
+    private static final long ELIMINATION_ARRAY_BYTES = MemoryLayout.shallowBytes(AtomicReferenceArray.class);
+    
+    private final AtomicReference<Node<T>> top = new AtomicReference<Node<T>>();
+    
+    /**
+     * Only written when a push takes the stack deeper than ever before, which is rare once the stack has warmed up.
+     */
+    private final AtomicInteger highWaterMark = new AtomicInteger();
+    
+    /**
+     * Slots where a push offers its node to a pop. It is null when the elimination is disabled.
+     */
+    private final AtomicReferenceArray<Node<T>> eliminationArray;
+    
+    /**
+     * Creates a stack without elimination, which is the best choice when there are few threads.
+     */
+    public ConcurrentStack() {
+        this.eliminationArray = null;
+    }
+    
+    /**
+     * @param eliminationArraySize the number of slots of the elimination array. Around half the number of threads
+     *                             that use the stack at the same time is a good start. Zero disables the elimination.
+     */
+    public ConcurrentStack(int eliminationArraySize) {
+        if (eliminationArraySize < 0) {
+            throw new IllegalArgumentException("The elimination array size can't be negative.");
+        }
+        
+        this.eliminationArray = (eliminationArraySize > 0)
+                                ? new AtomicReferenceArray<Node<T>>(eliminationArraySize)
+                                : null;
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public boolean isEmpty() {
+        return (this.top.get() == null);
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public int size() {
+        Node<T> currentTop = this.top.get();
+        
+        return (currentTop != null) ? currentTop.getDepth() : 0;
+    }
+    
+    /**
+     * A node is allocated for each element, so the capacity is always the same as the size.
+     * 
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public int capacity() {
+        return this.size();
+    }
+    
+    /**
+     * Elements exchanged through the elimination array never reach the stack, so they aren't counted.
+     * 
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public int highWaterMark() {
+        return this.highWaterMark.get();
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public long retainedBytes() {
+        long bytes = SHALLOW_BYTES + this.size() * NODE_BYTES;
+        
+        if (this.eliminationArray != null) {
+            bytes += ELIMINATION_ARRAY_BYTES + MemoryLayout.referenceArrayBytes(this.eliminationArray.length());
+        }
+        
+        return bytes;
+    }
+    
+    /**
+     * Time complexity: O(1), amortized over the retries
+     * Space complexity: O(1)
+     */
+    @Override
+    public void push(T element) {
+        Node<T> node = new Node<T>(element);
+        
+        while (true) {
+            Node<T> currentTop = this.top.get();
+            node.setNext(currentTop);
+            node.setDepth((currentTop != null) ? currentTop.getDepth() + 1 : 1);
+            
+            if (this.top.compareAndSet(currentTop, node)) {
+                int depth = node.getDepth();
+                
+                if (depth > this.highWaterMark.get()) {
+                    this.highWaterMark.accumulateAndGet(depth, Math::max);
+                }
+                
+                break;
+            }
+            
+            if (this.eliminatePush(node)) {
+                break;
+            }
+        }
+    }
+    
+    /**
+     * Time complexity: O(1), amortized over the retries
+     * Space complexity: O(1)
+     */
+    @Override
+    public T pop() {
+        while (true) {
+            Node<T> currentTop = this.top.get();
+            
+            if (currentTop == null) {
+                throw new UnsupportedOperationException();
+            }
+            
+            if (this.top.compareAndSet(currentTop, currentTop.getNext())) {
+                return currentTop.getData();
+            }
+            
+            Node<T> eliminatedNode = this.eliminatePop();
+            
+            if (eliminatedNode != null) {
+                return eliminatedNode.getData();
+            }
+        }
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public T peek() {
+        Node<T> currentTop = this.top.get();
+        
+        if (currentTop != null) {
+            return currentTop.getData();
+        } else {
+            throw new UnsupportedOperationException();
+        }
+    }
+    
+    /**
+     * Offers the node in a random slot of the elimination array and waits a little for a pop to take it.
+     * 
+     * @return true if a pop took the node, or false if it must be pushed onto the stack again.
+     */
+    private boolean eliminatePush(Node<T> node) {
+        if (this.eliminationArray == null) {
+            return false;
+        }
+        
+        int slot = ThreadLocalRandom.current().nextInt(this.eliminationArray.length());
+        
+        if (!this.eliminationArray.compareAndSet(slot, null, node)) {
+            return false;  // The slot is taken by another push
+        }
+        
+        for (int i = 0; i < ELIMINATION_SPINS; i++) {
+            if (this.eliminationArray.get(slot) != node) {
+                return true;
+            }
+            
+            Thread.onSpinWait();
+        }
+        
+        // If the withdrawal fails, a pop has just taken the node
+        return !this.eliminationArray.compareAndSet(slot, node, null);
+    }
+    
+    /**
+     * Takes a node offered by a push in a random slot of the elimination array, if there is any.
+     * 
+     * @return the node taken, or null if the pop must be tried on the stack again.
+     */
+    private Node<T> eliminatePop() {
+        if (this.eliminationArray == null) {
+            return null;
+        }
+        
+        int slot = ThreadLocalRandom.current().nextInt(this.eliminationArray.length());
+        Node<T> node = this.eliminationArray.get(slot);
+        
+        if (node != null && this.eliminationArray.compareAndSet(slot, node, null)) {
+            return node;
+        } else {
+            return null;
+        }
+    }
+}
\ No newline at end of file
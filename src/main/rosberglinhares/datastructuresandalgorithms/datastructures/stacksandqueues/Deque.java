@@ -0,0 +1,45 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.datastructures.stacksandqueues;
+
+/**
+ * A deque is a double-ended queue. Items can be inserted and removed at both ends of it.
+ * 
+ * A deque provides more versatility than a stack or a queue and can serve as either: used only through
+ * {@link #addLast(Object)} and {@link #removeLast()} it behaves as a stack, and used only through
+ * {@link #addLast(Object)} and {@link #removeFirst()} it behaves as a queue, which is what the methods inherited from
+ * {@link Queue} do.
+ * 
+ * @param <T> the type of elements in the deque.
+ */
+public interface Deque<T> extends Queue<T> {
+    
+    public void addFirst(T element);
+    public void addLast(T element);
+    public T removeFirst();
+    public T removeLast();
+    public T peekFirst();
+    public T peekLast();
+}
\ No newline at end of file
@@ -0,0 +1,258 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.datastructures.stacksandqueues;
+
+import rosberglinhares.datastructuresandalgorithms.datastructures.Measurable;
+import rosberglinhares.datastructuresandalgorithms.datastructures.MemoryLayout;
+
+/**
+ * Implements a deque using array, as a ring buffer.
+ * 
+ * This is the same structure of {@link QueueArray}, except that the front can also move backward, wrapping around to
+ * the end of the array when it passes its beginning. The capacity is always a power of two, so the indexes are wrapped
+ * around with a bitwise AND in both directions.
+ * 
+ * By default the deque holds up to a fixed number of elements. When created as growable, the capacity doubles when
+ * the deque gets full.
+ * 
+ * @param <T> the type of elements in the deque.
+ */
+public class DequeArray<T> implements Deque<T>, Measurable {
+    
+    private static final long SHALLOW_BYTES = MemoryLayout.shallowBytes(DequeArray.class);
+    
+    private T[] elements;
+    private int mask;
+    private int front;
+    private int size;
+    private final boolean growable;
+    private int highWaterMark;
+    
+    /**
+     * @param maxSize the number of elements the deque must be able to hold. It is rounded up to the next power of two.
+     */
+    public DequeArray(int maxSize) {
+        this(maxSize, false);
+    }
+    
+    /**
+     * @param initialCapacity the number of elements the deque can hold before growing for the first time. It is
+     *                        rounded up to the next power of two.
+     * @param growable whether the capacity doubles when the deque is full, instead of rejecting new elements.
+     */
+    @SuppressWarnings("unchecked")
+    public DequeArray(int initialCapacity, boolean growable) {
+        this.elements = (T[])new Object[QueueArray.ceilingPowerOfTwo(initialCapacity)];
+        this.mask = this.elements.length - 1;
+        this.growable = growable;
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public boolean isEmpty() {
+        return (this.size == 0);
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+    
+    /**
+     * A growable deque is never full.
+     * 
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    public boolean isFull() {
+        return (!this.growable && this.size == this.elements.length);
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public int capacity() {
+        return this.elements.length;
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public int highWaterMark() {
+        return this.highWaterMark;
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public long retainedBytes() {
+        return SHALLOW_BYTES + MemoryLayout.referenceArrayBytes(this.elements.length);
+    }
+    
+    /**
+     * Time complexity: O(1), amortized when the deque has to grow
+     * Space complexity: O(1), or O(N) when the deque has to grow
+     */
+    @Override
+    public void addFirst(T element) {
+        this.ensureRoomForOneMore();
+        
+        this.front = (this.front - 1) & this.mask;
+        this.elements[this.front] = element;
+        this.incrementSize();
+    }
+    
+    /**
+     * Time complexity: O(1), amortized when the deque has to grow
+     * Space complexity: O(1), or O(N) when the deque has to grow
+     */
+    @Override
+    public void addLast(T element) {
+        this.ensureRoomForOneMore();
+        
+        this.elements[(this.front + this.size) & this.mask] = element;
+        this.incrementSize();
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public T removeFirst() {
+        if (!this.isEmpty()) {
+            T element = this.elements[this.front];
+            this.elements[this.front] = null;
+            this.front = (this.front + 1) & this.mask;
+            this.size--;
+            
+            return element;
+        } else {
+            throw new UnsupportedOperationException();
+        }
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public T removeLast() {
+        if (!this.isEmpty()) {
+            int rear = (this.front + this.size - 1) & this.mask;
+            
+            T element = this.elements[rear];
+            this.elements[rear] = null;
+            this.size--;
+            
+            return element;
+        } else {
+            throw new UnsupportedOperationException();
+        }
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public T peekFirst() {
+        if (!this.isEmpty()) {
+            return this.elements[this.front];
+        } else {
+            throw new UnsupportedOperationException();
+        }
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public T peekLast() {
+        if (!this.isEmpty()) {
+            return this.elements[(this.front + this.size - 1) & this.mask];
+        } else {
+            throw new UnsupportedOperationException();
+        }
+    }
+    
+    /**
+     * Same as {@link #addLast(Object)}.
+     */
+    @Override
+    public void enqueue(T element) {
+        this.addLast(element);
+    }
+    
+    /**
+     * Same as {@link #removeFirst()}.
+     */
+    @Override
+    public T dequeue() {
+        return this.removeFirst();
+    }
+    
+    /**
+     * Same as {@link #peekFirst()}.
+     */
+    @Override
+    public T peek() {
+        return this.peekFirst();
+    }
+    
+    private void ensureRoomForOneMore() {
+        if (this.isFull()) {
+            throw new UnsupportedOperationException();
+        }
+        
+        if (this.size == this.elements.length) {
+            this.elements = QueueArray.growRing(this.elements, this.front, this.size);
+            this.mask = this.elements.length - 1;
+            this.front = 0;
+        }
+    }
+    
+    private void incrementSize() {
+        this.size++;
+        
+        if (this.size > this.highWaterMark) {
+            this.highWaterMark = this.size;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,366 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.datastructures.stacksandqueues;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import rosberglinhares.datastructuresandalgorithms.datastructures.Measurable;
+import rosberglinhares.datastructuresandalgorithms.datastructures.MemoryLayout;
+
+/**
+ * Implements a bounded queue for any number of producer threads and one consumer thread, as a ring buffer without
+ * locks.
+ * 
+ * The producers compete for the tail sequence: each one claims a cell by advancing the tail with a compare-and-set,
+ * and only then writes its element in the cell. The write is a release, so the consumer, which reads the cell with an
+ * acquire, sees the element complete. A claimed cell is still empty until its producer writes it, and the consumer
+ * never waits for it: {@link #poll()}, {@link #peek()} and {@link #drain(Consumer, int)} stop at the first cell that
+ * isn't written yet, as if the queue ended there. So, unlike the other queues, a null from {@link #poll()} doesn't
+ * mean that the queue is empty, only that the next element isn't available yet, and {@link #size()} may count it
+ * already. A producer preempted between claiming and writing its cell holds up the elements behind it, but never
+ * blocks the consumer thread.
+ * 
+ * The consumer is the only writer of the head sequence, which it advances after clearing the cells it took. The
+ * producers cache the highest tail allowed by the last head they read, so they read the head only when the queue
+ * seems to be full. A producer may claim a cell with a limit computed by another producer, without reading the head
+ * itself, so the limit is published with a release and read with an acquire: the consumer clears a cell before it
+ * releases the head, so the producer that fills the cell again always sees it cleared.
+ * 
+ * The high water mark is sampled by the producers whenever they read the head to refresh the limit, which happens
+ * at least once per lap of the ring, and always when the queue is full. The consumer never reads the tail, so it
+ * doesn't sample it. As in {@link SpscQueueArray}, the mark may miss a short peak between two samples.
+ * 
+ * As in {@link QueueArray}, the capacity is rounded up to a power of two, so an index is wrapped around with a mask.
+ * 
+ * @param <T> the type of elements in the queue.
+ */
+public class MpscQueueArray<T> implements ConcurrentQueue<T>, Measurable {
+    
+    private static final VarHandle ELEMENT = MethodHandles.arrayElementVarHandle(Object[].class);
+    private static final long SHALLOW_BYTES = MemoryLayout.shallowBytes(MpscQueueArray.class)
+                                              + 2 * MemoryLayout.shallowBytes(PaddedSequence.class)
+                                              + MemoryLayout.shallowBytes(AtomicInteger.class);
+    
+    private final Object[] elements;
+    private final int mask;
+    
+    /**
+     * Written only by the consumer.
+     */
+    private final PaddedSequence head = new PaddedSequence();
+    
+    /**
+     * Advanced by the producers. Its cache holds the highest tail allowed by the last head read by any producer.
+     */
+    private final PaddedSequence tail = new PaddedSequence();
+    
+    /**
+     * The largest size sampled by the producers. Elements whose producers are still writing them are already counted,
+     * as in {@link #size()}.
+     */
+    private final AtomicInteger highWaterMark = new AtomicInteger();
+    
+    /**
+     * @param maxSize the number of elements the queue must be able to hold. It is rounded up to the next power of two.
+     */
+    public MpscQueueArray(int maxSize) {
+        this.elements = new Object[QueueArray.ceilingPowerOfTwo(maxSize)];
+        this.mask = this.elements.length - 1;
+        this.tail.setCacheRelease(this.elements.length);
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public boolean isEmpty() {
+        return (this.size() == 0);
+    }
+    
+    /**
+     * Since other threads may change the queue at any time, the result is only a snapshot. Elements whose producers
+     * are still writing them are already counted.
+     * 
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public int size() {
+        // Reading the head first guarantees it is not ahead of the tail
+        long head = this.head.getAcquire();
+        long tail = this.tail.getAcquire();
+        
+        return (int)Math.min(tail - head, this.elements.length);
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public int capacity() {
+        return this.elements.length;
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public int highWaterMark() {
+        return this.highWaterMark.get();
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public long retainedBytes() {
+        return SHALLOW_BYTES + MemoryLayout.referenceArrayBytes(this.elements.length);
+    }
+    
+    /**
+     * Can be called from any thread. It is lock-free: the compare-and-set may fail when other producers claim a cell
+     * at the same time, but then one of them succeeded.
+     * 
+     * Time complexity: O(1), amortized over the retries
+     * Space complexity: O(1)
+     */
+    @Override
+    public boolean offer(T element) {
+        if (element == null) {
+            throw new NullPointerException("element");
+        }
+        
+        long tail = this.claimOne();
+        
+        if (tail < 0) {
+            return false;
+        }
+        
+        ELEMENT.setRelease(this.elements, (int)tail & this.mask, element);
+        
+        return true;
+    }
+    
+    /**
+     * Can be called from any thread. The cells of the whole batch are claimed with a single compare-and-set, so
+     * the elements of a batch are never interleaved with the ones of other producers.
+     * 
+     * Time complexity: O(N), where N is the length of the range
+     * Space complexity: O(1)
+     */
+    @Override
+    public int offer(T[] elements, int offset, int length) {
+        // Checked upfront, since claimed cells must always be filled
+        for (int i = offset; i < offset + length; i++) {
+            if (elements[i] == null) {
+                throw new NullPointerException("elements[" + i + "]");
+            }
+        }
+        
+        long limit = this.tail.getCacheAcquire();
+        long tail;
+        int count;
+        
+        do {
+            tail = this.tail.getAcquire();
+            
+            if (tail + length > limit) {
+                long head = this.head.getAcquire();
+                limit = head + this.elements.length;
+                this.tail.setCacheRelease(limit);
+                this.sampleHighWaterMark(tail - head);
+            }
+            
+            count = (int)Math.min(length, limit - tail);
+            
+            if (count == 0) {
+                return 0;
+            }
+        } while (!this.tail.compareAndSet(tail, tail + count));
+        
+        for (int i = 0; i < count; i++) {
+            ELEMENT.setRelease(this.elements, (int)(tail + i) & this.mask, elements[offset + i]);
+        }
+        
+        return count;
+    }
+    
+    /**
+     * Must be called only from the consumer thread.
+     * 
+     * @return the element at the front of the queue, or null if the queue is empty or the producer of that element
+     *         is still writing it.
+     * 
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public T poll() {
+        long head = this.head.getPlain();
+        int index = (int)head & this.mask;
+        T element = this.publishedElement(index);
+        
+        if (element == null) {
+            return null;
+        }
+        
+        this.elements[index] = null;
+        this.head.setRelease(head + 1);
+        
+        return element;
+    }
+    
+    /**
+     * Must be called only from the consumer thread. It stops at the first element whose producer is still writing it.
+     * The cells of the whole batch are given back to the producers at once.
+     * 
+     * Time complexity: O(N), where N is the number of elements removed
+     * Space complexity: O(1)
+     */
+    @Override
+    public int drain(Consumer<? super T> consumer, int limit) {
+        long head = this.head.getPlain();
+        int count = 0;
+        
+        try {
+            while (count < limit) {
+                int index = (int)(head + count) & this.mask;
+                T element = this.publishedElement(index);
+                
+                if (element == null) {
+                    break;
+                }
+                
+                this.elements[index] = null;
+                count++;
+                
+                consumer.accept(element);
+            }
+        } finally {
+            // Even if the consumer fails, the elements already passed to it are removed
+            this.head.setRelease(head + count);
+        }
+        
+        return count;
+    }
+    
+    /**
+     * Same as {@link #offer(Object)}, but throws an exception if the queue is full.
+     */
+    @Override
+    public void enqueue(T element) {
+        if (!this.offer(element)) {
+            throw new UnsupportedOperationException();
+        }
+    }
+    
+    /**
+     * Same as {@link #poll()}, but throws an exception if the queue is empty.
+     */
+    @Override
+    public T dequeue() {
+        T element = this.poll();
+        
+        if (element != null) {
+            return element;
+        } else {
+            throw new UnsupportedOperationException();
+        }
+    }
+    
+    /**
+     * Must be called only from the consumer thread. Like {@link #poll()}, it treats an element whose producer is still
+     * writing it as missing.
+     * 
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public T peek() {
+        long head = this.head.getPlain();
+        T element = this.publishedElement((int)head & this.mask);
+        
+        if (element != null) {
+            return element;
+        } else {
+            throw new UnsupportedOperationException();
+        }
+    }
+    
+    /**
+     * Claims a cell for a producer.
+     * 
+     * @return the sequence of the cell claimed, or -1 if the queue is full.
+     */
+    private long claimOne() {
+        long limit = this.tail.getCacheAcquire();
+        long tail;
+        
+        do {
+            tail = this.tail.getAcquire();
+            
+            if (tail >= limit) {
+                long head = this.head.getAcquire();
+                limit = head + this.elements.length;
+                this.sampleHighWaterMark(tail - head);
+                
+                if (tail >= limit) {
+                    return -1;
+                }
+                
+                this.tail.setCacheRelease(limit);
+            }
+        } while (!this.tail.compareAndSet(tail, tail + 1));
+        
+        return tail;
+    }
+    
+    /**
+     * Called by a producer with the size it saw when it read the head.
+     */
+    private void sampleHighWaterMark(long size) {
+        if (size > this.highWaterMark.get()) {
+            this.highWaterMark.accumulateAndGet((int)size, Math::max);
+        }
+    }
+    
+    /**
+     * Reads the element of the given cell. The consumer clears each cell it takes, so a cell is null both when no
+     * producer claimed it and when its producer didn't write it yet.
+     * 
+     * @return the element, or null if it isn't published yet.
+     */
+    @SuppressWarnings("unchecked")
+    private T publishedElement(int index) {
+        return (T)ELEMENT.getAcquire(this.elements, index);
+    }
+}
\ No newline at end of file
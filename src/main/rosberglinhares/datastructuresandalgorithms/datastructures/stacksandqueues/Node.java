@@ -0,0 +1,64 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.datastructures.stacksandqueues;
+
+/**
+ * A node of a singly linked list, shared by the stacks built on top of linked nodes.
+ * 
+ * The data never changes after the node is created. The link to the next node is set before the node is published
+ * to other threads, so it is safe to read from any thread that obtained the node through a synchronizing action.
+ * 
+ * The depth, the number of nodes from this one to the end of the list, is set together with the link by the stacks
+ * that need to know their size from their top node alone. It fits in the alignment padding of the node.
+ */
+class Node<T> {
+    private final T data;
+    private Node<T> next;
+    private int depth;
+    
+    public T getData() {
+        return this.data;
+    }
+    
+    public Node<T> getNext() {
+        return this.next;
+    }
+    
+    public void setNext(Node<T> next) {
+        this.next = next;
+    }
+    
+    public int getDepth() {
+        return this.depth;
+    }
+    
+    public void setDepth(int depth) {
+        this.depth = depth;
+    }
+    
+    public Node(T data) {
+        this.data = data;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.datastructures.stacksandqueues;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * A counter that sits alone in its cache lines, used for the head and tail sequences of the concurrent queues.
+ * 
+ * The head is written by the consumer and the tail by the producers. If both were in the same cache line, every write
+ * to one of them would invalidate the line in the cache of the other side, even though each side mostly reads its own
+ * counter. This is known as false sharing. The unused fields around the counters keep them at least 64 bytes apart
+ * from any other data.
+ * 
+ * Besides the sequence, each instance holds a cache derived from the sequence of the other side, so the owner
+ * doesn't have to read the shared counter on every operation.
+ */
+final class PaddedSequence {
+    
+    private static final VarHandle VALUE;
+    private static final VarHandle CACHE;
+    
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            VALUE = lookup.findVarHandle(PaddedSequence.class, "value", long.class);
+            CACHE = lookup.findVarHandle(PaddedSequence.class, "cache", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+    
+    long p01, p02, p03, p04, p05, p06, p07;
+    
+    private long value;
+    private long cache;
+    
+    long p11, p12, p13, p14, p15, p16, p17;
+    
+    /**
+     * Reads the sequence without any ordering guarantee. Only its owner can use this method.
+     */
+    long getPlain() {
+        return this.value;
+    }
+    
+    /**
+     * Reads the sequence, seeing every write done before the matching {@link #setRelease(long)}.
+     */
+    long getAcquire() {
+        return (long)VALUE.getAcquire(this);
+    }
+    
+    /**
+     * Writes the sequence, publishing every write done before it.
+     */
+    void setRelease(long newValue) {
+        VALUE.setRelease(this, newValue);
+    }
+    
+    boolean compareAndSet(long expectedValue, long newValue) {
+        return VALUE.compareAndSet(this, expectedValue, newValue);
+    }
+    
+    /**
+     * Reads the cache atomically, but without ordering. Only for a cache written by a single thread, for which it is
+     * just a hint: the owner checks it against the real sequence before relying on it, as the SPSC queue does.
+     */
+    long getCache() {
+        return (long)CACHE.getOpaque(this);
+    }
+    
+    void setCache(long newValue) {
+        CACHE.setOpaque(this, newValue);
+    }
+    
+    /**
+     * Reads a cache shared by several threads, seeing every write done before the matching
+     * {@link #setCacheRelease(long)}. The MPSC queue uses it for the producer limit, which a producer relies on
+     * without reading the head itself, so it must carry the ordering of the head read that produced it.
+     */
+    long getCacheAcquire() {
+        return (long)CACHE.getAcquire(this);
+    }
+    
+    /**
+     * Writes a cache shared by several threads, publishing every write seen before it.
+     */
+    void setCacheRelease(long newValue) {
+        CACHE.setRelease(this, newValue);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,45 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.datastructures.stacksandqueues;
+
+/**
+ * A queue is similar to a stack, except that in a queue the first item inserted is the first to be removed. That is,
+ * a queue is a First-In-First-Out (FIFO) storage mechanism, while a stack is Last-In-First-Out (LIFO). A queue works
+ * like the line at the movies: the first person to join the rear of the line is the first person to reach the front
+ * of the line and buy a ticket.
+ * 
+ * Inserting an item at the rear of the queue is called enqueuing it. Removing the item at the front of the queue
+ * is called dequeuing it.
+ * 
+ * @param <T> the type of elements in the queue.
+ */
+public interface Queue<T> {
+    
+    public boolean isEmpty();
+    public int size();
+    public void enqueue(T element);
+    public T dequeue();
+    public T peek();
+}
\ No newline at end of file
@@ -0,0 +1,234 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.datastructures.stacksandqueues;
+
+import rosberglinhares.datastructuresandalgorithms.datastructures.Measurable;
+import rosberglinhares.datastructuresandalgorithms.datastructures.MemoryLayout;
+
+/**
+ * Implements a queue using array, as a ring buffer.
+ * 
+ * Items are inserted at the rear and removed from the front, so both ends move forward along the array. Instead of
+ * shifting the items back to the beginning, the indexes wrap around to the start of the array when they pass its end,
+ * so no operation moves any item and no memory is allocated for each item inserted.
+ * 
+ * The capacity is always a power of two, so wrapping an index around is just a bitwise AND with the capacity minus one,
+ * instead of a comparison or a modulo operation. The requested capacity is rounded up to the next power of two, which
+ * means the queue may hold a few more items than requested.
+ * 
+ * By default the queue holds up to a fixed number of elements. When created as growable, the capacity doubles when
+ * the queue gets full.
+ * 
+ * @param <T> the type of elements in the queue.
+ */
+public class QueueArray<T> implements Queue<T>, Measurable {
+    
+    /**
+     * The largest power of two that is a valid array length.
+     */
+    static final int MAX_CAPACITY = 1 << 30;
+    
+    private static final long SHALLOW_BYTES = MemoryLayout.shallowBytes(QueueArray.class);
+    
+    private T[] elements;
+    private int mask;
+    private int front;
+    private int size;
+    private final boolean growable;
+    private int highWaterMark;
+    
+    /**
+     * @param maxSize the number of elements the queue must be able to hold. It is rounded up to the next power of two.
+     */
+    public QueueArray(int maxSize) {
+        this(maxSize, false);
+    }
+    
+    /**
+     * @param initialCapacity the number of elements the queue can hold before growing for the first time. It is
+     *                        rounded up to the next power of two.
+     * @param growable whether the capacity doubles when the queue is full, instead of rejecting new elements.
+     */
+    @SuppressWarnings("unchecked")
+    public QueueArray(int initialCapacity, boolean growable) {
+        this.elements = (T[])new Object[ceilingPowerOfTwo(initialCapacity)];
+        this.mask = this.elements.length - 1;
+        this.growable = growable;
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public boolean isEmpty() {
+        return (this.size == 0);
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+    
+    /**
+     * A growable queue is never full.
+     * 
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    public boolean isFull() {
+        return (!this.growable && this.size == this.elements.length);
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public int capacity() {
+        return this.elements.length;
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public int highWaterMark() {
+        return this.highWaterMark;
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public long retainedBytes() {
+        return SHALLOW_BYTES + MemoryLayout.referenceArrayBytes(this.elements.length);
+    }
+    
+    /**
+     * Stores the element in the cell just after the rear of the queue.
+     * 
+     * Time complexity: O(1), amortized when the queue has to grow
+     * Space complexity: O(1), or O(N) when the queue has to grow
+     */
+    @Override
+    public void enqueue(T element) {
+        if (!this.isFull()) {
+            if (this.size == this.elements.length) {
+                this.grow();
+            }
+            
+            this.elements[(this.front + this.size) & this.mask] = element;
+            this.size++;
+            
+            if (this.size > this.highWaterMark) {
+                this.highWaterMark = this.size;
+            }
+        } else {
+            throw new UnsupportedOperationException();
+        }
+    }
+    
+    /**
+     * Returns the element at the front of the queue and moves the front to the next cell. The cell is cleared, so the
+     * queue doesn't keep the element from being garbage collected.
+     * 
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public T dequeue() {
+        if (!this.isEmpty()) {
+            T element = this.elements[this.front];
+            this.elements[this.front] = null;
+            this.front = (this.front + 1) & this.mask;
+            this.size--;
+            
+            return element;
+        } else {
+            throw new UnsupportedOperationException();
+        }
+    }
+    
+    /**
+     * Returns the element at the front of the queue, without removing it.
+     * 
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public T peek() {
+        if (!this.isEmpty()) {
+            return this.elements[this.front];
+        } else {
+            throw new UnsupportedOperationException();
+        }
+    }
+    
+    /**
+     * Doubles the capacity. The elements are copied to the beginning of the new array in queue order, unwrapping the
+     * ones that had wrapped around the end of the old array.
+     */
+    private void grow() {
+        this.elements = growRing(this.elements, this.front, this.size);
+        this.mask = this.elements.length - 1;
+        this.front = 0;
+    }
+    
+    /**
+     * Returns a ring twice as large as the given one, holding its elements from the index 0 on.
+     */
+    static <T> T[] growRing(T[] elements, int front, int size) {
+        if (elements.length == MAX_CAPACITY) {
+            throw new OutOfMemoryError("The maximum capacity has been reached.");
+        }
+        
+        @SuppressWarnings("unchecked")
+        T[] newElements = (T[])new Object[elements.length << 1];
+        int firstPartLength = Math.min(size, elements.length - front);
+        
+        System.arraycopy(elements, front, newElements, 0, firstPartLength);
+        System.arraycopy(elements, 0, newElements, firstPartLength, size - firstPartLength);
+        
+        return newElements;
+    }
+    
+    /**
+     * Returns the smallest power of two that is greater than or equal to the given capacity, and at least 1.
+     */
+    static int ceilingPowerOfTwo(int capacity) {
+        if (capacity < 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("The capacity must be between 0 and " + MAX_CAPACITY + ".");
+        }
+        
+        return (capacity <= 1) ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    }
+}
\ No newline at end of file
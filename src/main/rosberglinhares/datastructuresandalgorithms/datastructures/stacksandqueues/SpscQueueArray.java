@@ -0,0 +1,329 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.datastructures.stacksandqueues;
+
+import java.util.function.Consumer;
+
+import rosberglinhares.datastructuresandalgorithms.datastructures.Measurable;
+import rosberglinhares.datastructuresandalgorithms.datastructures.MemoryLayout;
+
+/**
+ * Implements a bounded queue for exactly one producer thread and one consumer thread, as a ring buffer without locks.
+ * 
+ * The tail sequence counts the elements ever inserted and is written only by the producer, while the head sequence
+ * counts the elements ever removed and is written only by the consumer. Since each counter has a single writer, no
+ * compare-and-set is needed: the producer writes the element in the array and then publishes it by advancing the tail,
+ * and the consumer clears the cell and then gives it back by advancing the head. Every operation finishes in a bounded
+ * number of steps, no matter what the other thread is doing, so the queue is wait-free.
+ * 
+ * Each side keeps a cached copy of the other side's sequence and only reads the real one when the cached copy says
+ * the queue is full (for the producer) or empty (for the consumer). While the queue is neither, the two threads don't
+ * touch any shared cache line other than the cells of the array.
+ * 
+ * The high water mark is sampled, not tracked exactly: each side records the size of the queue whenever it reads the
+ * real sequence of the other side anyway, which the producer does when the queue seems to be full and the consumer
+ * when it seems to be empty. Keeping an exact mark would make the producer read the head on every insertion. So the
+ * mark may miss a short peak between two samples, but the producer samples at least once per lap of the ring, and
+ * always when the queue is full.
+ * 
+ * As in {@link QueueArray}, the capacity is rounded up to a power of two, so an index is wrapped around with a mask.
+ * 
+ * @param <T> the type of elements in the queue.
+ */
+public class SpscQueueArray<T> implements ConcurrentQueue<T>, Measurable {
+    
+    private static final long SHALLOW_BYTES = MemoryLayout.shallowBytes(SpscQueueArray.class)
+                                              + 2 * MemoryLayout.shallowBytes(PaddedSequence.class);
+    
+    private final T[] elements;
+    private final int mask;
+    
+    /**
+     * Written by the consumer. Its cache holds the tail last seen by the consumer.
+     */
+    private final PaddedSequence head = new PaddedSequence();
+    
+    /**
+     * Written by the producer. Its cache holds the head last seen by the producer.
+     */
+    private final PaddedSequence tail = new PaddedSequence();
+    
+    /**
+     * The largest size sampled by the producer. Written only by the producer.
+     */
+    private volatile int producerHighWaterMark;
+    
+    /**
+     * The largest size sampled by the consumer. Written only by the consumer.
+     */
+    private volatile int consumerHighWaterMark;
+    
+    /**
+     * @param maxSize the number of elements the queue must be able to hold. It is rounded up to the next power of two.
+     */
+    @SuppressWarnings("unchecked")
+    public SpscQueueArray(int maxSize) {
+        this.elements = (T[])new Object[QueueArray.ceilingPowerOfTwo(maxSize)];
+        this.mask = this.elements.length - 1;
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public boolean isEmpty() {
+        return (this.size() == 0);
+    }
+    
+    /**
+     * Since the other thread may change the queue at any time, the result is only a snapshot.
+     * 
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public int size() {
+        // Reading the head first guarantees it is not ahead of the tail
+        long head = this.head.getAcquire();
+        long tail = this.tail.getAcquire();
+        
+        return (int)Math.min(tail - head, this.elements.length);
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public int capacity() {
+        return this.elements.length;
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public int highWaterMark() {
+        return Math.max(this.producerHighWaterMark, this.consumerHighWaterMark);
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public long retainedBytes() {
+        return SHALLOW_BYTES + MemoryLayout.referenceArrayBytes(this.elements.length);
+    }
+    
+    /**
+     * Must be called only from the producer thread.
+     * 
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public boolean offer(T element) {
+        if (element == null) {
+            throw new NullPointerException("element");
+        }
+        
+        long tail = this.tail.getPlain();
+        
+        if (this.freeCells(tail, 1) == 0) {
+            return false;
+        }
+        
+        this.elements[(int)tail & this.mask] = element;
+        this.tail.setRelease(tail + 1);
+        
+        return true;
+    }
+    
+    /**
+     * Must be called only from the producer thread. The whole batch is published at once.
+     * 
+     * Time complexity: O(N), where N is the length of the range
+     * Space complexity: O(1)
+     */
+    @Override
+    public int offer(T[] elements, int offset, int length) {
+        long tail = this.tail.getPlain();
+        int count = (int)Math.min(length, this.freeCells(tail, length));
+        
+        for (int i = 0; i < count; i++) {
+            T element = elements[offset + i];
+            
+            if (element == null) {
+                // Publishes the elements already written, so they aren't lost
+                this.tail.setRelease(tail + i);
+                throw new NullPointerException("elements[" + (offset + i) + "]");
+            }
+            
+            this.elements[(int)(tail + i) & this.mask] = element;
+        }
+        
+        this.tail.setRelease(tail + count);
+        
+        return count;
+    }
+    
+    /**
+     * Must be called only from the consumer thread.
+     * 
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public T poll() {
+        long head = this.head.getPlain();
+        
+        if (this.availableElements(head, 1) == 0) {
+            return null;
+        }
+        
+        int index = (int)head & this.mask;
+        T element = this.elements[index];
+        this.elements[index] = null;
+        this.head.setRelease(head + 1);
+        
+        return element;
+    }
+    
+    /**
+     * Must be called only from the consumer thread. The cells of the whole batch are given back to the producer
+     * at once.
+     * 
+     * Time complexity: O(N), where N is the number of elements removed
+     * Space complexity: O(1)
+     */
+    @Override
+    public int drain(Consumer<? super T> consumer, int limit) {
+        long head = this.head.getPlain();
+        int available = (int)Math.min(limit, this.availableElements(head, limit));
+        int count = 0;
+        
+        try {
+            while (count < available) {
+                int index = (int)(head + count) & this.mask;
+                T element = this.elements[index];
+                this.elements[index] = null;
+                count++;
+                
+                consumer.accept(element);
+            }
+        } finally {
+            // Even if the consumer fails, the elements already passed to it are removed
+            this.head.setRelease(head + count);
+        }
+        
+        return count;
+    }
+    
+    /**
+     * Same as {@link #offer(Object)}, but throws an exception if the queue is full.
+     */
+    @Override
+    public void enqueue(T element) {
+        if (!this.offer(element)) {
+            throw new UnsupportedOperationException();
+        }
+    }
+    
+    /**
+     * Same as {@link #poll()}, but throws an exception if the queue is empty.
+     */
+    @Override
+    public T dequeue() {
+        T element = this.poll();
+        
+        if (element != null) {
+            return element;
+        } else {
+            throw new UnsupportedOperationException();
+        }
+    }
+    
+    /**
+     * Must be called only from the consumer thread.
+     * 
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public T peek() {
+        long head = this.head.getPlain();
+        
+        if (this.availableElements(head, 1) > 0) {
+            return this.elements[(int)head & this.mask];
+        } else {
+            throw new UnsupportedOperationException();
+        }
+    }
+    
+    /**
+     * Returns how many cells the producer can fill, reading the real head only if the cached one says there are
+     * fewer than needed. The size seen then is sampled for the high water mark.
+     */
+    private long freeCells(long tail, int needed) {
+        long free = this.tail.getCache() + this.elements.length - tail;
+        
+        if (free < needed) {
+            long head = this.head.getAcquire();
+            this.tail.setCache(head);
+            free = head + this.elements.length - tail;
+            
+            int size = (int)(tail - head);
+            
+            if (size > this.producerHighWaterMark) {
+                this.producerHighWaterMark = size;
+            }
+        }
+        
+        return free;
+    }
+    
+    /**
+     * Returns how many elements the consumer can take, reading the real tail only if the cached one says there are
+     * fewer than wanted. The size seen then is sampled for the high water mark.
+     */
+    private long availableElements(long head, int wanted) {
+        long available = this.head.getCache() - head;
+        
+        if (available < wanted) {
+            long tail = this.tail.getAcquire();
+            this.head.setCache(tail);
+            available = tail - head;
+            
+            if (available > this.consumerHighWaterMark) {
+                this.consumerHighWaterMark = (int)available;
+            }
+        }
+        
+        return available;
+    }
+}
\ No newline at end of file
@@ -24,18 +24,55 @@
 
 package rosberglinhares.datastructuresandalgorithms.datastructures.stacksandqueues;
 
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+import rosberglinhares.datastructuresandalgorithms.datastructures.ElementCodec;
+import rosberglinhares.datastructuresandalgorithms.datastructures.Growth;
+import rosberglinhares.datastructuresandalgorithms.datastructures.Measurable;
+import rosberglinhares.datastructuresandalgorithms.datastructures.MemoryLayout;
+import rosberglinhares.datastructuresandalgorithms.datastructures.SnapshotLayout;
+import rosberglinhares.datastructuresandalgorithms.datastructures.SnapshotReader;
+import rosberglinhares.datastructuresandalgorithms.datastructures.SnapshotWriter;
+
 /**
  * Implements a stack using array.
+ * 
+ * By default the stack holds up to a fixed number of elements. When created with a growth factor, the elements are
+ * copied to a larger array when the stack gets full.
  */
-public class StackArray<T> implements Stack<T> {
+public class StackArray<T> implements Stack<T>, Measurable {
 
+    /**
+     * The growth factor that keeps the capacity fixed, same as {@link Growth#FIXED_CAPACITY}.
+     */
+    public static final double FIXED_CAPACITY = Growth.FIXED_CAPACITY;
+    
+    private static final long SHALLOW_BYTES = MemoryLayout.shallowBytes(StackArray.class);
+    
     private T[] elements;
     private int top;
+    private final double growthFactor;
+    private int highWaterMark;
     
-    @SuppressWarnings("unchecked")
     public StackArray(int maxSize) {
-        this.elements = (T[])new Object[maxSize];
+        this(maxSize, FIXED_CAPACITY);
+    }
+    
+    /**
+     * Creates a stack that grows as needed.
+     * 
+     * @param initialCapacity the number of elements the stack can hold before growing for the first time.
+     * @param growthFactor the factor by which the capacity is multiplied when the stack is full, as described in
+     *                     {@link Growth}, or {@link #FIXED_CAPACITY} to keep the capacity fixed.
+     */
+    @SuppressWarnings("unchecked")
+    public StackArray(int initialCapacity, double growthFactor) {
+        this.elements = (T[])new Object[initialCapacity];
         this.top = -1;
+        this.growthFactor = Growth.checkGrowthFactor(growthFactor);
     }
     
     /**
@@ -57,24 +94,88 @@ public class StackArray<T> implements Stack<T> {
     }
     
     /**
+     * A stack created with a growth factor is never full.
+     * 
      * Time complexity: O(1)
      * Space complexity: O(1)
      */
     public boolean isFull() {
-        return (this.size() == this.elements.length);
+        return (this.growthFactor == FIXED_CAPACITY && this.size() == this.elements.length);
     }
     
     /**
-     * Increments top so it points to the space just above the previous top and stores a data item there.
+     * Returns the number of elements this stack can hold before its backing array has to grow.
      * 
      * Time complexity: O(1)
-     * Space complexity: O(1) 
+     * Space complexity: O(1)
+     */
+    @Override
+    public int capacity() {
+        return this.elements.length;
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public int highWaterMark() {
+        return this.highWaterMark;
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public long retainedBytes() {
+        return SHALLOW_BYTES + MemoryLayout.referenceArrayBytes(this.elements.length);
+    }
+    
+    /**
+     * Grows the backing array, if necessary, so this stack can hold at least the given number of elements without
+     * growing again. This works even when the stack was created without a growth factor.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(N)
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > this.elements.length) {
+            this.elements = Arrays.copyOf(this.elements, minCapacity);
+        }
+    }
+    
+    /**
+     * Shrinks the backing array to the number of elements currently held, releasing the unused cells.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(N)
+     */
+    public void trimToSize() {
+        if (this.size() < this.elements.length) {
+            this.elements = Arrays.copyOf(this.elements, this.size());
+        }
+    }
+    
+    /**
+     * Increments top so it points to the space just above the previous top and stores a data item there.
+     * 
+     * Time complexity: O(1), amortized when the stack has to grow
+     * Space complexity: O(1), or O(N) when the stack has to grow
      */
     @Override
     public void push(T element) {
         if (!this.isFull()) {
+            if (this.size() == this.elements.length) {
+                this.grow();
+            }
+            
             this.top++;
             this.elements[this.top] = element;
+            
+            if (this.top + 1 > this.highWaterMark) {
+                this.highWaterMark = this.top + 1;
+            }
         } else {
             throw new UnsupportedOperationException();
         }
@@ -113,4 +214,72 @@ public class StackArray<T> implements Stack<T> {
             throw new UnsupportedOperationException();
         }
     }
+    
+    /**
+     * Writes the elements of this stack to a snapshot, from the top to the bottom. The snapshot can be restored with
+     * {@link #readSnapshot(ReadableByteChannel, ElementCodec)} into this or any other stack, possibly in another
+     * process.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(1)
+     * 
+     * @param channel the channel where the snapshot is written. It is not closed.
+     * @param codec the codec that writes each element.
+     * @throws IOException if an I/O error occurs.
+     * @throws NullPointerException if the stack holds a {@code null} element, which snapshots can't hold.
+     * @see SnapshotWriter
+     */
+    public void writeSnapshot(WritableByteChannel channel, ElementCodec<? super T> codec) throws IOException {
+        SnapshotWriter<T> writer = new SnapshotWriter<T>(channel, codec, SnapshotLayout.STACK, this.size());
+        
+        for (int i = this.top; i >= 0; i--) {
+            writer.write(this.elements[i]);
+        }
+        
+        writer.finish();
+    }
+    
+    /**
+     * Replaces the elements of this stack with the ones of a snapshot, keeping the same element on top. The stack
+     * grows to fit them even if it was created without a growth factor.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(N)
+     * 
+     * @param channel the channel where the snapshot is read from. It is not closed.
+     * @param codec the codec that reads each element.
+     * @throws IOException if an I/O error occurs, or if the snapshot is invalid. In this case, the stack is left
+     *                     unchanged.
+     * @see SnapshotReader
+     */
+    @SuppressWarnings("unchecked")
+    public void readSnapshot(ReadableByteChannel channel, ElementCodec<? extends T> codec) throws IOException {
+        SnapshotReader<T> reader = new SnapshotReader<T>(channel, codec, SnapshotLayout.STACK);
+        T[] elements = (T[])reader.readAll(this.elements.length);
+        int count = reader.count();
+        
+        // The snapshot goes from the top to the bottom, and the array from the bottom to the top
+        for (int i = 0, j = count - 1; i < j; i++, j--) {
+            T element = elements[i];
+            elements[i] = elements[j];
+            elements[j] = element;
+        }
+        
+        this.elements = elements;
+        this.top = count - 1;
+        
+        if (count > this.highWaterMark) {
+            this.highWaterMark = count;
+        }
+    }
+    
+    /**
+     * Grows the backing array as described in {@link Growth}.
+     */
+    private void grow() {
+        int newCapacity = Growth.newCapacity(this.elements.length, this.elements.length + 1L, this.growthFactor,
+                                             Growth.MAX_ARRAY_CAPACITY);
+        
+        this.elements = Arrays.copyOf(this.elements, newCapacity);
+    }
 }
\ No newline at end of file
@@ -24,33 +24,30 @@
 
 package rosberglinhares.datastructuresandalgorithms.datastructures.stacksandqueues;
 
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+import rosberglinhares.datastructuresandalgorithms.datastructures.ElementCodec;
+import rosberglinhares.datastructuresandalgorithms.datastructures.Measurable;
+import rosberglinhares.datastructuresandalgorithms.datastructures.MemoryLayout;
+import rosberglinhares.datastructuresandalgorithms.datastructures.SnapshotLayout;
+import rosberglinhares.datastructuresandalgorithms.datastructures.SnapshotReader;
+import rosberglinhares.datastructuresandalgorithms.datastructures.SnapshotWriter;
+
 /**
  * Implements a stack using linked list.
+ * 
+ * The number of nodes is kept in a counter updated by push and pop, so the size is known without walking the list.
  */
-public class StackLinkedList<T> implements Stack<T> {
+public class StackLinkedList<T> implements Stack<T>, Measurable {
     
-    private static class Node<T> {
-        private T data;
-        private Node<T> next;
-        
-        public T getData() {
-            return this.data;
-        }
-        
-        public Node<T> getNext() {
-            return this.next;
-        }
-
-        public void setNext(Node<T> next) {
-            this.next = next;
-        }
-        
-        public Node(T data) {
-            this.data = data;
-        }
-    }
+    private static final long NODE_BYTES = MemoryLayout.shallowBytes(Node.class);
+    private static final long SHALLOW_BYTES = MemoryLayout.shallowBytes(StackLinkedList.class);
     
     private Node<T> top;
+    private int size;
+    private int highWaterMark;
     
     /**
      * Time complexity: O(1)
@@ -62,20 +59,41 @@ public class StackLinkedList<T> implements Stack<T> {
     }
     
     /**
-     * Time complexity: O(N)
+     * Time complexity: O(1)
      * Space complexity: O(1)
      */
     @Override
     public int size() {
-        int size = 0;
-        Node<T> currentNode = this.top;
-        
-        while (currentNode != null) {
-            currentNode = currentNode.getNext();
-            size++;
-        }
-        
-        return size;
+        return this.size;
+    }
+    
+    /**
+     * A node is allocated for each element, so the capacity is always the same as the size.
+     * 
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public int capacity() {
+        return this.size;
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public int highWaterMark() {
+        return this.highWaterMark;
+    }
+    
+    /**
+     * Time complexity: O(1)
+     * Space complexity: O(1)
+     */
+    @Override
+    public long retainedBytes() {
+        return SHALLOW_BYTES + this.size * NODE_BYTES;
     }
     
     /**
@@ -88,6 +106,11 @@ public class StackLinkedList<T> implements Stack<T> {
         node.setNext(this.top);
         
         this.top = node;
+        this.size++;
+        
+        if (this.size > this.highWaterMark) {
+            this.highWaterMark = this.size;
+        }
     }
     
     /**
@@ -99,6 +122,7 @@ public class StackLinkedList<T> implements Stack<T> {
         if (!this.isEmpty()) {
             T element = this.top.getData();
             this.top = this.top.getNext();
+            this.size--;
             
             return element;
         } else {
@@ -118,4 +142,69 @@ public class StackLinkedList<T> implements Stack<T> {
             throw new UnsupportedOperationException();
         }
     }
+    
+    /**
+     * Writes the elements of this stack to a snapshot, from the top to the bottom, following the links of the nodes.
+     * The snapshot can be restored with {@link #readSnapshot(ReadableByteChannel, ElementCodec)} into this or any
+     * other stack, possibly in another process.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(1)
+     * 
+     * @param channel the channel where the snapshot is written. It is not closed.
+     * @param codec the codec that writes each element.
+     * @throws IOException if an I/O error occurs.
+     * @throws NullPointerException if the stack holds a {@code null} element, which snapshots can't hold.
+     * @see SnapshotWriter
+     */
+    public void writeSnapshot(WritableByteChannel channel, ElementCodec<? super T> codec) throws IOException {
+        SnapshotWriter<T> writer = new SnapshotWriter<T>(channel, codec, SnapshotLayout.STACK, this.size);
+        
+        for (Node<T> node = this.top; node != null; node = node.getNext()) {
+            writer.write(node.getData());
+        }
+        
+        writer.finish();
+    }
+    
+    /**
+     * Replaces the elements of this stack with the ones of a snapshot, keeping the same element on top. The snapshot
+     * goes from the top to the bottom, so each node is linked after the previous one as the elements are read.
+     * 
+     * Time complexity: O(N)
+     * Space complexity: O(N)
+     * 
+     * @param channel the channel where the snapshot is read from. It is not closed.
+     * @param codec the codec that reads each element.
+     * @throws IOException if an I/O error occurs, or if the snapshot is invalid. In this case, the stack is left
+     *                     unchanged.
+     * @see SnapshotReader
+     */
+    public void readSnapshot(ReadableByteChannel channel, ElementCodec<? extends T> codec) throws IOException {
+        SnapshotReader<T> reader = new SnapshotReader<T>(channel, codec, SnapshotLayout.STACK);
+        int count = reader.count();
+        Node<T> top = null;
+        Node<T> bottom = null;
+        
+        for (int i = 0; i < count; i++) {
+            Node<T> node = new Node<T>(reader.read());
+            
+            if (bottom == null) {
+                top = node;
+            } else {
+                bottom.setNext(node);
+            }
+            
+            bottom = node;
+        }
+        
+        reader.finish();
+        
+        this.top = top;
+        this.size = count;
+        
+        if (this.size > this.highWaterMark) {
+            this.highWaterMark = this.size;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.algorithms.searching;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the {@link BatchSearch} class.
+ * 
+ * The results are compared with the ones of {@link BinarySearch#indexOf(int[], int)}, which returns the first of the
+ * duplicates too.
+ */
+class BatchSearchTests {
+    
+    /**
+     * Test method for {@link BatchSearch#indexOf(int[], int[])} and {@link BatchSearch#contains(int[], int[])}.
+     */
+    @Test
+    void indexOf_Ints() {
+        BatchSearch batchSearch = new BatchSearch();
+        int[] elements = { 2, 5, 8, 8, 8, 20, 28 };
+        
+        assertArrayEquals(new int[]{ 2, -1, 6, -8, 0, -3 }, batchSearch.indexOf(elements, new int[]{ 8, 1, 28, 50, 2, 7 }));
+        assertArrayEquals(new int[]{ -1, 0, -3, 2, 2, 6, -8 }, batchSearch.indexOf(elements, new int[]{ 1, 2, 7, 8, 8, 28, 50 }));
+        assertArrayEquals(new int[0], batchSearch.indexOf(elements, new int[0]));
+        assertArrayEquals(new int[]{ -1, -1 }, batchSearch.indexOf(new int[0], new int[]{ 5, 3 }));
+        
+        BitSet expected = new BitSet();
+        expected.set(0);
+        expected.set(2);
+        expected.set(4);
+        
+        assertEquals(expected, batchSearch.contains(elements, new int[]{ 8, 1, 28, 50, 2, 7 }));
+    }
+    
+    /**
+     * Test method for {@link BatchSearch#indexOf(int[], int[])}.
+     * Both the unsorted keys, searched in groups, and the sorted keys, searched in a single pass, with a number of
+     * keys that is not a multiple of the group size.
+     */
+    @Test
+    void indexOf_ManyInts_SameAsBinarySearch() {
+        BatchSearch batchSearch = new BatchSearch();
+        BinarySearch binarySearch = new BinarySearch();
+        Random random = new Random(42);
+        
+        for (int length : new int[]{ 1, 2, 3, 1000, 100_000 }) {
+            int[] elements = random.ints(length, -length, length).toArray();
+            Arrays.sort(elements);
+            
+            int[] keys = random.ints(10_007, -length - 1, length + 1).toArray();
+            int[] results = batchSearch.indexOf(elements, keys);
+            
+            for (int i = 0; i < keys.length; i++) {
+                assertEquals(binarySearch.indexOf(elements, keys[i]), results[i]);
+            }
+            
+            Arrays.sort(keys);
+            results = batchSearch.indexOf(elements, keys);
+            
+            for (int i = 0; i < keys.length; i++) {
+                assertEquals(binarySearch.indexOf(elements, keys[i]), results[i]);
+            }
+        }
+    }
+    
+    /**
+     * Test method for {@link BatchSearch#indexOf(long[], long[])} and {@link BatchSearch#contains(long[], long[])}.
+     */
+    @Test
+    void indexOf_ManyLongs_SameAsBinarySearch() {
+        BatchSearch batchSearch = new BatchSearch();
+        BinarySearch binarySearch = new BinarySearch();
+        Random random = new Random(42);
+        
+        long[] elements = random.longs(100_000, -1_000_000, 1_000_000).toArray();
+        elements[0] = Long.MIN_VALUE;
+        elements[1] = Long.MAX_VALUE;
+        Arrays.sort(elements);
+        
+        long[] keys = random.longs(10_007, -1_000_000, 1_000_000).toArray();
+        keys[0] = Long.MAX_VALUE;
+        
+        for (int pass = 0; pass < 2; pass++) {
+            int[] results = batchSearch.indexOf(elements, keys);
+            BitSet found = batchSearch.contains(elements, keys);
+            
+            for (int i = 0; i < keys.length; i++) {
+                assertEquals(binarySearch.indexOf(elements, keys[i]), results[i]);
+                assertEquals(results[i] >= 0, found.get(i));
+            }
+            
+            Arrays.sort(keys);
+        }
+    }
+}
\ No newline at end of file
@@ -24,9 +24,11 @@
 
 package rosberglinhares.datastructuresandalgorithms.algorithms.searching;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Comparator;
 import java.util.function.BiPredicate;
 
 import org.junit.jupiter.api.Test;
@@ -75,6 +77,204 @@ class BinarySearchTests {
         this.testBinarySearch(binarySearch::recursiveBinarySearch);
     }
     
+    /**
+     * Test method for {@link BinarySearch#iterativeBinarySearch(java.lang.Object[], java.lang.Object, java.util.Comparator)}.
+     */
+    @Test
+    void iterativeBinarySearch_Comparator() {
+        BinarySearch binarySearch = new BinarySearch();
+        
+        this.testBinarySearch((elements, value) ->
+            binarySearch.iterativeBinarySearch(elements, value, Comparator.naturalOrder()));
+        
+        Integer[] descending = { 55, 51, 46, 40, 36, 32, 28, 20, 8, 5, 2 };
+        
+        assertTrue(binarySearch.iterativeBinarySearch(descending, 55, Comparator.reverseOrder()));
+        assertTrue(binarySearch.iterativeBinarySearch(descending, 2, Comparator.reverseOrder()));
+        assertTrue(binarySearch.iterativeBinarySearch(descending, 32, Comparator.reverseOrder()));
+        assertFalse(binarySearch.iterativeBinarySearch(descending, 31, Comparator.reverseOrder()));
+    }
+    
+    /**
+     * Test method for {@link BinarySearch#recursiveBinarySearch(java.lang.Comparable<T>[], java.lang.Comparable<T>)}.
+     */
+    @Test
+    void recursiveBinarySearch_LargeArray() {
+        BinarySearch binarySearch = new BinarySearch();
+        Integer[] elements = new Integer[1_000_000];
+        
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = 2 * i;
+        }
+        
+        for (int value = -1; value <= 2 * elements.length; value += 9_999) {
+            assertEquals(value >= 0 && value % 2 == 0, binarySearch.recursiveBinarySearch(elements, value));
+        }
+    }
+    
+    /**
+     * Test method for {@link BinarySearch#recursiveBinarySearch(java.lang.Object[], java.lang.Object, java.util.Comparator)}.
+     */
+    @Test
+    void recursiveBinarySearch_Comparator() {
+        BinarySearch binarySearch = new BinarySearch();
+        
+        this.testBinarySearch((elements, value) ->
+            binarySearch.recursiveBinarySearch(elements, value, Comparator.naturalOrder()));
+        
+        Integer[] descending = { 55, 51, 46, 40, 36, 32, 28, 20, 8, 5, 2 };
+        
+        assertTrue(binarySearch.recursiveBinarySearch(descending, 46, Comparator.reverseOrder()));
+        assertFalse(binarySearch.recursiveBinarySearch(descending, 47, Comparator.reverseOrder()));
+    }
+    
+    /**
+     * Test method for {@link BinarySearch#indexOf(java.lang.Object[], int, int, java.lang.Object, java.util.Comparator)}.
+     */
+    @Test
+    void indexOf() {
+        BinarySearch binarySearch = new BinarySearch();
+        Comparator<Integer> comparator = Comparator.naturalOrder();
+        
+        Integer[] ints = { 2, 5, 8, 8, 8, 20, 28 };
+        
+        assertEquals(-1, binarySearch.indexOf(new Integer[0], 0, -1, 10, comparator));
+        assertEquals(0, binarySearch.indexOf(ints, 0, 6, 2, comparator));
+        assertEquals(6, binarySearch.indexOf(ints, 0, 6, 28, comparator));
+        assertEquals(2, binarySearch.indexOf(ints, 0, 6, 8, comparator));  // The first of the duplicates
+        assertEquals(-1, binarySearch.indexOf(ints, 0, 6, 1, comparator));
+        assertEquals(-3, binarySearch.indexOf(ints, 0, 6, 7, comparator));
+        assertEquals(-8, binarySearch.indexOf(ints, 0, 6, 100, comparator));
+        assertEquals(-4, binarySearch.indexOf(ints, 3, 6, 5, comparator));  // Insertion point in the range
+    }
+    
+    /**
+     * Test method for {@link BinarySearch#lowerBound(java.lang.Object[], int, int, java.lang.Object, java.util.Comparator)}
+     * and {@link BinarySearch#upperBound(java.lang.Object[], int, int, java.lang.Object, java.util.Comparator)}.
+     */
+    @Test
+    void lowerBoundAndUpperBound() {
+        BinarySearch binarySearch = new BinarySearch();
+        Comparator<Integer> comparator = Comparator.naturalOrder();
+        
+        Integer[] ints = { 2, 5, 8, 8, 8, 20, 28 };
+        
+        assertEquals(2, binarySearch.lowerBound(ints, 0, 6, 8, comparator));
+        assertEquals(5, binarySearch.upperBound(ints, 0, 6, 8, comparator));
+        assertEquals(0, binarySearch.lowerBound(ints, 0, 6, -5, comparator));
+        assertEquals(0, binarySearch.upperBound(ints, 0, 6, -5, comparator));
+        assertEquals(7, binarySearch.lowerBound(ints, 0, 6, 50, comparator));
+        assertEquals(7, binarySearch.upperBound(ints, 0, 6, 50, comparator));
+        assertEquals(5, binarySearch.lowerBound(ints, 0, 6, 9, comparator));
+        assertEquals(5, binarySearch.upperBound(ints, 0, 6, 9, comparator));
+        assertEquals(1, binarySearch.upperBound(ints, 0, 6, 2, comparator));
+    }
+    
+    /**
+     * Test method for {@link BinarySearch#iterativeBinarySearch(int[], int)}.
+     */
+    @Test
+    void iterativeBinarySearch_Ints() {
+        BinarySearch binarySearch = new BinarySearch();
+        
+        int[] ints = { 2, 5, 8, 20, 28, 32, 36, 40, 46, 51, 55 };
+        
+        assertFalse(binarySearch.iterativeBinarySearch(new int[0], 200));
+        assertTrue(binarySearch.iterativeBinarySearch(ints, 2));
+        assertTrue(binarySearch.iterativeBinarySearch(ints, 55));
+        assertTrue(binarySearch.iterativeBinarySearch(ints, 32));
+        assertFalse(binarySearch.iterativeBinarySearch(ints, 31));
+        assertFalse(binarySearch.iterativeBinarySearch(ints, -10));
+        assertFalse(binarySearch.iterativeBinarySearch(ints, 3, 7, 55));
+        assertTrue(binarySearch.iterativeBinarySearch(ints, 3, 7, 40));
+    }
+    
+    /**
+     * Test method for {@link BinarySearch#iterativeBinarySearch(long[], long)}.
+     */
+    @Test
+    void iterativeBinarySearch_Longs() {
+        BinarySearch binarySearch = new BinarySearch();
+        
+        long[] longs = { Long.MIN_VALUE, -8L, 5L, 20L, Long.MAX_VALUE };
+        
+        assertTrue(binarySearch.iterativeBinarySearch(longs, Long.MIN_VALUE));
+        assertTrue(binarySearch.iterativeBinarySearch(longs, Long.MAX_VALUE));
+        assertTrue(binarySearch.iterativeBinarySearch(longs, 5L));
+        assertFalse(binarySearch.iterativeBinarySearch(longs, 6L));
+    }
+    
+    /**
+     * Test method for {@link BinarySearch#iterativeBinarySearch(double[], double)}.
+     */
+    @Test
+    void iterativeBinarySearch_Doubles() {
+        BinarySearch binarySearch = new BinarySearch();
+        
+        double[] doubles = { Double.NEGATIVE_INFINITY, -1.5, 0.0, 2.5, Double.NaN };
+        
+        assertTrue(binarySearch.iterativeBinarySearch(doubles, 2.5));
+        assertTrue(binarySearch.iterativeBinarySearch(doubles, Double.NEGATIVE_INFINITY));
+        assertTrue(binarySearch.iterativeBinarySearch(doubles, Double.NaN));
+        assertTrue(binarySearch.iterativeBinarySearch(doubles, 0.0));
+        assertFalse(binarySearch.iterativeBinarySearch(doubles, -0.0));
+        assertFalse(binarySearch.iterativeBinarySearch(doubles, 1.0));
+    }
+    
+    /**
+     * Test method for {@link BinarySearch#lowerBound(int[], int)} and {@link BinarySearch#indexOf(int[], int)}.
+     */
+    @Test
+    void lowerBound_Ints() {
+        BinarySearch binarySearch = new BinarySearch();
+        
+        int[] ints = { Integer.MIN_VALUE, 2, 5, 8, 8, 8, 20, 28, Integer.MAX_VALUE };
+        
+        assertEquals(0, binarySearch.lowerBound(new int[0], 10));
+        assertEquals(-1, binarySearch.indexOf(new int[0], 10));
+        assertEquals(0, binarySearch.lowerBound(ints, Integer.MIN_VALUE));
+        assertEquals(3, binarySearch.lowerBound(ints, 8));  // The first of the duplicates
+        assertEquals(3, binarySearch.indexOf(ints, 8));
+        assertEquals(6, binarySearch.lowerBound(ints, 9));
+        assertEquals(-7, binarySearch.indexOf(ints, 9));
+        assertEquals(8, binarySearch.indexOf(ints, Integer.MAX_VALUE));
+        
+        // Every length and every position, compared to the classic binary search
+        for (int length = 0; length <= 64; length++) {
+            int[] elements = new int[length];
+            
+            for (int i = 0; i < length; i++) {
+                elements[i] = 2 * (i / 2);  // Pairs of equal even numbers
+            }
+            
+            for (int value = -1; value <= length + 1; value++) {
+                int expected = 0;
+                
+                while (expected < length && elements[expected] < value) {
+                    expected++;
+                }
+                
+                assertEquals(expected, binarySearch.lowerBound(elements, value));
+            }
+        }
+    }
+    
+    /**
+     * Test method for {@link BinarySearch#lowerBound(long[], long)} and {@link BinarySearch#indexOf(long[], long)}.
+     */
+    @Test
+    void lowerBound_Longs() {
+        BinarySearch binarySearch = new BinarySearch();
+        
+        long[] longs = { Long.MIN_VALUE, -8L, 5L, 5L, 20L, Long.MAX_VALUE };
+        
+        assertEquals(0, binarySearch.indexOf(longs, Long.MIN_VALUE));
+        assertEquals(2, binarySearch.indexOf(longs, 5L));
+        assertEquals(5, binarySearch.indexOf(longs, Long.MAX_VALUE));
+        assertEquals(4, binarySearch.lowerBound(longs, 6L));
+        assertEquals(-5, binarySearch.indexOf(longs, 6L));
+    }
+    
     /**
      * The iterative and recursive methods can be tested in the same way.
      * 
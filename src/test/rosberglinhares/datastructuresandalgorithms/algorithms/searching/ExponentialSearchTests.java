@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.algorithms.searching;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the {@link ExponentialSearch} class.
+ */
+class ExponentialSearchTests {
+    
+    /**
+     * Test method for {@link ExponentialSearch#indexOf(java.lang.Comparable[], java.lang.Comparable)} and
+     * {@link ExponentialSearch#indexOf(java.lang.Object[], java.lang.Object, java.util.Comparator)}.
+     */
+    @Test
+    void indexOf_Objects() {
+        ExponentialSearch exponentialSearch = new ExponentialSearch();
+        Integer[] ints = { 2, 5, 8, 8, 8, 20, 28 };
+        
+        assertEquals(-1, exponentialSearch.indexOf(new Integer[0], 10));
+        assertEquals(0, exponentialSearch.indexOf(ints, 2));
+        assertEquals(6, exponentialSearch.indexOf(ints, 28));
+        assertEquals(2, exponentialSearch.indexOf(ints, 8));  // The first of the duplicates
+        assertEquals(-1, exponentialSearch.indexOf(ints, 1));
+        assertEquals(-3, exponentialSearch.indexOf(ints, 7));
+        assertEquals(-8, exponentialSearch.indexOf(ints, 100));
+        
+        String[] strings = { "plum", "melon", "fig", "banana", "apricot" };
+        
+        assertEquals(2, exponentialSearch.indexOf(strings, "fig", Comparator.reverseOrder()));
+        assertEquals(-4, exponentialSearch.indexOf(strings, "cherry", Comparator.reverseOrder()));
+    }
+    
+    /**
+     * Test method for {@link ExponentialSearch#indexOf(int[], int)} and {@link ExponentialSearch#indexOf(long[], long)}.
+     * Every length and every position, so that the last range is cut by the end of the array in every possible way.
+     */
+    @Test
+    void indexOf_Primitives_SameAsBinarySearch() {
+        ExponentialSearch exponentialSearch = new ExponentialSearch();
+        
+        for (int length = 0; length <= 70; length++) {
+            int[] ints = new int[length];
+            long[] longs = new long[length];
+            
+            for (int i = 0; i < length; i++) {
+                ints[i] = 2 * i;
+                longs[i] = Long.MIN_VALUE + 2 * i;
+            }
+            
+            for (int value = -1; value <= 2 * length; value++) {
+                assertEquals(Arrays.binarySearch(ints, value), exponentialSearch.indexOf(ints, value));
+                assertEquals(Arrays.binarySearch(longs, Long.MIN_VALUE + value),
+                             exponentialSearch.indexOf(longs, Long.MIN_VALUE + value));
+            }
+        }
+    }
+}
\ No newline at end of file
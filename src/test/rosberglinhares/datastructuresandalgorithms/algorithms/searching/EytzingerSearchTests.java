@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.algorithms.searching;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the {@link EytzingerSearch} class.
+ */
+class EytzingerSearchTests {
+    
+    /**
+     * Test method for {@link EytzingerSearch#lowerBound(int)}, {@link EytzingerSearch#indexOf(int)} and
+     * {@link EytzingerSearch#contains(int)}.
+     */
+    @Test
+    void search_SmallArray() {
+        EytzingerSearch search = new EytzingerSearch(new int[]{ Integer.MIN_VALUE, 2, 5, 8, 8, 8, 20, 28, Integer.MAX_VALUE });
+        
+        assertEquals(9, search.size());
+        assertTrue(search.contains(Integer.MIN_VALUE));
+        assertTrue(search.contains(Integer.MAX_VALUE));
+        assertTrue(search.contains(20));
+        assertFalse(search.contains(21));
+        assertEquals(3, search.indexOf(8));  // The first of the duplicates
+        assertEquals(-7, search.indexOf(9));
+        assertEquals(6, search.lowerBound(9));
+        assertEquals(8, search.lowerBound(Integer.MAX_VALUE));
+        
+        EytzingerSearch emptySearch = new EytzingerSearch(new int[0]);
+        
+        assertEquals(0, emptySearch.size());
+        assertFalse(emptySearch.contains(0));
+        assertEquals(0, emptySearch.lowerBound(0));
+        assertEquals(-1, emptySearch.indexOf(0));
+    }
+    
+    /**
+     * Test method for {@link EytzingerSearch#indexOf(int)}.
+     * Every size up to a few complete trees, so that the last level is empty, partially filled and full.
+     */
+    @Test
+    void indexOf_AllSizes_SameAsBinarySearch() {
+        for (int size = 0; size <= 70; size++) {
+            int[] elements = new int[size];
+            
+            for (int i = 0; i < size; i++) {
+                elements[i] = 2 * i;
+            }
+            
+            EytzingerSearch search = new EytzingerSearch(elements);
+            
+            for (int value = -1; value <= 2 * size; value++) {
+                assertEquals(Arrays.binarySearch(elements, value), search.indexOf(value));
+            }
+        }
+    }
+    
+    /**
+     * Test method for {@link EytzingerSearch#lowerBound(int)}.
+     */
+    @Test
+    void lowerBound_LargeArray_SameAsBranchlessLowerBound() {
+        Random random = new Random(42);
+        int[] elements = random.ints(100_000, -1000, 1000).toArray();
+        Arrays.sort(elements);
+        
+        EytzingerSearch search = new EytzingerSearch(elements);
+        BinarySearch binarySearch = new BinarySearch();
+        
+        for (int value = -1001; value <= 1001; value++) {
+            assertEquals(binarySearch.lowerBound(elements, value), search.lowerBound(value));
+        }
+    }
+}
\ No newline at end of file
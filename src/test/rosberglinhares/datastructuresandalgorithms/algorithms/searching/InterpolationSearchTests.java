@@ -0,0 +1,109 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.algorithms.searching;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the {@link InterpolationSearch} class.
+ */
+class InterpolationSearchTests {
+    
+    /**
+     * Test method for {@link InterpolationSearch#indexOf(int[], int)}.
+     */
+    @Test
+    void indexOf_Ints() {
+        InterpolationSearch interpolationSearch = new InterpolationSearch();
+        int[] ints = { Integer.MIN_VALUE, 2, 5, 8, 8, 8, 20, 28, Integer.MAX_VALUE };
+        
+        assertEquals(-1, interpolationSearch.indexOf(new int[0], 10));
+        assertEquals(0, interpolationSearch.indexOf(ints, Integer.MIN_VALUE));
+        assertEquals(8, interpolationSearch.indexOf(ints, Integer.MAX_VALUE));
+        assertEquals(3, interpolationSearch.indexOf(ints, 8));  // The first of the duplicates
+        assertEquals(-7, interpolationSearch.indexOf(ints, 9));
+        assertEquals(-2, interpolationSearch.indexOf(ints, 0));
+        assertEquals(-1, interpolationSearch.indexOf(new int[]{ 5, 5, 5 }, 4));
+        assertEquals(0, interpolationSearch.indexOf(new int[]{ 5, 5, 5 }, 5));
+        assertEquals(-4, interpolationSearch.indexOf(new int[]{ 5, 5, 5 }, 6));
+    }
+    
+    /**
+     * Test method for {@link InterpolationSearch#indexOf(long[], long)}.
+     * The differences between the extreme values overflow a {@code long}.
+     */
+    @Test
+    void indexOf_Longs() {
+        InterpolationSearch interpolationSearch = new InterpolationSearch();
+        long[] longs = { Long.MIN_VALUE, Long.MIN_VALUE + 1, -8L, 5L, 5L, 20L, Long.MAX_VALUE - 1, Long.MAX_VALUE };
+        
+        for (int i = 0; i < longs.length; i++) {
+            assertEquals(i == 4 ? 3 : i, interpolationSearch.indexOf(longs, longs[i]));
+        }
+        
+        assertEquals(-3, interpolationSearch.indexOf(longs, -9L));
+        assertEquals(-6, interpolationSearch.indexOf(longs, 6L));
+        assertEquals(-7, interpolationSearch.indexOf(longs, Long.MAX_VALUE - 2));
+    }
+    
+    /**
+     * Test method for {@link InterpolationSearch#indexOf(int[], int)} and {@link InterpolationSearch#indexOf(long[], long)}.
+     * Uniform values favor the interpolation, while cubes and clusters of duplicates make the guesses far off.
+     */
+    @Test
+    void indexOf_UniformAndSkewedValues_SameAsBinarySearch() {
+        InterpolationSearch interpolationSearch = new InterpolationSearch();
+        BinarySearch binarySearch = new BinarySearch();
+        Random random = new Random(42);
+        int length = 10_000;
+        
+        int[] uniform = random.ints(length).toArray();
+        Arrays.sort(uniform);
+        
+        long[] cubes = new long[length];
+        int[] clustered = new int[length];
+        
+        for (int i = 0; i < length; i++) {
+            cubes[i] = (long)i * i * i;
+            clustered[i] = (i < length - 10) ? i / 1000 : Integer.MAX_VALUE - length + i;
+        }
+        
+        for (int i = 0; i < 20_000; i++) {
+            int value = (i % 2 == 0) ? uniform[random.nextInt(length)] : random.nextInt();
+            long cube = (i % 2 == 0) ? cubes[random.nextInt(length)] : random.nextLong() & Long.MAX_VALUE;
+            int clusteredValue = (i % 2 == 0) ? clustered[random.nextInt(length)] : random.nextInt(20);
+            
+            assertEquals(binarySearch.indexOf(uniform, value), interpolationSearch.indexOf(uniform, value));
+            assertEquals(binarySearch.indexOf(cubes, cube), interpolationSearch.indexOf(cubes, cube));
+            assertEquals(binarySearch.indexOf(clustered, clusteredValue),
+                         interpolationSearch.indexOf(clustered, clusteredValue));
+        }
+    }
+}
\ No newline at end of file
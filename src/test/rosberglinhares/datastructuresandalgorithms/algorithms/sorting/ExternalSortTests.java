@@ -0,0 +1,276 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.algorithms.sorting;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the {@link ExternalSort} class.
+ * 
+ * The memory budgets are tiny, so that even small files are split in many runs and need several merge passes.
+ */
+class ExternalSortTests {
+    
+    /**
+     * Test method for {@link ExternalSort#sort(java.nio.file.Path, java.nio.file.Path)}.
+     */
+    @Test
+    void sort_ManyRuns_CorrectlySorted() throws IOException {
+        Path directory = Files.createTempDirectory("external-sort");
+        
+        try {
+            long[] values = new Random(42).longs(100_000).toArray();
+            Path input = this.writeLongs(directory.resolve("input"), values);
+            Path output = directory.resolve("output");
+            
+            // 16 KB give runs of 512 records per thread and merges of only two runs at a time, so there are many passes
+            new ExternalSort<Long>(RecordFormat.longs(), Comparator.naturalOrder(), 16 * 1024, 4, directory)
+                    .sort(input, output);
+            
+            Arrays.sort(values);
+            assertArrayEquals(values, this.readLongs(output));
+            
+            // The runs were deleted
+            try (Stream<Path> files = Files.list(directory)) {
+                assertEquals(2, files.count());
+            }
+        } finally {
+            this.delete(directory);
+        }
+    }
+    
+    /**
+     * Test method for {@link ExternalSort#sort(java.nio.file.Path, java.nio.file.Path)}.
+     */
+    @Test
+    void sort_FitsInMemory_CorrectlySorted() throws IOException {
+        Path directory = Files.createTempDirectory("external-sort");
+        
+        try {
+            long[] values = { 5, -3, 8, Long.MIN_VALUE, 0, Long.MAX_VALUE, 5 };
+            Path input = this.writeLongs(directory.resolve("input"), values);
+            Path output = directory.resolve("output");
+            
+            new ExternalSort<Long>(RecordFormat.longs(), Comparator.naturalOrder(), 1024 * 1024).sort(input, output);
+            
+            assertArrayEquals(new long[]{ Long.MIN_VALUE, -3, 0, 5, 5, 8, Long.MAX_VALUE }, this.readLongs(output));
+        } finally {
+            this.delete(directory);
+        }
+    }
+    
+    /**
+     * Test method for {@link ExternalSort#sort(java.nio.file.Path, java.nio.file.Path)}.
+     */
+    @Test
+    void sort_EmptyFile_EmptyOutput() throws IOException {
+        Path directory = Files.createTempDirectory("external-sort");
+        
+        try {
+            Path input = this.writeLongs(directory.resolve("input"), new long[0]);
+            Path output = directory.resolve("output");
+            
+            new ExternalSort<Long>(RecordFormat.longs(), Comparator.naturalOrder(), 1024).sort(input, output);
+            
+            assertEquals(0, Files.size(output));
+        } finally {
+            this.delete(directory);
+        }
+    }
+    
+    /**
+     * Test method for {@link ExternalSort#sort(java.nio.file.Path, java.nio.file.Path)}.
+     * Each record holds a key in its high half and its position in the input file in the low half, and only the key
+     * is compared.
+     */
+    @Test
+    void sort_EqualKeys_StableOrder() throws IOException {
+        Path directory = Files.createTempDirectory("external-sort");
+        
+        try {
+            Random random = new Random(42);
+            long[] values = new long[50_000];
+            
+            for (int i = 0; i < values.length; i++) {
+                values[i] = ((long)random.nextInt(100) << 32) | i;
+            }
+            
+            Path input = this.writeLongs(directory.resolve("input"), values);
+            Path output = directory.resolve("output");
+            
+            new ExternalSort<Long>(RecordFormat.longs(), Comparator.comparingLong(value -> value >> 32), 32 * 1024, 2,
+                                   directory).sort(input, output);
+            
+            // Comparing the whole value sorts by key and then by position
+            Arrays.sort(values);
+            assertArrayEquals(values, this.readLongs(output));
+        } finally {
+            this.delete(directory);
+        }
+    }
+    
+    /**
+     * Test method for {@link ExternalSort#sort(java.nio.file.Path, java.nio.file.Path)}.
+     */
+    @Test
+    void sort_PartialRecord_ExceptionThrown() throws IOException {
+        Path directory = Files.createTempDirectory("external-sort");
+        
+        try {
+            Path input = Files.write(directory.resolve("input"), new byte[12]);
+            Path output = directory.resolve("output");
+            ExternalSort<Long> externalSort = new ExternalSort<Long>(RecordFormat.longs(), Comparator.naturalOrder(),
+                                                                     1024);
+            
+            assertThrows(IllegalArgumentException.class, () -> {
+                externalSort.sort(input, output);
+            });
+        } finally {
+            this.delete(directory);
+        }
+    }
+    
+    /**
+     * Test method for {@link ExternalSort#sort(java.nio.file.Path, java.nio.file.Path)}.
+     * The comparator fails on the first record, so only the thread sorting the first chunk fails. The other threads
+     * hold their first comparison until a while after the failure, so they write their runs well after it.
+     */
+    @Test
+    void sort_ComparatorFailsInOneThread_RunsDeleted() throws IOException, InterruptedException {
+        Path directory = Files.createTempDirectory("external-sort");
+        Path runsDirectory = Files.createDirectory(directory.resolve("runs"));
+        
+        try {
+            long[] values = new Random(42).longs(100_000).toArray();
+            values[0] = 0;
+            
+            Path input = this.writeLongs(directory.resolve("input"), values);
+            Path output = directory.resolve("output");
+            AtomicBoolean failed = new AtomicBoolean();
+            ThreadLocal<Boolean> delayed = ThreadLocal.withInitial(() -> false);
+            Comparator<Long> comparator = (first, second) -> {
+                if (first == 0 || second == 0) {
+                    failed.set(true);
+                    throw new IllegalStateException("Poisoned record.");
+                }
+                
+                if (!delayed.get()) {
+                    delayed.set(true);
+                    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                    
+                    while (!failed.get() && System.nanoTime() < deadline) {
+                        Thread.onSpinWait();
+                    }
+                    
+                    // Spins instead of sleeping, so an interrupt doesn't cut it short
+                    long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200);
+                    
+                    while (System.nanoTime() < end) {
+                        Thread.onSpinWait();
+                    }
+                }
+                
+                return Long.compare(first, second);
+            };
+            ExternalSort<Long> externalSort = new ExternalSort<Long>(RecordFormat.longs(), comparator, 16 * 1024, 4,
+                                                                     runsDirectory);
+            
+            assertThrows(IllegalStateException.class, () -> {
+                externalSort.sort(input, output);
+            });
+            
+            // A thread still running after the sort returned would write its run by now
+            Thread.sleep(500);
+            
+            try (Stream<Path> files = Files.list(runsDirectory)) {
+                assertEquals(0, files.count());
+            }
+        } finally {
+            this.delete(runsDirectory);
+            this.delete(directory);
+        }
+    }
+    
+    /**
+     * Test method for
+     * {@link ExternalSort#ExternalSort(RecordFormat, java.util.Comparator, long, int, java.nio.file.Path)}.
+     */
+    @Test
+    void constructor_InvalidArguments_ExceptionThrown() {
+        Path directory = Path.of(System.getProperty("java.io.tmpdir"));
+        
+        assertThrows(IllegalArgumentException.class, () -> {
+            new ExternalSort<Long>(RecordFormat.longs(), Comparator.naturalOrder(), 1024, 0, directory);
+        });
+        
+        assertThrows(IllegalArgumentException.class, () -> {
+            new ExternalSort<Long>(RecordFormat.longs(), Comparator.naturalOrder(), 63, 4, directory);
+        });
+        
+        assertThrows(NullPointerException.class, () -> {
+            new ExternalSort<Long>(RecordFormat.longs(), null, 1024, 4, directory);
+        });
+    }
+    
+    private Path writeLongs(Path file, long[] values) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Long.BYTES);
+        buffer.asLongBuffer().put(values);
+        
+        return Files.write(file, buffer.array());
+    }
+    
+    private long[] readLongs(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        long[] values = new long[buffer.remaining() / Long.BYTES];
+        buffer.asLongBuffer().get(values);
+        
+        return values;
+    }
+    
+    private void delete(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>)files::iterator) {
+                Files.delete(file);
+            }
+        }
+        
+        Files.delete(directory);
+    }
+}
\ No newline at end of file
@@ -26,6 +26,10 @@ package rosberglinhares.datastructuresandalgorithms.algorithms.sorting;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import org.junit.jupiter.api.Test;
@@ -37,6 +41,12 @@ import org.junit.jupiter.api.Test;
  *     <li>{@link BubbleSort}</li>
  *     <li>{@link SelectionSort}</li>
  *     <li>{@link InsertionSort}</li>
+ *     <li>{@link MergeSort}</li>
+ *     <li>{@link QuickSort}</li>
+ *     <li>{@link HeapSort}</li>
+ *     <li>{@link TimSort}</li>
+ *     <li>{@link RadixSort}</li>
+ *     <li>{@link PartialSort}</li>
  * </ul>
  */
 class SortTests {
@@ -161,6 +171,748 @@ class SortTests {
         this.sort_RandomElements_CorrectlySorted(insertionSort::recursiveInsertionSort);
     }
     
+    /**
+     * Test method for {@link InsertionSort#iterativeInsertionSort(java.lang.Comparable[], int, int)}.
+     */
+    @Test
+    void iterativeInsertionSort_Range_OnlyRangeSorted() {
+        InsertionSort insertionSort = new InsertionSort();
+        
+        Integer[] items = { 9, 8, 20, 5, 15, 3, 17, 1 };
+        insertionSort.iterativeInsertionSort(items, 2, 6);
+        assertArrayEquals(new Integer[]{ 9, 8, 3, 5, 15, 17, 20, 1 }, items);
+    }
+    
+    /**
+     * Test method for {@link BubbleSort#iterativeBubbleSort(int[])}, {@link BubbleSort#iterativeBubbleSort(long[])}
+     * and {@link BubbleSort#iterativeBubbleSort(double[])}.
+     */
+    @Test
+    void iterativeBubbleSort_Primitives_CorrectlySorted() {
+        BubbleSort bubbleSort = new BubbleSort();
+        
+        this.sort_Primitives_CorrectlySorted(bubbleSort::iterativeBubbleSort, bubbleSort::iterativeBubbleSort, bubbleSort::iterativeBubbleSort);
+    }
+    
+    /**
+     * Test method for {@link SelectionSort#iterativeSelectionSort(int[])}, {@link SelectionSort#iterativeSelectionSort(long[])}
+     * and {@link SelectionSort#iterativeSelectionSort(double[])}.
+     */
+    @Test
+    void iterativeSelectionSort_Primitives_CorrectlySorted() {
+        SelectionSort selectionSort = new SelectionSort();
+        
+        this.sort_Primitives_CorrectlySorted(selectionSort::iterativeSelectionSort, selectionSort::iterativeSelectionSort, selectionSort::iterativeSelectionSort);
+    }
+    
+    /**
+     * Test method for {@link InsertionSort#iterativeInsertionSort(int[])}, {@link InsertionSort#iterativeInsertionSort(long[])}
+     * and {@link InsertionSort#iterativeInsertionSort(double[])}.
+     */
+    @Test
+    void iterativeInsertionSort_Primitives_CorrectlySorted() {
+        InsertionSort insertionSort = new InsertionSort();
+        
+        this.sort_Primitives_CorrectlySorted(insertionSort::iterativeInsertionSort, insertionSort::iterativeInsertionSort, insertionSort::iterativeInsertionSort);
+    }
+    
+    /**
+     * Test method for {@link BubbleSort#iterativeBubbleSort(java.lang.Object[], java.util.Comparator)}.
+     */
+    @Test
+    void iterativeBubbleSort_Comparator_SortedByComparator() {
+        BubbleSort bubbleSort = new BubbleSort();
+        
+        this.sort_Comparator_SortedByComparator(bubbleSort::iterativeBubbleSort);
+    }
+    
+    /**
+     * Test method for {@link BubbleSort#recursiveBubbleSort(java.lang.Object[], java.util.Comparator)}.
+     */
+    @Test
+    void recursiveBubbleSort_Comparator_SortedByComparator() {
+        BubbleSort bubbleSort = new BubbleSort();
+        
+        this.sort_Comparator_SortedByComparator(bubbleSort::recursiveBubbleSort);
+    }
+    
+    /**
+     * Test method for {@link SelectionSort#iterativeSelectionSort(java.lang.Object[], java.util.Comparator)}.
+     */
+    @Test
+    void iterativeSelectionSort_Comparator_SortedByComparator() {
+        SelectionSort selectionSort = new SelectionSort();
+        
+        this.sort_Comparator_SortedByComparator(selectionSort::iterativeSelectionSort);
+    }
+    
+    /**
+     * Test method for {@link SelectionSort#recursiveSelectionSort(java.lang.Object[], java.util.Comparator)}.
+     */
+    @Test
+    void recursiveSelectionSort_Comparator_SortedByComparator() {
+        SelectionSort selectionSort = new SelectionSort();
+        
+        this.sort_Comparator_SortedByComparator(selectionSort::recursiveSelectionSort);
+    }
+    
+    /**
+     * Test method for {@link InsertionSort#iterativeInsertionSort(java.lang.Object[], java.util.Comparator)}.
+     */
+    @Test
+    void iterativeInsertionSort_Comparator_SortedByComparator() {
+        InsertionSort insertionSort = new InsertionSort();
+        
+        this.sort_Comparator_SortedByComparator(insertionSort::iterativeInsertionSort);
+    }
+    
+    /**
+     * Test method for {@link InsertionSort#recursiveInsertionSort(java.lang.Object[], java.util.Comparator)}.
+     */
+    @Test
+    void recursiveInsertionSort_Comparator_SortedByComparator() {
+        InsertionSort insertionSort = new InsertionSort();
+        
+        this.sort_Comparator_SortedByComparator(insertionSort::recursiveInsertionSort);
+    }
+    
+    /**
+     * Test method for {@link MergeSort#sort(java.lang.Comparable[])}.
+     */
+    @Test
+    void mergeSort_EmptyArray_ShouldReturnEmptyArray() {
+        MergeSort mergeSort = new MergeSort();
+        
+        this.sort_EmptyArray_ShouldReturnEmptyArray(mergeSort::sort);
+    }
+    
+    /**
+     * Test method for {@link MergeSort#sort(java.lang.Comparable[])}.
+     */
+    @Test
+    void mergeSort_RandomElements_CorrectlySorted() {
+        // A threshold of 1 forces the merge to be used even on the smallest arrays
+        MergeSort mergeSort = new MergeSort(1);
+        
+        this.sort_RandomElements_CorrectlySorted(mergeSort::sort);
+    }
+    
+    /**
+     * Test method for {@link MergeSort#sort(java.lang.Comparable[])}.
+     * Large arrays are split in tasks running in parallel.
+     */
+    @Test
+    void mergeSort_LargeArray_CorrectlySorted() {
+        MergeSort mergeSort = new MergeSort();
+        
+        this.sort_LargeArray_CorrectlySorted(mergeSort::sort);
+    }
+    
+    /**
+     * Test method for {@link MergeSort#sort(java.lang.Object[], java.util.Comparator)}.
+     */
+    @Test
+    void mergeSort_Comparator_SortedByComparator() {
+        MergeSort mergeSort = new MergeSort(1);
+        
+        this.sort_Comparator_SortedByComparator(mergeSort::sort);
+    }
+    
+    /**
+     * Test method for {@link MergeSort#MergeSort(int)}.
+     */
+    @Test
+    void mergeSort_InvalidInsertionSortThreshold_ExceptionThrown() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            new MergeSort(0);
+        });
+    }
+    
+    /**
+     * Test method for {@link QuickSort#sort(java.lang.Comparable[])}.
+     */
+    @Test
+    void quickSort_EmptyArray_ShouldReturnEmptyArray() {
+        QuickSort quickSort = new QuickSort();
+        
+        this.sort_EmptyArray_ShouldReturnEmptyArray(quickSort::sort);
+    }
+    
+    /**
+     * Test method for {@link QuickSort#sort(java.lang.Comparable[])}.
+     */
+    @Test
+    void quickSort_RandomElements_CorrectlySorted() {
+        QuickSort quickSort = new QuickSort(1);
+        
+        this.sort_RandomElements_CorrectlySorted(quickSort::sort);
+    }
+    
+    /**
+     * Test method for {@link QuickSort#sort(java.lang.Comparable[])}.
+     */
+    @Test
+    void quickSort_LargeArray_CorrectlySorted() {
+        QuickSort quickSort = new QuickSort();
+        
+        this.sort_LargeArray_CorrectlySorted(quickSort::sort);
+    }
+    
+    /**
+     * Test method for {@link QuickSort#sort(java.lang.Comparable[])}.
+     * These inputs are known to degrade naive quick sorts to O(N) time.
+     */
+    @Test
+    void quickSort_AdversarialInputs_CorrectlySorted() {
+        QuickSort quickSort = new QuickSort();
+        int size = 100_000;
+        Integer[] sorted = new Integer[size];
+        Integer[] reversed = new Integer[size];
+        Integer[] allEqual = new Integer[size];
+        Integer[] organPipe = new Integer[size];
+        
+        for (int i = 0; i < size; i++) {
+            sorted[i] = i;
+            reversed[i] = size - i;
+            allEqual[i] = 7;
+            organPipe[i] = Math.min(i, size - i);
+        }
+        
+        for (Integer[] items : Arrays.asList(sorted, reversed, allEqual, organPipe)) {
+            Integer[] expected = items.clone();
+            Arrays.sort(expected);
+            
+            quickSort.sort(items);
+            assertArrayEquals(expected, items);
+        }
+    }
+    
+    /**
+     * Test method for {@link QuickSort#sort(java.lang.Object[], java.util.Comparator)}.
+     */
+    @Test
+    void quickSort_Comparator_SortedByComparator() {
+        QuickSort quickSort = new QuickSort(1);
+        
+        this.sort_Comparator_SortedByComparator(quickSort::sort);
+    }
+    
+    /**
+     * Test method for {@link QuickSort#QuickSort(int)}.
+     */
+    @Test
+    void quickSort_InvalidInsertionSortThreshold_ExceptionThrown() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            new QuickSort(0);
+        });
+    }
+    
+    /**
+     * Test method for {@link HeapSort#sort(java.lang.Comparable[])}.
+     */
+    @Test
+    void heapSort_EmptyArray_ShouldReturnEmptyArray() {
+        HeapSort heapSort = new HeapSort();
+        
+        this.sort_EmptyArray_ShouldReturnEmptyArray(heapSort::sort);
+    }
+    
+    /**
+     * Test method for {@link HeapSort#sort(java.lang.Comparable[])}.
+     */
+    @Test
+    void heapSort_RandomElements_CorrectlySorted() {
+        HeapSort heapSort = new HeapSort();
+        
+        this.sort_RandomElements_CorrectlySorted(heapSort::sort);
+        this.sort_LargeArray_CorrectlySorted(heapSort::sort);
+    }
+    
+    /**
+     * Test method for {@link HeapSort#sort(java.lang.Object[], int, int, java.util.Comparator)}.
+     */
+    @Test
+    void heapSort_Range_OnlyRangeSorted() {
+        HeapSort heapSort = new HeapSort();
+        Integer[] items = { 9, 8, 7, 6, 5, 4, 3, 2, 1 };
+        
+        heapSort.sort(items, 2, 6, Comparator.naturalOrder());
+        assertArrayEquals(new Integer[]{ 9, 8, 3, 4, 5, 6, 7, 2, 1 }, items);
+    }
+    
+    /**
+     * Test method for {@link HeapSort#sort(java.lang.Object[], java.util.Comparator)}.
+     */
+    @Test
+    void heapSort_Comparator_SortedByComparator() {
+        HeapSort heapSort = new HeapSort();
+        
+        this.sort_Comparator_SortedByComparator(heapSort::sort);
+    }
+    
+    /**
+     * Test method for {@link TimSort#sort(java.lang.Comparable[])}.
+     */
+    @Test
+    void timSort_EmptyArray_ShouldReturnEmptyArray() {
+        TimSort timSort = new TimSort();
+        
+        this.sort_EmptyArray_ShouldReturnEmptyArray(timSort::sort);
+    }
+    
+    /**
+     * Test method for {@link TimSort#sort(java.lang.Comparable[])}.
+     */
+    @Test
+    void timSort_RandomElements_CorrectlySorted() {
+        TimSort timSort = new TimSort();
+        
+        this.sort_RandomElements_CorrectlySorted(timSort::sort);
+        this.sort_LargeArray_CorrectlySorted(timSort::sort);
+    }
+    
+    /**
+     * Test method for {@link TimSort#sort(java.lang.Object[], java.util.Comparator)}.
+     */
+    @Test
+    void timSort_Comparator_SortedByComparator() {
+        TimSort timSort = new TimSort();
+        
+        this.sort_Comparator_SortedByComparator(timSort::sort);
+    }
+    
+    /**
+     * Test method for {@link TimSort#sort(java.lang.Object[], int, int, java.util.Comparator)}.
+     */
+    @Test
+    void timSort_Range_OnlyRangeSorted() {
+        TimSort timSort = new TimSort();
+        Integer[] items = { 9, 8, 7, 6, 5, 4, 3, 2, 1 };
+        
+        timSort.sort(items, 2, 6, Comparator.naturalOrder());
+        assertArrayEquals(new Integer[]{ 9, 8, 3, 4, 5, 6, 7, 2, 1 }, items);
+        
+        Random random = new Random(42);
+        items = new Integer[10_000];
+        
+        for (int i = 0; i < items.length; i++) {
+            items[i] = random.nextInt();
+        }
+        
+        Integer[] expected = items.clone();
+        Arrays.sort(expected, 1000, 9000);
+        
+        timSort.sort(items, 1000, 8999, Comparator.naturalOrder());
+        assertArrayEquals(expected, items);
+    }
+    
+    /**
+     * Test method for {@link TimSort#sort(java.lang.Object[], java.util.Comparator)}.
+     * Sorted and reversed arrays are a single run, so they need one comparison per item.
+     */
+    @Test
+    void timSort_SortedOrReversed_LinearComparisons() {
+        TimSort timSort = new TimSort();
+        Integer[] items = new Integer[100_000];
+        int[] comparisons = new int[1];
+        Comparator<Integer> countingComparator = (x, y) -> {
+            comparisons[0]++;
+            return Integer.compare(x, y);
+        };
+        
+        for (int i = 0; i < items.length; i++) {
+            items[i] = i;
+        }
+        
+        Integer[] expected = items.clone();
+        
+        timSort.sort(items, countingComparator);
+        assertArrayEquals(expected, items);
+        assertEquals(items.length - 1, comparisons[0]);
+        
+        for (int i = 0; i < items.length; i++) {
+            items[i] = items.length - 1 - i;
+        }
+        
+        comparisons[0] = 0;
+        timSort.sort(items, countingComparator);
+        assertArrayEquals(expected, items);
+        assertEquals(items.length - 1, comparisons[0]);
+    }
+    
+    /**
+     * Test method for {@link TimSort#sort(java.lang.Object[], java.util.Comparator)}.
+     * A sorted array with a few random items appended, like a log, is sorted with far fewer comparisons
+     * than the N*log N of a random array.
+     */
+    @Test
+    void timSort_AppendedItems_NearLinearComparisons() {
+        TimSort timSort = new TimSort();
+        Random random = new Random(42);
+        Integer[] items = new Integer[100_000];
+        int[] comparisons = new int[1];
+        
+        for (int i = 0; i < items.length; i++) {
+            items[i] = i < 99_000 ? i : random.nextInt(items.length);
+        }
+        
+        Integer[] expected = items.clone();
+        Arrays.sort(expected);
+        
+        timSort.sort(items, (x, y) -> {
+            comparisons[0]++;
+            return Integer.compare(x, y);
+        });
+        
+        assertArrayEquals(expected, items);
+        assertTrue(comparisons[0] < 2 * items.length, "Comparisons: " + comparisons[0]);
+    }
+    
+    /**
+     * Test method for {@link TimSort#sort(java.lang.Object[], java.util.Comparator)}.
+     * Interleaved ascending and descending runs of varied lengths force merges in both directions,
+     * in and out of galloping mode.
+     */
+    @Test
+    void timSort_MixedRuns_CorrectlySorted() {
+        TimSort timSort = new TimSort();
+        Random random = new Random(42);
+        Integer[] items = new Integer[100_000];
+        
+        for (int i = 0; i < items.length; ) {
+            int runLength = Math.min(1 + random.nextInt(2000), items.length - i);
+            int start = random.nextInt(items.length);
+            int step = random.nextBoolean() ? 1 : -1;
+            
+            for (int j = 0; j < runLength; j++) {
+                items[i++] = start + step * j;
+            }
+        }
+        
+        Integer[] expected = items.clone();
+        Arrays.sort(expected);
+        
+        timSort.sort(items, Comparator.naturalOrder());
+        assertArrayEquals(expected, items);
+    }
+    
+    /**
+     * Test method for {@link TimSort#sort(java.lang.Object[], java.util.Comparator)}.
+     */
+    @Test
+    void timSort_EqualKeys_StableOrder() {
+        TimSort timSort = new TimSort();
+        Random random = new Random(42);
+        int[] keys = new int[100_000];
+        Integer[] indexes = new Integer[keys.length];
+        
+        for (int i = 0; i < keys.length; i++) {
+            // Partially sorted keys, so that both the runs and the merges have to keep the equal keys in order
+            keys[i] = random.nextInt(4) == 0 ? random.nextInt(100) : i * 100 / keys.length;
+            indexes[i] = i;
+        }
+        
+        timSort.sort(indexes, Comparator.comparingInt(index -> keys[index]));
+        this.assertStableOrder(keys, indexes);
+    }
+    
+    /**
+     * Test method for {@link PartialSort#sort(java.lang.Comparable[], int)}.
+     */
+    @Test
+    void partialSort_EmptyArray_ShouldReturnEmptyArray() {
+        PartialSort partialSort = new PartialSort();
+        
+        this.sort_EmptyArray_ShouldReturnEmptyArray(items -> partialSort.sort(items, items.length));
+    }
+    
+    /**
+     * Test method for {@link PartialSort#sort(java.lang.Comparable[], int)}.
+     * Sorting all the items is the same as a full sort.
+     */
+    @Test
+    void partialSort_RandomElements_CorrectlySorted() {
+        PartialSort partialSort = new PartialSort();
+        
+        this.sort_RandomElements_CorrectlySorted(items -> partialSort.sort(items, items.length));
+        this.sort_LargeArray_CorrectlySorted(items -> partialSort.sort(items, items.length));
+    }
+    
+    /**
+     * Test method for {@link PartialSort#sort(java.lang.Object[], int, java.util.Comparator)}.
+     */
+    @Test
+    void partialSort_Comparator_SortedByComparator() {
+        PartialSort partialSort = new PartialSort();
+        
+        this.sort_Comparator_SortedByComparator((items, comparator) -> partialSort.sort(items, items.length, comparator));
+    }
+    
+    /**
+     * Test method for {@link PartialSort#sort(java.lang.Comparable[], int)}.
+     */
+    @Test
+    void partialSort_FirstItems_OnlyFirstItemsSorted() {
+        PartialSort partialSort = new PartialSort();
+        
+        for (Integer[] input : this.partialSortInputs(100_000)) {
+            for (int count : new int[]{ 0, 1, 10, 5000, 99_999, 100_000 }) {
+                Integer[] items = input.clone();
+                Integer[] expected = items.clone();
+                Arrays.sort(expected);
+                
+                partialSort.sort(items, count);
+                
+                assertArrayEquals(Arrays.copyOf(expected, count), Arrays.copyOf(items, count));
+                
+                // The other items are the remaining ones, in any order
+                Integer[] remaining = Arrays.copyOfRange(items, count, items.length);
+                Arrays.sort(remaining);
+                assertArrayEquals(Arrays.copyOfRange(expected, count, expected.length), remaining);
+            }
+        }
+    }
+    
+    /**
+     * Test method for {@link PartialSort#sort(java.lang.Comparable[], int)}.
+     */
+    @Test
+    void partialSort_InvalidCount_ThrowsIllegalArgumentException() {
+        PartialSort partialSort = new PartialSort();
+        Integer[] items = { 3, 1, 2 };
+        
+        assertThrows(IllegalArgumentException.class, () -> partialSort.sort(items, -1));
+        assertThrows(IllegalArgumentException.class, () -> partialSort.sort(items, 4));
+    }
+    
+    /**
+     * Test method for {@link PartialSort#select(java.lang.Object[], int, java.util.Comparator)}.
+     */
+    @Test
+    void partialSort_Select_ItemOfSortedPosition() {
+        PartialSort partialSort = new PartialSort();
+        
+        for (Integer[] items : this.partialSortInputs(10_000)) {
+            Integer[] expected = items.clone();
+            Arrays.sort(expected);
+            
+            for (int index : new int[]{ 0, 1, 17, 5000, 9998, 9999 }) {
+                Integer selected = partialSort.select(items, index, Comparator.naturalOrder());
+                
+                assertEquals(expected[index], selected);
+                assertEquals(selected, items[index]);
+                
+                for (int i = 0; i < items.length; i++) {
+                    assertTrue(i < index ? items[i] <= selected : items[i] >= selected, "Index: " + index);
+                }
+            }
+        }
+        
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> partialSort.select(new Integer[3], 3, Comparator.naturalOrder()));
+    }
+    
+    /**
+     * Test method for {@link PartialSort#sort(java.lang.Object[], int, java.util.Comparator)}.
+     * On a median-of-3 killer sequence the partitions barely shrink, and the depth limit keeps the selection from
+     * going quadratic.
+     */
+    @Test
+    void partialSort_MedianOfThreeKiller_NoQuadraticComparisons() {
+        PartialSort partialSort = new PartialSort();
+        int size = 100_000;
+        Integer[] items = new Integer[size];
+        int[] comparisons = new int[1];
+        
+        // Musser's median-of-3 killer: each partition only peels off a couple of items
+        int halfSize = size / 2;
+        
+        for (int i = 0; i < halfSize; i++) {
+            items[i] = i % 2 == 0 ? i + 1 : halfSize + i;
+            items[halfSize + i] = 2 * (i + 1);
+        }
+        
+        Integer[] expected = items.clone();
+        Arrays.sort(expected);
+        
+        partialSort.sort(items, 100, (x, y) -> {
+            comparisons[0]++;
+            return Integer.compare(x, y);
+        });
+        
+        assertArrayEquals(Arrays.copyOf(expected, 100), Arrays.copyOf(items, 100));
+        assertTrue(comparisons[0] < 100L * size, "Comparisons: " + comparisons[0]);
+    }
+    
+    /**
+     * Random, sorted, reversed and mostly duplicated items, the inputs that make a naive quick select degrade.
+     */
+    private Integer[][] partialSortInputs(int size) {
+        Random random = new Random(42);
+        Integer[][] inputs = new Integer[4][size];
+        
+        for (int i = 0; i < size; i++) {
+            inputs[0][i] = random.nextInt();
+            inputs[1][i] = i;
+            inputs[2][i] = size - i;
+            inputs[3][i] = random.nextInt(16);
+        }
+        
+        return inputs;
+    }
+    
+    /**
+     * Test method for {@link RadixSort#sort(int[])}, {@link RadixSort#sort(long[])} and {@link RadixSort#sort(double[])}.
+     */
+    @Test
+    void radixSort_Primitives_CorrectlySorted() {
+        RadixSort radixSort = new RadixSort();
+        
+        this.sort_Primitives_CorrectlySorted(radixSort::sort, radixSort::sort, radixSort::sort);
+    }
+    
+    /**
+     * Test method for {@link RadixSort#sort(int[])}, {@link RadixSort#sort(long[])} and {@link RadixSort#sort(double[])}.
+     * Large arrays are sorted by the radix sort itself instead of the insertion sort.
+     */
+    @Test
+    void radixSort_LargePrimitiveArrays_CorrectlySorted() {
+        RadixSort radixSort = new RadixSort();
+        Random random = new Random(42);
+        int size = 100_000;
+        
+        int[] ints = random.ints(size).toArray();
+        int[] expectedInts = ints.clone();
+        Arrays.sort(expectedInts);
+        radixSort.sort(ints);
+        assertArrayEquals(expectedInts, ints);
+        
+        // Small positive values have the same high digits, so their passes are skipped
+        ints = random.ints(size, 0, 1000).toArray();
+        expectedInts = ints.clone();
+        Arrays.sort(expectedInts);
+        radixSort.sort(ints);
+        assertArrayEquals(expectedInts, ints);
+        
+        long[] longs = random.longs(size).toArray();
+        longs[0] = Long.MIN_VALUE;
+        longs[1] = Long.MAX_VALUE;
+        long[] expectedLongs = longs.clone();
+        Arrays.sort(expectedLongs);
+        radixSort.sort(longs);
+        assertArrayEquals(expectedLongs, longs);
+        
+        double[] doubles = random.doubles(size, -1e6, 1e6).toArray();
+        double[] specialValues = { Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY,
+                                   Double.MIN_VALUE, -Double.MIN_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE };
+        System.arraycopy(specialValues, 0, doubles, 0, specialValues.length);
+        double[] expectedDoubles = doubles.clone();
+        Arrays.sort(expectedDoubles);
+        radixSort.sort(doubles);
+        assertArrayEquals(expectedDoubles, doubles);
+    }
+    
+    /**
+     * Test method for {@link RadixSort#sort(java.lang.String[])}.
+     */
+    @Test
+    void radixSort_Strings_CorrectlySorted() {
+        RadixSort radixSort = new RadixSort();
+        
+        String[] items = {};
+        radixSort.sort(items);
+        assertArrayEquals(new String[0], items);
+        
+        items = new String[]{ "plum", "fig", "banana", "apricot", "melon", "", "fig" };
+        radixSort.sort(items);
+        assertArrayEquals(new String[]{ "", "apricot", "banana", "fig", "fig", "melon", "plum" }, items);
+        
+        // Long common prefixes, duplicates, empty strings and chars beyond ASCII
+        Random random = new Random(42);
+        String[] prefixes = { "", "a", "ab", "abc", "\u00e9t\u00e9", "\u4e2d\u6587", "https://example.com/items/" };
+        items = new String[20_000];
+        
+        for (int i = 0; i < items.length; i++) {
+            StringBuilder item = new StringBuilder(prefixes[random.nextInt(prefixes.length)]);
+            int suffixLength = random.nextInt(6);
+            
+            for (int j = 0; j < suffixLength; j++) {
+                item.append((char)(random.nextBoolean() ? 'a' + random.nextInt(3) : random.nextInt(0x3000)));
+            }
+            
+            items[i] = item.toString();
+        }
+        
+        String[] expected = items.clone();
+        Arrays.sort(expected);
+        
+        radixSort.sort(items);
+        assertArrayEquals(expected, items);
+    }
+    
+    /**
+     * Test method for {@link RadixSort#sortByIntKey(java.lang.Object[], java.util.function.ToIntFunction)} and
+     * {@link RadixSort#sortByLongKey(java.lang.Object[], java.util.function.ToLongFunction)}.
+     */
+    @Test
+    void radixSort_KeyExtractor_StableOrder() {
+        RadixSort radixSort = new RadixSort();
+        Random random = new Random(42);
+        int[] keys = random.ints(100_000, -500, 500).toArray();
+        Integer[] indexes = new Integer[keys.length];
+        
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = i;
+        }
+        
+        radixSort.sortByIntKey(indexes, index -> keys[index]);
+        this.assertStableOrder(keys, indexes);
+        
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = i;
+        }
+        
+        radixSort.sortByLongKey(indexes, index -> keys[index] * 1_000_000_000_000L);
+        this.assertStableOrder(keys, indexes);
+        
+        // Small arrays go through the insertion sort, which must also be stable
+        String[] items = { "plum", "fig", "banana", "kiwi", "apricot", "melon", "pear" };
+        radixSort.sortByIntKey(items, String::length);
+        assertArrayEquals(new String[]{ "fig", "plum", "kiwi", "pear", "melon", "banana", "apricot" }, items);
+    }
+    
+    /**
+     * Test method for {@link BubbleSort#recursiveBubbleSort(java.lang.Comparable[])}.
+     * The recursion goes as deep as the number of items, far beyond what the small stack could hold.
+     */
+    @Test
+    void recursiveBubbleSort_SmallStack_NoStackOverflow() throws InterruptedException {
+        BubbleSort bubbleSort = new BubbleSort();
+        
+        this.sort_SmallStack_NoStackOverflow(bubbleSort::recursiveBubbleSort, 10_000, false);
+    }
+    
+    /**
+     * Test method for {@link SelectionSort#recursiveSelectionSort(java.lang.Comparable[])}.
+     * The recursion goes as deep as the number of items, far beyond what the small stack could hold.
+     */
+    @Test
+    void recursiveSelectionSort_SmallStack_NoStackOverflow() throws InterruptedException {
+        SelectionSort selectionSort = new SelectionSort();
+        
+        this.sort_SmallStack_NoStackOverflow(selectionSort::recursiveSelectionSort, 10_000, false);
+    }
+    
+    /**
+     * Test method for {@link InsertionSort#recursiveInsertionSort(java.lang.Comparable[])}.
+     * An almost sorted input keeps the insertion sort linear, so it can go one million calls deep.
+     */
+    @Test
+    void recursiveInsertionSort_SmallStack_NoStackOverflow() throws InterruptedException {
+        InsertionSort insertionSort = new InsertionSort();
+        
+        this.sort_SmallStack_NoStackOverflow(insertionSort::recursiveInsertionSort, 1_000_000, true);
+    }
+    
     private <T> void sort_EmptyArray_ShouldReturnEmptyArray(Consumer<Integer[]> sortMethodRef) {
         Integer[] items = {};
         
@@ -187,4 +939,105 @@ class SortTests {
         sortMethodRef.accept(items);
         assertArrayEquals(new Integer[]{ 3, 5, 8, 15, 17, 20 }, items);
     }
+    
+    private void sort_LargeArray_CorrectlySorted(Consumer<Integer[]> sortMethodRef) {
+        Random random = new Random(42);
+        Integer[] items = new Integer[100_000];
+        
+        for (int i = 0; i < items.length; i++) {
+            // A small range of values produces a lot of duplicates
+            items[i] = random.nextInt(1000);
+        }
+        
+        Integer[] expected = items.clone();
+        Arrays.sort(expected);
+        
+        sortMethodRef.accept(items);
+        assertArrayEquals(expected, items);
+    }
+    
+    /**
+     * Sorts the items in a thread whose stack holds only around a thousand frames.
+     * 
+     * @param almostSorted whether to swap only a few pairs of adjacent items of a sorted array, instead of shuffling it.
+     */
+    private void sort_SmallStack_NoStackOverflow(Consumer<Integer[]> sortMethodRef, int size, boolean almostSorted)
+            throws InterruptedException {
+        Random random = new Random(42);
+        Integer[] items = new Integer[size];
+        
+        for (int i = 0; i < size; i++) {
+            items[i] = i;
+        }
+        
+        for (int i = 0; i < size / 100; i++) {
+            int index1 = random.nextInt(size - 1);
+            int index2 = almostSorted ? index1 + 1 : random.nextInt(size);
+            
+            Integer temp = items[index1];
+            items[index1] = items[index2];
+            items[index2] = temp;
+        }
+        
+        Integer[] expected = items.clone();
+        Arrays.sort(expected);
+        
+        Throwable[] error = new Throwable[1];
+        Thread thread = new Thread(null, () -> {
+            try {
+                sortMethodRef.accept(items);
+            } catch (Throwable e) {
+                error[0] = e;
+            }
+        }, "small-stack", 64 * 1024);
+        
+        thread.start();
+        thread.join();
+        
+        assertNull(error[0]);
+        assertArrayEquals(expected, items);
+    }
+    
+    private void sort_Primitives_CorrectlySorted(Consumer<int[]> intSortMethodRef, Consumer<long[]> longSortMethodRef,
+                                                 Consumer<double[]> doubleSortMethodRef) {
+        int[] ints = {};
+        intSortMethodRef.accept(ints);
+        assertArrayEquals(new int[0], ints);
+        
+        ints = new int[]{ 8, 20, 5, Integer.MIN_VALUE, 15, 3, Integer.MAX_VALUE, 17, -4, 5 };
+        intSortMethodRef.accept(ints);
+        assertArrayEquals(new int[]{ Integer.MIN_VALUE, -4, 3, 5, 5, 8, 15, 17, 20, Integer.MAX_VALUE }, ints);
+        
+        long[] longs = { 20L, 17L, Long.MAX_VALUE, 15L, 8L, Long.MIN_VALUE, 5L, 3L };
+        longSortMethodRef.accept(longs);
+        assertArrayEquals(new long[]{ Long.MIN_VALUE, 3L, 5L, 8L, 15L, 17L, 20L, Long.MAX_VALUE }, longs);
+        
+        // -0.0 comes before 0.0 and NaN after everything else, as in Arrays.sort(double[])
+        double[] doubles = { 2.5, Double.NaN, 0.0, Double.POSITIVE_INFINITY, -0.0, -1.5, Double.NEGATIVE_INFINITY, 0.0 };
+        doubleSortMethodRef.accept(doubles);
+        assertArrayEquals(new double[]{ Double.NEGATIVE_INFINITY, -1.5, -0.0, 0.0, 0.0, 2.5, Double.POSITIVE_INFINITY, Double.NaN }, doubles);
+    }
+    
+    /**
+     * Checks that the indexes are ordered by their keys and, among equal keys, by the indexes themselves.
+     */
+    private void assertStableOrder(int[] keys, Integer[] indexes) {
+        for (int i = 1; i < indexes.length; i++) {
+            int previous = indexes[i - 1];
+            int current = indexes[i];
+            
+            assertTrue(keys[previous] < keys[current] || keys[previous] == keys[current] && previous < current);
+        }
+    }
+    
+    private void sort_Comparator_SortedByComparator(BiConsumer<String[], Comparator<String>> sortMethodRef) {
+        String[] items = { "plum", "fig", "banana", "apricot", "melon" };
+        
+        sortMethodRef.accept(items, Comparator.reverseOrder());
+        assertArrayEquals(new String[]{ "plum", "melon", "fig", "banana", "apricot" }, items);
+        
+        // Sorting by a key: the elements don't need to be wrapped
+        sortMethodRef.accept(items, Comparator.comparingInt(String::length));
+        assertArrayEquals(new String[]{ "fig", "plum", "melon", "banana", "apricot" }, items);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,215 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.algorithms.sorting;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the {@link Sorter} class.
+ */
+class SorterTests {
+    
+    /**
+     * Test method for {@link Sorter#sortAsync(java.lang.Comparable[])}.
+     * Three partitions leave one of them out of the first level of merges.
+     */
+    @Test
+    void sortAsync_LargeArray_CorrectlySorted() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        
+        try {
+            for (int parallelism = 1; parallelism <= 4; parallelism++) {
+                Sorter sorter = new Sorter(executor, parallelism);
+                Integer[] items = this.randomItems(100_000);
+                Integer[] expected = items.clone();
+                Arrays.sort(expected);
+                
+                CompletableFuture<Integer[]> future = sorter.sortAsync(items);
+                
+                assertSame(items, future.get());
+                assertArrayEquals(expected, items);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    /**
+     * Test method for {@link Sorter#sortAsync(java.lang.Comparable[])}.
+     */
+    @Test
+    void sortAsync_SmallArrays_CorrectlySorted() throws Exception {
+        Sorter sorter = new Sorter();
+        
+        assertArrayEquals(new Integer[0], sorter.sortAsync(new Integer[0]).get());
+        assertArrayEquals(new Integer[]{ 3, 5, 8, 15, 17, 20 }, sorter.sortAsync(new Integer[]{ 8, 20, 5, 15, 3, 17 }).get());
+    }
+    
+    /**
+     * Test method for {@link Sorter#sortAsync(java.lang.Object[], java.util.Comparator)}.
+     * The executor runs the tasks in the calling thread, so the future is already complete when returned.
+     */
+    @Test
+    void sortAsync_EqualKeys_StableOrder() throws Exception {
+        Sorter sorter = new Sorter(Runnable::run, 5);
+        Random random = new Random(42);
+        int[] keys = random.ints(100_000, 0, 100).toArray();
+        Integer[] indexes = new Integer[keys.length];
+        
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = i;
+        }
+        
+        CompletableFuture<Integer[]> future = sorter.sortAsync(indexes, Comparator.comparingInt(index -> keys[index]));
+        
+        assertTrue(future.isDone());
+        future.get();
+        
+        for (int i = 1; i < indexes.length; i++) {
+            int previous = indexes[i - 1];
+            int current = indexes[i];
+            
+            assertTrue(keys[previous] < keys[current] || keys[previous] == keys[current] && previous < current);
+        }
+    }
+    
+    /**
+     * Test method for {@link Sorter#sortAsync(java.lang.Object[], java.util.Comparator)}.
+     */
+    @Test
+    void sortAsync_FailingComparator_CompletedExceptionally() {
+        Sorter sorter = new Sorter(Runnable::run, 4);
+        Integer[] items = this.randomItems(100_000);
+        
+        CompletableFuture<Integer[]> future = sorter.sortAsync(items, (x, y) -> {
+            throw new IllegalStateException("Comparator failure");
+        });
+        
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> {
+            future.get();
+        });
+        
+        assertTrue(exception.getCause() instanceof IllegalStateException);
+    }
+    
+    /**
+     * Test method for {@link Sorter#sortAsync(java.lang.Object[], java.util.Comparator)}.
+     * The comparator fails only in the first partition, while the threads sorting the other partitions hold their
+     * first comparison until a while after the failure.
+     */
+    @Test
+    void sortAsync_FailingPartition_CompletedAfterAllPartitions() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        
+        try {
+            Sorter sorter = new Sorter(executor, 4);
+            Integer[] items = new Random(42).ints(100_000, 0, Integer.MAX_VALUE).boxed().toArray(Integer[]::new);
+            items[0] = -1;
+            
+            AtomicBoolean failed = new AtomicBoolean();
+            AtomicInteger comparing = new AtomicInteger();
+            ThreadLocal<Boolean> delayed = ThreadLocal.withInitial(() -> false);
+            
+            CompletableFuture<Integer[]> future = sorter.sortAsync(items, (x, y) -> {
+                if (x == -1 || y == -1) {
+                    failed.set(true);
+                    throw new IllegalStateException("Comparator failure");
+                }
+                
+                comparing.incrementAndGet();
+                
+                try {
+                    if (!delayed.get()) {
+                        delayed.set(true);
+                        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                        
+                        while (!failed.get() && System.nanoTime() < deadline) {
+                            Thread.onSpinWait();
+                        }
+                        
+                        Thread.sleep(200);
+                    }
+                    
+                    return Integer.compare(x, y);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                } finally {
+                    comparing.decrementAndGet();
+                }
+            });
+            
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> {
+                future.get();
+            });
+            
+            assertTrue(exception.getCause() instanceof IllegalStateException);
+            assertEquals(0, comparing.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    /**
+     * Test method for {@link Sorter#Sorter(java.util.concurrent.Executor, int)}.
+     */
+    @Test
+    void constructor_InvalidArguments_ExceptionThrown() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            new Sorter(Runnable::run, 0);
+        });
+        
+        assertThrows(NullPointerException.class, () -> {
+            new Sorter(null, 4);
+        });
+    }
+    
+    private Integer[] randomItems(int size) {
+        Random random = new Random(42);
+        Integer[] items = new Integer[size];
+        
+        for (int i = 0; i < size; i++) {
+            items[i] = random.nextInt();
+        }
+        
+        return items;
+    }
+}
\ No newline at end of file
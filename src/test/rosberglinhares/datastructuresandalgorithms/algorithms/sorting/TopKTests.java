@@ -0,0 +1,172 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package rosberglinhares.datastructuresandalgorithms.algorithms.sorting;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the {@link TopK} class.
+ */
+class TopKTests {
+    
+    /**
+     * Test method for {@link TopK#TopK(int, java.util.Comparator)}.
+     */
+    @Test
+    void constructor_InvalidArguments_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> new TopK<Integer>(-1, Comparator.naturalOrder()));
+        assertThrows(NullPointerException.class, () -> new TopK<Integer>(10, null));
+    }
+    
+    /**
+     * Test method for {@link TopK#toList()}.
+     */
+    @Test
+    void toList_NoItems_ShouldReturnEmptyList() {
+        TopK<Integer> topK = new TopK<Integer>(10, Comparator.naturalOrder());
+        
+        assertEquals(0, topK.size());
+        assertEquals(List.of(), topK.toList());
+    }
+    
+    /**
+     * Test method for {@link TopK#add(java.lang.Object)}.
+     */
+    @Test
+    void add_FewerItemsThanCount_KeepsAllItemsInOrder() {
+        TopK<Integer> topK = new TopK<Integer>(10, Comparator.naturalOrder());
+        
+        for (int item : new int[]{ 8, 20, 5, 15, 3, 17 }) {
+            topK.add(item);
+        }
+        
+        assertEquals(6, topK.size());
+        assertEquals(List.of(3, 5, 8, 15, 17, 20), topK.toList());
+    }
+    
+    /**
+     * Test method for {@link TopK#add(java.lang.Object)}.
+     */
+    @Test
+    void add_ZeroCount_KeepsNothing() {
+        TopK<Integer> topK = new TopK<Integer>(0, Comparator.naturalOrder());
+        
+        topK.add(1);
+        topK.add(2);
+        
+        assertEquals(0, topK.size());
+        assertEquals(List.of(), topK.toList());
+    }
+    
+    /**
+     * Test method for {@link TopK#addAll(java.util.Iterator)}.
+     */
+    @Test
+    void addAll_LargeIterator_KeepsSmallestItems() {
+        Random random = new Random(42);
+        Integer[] items = new Integer[100_000];
+        
+        for (int i = 0; i < items.length; i++) {
+            items[i] = random.nextInt();
+        }
+        
+        Integer[] expected = items.clone();
+        Arrays.sort(expected);
+        
+        TopK<Integer> topK = new TopK<Integer>(100, Comparator.naturalOrder());
+        topK.addAll(Arrays.asList(items).iterator());
+        
+        assertEquals(100, topK.size());
+        assertEquals(Arrays.asList(expected).subList(0, 100), topK.toList());
+        
+        // The largest items are collected with a reversed comparator
+        TopK<Integer> bottomK = new TopK<Integer>(100, Comparator.reverseOrder());
+        Arrays.stream(items).forEach(bottomK);
+        
+        List<Integer> expectedLargest = new ArrayList<Integer>(Arrays.asList(expected).subList(items.length - 100, items.length));
+        expectedLargest.sort(Comparator.reverseOrder());
+        assertEquals(expectedLargest, bottomK.toList());
+    }
+    
+    /**
+     * Test method for {@link TopK#add(java.lang.Object)}.
+     * Among equal items, the first ones offered are kept.
+     */
+    @Test
+    void add_EqualKeys_KeepsFirstItems() {
+        TopK<String> topK = new TopK<String>(3, Comparator.comparingInt(String::length));
+        
+        for (String item : new String[]{ "plum", "fig", "kiwi", "pear", "banana", "lime" }) {
+            topK.add(item);
+        }
+        
+        List<String> items = topK.toList();
+        
+        assertEquals("fig", items.get(0));
+        assertEquals(List.of("kiwi", "plum"), items.subList(1, 3).stream().sorted().collect(Collectors.toList()));
+    }
+    
+    /**
+     * Test method for {@link TopK#collector(int, java.util.Comparator)}.
+     */
+    @Test
+    void collector_ParallelStream_KeepsSmallestItems() {
+        List<Integer> expected = IntStream.range(0, 50).boxed().collect(Collectors.toList());
+        
+        List<Integer> sequential = IntStream.range(0, 1_000_000).map(i -> 999_999 - i).boxed()
+                                            .collect(TopK.collector(50, Comparator.naturalOrder()));
+        assertEquals(expected, sequential);
+        
+        List<Integer> parallel = IntStream.range(0, 1_000_000).map(i -> 999_999 - i).boxed().parallel()
+                                          .collect(TopK.collector(50, Comparator.naturalOrder()));
+        assertEquals(expected, parallel);
+    }
+    
+    /**
+     * Test method for {@link TopK#toList()}.
+     * The list is a copy, so the collector keeps collecting after it is taken.
+     */
+    @Test
+    void toList_MoreItemsAdded_CollectorUnchanged() {
+        TopK<Integer> topK = new TopK<Integer>(3, Comparator.naturalOrder());
+        
+        topK.add(5);
+        topK.add(4);
+        topK.add(3);
+        assertEquals(List.of(3, 4, 5), topK.toList());
+        
+        topK.add(1);
+        assertEquals(List.of(1, 3, 4), topK.toList());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package rosberglinhares.datastructuresandalgorithms.datastructures;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the {@link Growth} class.
+ */
+class GrowthTests {
+    
+    /**
+     * Test method for {@link Growth#checkGrowthFactor(double)} and {@link Growth#isGrowable(double)}.
+     */
+    @Test
+    void checkGrowthFactor_InvalidFactor_ThrowsIllegalArgumentException() {
+        assertEquals(1.5, Growth.checkGrowthFactor(1.5));
+        assertEquals(Growth.FIXED_CAPACITY, Growth.checkGrowthFactor(Growth.FIXED_CAPACITY));
+        assertThrows(IllegalArgumentException.class, () -> Growth.checkGrowthFactor(0.5));
+        assertThrows(IllegalArgumentException.class, () -> Growth.checkGrowthFactor(Double.NaN));
+        
+        assertTrue(Growth.isGrowable(2));
+        assertFalse(Growth.isGrowable(Growth.FIXED_CAPACITY));
+    }
+    
+    /**
+     * Test method for {@link Growth#newCapacity(int, long, double, int)}.
+     */
+    @Test
+    void newCapacity_VariousCapacities_GrowsGeometrically() {
+        assertEquals(150, Growth.newCapacity(100, 101, 1.5, Growth.MAX_ARRAY_CAPACITY));
+        
+        // Small and empty arrays still grow by a few elements
+        assertEquals(4, Growth.newCapacity(0, 1, 2, Growth.MAX_ARRAY_CAPACITY));
+        assertEquals(6, Growth.newCapacity(2, 3, 1.1, Growth.MAX_ARRAY_CAPACITY));
+        
+        // A bulk insertion may need more than a single growth step
+        assertEquals(500, Growth.newCapacity(100, 500, 2, Growth.MAX_ARRAY_CAPACITY));
+        
+        // Close to the limit, the capacity stops at the maximum
+        assertEquals(1000, Growth.newCapacity(900, 901, 2, 1000));
+        assertThrows(OutOfMemoryError.class, () -> Growth.newCapacity(1000, 1001, 2, 1000));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.datastructures;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the {@link MemoryLayout} class.
+ */
+class MemoryLayoutTests {
+    
+    /**
+     * Test method for {@link MemoryLayout#objectBytes(int, int)}.
+     */
+    @Test
+    void objectBytes_ShouldBeAligned() {
+        assertEquals(16, MemoryLayout.objectBytes(0, 0));
+        assertEquals(16, MemoryLayout.objectBytes(1, 0));
+        assertEquals(24, MemoryLayout.objectBytes(2, 0));
+        assertEquals(24, MemoryLayout.objectBytes(1, Long.BYTES));
+    }
+    
+    /**
+     * Test method for {@link MemoryLayout#referenceArrayBytes(int)} and {@link MemoryLayout#primitiveArrayBytes(int, int)}.
+     */
+    @Test
+    void arrayBytes_ShouldIncludeHeaderAndBeAligned() {
+        assertEquals(16, MemoryLayout.referenceArrayBytes(0));
+        assertEquals(24, MemoryLayout.referenceArrayBytes(1));
+        assertEquals(56, MemoryLayout.referenceArrayBytes(10));
+        assertEquals(8016, MemoryLayout.primitiveArrayBytes(1000, Long.BYTES));
+        assertEquals(24, MemoryLayout.primitiveArrayBytes(5, Byte.BYTES));
+    }
+    
+    /**
+     * Test method for {@link MemoryLayout#shallowBytes(Class)}.
+     * Static fields are ignored, and inherited fields are counted.
+     */
+    @Test
+    void shallowBytes_DeclaredFields_SameAsObjectBytes() {
+        assertEquals(MemoryLayout.objectBytes(0, 0), MemoryLayout.shallowBytes(Object.class));
+        assertEquals(MemoryLayout.objectBytes(2, Long.BYTES + Integer.BYTES + 1),
+                     MemoryLayout.shallowBytes(Base.class));
+        assertEquals(MemoryLayout.objectBytes(3, Long.BYTES + Integer.BYTES + 1 + Short.BYTES + Double.BYTES),
+                     MemoryLayout.shallowBytes(Derived.class));
+    }
+    
+    @SuppressWarnings("unused")
+    private static class Base {
+        static final Object IGNORED = new Object();
+        
+        private Object first;
+        private int[] second;
+        private long third;
+        private int fourth;
+        private boolean fifth;
+    }
+    
+    @SuppressWarnings("unused")
+    private static class Derived extends Base {
+        private String sixth;
+        private char seventh;
+        private double eighth;
+    }
+}
\ No newline at end of file
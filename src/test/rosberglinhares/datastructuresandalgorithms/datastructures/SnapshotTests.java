@@ -0,0 +1,267 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package rosberglinhares.datastructuresandalgorithms.datastructures;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the {@link SnapshotWriter}, {@link SnapshotReader} and {@link ElementCodec} classes.
+ */
+class SnapshotTests {
+    
+    /**
+     * Test method for {@link SnapshotWriter#write(Object)} and {@link SnapshotReader#read()}.
+     * Many fixed-size elements, spanning several buffers, should be read back as they were written.
+     */
+    @Test
+    void writeAndRead_ManyLongs_SameElements() throws IOException {
+        long[] values = new Random(1).longs(100_000).toArray();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        
+        try (WritableByteChannel channel = Channels.newChannel(output)) {
+            SnapshotWriter<Long> writer = new SnapshotWriter<Long>(channel, ElementCodec.longs(), SnapshotLayout.ARRAY,
+                                                                   values.length);
+            
+            for (long value : values) {
+                writer.write(value);
+            }
+            
+            writer.finish();
+        }
+        
+        // A short header and the values themselves, with no per-element overhead
+        assertEquals(values.length * Long.BYTES + 24, output.size());
+        
+        SnapshotReader<Long> reader = new SnapshotReader<Long>(this.channelOf(output.toByteArray()),
+                                                               ElementCodec.longs(), SnapshotLayout.ARRAY);
+        
+        assertEquals(values.length, reader.count());
+        
+        for (long value : values) {
+            assertEquals(value, (long)reader.read());
+        }
+        
+        reader.finish();
+    }
+    
+    /**
+     * Test method for {@link ElementCodec#strings()}.
+     * Strings of every kind, including ones larger than the buffer, should be read back as they were written.
+     */
+    @Test
+    void writeAndRead_Strings_SameElements() throws IOException {
+        char[] longChars = new char[200_000];
+        Arrays.fill(longChars, '\u00E9');
+        
+        String[] values = { "", "abc", "\u00E7\u00E3o", "\u20AC100", "\uD83D\uDE00 emoji", new String(longChars), "end" };
+        
+        Object[] elements = this.readAll(this.write(ElementCodec.strings(), values), ElementCodec.strings());
+        
+        assertEquals(Arrays.asList(values), Arrays.asList(elements));
+        
+        // The same bytes as the standard encoder, with unpaired surrogates replaced
+        for (String value : new String[]{ "\uD83D\uDE00\u00FF\u0800", "a\uD83Db", "\uDE00" }) {
+            assertEquals(value.getBytes(StandardCharsets.UTF_8).length,
+                         ElementCodec.strings().encodedSize(value));
+        }
+        
+        assertEquals("a?b", this.readAll(this.write(ElementCodec.strings(), new String[]{ "a\uD83Db" }),
+                                         ElementCodec.strings())[0]);
+    }
+    
+    /**
+     * Test method for {@link SnapshotReader#read()} and {@link SnapshotReader#finish()}.
+     * Snapshots sent one after the other through the same channel should each be read up to their own end only.
+     */
+    @Test
+    void read_SnapshotsBackToBack_EachReadWhole() throws IOException {
+        char[] longChars = new char[100_000];
+        Arrays.fill(longChars, 'x');
+        
+        String[] strings = { "a", new String(longChars), "", "bc" };
+        Long[] longs = new Random(1).longs(20_000).boxed().toArray(Long[]::new);
+        byte[] trailer = { 1, 2, 3 };
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        
+        output.write(this.write(ElementCodec.strings(), strings));
+        output.write(this.write(ElementCodec.longs(), longs));
+        output.write(this.write(ElementCodec.strings(), new String[0]));
+        output.write(trailer);
+        
+        ReadableByteChannel channel = this.channelOf(output.toByteArray());
+        
+        assertEquals(Arrays.asList(strings), Arrays.asList(this.readAll(channel, ElementCodec.strings())));
+        assertEquals(Arrays.asList(longs), Arrays.asList(this.readAll(channel, ElementCodec.longs())));
+        assertEquals(0, this.readAll(channel, ElementCodec.strings()).length);
+        
+        ByteBuffer rest = ByteBuffer.allocate(10);
+        
+        while (channel.read(rest) >= 0) {
+            // Reads until the end of the channel
+        }
+        
+        assertEquals(trailer.length, rest.position());
+    }
+    
+    /**
+     * Test method for {@link SnapshotReader#finish()}.
+     * A snapshot with a changed byte should be rejected.
+     */
+    @Test
+    void read_CorruptedSnapshot_ExceptionThrown() throws IOException {
+        byte[] snapshot = this.write(ElementCodec.ints(), new Integer[]{ 1, 2, 3 });
+        snapshot[snapshot.length - 6] ^= 1;
+        
+        assertThrows(IOException.class, () -> {
+            this.readAll(snapshot, ElementCodec.ints());
+        });
+    }
+    
+    /**
+     * Test method for {@link SnapshotReader#read()}.
+     * A snapshot cut short should be rejected.
+     */
+    @Test
+    void read_TruncatedSnapshot_ExceptionThrown() throws IOException {
+        byte[] snapshot = this.write(ElementCodec.strings(), new String[]{ "a", "bc", "def" });
+        
+        for (int length = 0; length < snapshot.length; length++) {
+            byte[] truncatedSnapshot = Arrays.copyOf(snapshot, length);
+            
+            assertThrows(EOFException.class, () -> {
+                this.readAll(truncatedSnapshot, ElementCodec.strings());
+            });
+        }
+    }
+    
+    /**
+     * Test method for {@link SnapshotReader#read()}.
+     * A corrupted element size close to the largest array should make the reader run out of data, not of memory.
+     */
+    @Test
+    void read_HugeElementSize_ExceptionThrown() throws IOException {
+        byte[] snapshot = this.write(ElementCodec.strings(), new String[]{ "a" });
+        
+        // Replaces the one-byte size before the element and the checksum with the varint of 0x7FFFFFF0
+        int sizePosition = snapshot.length - Integer.BYTES - 2;
+        byte[] hugeSize = { (byte)0xF0, (byte)0xFF, (byte)0xFF, (byte)0xFF, 0x07 };
+        byte[] corruptedSnapshot = new byte[snapshot.length + hugeSize.length - 1];
+        
+        System.arraycopy(snapshot, 0, corruptedSnapshot, 0, sizePosition);
+        System.arraycopy(hugeSize, 0, corruptedSnapshot, sizePosition, hugeSize.length);
+        System.arraycopy(snapshot, sizePosition + 1, corruptedSnapshot, sizePosition + hugeSize.length,
+                         snapshot.length - sizePosition - 1);
+        
+        assertThrows(EOFException.class, () -> {
+            this.readAll(corruptedSnapshot, ElementCodec.strings());
+        });
+    }
+    
+    /**
+     * Test method for {@link SnapshotReader#SnapshotReader(ReadableByteChannel, ElementCodec, SnapshotLayout)}.
+     * A snapshot should only be read with the codec and layout it was written with.
+     */
+    @Test
+    void read_DifferentCodecOrLayout_ExceptionThrown() throws IOException {
+        byte[] snapshot = this.write(ElementCodec.ints(), new Integer[]{ 1, 2, 3 });
+        
+        assertThrows(IOException.class, () -> {
+            new SnapshotReader<Long>(this.channelOf(snapshot), ElementCodec.longs(), SnapshotLayout.ARRAY);
+        });
+        assertThrows(IOException.class, () -> {
+            new SnapshotReader<Integer>(this.channelOf(snapshot), ElementCodec.ints(), SnapshotLayout.STACK);
+        });
+        assertThrows(IOException.class, () -> {
+            new SnapshotReader<Integer>(this.channelOf(new byte[100]), ElementCodec.ints(), SnapshotLayout.ARRAY);
+        });
+    }
+    
+    /**
+     * Test method for {@link SnapshotWriter#write(Object)} and {@link SnapshotWriter#finish()}.
+     * The writer should enforce the number of elements announced in the header.
+     */
+    @Test
+    void write_WrongElementCount_ExceptionThrown() throws IOException {
+        WritableByteChannel channel = Channels.newChannel(new ByteArrayOutputStream());
+        SnapshotWriter<Integer> writer = new SnapshotWriter<Integer>(channel, ElementCodec.ints(), SnapshotLayout.ARRAY, 1);
+        
+        assertThrows(IllegalStateException.class, () -> {
+            writer.finish();
+        });
+        assertThrows(NullPointerException.class, () -> {
+            writer.write(null);
+        });
+        
+        writer.write(1);
+        
+        assertThrows(IllegalStateException.class, () -> {
+            writer.write(2);
+        });
+    }
+    
+    private <T> byte[] write(ElementCodec<T> codec, T[] values) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        
+        try (WritableByteChannel channel = Channels.newChannel(output)) {
+            SnapshotWriter<T> writer = new SnapshotWriter<T>(channel, codec, SnapshotLayout.ARRAY, values.length);
+            
+            for (T value : values) {
+                writer.write(value);
+            }
+            
+            writer.finish();
+        }
+        
+        return output.toByteArray();
+    }
+    
+    private <T> Object[] readAll(byte[] snapshot, ElementCodec<T> codec) throws IOException {
+        return this.readAll(this.channelOf(snapshot), codec);
+    }
+    
+    private <T> Object[] readAll(ReadableByteChannel channel, ElementCodec<T> codec) throws IOException {
+        SnapshotReader<T> reader = new SnapshotReader<T>(channel, codec, SnapshotLayout.ARRAY);
+        
+        return Arrays.copyOf(reader.readAll(0), reader.count());
+    }
+    
+    private ReadableByteChannel channelOf(byte[] snapshot) {
+        return Channels.newChannel(new ByteArrayInputStream(snapshot));
+    }
+}
\ No newline at end of file
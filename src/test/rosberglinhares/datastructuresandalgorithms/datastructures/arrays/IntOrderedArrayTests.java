@@ -0,0 +1,170 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package rosberglinhares.datastructuresandalgorithms.datastructures.arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the {@link IntOrderedArray} class.
+ */
+class IntOrderedArrayTests {
+    
+    /**
+     * Test method for {@link IntOrderedArray#insert(int)}.
+     * When insert random elements, these elements should be stored in ascending order.
+     */
+    @Test
+    void insert_RandomElements_StoredInOrder() {
+        try (IntOrderedArray array = new IntOrderedArray(5)) {
+            array.insert(7);
+            array.insert(-9);
+            array.insert(3);
+            array.insert(11);
+            array.insert(3);
+            
+            assertEquals(5, array.size());
+            assertEquals(-9, array.get(0));
+            assertEquals(3, array.get(1));
+            assertEquals(3, array.get(2));
+            assertEquals(7, array.get(3));
+            assertEquals(11, array.get(4));
+            
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> {
+                array.insert(8);
+            });
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> {
+                array.get(5);
+            });
+        }
+    }
+    
+    /**
+     * Test method for {@link IntOrderedArray#binarySearch(int)}, {@link IntOrderedArray#indexOf(int)} and
+     * {@link IntOrderedArray#delete(int)}.
+     * Random operations on a growable array should give the same results as on an {@link OrderedArray}.
+     */
+    @Test
+    void operations_RandomElements_SameAsOrderedArray() {
+        OrderedArray<Integer> expectedArray = new OrderedArray<Integer>(0, 2.0);
+        Random random = new Random(1);
+        
+        try (IntOrderedArray array = new IntOrderedArray(0, 1.5)) {
+            for (int i = 0; i < 20000; i++) {
+                int value = random.nextInt(1000) - 500;
+                
+                switch (random.nextInt(3)) {
+                    case 0:
+                        array.insert(value);
+                        expectedArray.insert(value);
+                        break;
+                    case 1:
+                        assertEquals(expectedArray.delete(value), array.delete(value));
+                        break;
+                    default:
+                        assertEquals(expectedArray.indexOf(value), array.indexOf(value));
+                        assertEquals(expectedArray.binarySearch(value), array.binarySearch(value));
+                        break;
+                }
+            }
+            
+            assertEquals(expectedArray.size(), array.size());
+            assertEquals(expectedArray.highWaterMark(), array.highWaterMark());
+            
+            for (int i = 0; i < array.size(); i++) {
+                assertEquals((int)expectedArray.get(i), array.get(i));
+            }
+        }
+    }
+    
+    /**
+     * Test method for {@link IntOrderedArray#close()}.
+     * Once closed, the array should release its memory and reject any access to its elements.
+     */
+    @Test
+    void close_ArrayClosed_AccessRejected() {
+        IntOrderedArray array = new IntOrderedArray(10);
+        
+        array.insert(7);
+        assertEquals(10 * Integer.BYTES, array.offHeapBytes());
+        assertFalse(array.isClosed());
+        
+        array.close();
+        array.close();
+        
+        assertTrue(array.isClosed());
+        assertEquals(0, array.offHeapBytes());
+        assertEquals(0, array.capacity());
+        assertThrows(IllegalStateException.class, () -> {
+            array.insert(8);
+        });
+        assertThrows(IllegalStateException.class, () -> {
+            array.get(0);
+        });
+        assertThrows(IllegalStateException.class, () -> {
+            array.binarySearch(7);
+        });
+    }
+    
+    /**
+     * Test method for {@link IntOrderedArray#ensureCapacity(int)} and {@link IntOrderedArray#trimToSize()}.
+     */
+    @Test
+    void ensureCapacityAndTrimToSize() {
+        try (IntOrderedArray array = new IntOrderedArray(2)) {
+            array.insert(7);
+            array.insert(3);
+            array.ensureCapacity(10);
+            
+            assertEquals(10, array.capacity());
+            
+            array.insert(9);
+            array.trimToSize();
+            
+            assertEquals(3, array.capacity());
+            assertEquals(3, array.get(0));
+            assertEquals(7, array.get(1));
+            assertEquals(9, array.get(2));
+        }
+    }
+    
+    /**
+     * Test method for {@link IntOrderedArray#IntOrderedArray(int, double)}.
+     */
+    @Test
+    void constructor_InvalidArguments_ExceptionThrown() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            new IntOrderedArray(10, 0.5);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new IntOrderedArray(-1);
+        });
+    }
+}
\ No newline at end of file
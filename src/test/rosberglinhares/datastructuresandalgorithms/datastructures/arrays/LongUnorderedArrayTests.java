@@ -0,0 +1,133 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package rosberglinhares.datastructuresandalgorithms.datastructures.arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import rosberglinhares.datastructuresandalgorithms.datastructures.arrays.UnorderedArray.DeletionMode;
+
+/**
+ * Test cases for the {@link LongUnorderedArray} class.
+ */
+class LongUnorderedArrayTests {
+    
+    /**
+     * Test method for {@link LongUnorderedArray#insert(long)} and {@link LongUnorderedArray#delete(long)}.
+     * When insert and delete random elements, the remaining elements should keep their order.
+     */
+    @Test
+    void delete_RandomElements_CorrectlyStored() {
+        try (LongUnorderedArray array = new LongUnorderedArray(6)) {
+            array.insert(7);
+            array.insert(Long.MAX_VALUE);
+            array.insert(3);
+            array.insert(11);
+            array.insert(Long.MIN_VALUE);
+            array.insert(4);
+            
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> {
+                array.insert(8);
+            });
+            
+            array.delete(7);
+            array.delete(3);
+            array.delete(4);
+            
+            assertEquals(3, array.size());
+            assertEquals(Long.MAX_VALUE, array.get(0));
+            assertEquals(11, array.get(1));
+            assertEquals(Long.MIN_VALUE, array.get(2));
+        }
+    }
+    
+    /**
+     * Test method for {@link LongUnorderedArray#search(long)} and {@link LongUnorderedArray#delete(long)}.
+     * Random operations should give the same results as on an {@link UnorderedArray}, in both deletion modes.
+     */
+    @Test
+    void operations_RandomElements_SameAsUnorderedArray() {
+        for (DeletionMode deletionMode : DeletionMode.values()) {
+            UnorderedArray<Long> expectedArray = new UnorderedArray<Long>(0, 2.0, deletionMode, false);
+            Random random = new Random(deletionMode.ordinal());
+            
+            try (LongUnorderedArray array = new LongUnorderedArray(0, 1.5, deletionMode)) {
+                for (int i = 0; i < 20000; i++) {
+                    long value = random.nextInt(500) * 0x1_0000_0001L;
+                    
+                    switch (random.nextInt(3)) {
+                        case 0:
+                            array.insert(value);
+                            expectedArray.insert(value);
+                            break;
+                        case 1:
+                            assertEquals(expectedArray.delete(value), array.delete(value));
+                            break;
+                        default:
+                            assertEquals(expectedArray.search(value), array.search(value));
+                            break;
+                    }
+                }
+                
+                assertEquals(expectedArray.size(), array.size());
+                
+                for (int i = 0; i < array.size(); i++) {
+                    assertEquals((long)expectedArray.get(i), array.get(i));
+                }
+            }
+        }
+    }
+    
+    /**
+     * Test method for {@link LongUnorderedArray#close()}.
+     */
+    @Test
+    void close_ArrayClosed_AccessRejected() {
+        LongUnorderedArray array = new LongUnorderedArray(4);
+        
+        array.insert(7);
+        array.close();
+        
+        assertThrows(IllegalStateException.class, () -> {
+            array.search(7);
+        });
+        assertThrows(IllegalStateException.class, () -> {
+            array.delete(7);
+        });
+    }
+    
+    /**
+     * Test method for {@link LongUnorderedArray#LongUnorderedArray(int, double, DeletionMode)}.
+     */
+    @Test
+    void constructor_NullDeletionMode_ExceptionThrown() {
+        assertThrows(NullPointerException.class, () -> {
+            new LongUnorderedArray(10, LongUnorderedArray.FIXED_CAPACITY, null);
+        });
+    }
+}
\ No newline at end of file
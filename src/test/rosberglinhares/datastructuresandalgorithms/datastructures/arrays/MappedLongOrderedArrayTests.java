@@ -0,0 +1,314 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package rosberglinhares.datastructuresandalgorithms.datastructures.arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the {@link MappedLongOrderedArray} class.
+ */
+class MappedLongOrderedArrayTests {
+    private static final int OPERATION_OFFSET = 20;
+    private static final int LATEST_SIZE_OFFSET = 32;  // The size of the record written by the fourth change
+    private static final int SYNCED_OFFSET = 60;
+    private static final int ELEMENTS_OFFSET = 64;
+    
+    /**
+     * Test method for {@link MappedLongOrderedArray#open(Path)}.
+     * The elements inserted and deleted before closing the array should be found after reopening it.
+     */
+    @Test
+    void open_ClosedArray_ElementsPersisted() throws IOException {
+        Path file = Files.createTempFile("mapped-array", null);
+        OrderedArray<Long> expectedArray = new OrderedArray<Long>(1000);
+        Random random = new Random(1);
+        
+        try {
+            try (MappedLongOrderedArray array = MappedLongOrderedArray.create(file, 1000)) {
+                for (int i = 0; i < 1000; i++) {
+                    long value = random.nextInt(200) - 100;
+                    array.insert(value);
+                    expectedArray.insert(value);
+                }
+                
+                for (int i = 0; i < 500; i++) {
+                    long value = random.nextInt(200) - 100;
+                    assertEquals(expectedArray.delete(value), array.delete(value));
+                }
+            }
+            
+            try (MappedLongOrderedArray array = MappedLongOrderedArray.open(file)) {
+                assertEquals(expectedArray.size(), array.size());
+                assertEquals(1000, array.capacity());
+                assertEquals(1000, array.highWaterMark());
+                
+                for (int i = 0; i < array.size(); i++) {
+                    assertEquals((long)expectedArray.get(i), array.get(i));
+                }
+                
+                for (long value = -101; value <= 100; value++) {
+                    assertEquals(expectedArray.indexOf(value), array.indexOf(value));
+                }
+                
+                // The reopened array can still be changed
+                array.insert(Long.MAX_VALUE);
+                assertTrue(array.binarySearch(Long.MAX_VALUE));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+    
+    /**
+     * Test method for {@link MappedLongOrderedArray#insert(long)}.
+     * When try to insert more elements than the capacity, an exception should be thrown.
+     */
+    @Test
+    void insert_ElementsCountGreaterThanCapacity_ExceptionThrown() throws IOException {
+        Path file = Files.createTempFile("mapped-array", null);
+        
+        try (MappedLongOrderedArray array = MappedLongOrderedArray.create(file, 2)) {
+            array.insert(7);
+            array.insert(3);
+            
+            assertThrows(ArrayIndexOutOfBoundsException.class, () -> {
+                array.insert(8);
+            });
+            assertEquals(3, array.get(0));
+            assertEquals(7, array.get(1));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+    
+    /**
+     * Test method for {@link MappedLongOrderedArray#open(Path)}.
+     * A size record torn by a crash should be ignored in favor of the previous one.
+     */
+    @Test
+    void open_TornSizeRecord_PreviousSizeUsed() throws IOException {
+        Path file = this.createArray(10, 20, 30);
+        
+        try {
+            this.writeInt(file, LATEST_SIZE_OFFSET, 12345);
+            
+            try (MappedLongOrderedArray array = MappedLongOrderedArray.open(file)) {
+                assertEquals(2, array.size());
+                assertEquals(10, array.get(0));
+                assertEquals(20, array.get(1));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+    
+    /**
+     * Test method for {@link MappedLongOrderedArray#open(Path)}.
+     * A file changed after its last flush should be accepted only if its elements are still in order.
+     */
+    @Test
+    void open_NotSynced_OrderChecked() throws IOException {
+        Path file = this.createArray(10, 20, 30);
+        
+        try {
+            this.writeInt(file, SYNCED_OFFSET, 0);
+            
+            try (MappedLongOrderedArray array = MappedLongOrderedArray.open(file)) {
+                assertEquals(3, array.size());
+            }
+            
+            this.writeInt(file, SYNCED_OFFSET, 0);
+            this.writeLong(file, ELEMENTS_OFFSET, 25);
+            
+            assertThrows(IOException.class, () -> {
+                MappedLongOrderedArray.open(file);
+            });
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+    
+    /**
+     * Test method for {@link MappedLongOrderedArray#open(Path)}.
+     * A file left in the middle of an insertion or deletion by a crash should be rejected.
+     */
+    @Test
+    void open_InterruptedOperation_ExceptionThrown() throws IOException {
+        Path file = this.createArray(10, 20, 30);
+        
+        try {
+            this.writeInt(file, OPERATION_OFFSET, 1);
+            
+            assertThrows(IOException.class, () -> {
+                MappedLongOrderedArray.open(file);
+            });
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+    
+    /**
+     * Test method for {@link MappedLongOrderedArray#recover(Path)}.
+     * A file left in the middle of an insertion by a crash should keep its last committed size, as long as its
+     * elements are still in order. Here the larger elements were already moved up, but the value wasn't written.
+     */
+    @Test
+    void recover_InterruptedOperation_LastSizeKept() throws IOException {
+        Path file = this.createArray(10, 20, 30);
+        
+        try {
+            this.writeInt(file, OPERATION_OFFSET, 1);
+            this.writeInt(file, SYNCED_OFFSET, 0);
+            this.writeLong(file, ELEMENTS_OFFSET + 2 * Long.BYTES, 20);
+            this.writeLong(file, ELEMENTS_OFFSET + 3 * Long.BYTES, 30);
+            
+            try (MappedLongOrderedArray array = MappedLongOrderedArray.recover(file)) {
+                assertEquals(3, array.size());
+                assertEquals(10, array.get(0));
+                assertEquals(20, array.get(1));
+                assertEquals(20, array.get(2));
+                
+                array.insert(40);
+            }
+            
+            // The flag was cleared, so the file opens normally again
+            try (MappedLongOrderedArray array = MappedLongOrderedArray.open(file)) {
+                assertEquals(4, array.size());
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+    
+    /**
+     * Test method for {@link MappedLongOrderedArray#recover(Path)}.
+     */
+    @Test
+    void recover_InterruptedOperationOutOfOrder_ExceptionThrown() throws IOException {
+        Path file = this.createArray(10, 20, 30);
+        
+        try {
+            this.writeInt(file, OPERATION_OFFSET, 1);
+            this.writeLong(file, ELEMENTS_OFFSET, 25);
+            
+            assertThrows(IOException.class, () -> {
+                MappedLongOrderedArray.recover(file);
+            });
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+    
+    /**
+     * Test method for {@link MappedLongOrderedArray#open(Path)}.
+     */
+    @Test
+    void open_InvalidFile_ExceptionThrown() throws IOException {
+        Path file = Files.createTempFile("mapped-array", null);
+        
+        try {
+            Files.write(file, new byte[100]);
+            
+            assertThrows(IOException.class, () -> {
+                MappedLongOrderedArray.open(file);
+            });
+            
+            try (MappedLongOrderedArray array = MappedLongOrderedArray.create(file, 10)) {
+                assertEquals(10, array.capacity());
+                
+                // The file can't be opened twice at the same time
+                assertThrows(IOException.class, () -> {
+                    MappedLongOrderedArray.open(file);
+                });
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+    
+    /**
+     * Test method for {@link MappedLongOrderedArray#close()}.
+     */
+    @Test
+    void close_ArrayClosed_AccessRejected() throws IOException {
+        Path file = this.createArray(10);
+        
+        try {
+            MappedLongOrderedArray array = MappedLongOrderedArray.open(file);
+            
+            array.close();
+            array.close();
+            
+            assertThrows(IllegalStateException.class, () -> {
+                array.binarySearch(10);
+            });
+            assertThrows(IllegalStateException.class, () -> {
+                array.insert(20);
+            });
+            assertFalse(Files.size(file) < ELEMENTS_OFFSET + 10 * Long.BYTES);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+    
+    private Path createArray(long... values) throws IOException {
+        Path file = Files.createTempFile("mapped-array", null);
+        
+        try (MappedLongOrderedArray array = MappedLongOrderedArray.create(file, 10)) {
+            for (long value : values) {
+                array.insert(value);
+            }
+        }
+        
+        return file;
+    }
+    
+    private void writeInt(Path file, int offset, int value) throws IOException {
+        this.write(file, offset, ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).putInt(0, value));
+    }
+    
+    private void writeLong(Path file, int offset, long value) throws IOException {
+        this.write(file, offset, ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(0, value));
+    }
+    
+    private void write(Path file, int offset, ByteBuffer buffer) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(buffer, offset);
+        }
+    }
+}
\ No newline at end of file
@@ -29,15 +29,27 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
+import rosberglinhares.datastructuresandalgorithms.datastructures.ElementCodec;
+import rosberglinhares.datastructuresandalgorithms.datastructures.MemoryLayout;
+
 /**
  * Test cases for the {@link OrderedArray} class.
  */
 class OrderedArrayTests {
 
     /**
-     * Test method for {@link OrderedArray#insert(java.lang.Comparable)}.
+     * Test method for {@link OrderedArray#insert(java.lang.Object) OrderedArray.insert(T)}.
      * When insert random elements, these elements should be correctly stored.
      */
     @Test
@@ -70,7 +82,7 @@ class OrderedArrayTests {
     }
 
     /**
-     * Test method for {@link OrderedArray#insert(java.lang.Comparable)}.
+     * Test method for {@link OrderedArray#insert(java.lang.Object) OrderedArray.insert(T)}.
      * When try to insert more elements than the capacity, an exception should be be thrown.
      */ 
     @Test
@@ -88,7 +100,7 @@ class OrderedArrayTests {
     }
     
     /**
-     * Test method for {@link OrderedArray#insert(java.lang.Comparable)}.
+     * Test method for {@link OrderedArray#insert(java.lang.Object) OrderedArray.insert(T)}.
      * When insert random elements, the size should be correctly updated.
      */
     @Test
@@ -107,7 +119,7 @@ class OrderedArrayTests {
     }
     
     /**
-     * Test method for {@link OrderedArray#binarySearch(java.lang.Comparable)}.
+     * Test method for {@link OrderedArray#binarySearch(java.lang.Object) OrderedArray.binarySearch(T)}.
      */
     @Test
     void binarySearch() {
@@ -144,7 +156,81 @@ class OrderedArrayTests {
     }
     
     /**
-     * Test method for {@link OrderedArray#delete(java.lang.Comparable)}.
+     * Test method for {@link OrderedArray#indexOf(java.lang.Object) OrderedArray.indexOf(T)}.
+     */
+    @Test
+    void indexOf() {
+        OrderedArray<Integer> array = new OrderedArray<Integer>(10);
+        
+        assertEquals(-1, array.indexOf(7));
+        
+        array.insert(20);
+        array.insert(5);
+        array.insert(8);
+        array.insert(8);
+        array.insert(2);
+        
+        assertEquals(0, array.indexOf(2));
+        assertEquals(2, array.indexOf(8));
+        assertEquals(4, array.indexOf(20));
+        assertEquals(-1, array.indexOf(1));
+        assertEquals(-3, array.indexOf(6));
+        assertEquals(-6, array.indexOf(21));
+    }
+    
+    /**
+     * Test method for {@link OrderedArray#lowerBound(java.lang.Object) OrderedArray.lowerBound(T)}
+     * and {@link OrderedArray#upperBound(java.lang.Object) OrderedArray.upperBound(T)}.
+     * The bounds should delimit the elements in a range.
+     */
+    @Test
+    void lowerBoundAndUpperBound_RangeQuery() {
+        OrderedArray<Integer> array = new OrderedArray<Integer>(10);
+        
+        assertEquals(0, array.lowerBound(7));
+        assertEquals(0, array.upperBound(7));
+        
+        array.insert(40);
+        array.insert(10);
+        array.insert(30);
+        array.insert(20);
+        array.insert(30);
+        array.insert(50);
+        
+        // Elements in [20, 40]: 20, 30, 30, 40
+        assertEquals(1, array.lowerBound(20));
+        assertEquals(5, array.upperBound(40));
+        
+        // Elements in [21, 39]: 30, 30
+        assertEquals(2, array.lowerBound(21));
+        assertEquals(4, array.upperBound(39));
+        
+        // No elements in [51, 60]
+        assertEquals(6, array.lowerBound(51));
+        assertEquals(6, array.upperBound(60));
+    }
+    
+    /**
+     * Test method for {@link OrderedArray#insert(java.lang.Object) OrderedArray.insert(T)}.
+     * Equal elements should be inserted after the ones already in the array.
+     */
+    @Test
+    void insert_EqualElements_InsertedAfterExistingOnes() {
+        OrderedArray<String> array = new OrderedArray<String>(5, Comparator.comparing(String::length));
+        
+        array.insert("ab");
+        array.insert("cd");
+        array.insert("e");
+        array.insert("fg");
+        
+        assertEquals("e", array.get(0));
+        assertEquals("ab", array.get(1));
+        assertEquals("cd", array.get(2));
+        assertEquals("fg", array.get(3));
+    }
+    
+    /**
+     * Test method for {@link OrderedArray#delete(java.lang.Object) OrderedArray.delete(T)}.
      * When insert and delete random elements, the remaining elements should be correctly stored.
      */
     @Test
@@ -178,7 +264,7 @@ class OrderedArrayTests {
     }
     
     /**
-     * Test method for {@link OrderedArray#delete(java.lang.Comparable)}.
+     * Test method for {@link OrderedArray#delete(java.lang.Object) OrderedArray.delete(T)}.
      * The array must return the correct value if the element to be deleted exists or not.
      */
     @Test
@@ -200,7 +286,7 @@ class OrderedArrayTests {
     }
     
     /**
-     * Test method for {@link OrderedArray#delete(java.lang.Comparable)}.
+     * Test method for {@link OrderedArray#delete(java.lang.Object) OrderedArray.delete(T)}.
      * When delete random elements, the size should be correctly updated.
      */
     @Test
@@ -224,4 +310,281 @@ class OrderedArrayTests {
         
         assertEquals(0, array.size());
     }
+    
+    /**
+     * Test method for {@link OrderedArray#OrderedArray(int, java.util.Comparator)}.
+     * When a comparator is given, the elements should be kept in the order it determines.
+     */
+    @Test
+    void comparator_RandomElements_OrderedByComparator() {
+        OrderedArray<String> array = new OrderedArray<String>(5, Comparator.comparing(String::length));
+        
+        array.insert("banana");
+        array.insert("fig");
+        array.insert("pear");
+        array.insert("apple");
+        
+        assertEquals("fig", array.get(0));
+        assertEquals("pear", array.get(1));
+        assertEquals("apple", array.get(2));
+        assertEquals("banana", array.get(3));
+        
+        // Elements are found by the comparator, not by equals
+        assertTrue(array.binarySearch("kiwi"));
+        assertFalse(array.binarySearch("pineapple"));
+        
+        assertTrue(array.delete("plum"));
+        assertEquals(3, array.size());
+        assertEquals("apple", array.get(1));
+    }
+    
+    /**
+     * Test method for {@link OrderedArray#insert(java.lang.Object) OrderedArray.insert(T)}.
+     * When the array is created with a growth factor, it should grow instead of throwing an exception.
+     */
+    @Test
+    void insert_GrowableArray_CapacityGrows() {
+        OrderedArray<Integer> array = new OrderedArray<Integer>(2, 1.5);
+        
+        assertEquals(2, array.capacity());
+        
+        for (int i = 100; i > 0; i--) {
+            array.insert(i);
+        }
+        
+        assertEquals(100, array.size());
+        assertTrue(array.capacity() >= 100);
+        assertTrue(array.delete(50));
+        assertFalse(array.binarySearch(50));
+        
+        // An empty array must be able to grow too
+        OrderedArray<Integer> emptyArray = new OrderedArray<Integer>(0, 2.0);
+        emptyArray.insert(1);
+        assertEquals(1, emptyArray.size());
+    }
+    
+    /**
+     * Test method for {@link OrderedArray#ensureCapacity(int)} and {@link OrderedArray#trimToSize()}.
+     */
+    @Test
+    void ensureCapacityAndTrimToSize() {
+        OrderedArray<Integer> array = new OrderedArray<Integer>(2);
+        
+        array.insert(7);
+        array.insert(3);
+        array.ensureCapacity(10);
+        
+        assertEquals(10, array.capacity());
+        
+        array.insert(9);
+        array.trimToSize();
+        
+        assertEquals(3, array.capacity());
+        assertEquals(3, array.size());
+        assertTrue(array.delete(7));
+        
+        // Without a growth factor, the array is still limited to its capacity
+        array.insert(8);
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {
+            array.insert(1);
+        });
+    }
+    
+    /**
+     * Test method for {@link OrderedArray#OrderedArray(int, double)}.
+     */
+    @Test
+    void constructor_InvalidGrowthFactor_ExceptionThrown() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            new OrderedArray<Integer>(10, 0.5);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new OrderedArray<Integer>(10, Double.NaN);
+        });
+    }
+    
+    /**
+     * Test method for {@link OrderedArray#highWaterMark()} and {@link OrderedArray#retainedBytes()}.
+     */
+    @Test
+    void statistics_InsertAndDelete_CorrectlyMaintained() {
+        OrderedArray<Integer> array = new OrderedArray<Integer>(10);
+        
+        assertEquals(0, array.highWaterMark());
+        
+        array.insert(7);
+        array.insert(9);
+        array.insert(3);
+        array.delete(9);
+        array.delete(3);
+        array.insert(11);
+        
+        assertEquals(2, array.size());
+        assertEquals(10, array.capacity());
+        assertEquals(3, array.highWaterMark());
+        
+        // The backing array dominates the footprint, and it doesn't depend on the number of elements
+        long retainedBytes = array.retainedBytes();
+        assertTrue(retainedBytes >= MemoryLayout.referenceArrayBytes(10));
+        
+        array.trimToSize();
+        assertTrue(array.retainedBytes() < retainedBytes);
+    }
+    
+    /**
+     * Test method for {@link OrderedArray#insertAll(java.lang.Object[])}.
+     */
+    @Test
+    void insertAll_RandomElements_MergedInOrder() {
+        OrderedArray<Integer> array = new OrderedArray<Integer>(11);
+        
+        array.insert(20);
+        array.insert(5);
+        array.insert(46);
+        array.insertAll(new Integer[]{ 51, 8, 40, 2, 55, 28, 36, 32 });
+        
+        assertEquals(11, array.size());
+        assertEquals(11, array.highWaterMark());
+        
+        Integer[] expected = { 2, 5, 8, 20, 28, 32, 36, 40, 46, 51, 55 };
+        
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], array.get(i));
+        }
+    }
+    
+    /**
+     * Test method for {@link OrderedArray#insertAll(java.util.Collection)}.
+     * Equal elements are told apart by their identity: the new ones must come after the old ones, in the order of the
+     * batch, as if they were inserted one by one.
+     */
+    @Test
+    void insertAll_EqualElements_InsertedAfterExistingOnes() {
+        OrderedArray<String> array = new OrderedArray<String>(2, 2.0, Comparator.comparingInt(String::length));
+        String existing = new String("bb");
+        String first = new String("bb");
+        String second = new String("bb");
+        
+        array.insert(existing);
+        array.insertAll(List.of("ccc", first, "a", second));
+        
+        assertEquals(5, array.size());
+        assertEquals("a", array.get(0));
+        assertTrue(existing == array.get(1));
+        assertTrue(first == array.get(2));
+        assertTrue(second == array.get(3));
+        assertEquals("ccc", array.get(4));
+    }
+    
+    /**
+     * Test method for {@link OrderedArray#insertAll(java.lang.Object[])}.
+     * A batch that doesn't fit in a fixed capacity array is rejected as a whole.
+     */
+    @Test
+    void insertAll_ElementsCountGreaterThanSize_ExceptionThrown() {
+        OrderedArray<Integer> array = new OrderedArray<Integer>(4);
+        
+        array.insert(10);
+        array.insert(30);
+        
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {
+            array.insertAll(new Integer[]{ 5, 20, 40 });
+        });
+        
+        assertEquals(2, array.size());
+        assertEquals(10, array.get(0));
+        assertEquals(30, array.get(1));
+    }
+    
+    /**
+     * Test method for {@link OrderedArray#deleteAll(java.lang.Object[])} and
+     * {@link OrderedArray#deleteAll(java.util.Collection)}.
+     * Each value deletes a single element, and values not found are ignored.
+     */
+    @Test
+    void deleteAll_RandomElements_CorrectlyDeleted() {
+        OrderedArray<Integer> array = new OrderedArray<Integer>(10);
+        
+        array.insertAll(new Integer[]{ 8, 2, 5, 8, 20, 8, 28, 5, 40, 46 });
+        
+        assertEquals(5, array.deleteAll(new Integer[]{ 8, 46, 3, 2, 8, 100, 5 }));
+        assertEquals(5, array.size());
+        assertEquals(10, array.highWaterMark());
+        
+        Integer[] expected = { 5, 8, 20, 28, 40 };
+        
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], array.get(i));
+        }
+        
+        assertEquals(0, array.deleteAll(List.of(1, 30)));
+        assertEquals(5, array.deleteAll(List.of(40, 28, 20, 8, 5)));
+        assertEquals(0, array.size());
+    }
+    
+    /**
+     * Test method for {@link OrderedArray#insertAll(java.lang.Object[])} and
+     * {@link OrderedArray#deleteAll(java.lang.Object[])}.
+     * The bulk operations must give the same result as inserting and deleting the values one by one.
+     */
+    @Test
+    void insertAllAndDeleteAll_LargeBatches_SameAsOneByOne() {
+        Random random = new Random(42);
+        OrderedArray<Integer> bulkArray = new OrderedArray<Integer>(0, 1.5);
+        OrderedArray<Integer> array = new OrderedArray<Integer>(0, 1.5);
+        
+        for (int round = 0; round < 10; round++) {
+            Integer[] inserted = random.ints(1000, 0, 500).boxed().toArray(Integer[]::new);
+            Integer[] deleted = random.ints(500, 0, 500).boxed().toArray(Integer[]::new);
+            
+            bulkArray.insertAll(inserted);
+            Arrays.stream(inserted).forEach(array::insert);
+            
+            bulkArray.deleteAll(deleted);
+            Arrays.stream(deleted).forEach(array::delete);
+            
+            assertEquals(array.size(), bulkArray.size());
+            
+            for (int i = 0; i < array.size(); i++) {
+                assertEquals(array.get(i), bulkArray.get(i));
+            }
+        }
+    }
+    
+    /**
+     * Test method for {@link OrderedArray#writeSnapshot(java.nio.channels.WritableByteChannel, ElementCodec)} and
+     * {@link OrderedArray#readSnapshot(java.nio.channels.ReadableByteChannel, ElementCodec)}.
+     * A restored array should hold the same elements, and a snapshot out of its order should be rejected.
+     */
+    @Test
+    void readSnapshot_SnapshotOfArray_SameElements() throws IOException {
+        OrderedArray<String> array = new OrderedArray<String>(5);
+        
+        array.insert("pear");
+        array.insert("apple");
+        array.insert("fig");
+        
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        array.writeSnapshot(Channels.newChannel(output), ElementCodec.strings());
+        
+        OrderedArray<String> restoredArray = new OrderedArray<String>(1);
+        restoredArray.readSnapshot(Channels.newChannel(new ByteArrayInputStream(output.toByteArray())),
+                                   ElementCodec.strings());
+        
+        assertEquals(3, restoredArray.size());
+        assertEquals("apple", restoredArray.get(0));
+        assertEquals("fig", restoredArray.get(1));
+        assertEquals("pear", restoredArray.get(2));
+        assertTrue(restoredArray.binarySearch("fig"));
+        
+        OrderedArray<String> reversedArray = new OrderedArray<String>(5, Comparator.reverseOrder());
+        reversedArray.insert("kiwi");
+        
+        assertThrows(IOException.class, () -> {
+            reversedArray.readSnapshot(Channels.newChannel(new ByteArrayInputStream(output.toByteArray())),
+                                       ElementCodec.strings());
+        });
+        assertEquals(1, reversedArray.size());
+        assertEquals("kiwi", reversedArray.get(0));
+    }
 }
\ No newline at end of file
@@ -24,13 +24,26 @@
 
 package rosberglinhares.datastructuresandalgorithms.datastructures.arrays;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
+import rosberglinhares.datastructuresandalgorithms.datastructures.arrays.UnorderedArray.DeletionMode;
+
+import rosberglinhares.datastructuresandalgorithms.datastructures.ElementCodec;
+import rosberglinhares.datastructuresandalgorithms.datastructures.MemoryLayout;
+
 /**
  * Test cases for the {@link UnorderedArray} class.
  */
@@ -190,4 +203,281 @@ class UnorderedArrayTests {
         
         assertEquals(0, array.size());
     }
+    
+    /**
+     * Test method for {@link UnorderedArray#insert(java.lang.Object) UnorderedArray.insert(T)}.
+     * When the array is created with a growth factor, it should grow instead of throwing an exception.
+     */
+    @Test
+    void insert_GrowableArray_CapacityGrows() {
+        UnorderedArray<Integer> array = new UnorderedArray<Integer>(2, 1.5);
+        
+        assertEquals(2, array.capacity());
+        
+        for (int i = 100; i > 0; i--) {
+            array.insert(i);
+        }
+        
+        assertEquals(100, array.size());
+        assertTrue(array.capacity() >= 100);
+        assertTrue(array.delete(50));
+        assertFalse(array.search(50) >= 0);
+        
+        // An empty array must be able to grow too
+        UnorderedArray<Integer> emptyArray = new UnorderedArray<Integer>(0, 2.0);
+        emptyArray.insert(1);
+        assertEquals(1, emptyArray.size());
+    }
+    
+    /**
+     * Test method for {@link UnorderedArray#ensureCapacity(int)} and {@link UnorderedArray#trimToSize()}.
+     */
+    @Test
+    void ensureCapacityAndTrimToSize() {
+        UnorderedArray<Integer> array = new UnorderedArray<Integer>(2);
+        
+        array.insert(7);
+        array.insert(3);
+        array.ensureCapacity(10);
+        
+        assertEquals(10, array.capacity());
+        
+        array.insert(9);
+        array.trimToSize();
+        
+        assertEquals(3, array.capacity());
+        assertEquals(3, array.size());
+        assertTrue(array.delete(7));
+        
+        // Without a growth factor, the array is still limited to its capacity
+        array.insert(8);
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> {
+            array.insert(1);
+        });
+    }
+    
+    /**
+     * Test method for {@link UnorderedArray#UnorderedArray(int, double)}.
+     */
+    @Test
+    void constructor_InvalidGrowthFactor_ExceptionThrown() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            new UnorderedArray<Integer>(10, 0.5);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new UnorderedArray<Integer>(10, Double.NaN);
+        });
+    }
+    
+    /**
+     * Test method for {@link UnorderedArray#highWaterMark()} and {@link UnorderedArray#retainedBytes()}.
+     */
+    @Test
+    void statistics_InsertAndDelete_CorrectlyMaintained() {
+        UnorderedArray<Integer> array = new UnorderedArray<Integer>(10);
+        
+        assertEquals(0, array.highWaterMark());
+        
+        array.insert(7);
+        array.insert(9);
+        array.insert(3);
+        array.delete(9);
+        array.delete(3);
+        array.insert(11);
+        
+        assertEquals(2, array.size());
+        assertEquals(10, array.capacity());
+        assertEquals(3, array.highWaterMark());
+        
+        // The backing array dominates the footprint, and it doesn't depend on the number of elements
+        long retainedBytes = array.retainedBytes();
+        assertTrue(retainedBytes >= MemoryLayout.referenceArrayBytes(10));
+        
+        array.trimToSize();
+        assertTrue(array.retainedBytes() < retainedBytes);
+    }
+    
+    /**
+     * Test method for {@link UnorderedArray#delete(java.lang.Object) UnorderedArray.delete(T)}.
+     * In the swap with last mode, the last element should fill the hole left by the deleted one.
+     */
+    @Test
+    void delete_SwapWithLast_LastElementFillsHole() {
+        UnorderedArray<Integer> array = new UnorderedArray<Integer>(5, UnorderedArray.FIXED_CAPACITY,
+                                                                    DeletionMode.SWAP_WITH_LAST, false);
+        
+        array.insert(7);
+        array.insert(9);
+        array.insert(3);
+        array.insert(11);
+        array.insert(8);
+        
+        assertTrue(array.delete(9));
+        assertTrue(array.delete(8));
+        
+        assertEquals(3, array.size());
+        assertEquals(7, array.get(0));
+        assertEquals(11, array.get(1));
+        assertEquals(3, array.get(2));
+    }
+    
+    /**
+     * Test method for {@link UnorderedArray#search(java.lang.Object) UnorderedArray.search(T)} and
+     * {@link UnorderedArray#delete(java.lang.Object) UnorderedArray.delete(T)}.
+     * A hash indexed array should hold the same elements as an array that scans its elements, in both deletion modes.
+     * When swapping with the last element, the indexed array may delete any of the equal elements, so only the order
+     * of the elements may differ.
+     */
+    @Test
+    void searchAndDelete_HashIndexed_SameAsLinearScan() {
+        for (DeletionMode deletionMode : DeletionMode.values()) {
+            UnorderedArray<Integer> indexedArray = new UnorderedArray<Integer>(0, 2.0, deletionMode, true);
+            UnorderedArray<Integer> scannedArray = new UnorderedArray<Integer>(0, 2.0, deletionMode, false);
+            Random random = new Random(deletionMode.ordinal());
+            
+            assertTrue(indexedArray.isHashIndexed());
+            assertFalse(scannedArray.isHashIndexed());
+            
+            for (int i = 0; i < 20000; i++) {
+                // Few distinct values, so there are many duplicates
+                Integer value = random.nextInt(500);
+                
+                switch (random.nextInt(3)) {
+                    case 0:
+                        indexedArray.insert(value);
+                        scannedArray.insert(value);
+                        break;
+                    case 1:
+                        assertEquals(scannedArray.delete(value), indexedArray.delete(value));
+                        break;
+                    default:
+                        if (deletionMode == DeletionMode.PRESERVE_ORDER) {
+                            assertEquals(scannedArray.search(value), indexedArray.search(value));
+                        } else {
+                            int index = indexedArray.search(value);
+                            
+                            assertEquals(scannedArray.search(value) >= 0, index >= 0);
+                            
+                            if (index >= 0) {
+                                assertEquals(value, indexedArray.get(index));
+                                
+                                for (int j = 0; j < index; j++) {
+                                    assertFalse(value.equals(indexedArray.get(j)));  // It is still the lowest index
+                                }
+                            }
+                        }
+                        break;
+                }
+            }
+            
+            assertEquals(scannedArray.size(), indexedArray.size());
+            
+            Integer[] scannedElements = new Integer[scannedArray.size()];
+            Integer[] indexedElements = new Integer[indexedArray.size()];
+            
+            for (int i = 0; i < scannedArray.size(); i++) {
+                scannedElements[i] = scannedArray.get(i);
+                indexedElements[i] = indexedArray.get(i);
+            }
+            
+            if (deletionMode == DeletionMode.SWAP_WITH_LAST) {
+                Arrays.sort(scannedElements);
+                Arrays.sort(indexedElements);
+            }
+            
+            assertArrayEquals(scannedElements, indexedElements);
+        }
+    }
+    
+    /**
+     * Test method for {@link UnorderedArray#search(java.lang.Object) UnorderedArray.search(T)} and
+     * {@link UnorderedArray#delete(java.lang.Object) UnorderedArray.delete(T)}.
+     * Elements whose hash codes all collide should still be found and deleted correctly.
+     */
+    @Test
+    void searchAndDelete_CollidingHashCodes_CorrectlyFound() {
+        UnorderedArray<CollidingKey> array = new UnorderedArray<CollidingKey>(4, 2.0, DeletionMode.SWAP_WITH_LAST, true);
+        
+        for (int i = 0; i < 100; i++) {
+            array.insert(new CollidingKey(i));
+        }
+        
+        for (int i = 0; i < 100; i += 2) {
+            assertTrue(array.delete(new CollidingKey(i)));
+        }
+        
+        assertEquals(50, array.size());
+        
+        for (int i = 0; i < 100; i++) {
+            int index = array.search(new CollidingKey(i));
+            
+            if (i % 2 == 0) {
+                assertEquals(-1, index);
+            } else {
+                assertEquals(i, array.get(index).id);
+            }
+        }
+    }
+    
+    /**
+     * Test method for {@link UnorderedArray#UnorderedArray(int, double, DeletionMode, boolean)}.
+     */
+    @Test
+    void constructor_NullDeletionMode_ExceptionThrown() {
+        assertThrows(NullPointerException.class, () -> {
+            new UnorderedArray<Integer>(10, UnorderedArray.FIXED_CAPACITY, null, true);
+        });
+    }
+    
+    /**
+     * Test method for {@link UnorderedArray#writeSnapshot(java.nio.channels.WritableByteChannel, ElementCodec)} and
+     * {@link UnorderedArray#readSnapshot(java.nio.channels.ReadableByteChannel, ElementCodec)}.
+     * A restored array should hold the same elements in the same order, and find them through its hash index.
+     */
+    @Test
+    void readSnapshot_SnapshotOfArray_SameElements() throws IOException {
+        UnorderedArray<Integer> array = new UnorderedArray<Integer>(0, 2.0);
+        
+        for (int i = 0; i < 5000; i++) {
+            array.insert(i * 7 % 5000);
+        }
+        
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        array.writeSnapshot(Channels.newChannel(output), ElementCodec.ints());
+        
+        UnorderedArray<Integer> restoredArray = new UnorderedArray<Integer>(10, UnorderedArray.FIXED_CAPACITY,
+                                                                            DeletionMode.SWAP_WITH_LAST, true);
+        restoredArray.insert(-1);
+        restoredArray.readSnapshot(Channels.newChannel(new ByteArrayInputStream(output.toByteArray())),
+                                   ElementCodec.ints());
+        
+        assertEquals(5000, restoredArray.size());
+        assertEquals(-1, restoredArray.search(-1));
+        
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(array.get(i), restoredArray.get(i));
+            assertEquals(i, restoredArray.search(array.get(i)));
+        }
+        
+        assertTrue(restoredArray.delete(0));
+        assertEquals(-1, restoredArray.search(0));
+    }
+    
+    private static final class CollidingKey {
+        final int id;
+        
+        CollidingKey(int id) {
+            this.id = id;
+        }
+        
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof CollidingKey && ((CollidingKey)obj).id == this.id;
+        }
+        
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
 }
\ No newline at end of file
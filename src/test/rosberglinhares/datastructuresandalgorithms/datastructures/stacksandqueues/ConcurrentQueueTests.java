@@ -0,0 +1,339 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.datastructures.stacksandqueues;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import rosberglinhares.datastructuresandalgorithms.datastructures.Measurable;
+import rosberglinhares.datastructuresandalgorithms.datastructures.MemoryLayout;
+
+/**
+ * Test cases for the following classes:
+ * 
+ * <ul>
+ *     <li>{@link SpscQueueArray}</li>
+ *     <li>{@link MpscQueueArray}</li>
+ * </ul>
+ * 
+ * The stress tests encode the producer and the position of each element in its value, so the consumer can check that
+ * every element arrives exactly once and in the order its producer inserted it.
+ */
+class ConcurrentQueueTests {
+    
+    private static final int ELEMENTS_PER_PRODUCER = 50_000;
+    private static final int BATCH_SIZE = 16;
+    
+    /**
+     * Test method for {@link SpscQueueArray#offer(java.lang.Object) SpscQueueArray.offer(T)} and
+     * {@link SpscQueueArray#poll()}.
+     */
+    @Test
+    void offerAndPoll_SpscQueueArray() {
+        this.offerAndPoll(new SpscQueueArray<Integer>(4));
+    }
+    
+    /**
+     * Test method for {@link SpscQueueArray#offer(java.lang.Object[], int, int) SpscQueueArray.offer(T[], int, int)}
+     * and {@link SpscQueueArray#drain(java.util.function.Consumer, int)}.
+     */
+    @Test
+    void offerBatchAndDrain_SpscQueueArray() {
+        this.offerBatchAndDrain(new SpscQueueArray<Integer>(4));
+    }
+    
+    /**
+     * Test method for {@link SpscQueueArray#enqueue(java.lang.Object) SpscQueueArray.enqueue(T)},
+     * {@link SpscQueueArray#dequeue()} and {@link SpscQueueArray#peek()}.
+     */
+    @Test
+    void queueMethods_SpscQueueArray() {
+        this.queueMethods(new SpscQueueArray<Integer>(2));
+    }
+    
+    /**
+     * Test method for {@link SpscQueueArray#highWaterMark()} and {@link SpscQueueArray#retainedBytes()}.
+     */
+    @Test
+    void statistics_SpscQueueArray() {
+        this.statistics(new SpscQueueArray<Integer>(8));
+    }
+    
+    /**
+     * Test method for {@link SpscQueueArray#offer(java.lang.Object) SpscQueueArray.offer(T)} and
+     * {@link SpscQueueArray#poll()}.
+     */
+    @Test
+    void offerAndPoll_SpscQueueArray_ConcurrentProducerAndConsumer() throws Exception {
+        this.transfer(new SpscQueueArray<Integer>(64), 1, false);
+    }
+    
+    /**
+     * Test method for {@link SpscQueueArray#offer(java.lang.Object[], int, int) SpscQueueArray.offer(T[], int, int)}
+     * and {@link SpscQueueArray#drain(java.util.function.Consumer, int)}.
+     */
+    @Test
+    void offerBatchAndDrain_SpscQueueArray_ConcurrentProducerAndConsumer() throws Exception {
+        this.transfer(new SpscQueueArray<Integer>(64), 1, true);
+    }
+    
+    /**
+     * Test method for {@link MpscQueueArray#offer(java.lang.Object) MpscQueueArray.offer(T)} and
+     * {@link MpscQueueArray#poll()}.
+     */
+    @Test
+    void offerAndPoll_MpscQueueArray() {
+        this.offerAndPoll(new MpscQueueArray<Integer>(4));
+    }
+    
+    /**
+     * Test method for {@link MpscQueueArray#offer(java.lang.Object[], int, int) MpscQueueArray.offer(T[], int, int)}
+     * and {@link MpscQueueArray#drain(java.util.function.Consumer, int)}.
+     */
+    @Test
+    void offerBatchAndDrain_MpscQueueArray() {
+        this.offerBatchAndDrain(new MpscQueueArray<Integer>(4));
+    }
+    
+    /**
+     * Test method for {@link MpscQueueArray#enqueue(java.lang.Object) MpscQueueArray.enqueue(T)},
+     * {@link MpscQueueArray#dequeue()} and {@link MpscQueueArray#peek()}.
+     */
+    @Test
+    void queueMethods_MpscQueueArray() {
+        this.queueMethods(new MpscQueueArray<Integer>(2));
+    }
+    
+    /**
+     * Test method for {@link MpscQueueArray#highWaterMark()} and {@link MpscQueueArray#retainedBytes()}.
+     */
+    @Test
+    void statistics_MpscQueueArray() {
+        this.statistics(new MpscQueueArray<Integer>(8));
+    }
+    
+    /**
+     * Test method for {@link MpscQueueArray#offer(java.lang.Object) MpscQueueArray.offer(T)} and
+     * {@link MpscQueueArray#poll()}.
+     */
+    @Test
+    void offerAndPoll_MpscQueueArray_ConcurrentProducersAndConsumer() throws Exception {
+        this.transfer(new MpscQueueArray<Integer>(64), 4, false);
+    }
+    
+    /**
+     * Test method for {@link MpscQueueArray#offer(java.lang.Object[], int, int) MpscQueueArray.offer(T[], int, int)}
+     * and {@link MpscQueueArray#drain(java.util.function.Consumer, int)}.
+     */
+    @Test
+    void offerBatchAndDrain_MpscQueueArray_ConcurrentProducersAndConsumer() throws Exception {
+        this.transfer(new MpscQueueArray<Integer>(64), 4, true);
+    }
+    
+    private void offerAndPoll(ConcurrentQueue<Integer> queue) {
+        assertEquals(4, queue.capacity());
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+        
+        // Goes around the ring a few times
+        for (int round = 0; round < 3; round++) {
+            assertTrue(queue.offer(10));
+            assertTrue(queue.offer(20));
+            assertTrue(queue.offer(30));
+            assertTrue(queue.offer(40));
+            assertFalse(queue.offer(50));
+            
+            assertEquals(4, queue.size());
+            
+            assertEquals(10, queue.poll());
+            assertEquals(20, queue.poll());
+            assertEquals(30, queue.poll());
+            assertEquals(40, queue.poll());
+            assertNull(queue.poll());
+        }
+        
+        assertThrows(NullPointerException.class, () -> queue.offer(null));
+    }
+    
+    private void offerBatchAndDrain(ConcurrentQueue<Integer> queue) {
+        Integer[] batch = { 10, 20, 30, 40, 50, 60 };
+        List<Integer> drained = new ArrayList<Integer>();
+        
+        assertEquals(3, queue.offer(batch, 0, 3));
+        assertEquals(1, queue.offer(batch, 3, 3));  // Only one free cell
+        assertEquals(0, queue.offer(batch, 4, 2));
+        
+        assertEquals(2, queue.drain(drained::add, 2));
+        assertEquals(2, queue.offer(batch, 4, 2));
+        assertEquals(4, queue.drain(drained::add, 10));
+        assertEquals(0, queue.drain(drained::add, 10));
+        
+        assertArrayEquals(batch, drained.toArray(new Integer[0]));
+        assertTrue(queue.isEmpty());
+        
+        assertThrows(NullPointerException.class, () -> queue.offer(new Integer[] { 10, null }, 0, 2));
+    }
+    
+    private void queueMethods(ConcurrentQueue<Integer> queue) {
+        assertThrows(UnsupportedOperationException.class, () -> queue.dequeue());
+        assertThrows(UnsupportedOperationException.class, () -> queue.peek());
+        
+        queue.enqueue(10);
+        queue.enqueue(20);
+        
+        assertThrows(UnsupportedOperationException.class, () -> queue.enqueue(30));
+        
+        assertEquals(10, queue.peek());
+        assertEquals(10, queue.dequeue());
+        assertEquals(20, queue.dequeue());
+    }
+    
+    /**
+     * The mark is only sampled when a side reads the sequence of the other, which the producers always do when the
+     * queue is full.
+     */
+    private <Q extends ConcurrentQueue<Integer> & Measurable> void statistics(Q queue) {
+        assertEquals(0, queue.highWaterMark());
+        assertTrue(queue.retainedBytes() >= MemoryLayout.referenceArrayBytes(8));
+        
+        queue.offer(new Integer[] { 10, 20, 30, 40, 50 }, 0, 5);
+        queue.poll();
+        queue.poll();
+        
+        // Goes around the ring a few times without ever being fuller than before
+        for (int i = 0; i < 20; i++) {
+            queue.offer(i);
+            queue.poll();
+        }
+        
+        assertTrue(queue.highWaterMark() <= 5);
+        
+        for (int i = 0; i < 5; i++) {
+            queue.offer(i);
+        }
+        
+        assertFalse(queue.offer(100));
+        assertEquals(8, queue.size());
+        assertEquals(8, queue.highWaterMark());
+        
+        queue.drain(value -> { }, 8);
+        
+        assertEquals(8, queue.highWaterMark());
+    }
+    
+    /**
+     * Moves {@link #ELEMENTS_PER_PRODUCER} elements from each producer thread to the current thread, which acts as
+     * the consumer. The queue is much smaller than the number of elements, so both sides keep finding it full or empty,
+     * and then yield to the other side.
+     */
+    private void transfer(ConcurrentQueue<Integer> queue, int producersCount, boolean batches) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(producersCount);
+        List<Future<?>> futures = new ArrayList<Future<?>>();
+        
+        try {
+            for (int i = 0; i < producersCount; i++) {
+                int producerIndex = i;
+                
+                futures.add(executor.submit(() -> this.produce(queue, producerIndex, batches)));
+            }
+            
+            int[] nextPositions = new int[producersCount];
+            int[] received = new int[1];
+            
+            while (received[0] < producersCount * ELEMENTS_PER_PRODUCER) {
+                if (batches) {
+                    if (queue.drain(value -> this.consume(value, nextPositions, received), BATCH_SIZE) == 0) {
+                        Thread.yield();
+                    }
+                } else {
+                    Integer value = queue.poll();
+                    
+                    if (value != null) {
+                        this.consume(value, nextPositions, received);
+                    } else {
+                        Thread.yield();
+                    }
+                }
+            }
+            
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            
+            assertTrue(queue.isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private void produce(ConcurrentQueue<Integer> queue, int producerIndex, boolean batches) {
+        int base = producerIndex * ELEMENTS_PER_PRODUCER;
+        Integer[] batch = new Integer[BATCH_SIZE];
+        int position = 0;
+        
+        while (position < ELEMENTS_PER_PRODUCER) {
+            if (batches) {
+                int length = Math.min(BATCH_SIZE, ELEMENTS_PER_PRODUCER - position);
+                
+                for (int i = 0; i < length; i++) {
+                    batch[i] = base + position + i;
+                }
+                
+                int count = queue.offer(batch, 0, length);
+                
+                if (count > 0) {
+                    position += count;
+                } else {
+                    Thread.yield();  // Gives the consumer a chance to run, even on a single processor
+                }
+            } else if (queue.offer(base + position)) {
+                position++;
+            } else {
+                Thread.yield();
+            }
+        }
+    }
+    
+    private void consume(int value, int[] nextPositions, int[] received) {
+        int producerIndex = value / ELEMENTS_PER_PRODUCER;
+        
+        assertEquals(nextPositions[producerIndex], value % ELEMENTS_PER_PRODUCER);
+        
+        nextPositions[producerIndex]++;
+        received[0]++;
+    }
+}
\ No newline at end of file
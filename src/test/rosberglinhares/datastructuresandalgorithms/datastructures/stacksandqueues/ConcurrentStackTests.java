@@ -0,0 +1,186 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.datastructures.stacksandqueues;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.jupiter.api.Test;
+
+import rosberglinhares.datastructuresandalgorithms.datastructures.MemoryLayout;
+
+/**
+ * Stress tests for the {@link ConcurrentStack} class. Its single-threaded behavior is tested in {@link StackTests}.
+ * 
+ * Every element pushed is unique, so the tests can check that each one is popped exactly once, no matter how the
+ * threads interleave.
+ */
+class ConcurrentStackTests {
+    
+    private static final int THREADS_COUNT = 8;
+    private static final int ELEMENTS_PER_THREAD = 20_000;
+    
+    /**
+     * Test method for {@link ConcurrentStack#push(java.lang.Object) ConcurrentStack.push(T)} and
+     * {@link ConcurrentStack#pop()}.
+     */
+    @Test
+    void pushThenPop_ManyThreads_EachElementPoppedOnce() throws Exception {
+        ConcurrentStack<Integer> stack = new ConcurrentStack<Integer>();
+        AtomicIntegerArray popCounts = new AtomicIntegerArray(THREADS_COUNT * ELEMENTS_PER_THREAD);
+        
+        this.runConcurrently(threadIndex -> {
+            for (int i = 0; i < ELEMENTS_PER_THREAD; i++) {
+                stack.push(threadIndex * ELEMENTS_PER_THREAD + i);
+            }
+        });
+        
+        assertEquals(THREADS_COUNT * ELEMENTS_PER_THREAD, stack.size());
+        assertEquals(THREADS_COUNT * ELEMENTS_PER_THREAD, stack.highWaterMark());
+        
+        this.runConcurrently(threadIndex -> {
+            for (int i = 0; i < ELEMENTS_PER_THREAD; i++) {
+                popCounts.incrementAndGet(stack.pop());
+            }
+        });
+        
+        this.assertEachElementPoppedOnce(stack, popCounts);
+    }
+    
+    /**
+     * Test method for {@link ConcurrentStack#push(java.lang.Object) ConcurrentStack.push(T)} and
+     * {@link ConcurrentStack#pop()} with the elimination array enabled.
+     */
+    @Test
+    void pushAndPopInterleaved_WithElimination_EachElementPoppedOnce() throws Exception {
+        this.pushAndPopInterleaved(new ConcurrentStack<Integer>(THREADS_COUNT / 2));
+    }
+    
+    /**
+     * Test method for {@link ConcurrentStack#push(java.lang.Object) ConcurrentStack.push(T)} and
+     * {@link ConcurrentStack#pop()} with the elimination array disabled.
+     */
+    @Test
+    void pushAndPopInterleaved_WithoutElimination_EachElementPoppedOnce() throws Exception {
+        this.pushAndPopInterleaved(new ConcurrentStack<Integer>());
+    }
+    
+    /**
+     * Test method for {@link ConcurrentStack#highWaterMark()} and {@link ConcurrentStack#retainedBytes()}.
+     */
+    @Test
+    void statistics_SingleThread_CountsNodes() {
+        ConcurrentStack<Integer> stack = new ConcurrentStack<Integer>();
+        long emptyStackBytes = stack.retainedBytes();
+        
+        stack.push(10);
+        stack.push(20);
+        stack.push(30);
+        stack.pop();
+        stack.pop();
+        stack.push(40);
+        
+        assertEquals(2, stack.size());
+        assertEquals(2, stack.capacity());
+        assertEquals(3, stack.highWaterMark());
+        assertEquals(emptyStackBytes + 2 * MemoryLayout.shallowBytes(Node.class), stack.retainedBytes());
+    }
+    
+    /**
+     * Every thread pops right after each push, so all the threads hit the top of the stack at the same time.
+     * A pop never finds the stack empty, since each thread always pushes before it pops.
+     */
+    private void pushAndPopInterleaved(ConcurrentStack<Integer> stack) throws Exception {
+        AtomicIntegerArray popCounts = new AtomicIntegerArray(THREADS_COUNT * ELEMENTS_PER_THREAD);
+        
+        this.runConcurrently(threadIndex -> {
+            for (int i = 0; i < ELEMENTS_PER_THREAD; i++) {
+                stack.push(threadIndex * ELEMENTS_PER_THREAD + i);
+                
+                // Leaves some elements behind, so the stack doesn't stay close to empty
+                if (i % 4 != 0) {
+                    popCounts.incrementAndGet(stack.pop());
+                }
+            }
+        });
+        
+        while (!stack.isEmpty()) {
+            popCounts.incrementAndGet(stack.pop());
+        }
+        
+        this.assertEachElementPoppedOnce(stack, popCounts);
+    }
+    
+    private void assertEachElementPoppedOnce(ConcurrentStack<Integer> stack, AtomicIntegerArray popCounts) {
+        for (int i = 0; i < popCounts.length(); i++) {
+            assertEquals(1, popCounts.get(i));
+        }
+        
+        assertTrue(stack.isEmpty());
+        assertEquals(0, stack.size());
+    }
+    
+    private interface ThreadBody {
+        void run(int threadIndex);
+    }
+    
+    /**
+     * Runs the body in {@link #THREADS_COUNT} threads, releasing all of them at the same time to maximize the
+     * contention, and waits for all of them to finish. Any exception thrown by a thread fails the test.
+     */
+    private void runConcurrently(ThreadBody body) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS_COUNT);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<Future<?>>();
+        
+        try {
+            for (int i = 0; i < THREADS_COUNT; i++) {
+                int threadIndex = i;
+                
+                futures.add(executor.submit(() -> {
+                    startSignal.await();
+                    body.run(threadIndex);
+                    return null;
+                }));
+            }
+            
+            startSignal.countDown();
+            
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,297 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2019 Rosberg Linhares (rosberglinhares@gmail.com)
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rosberglinhares.datastructuresandalgorithms.datastructures.stacksandqueues;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the following classes:
+ * 
+ * <ul>
+ *     <li>{@link QueueArray}</li>
+ *     <li>{@link DequeArray}</li>
+ * </ul>
+ */
+class QueueTests {
+    
+    /**
+     * Test method for {@link QueueArray#isEmpty()}.
+     */
+    @Test
+    void isEmpty_QueueArray() {
+        this.isEmpty(new QueueArray<Integer>(4));
+    }
+    
+    /**
+     * Test method for {@link QueueArray#size()}.
+     */
+    @Test
+    void size_QueueArray() {
+        this.size(new QueueArray<Integer>(4));
+    }
+    
+    /**
+     * Test method for {@link QueueArray#enqueue(java.lang.Object) QueueArray.enqueue(T)} and
+     * {@link QueueArray#dequeue()}.
+     */
+    @Test
+    void enqueueAndDequeue_QueueArray_FirstInFirstOut() {
+        this.enqueueAndDequeue(new QueueArray<Integer>(4));
+    }
+    
+    /**
+     * Test method for {@link QueueArray#peek()}.
+     */
+    @Test
+    void peek_QueueArray() {
+        this.peek(new QueueArray<Integer>(4));
+    }
+    
+    /**
+     * Test method for {@link QueueArray#QueueArray(int)}.
+     */
+    @Test
+    void constructor_QueueArray_CapacityRoundedUpToPowerOfTwo() {
+        assertEquals(1, new QueueArray<Integer>(0).capacity());
+        assertEquals(1, new QueueArray<Integer>(1).capacity());
+        assertEquals(8, new QueueArray<Integer>(5).capacity());
+        assertEquals(8, new QueueArray<Integer>(8).capacity());
+        assertEquals(16, new QueueArray<Integer>(9).capacity());
+        
+        assertThrows(IllegalArgumentException.class, () -> new QueueArray<Integer>(-1));
+    }
+    
+    /**
+     * Test method for {@link QueueArray#enqueue(java.lang.Object) QueueArray.enqueue(T)}.
+     */
+    @Test
+    void enqueue_QueueArray_LimitExceeded_ShouldThrowException() {
+        QueueArray<Integer> queue = new QueueArray<Integer>(4);
+        
+        queue.enqueue(10);
+        queue.enqueue(20);
+        queue.enqueue(30);
+        
+        assertFalse(queue.isFull());
+        
+        queue.enqueue(40);
+        
+        assertTrue(queue.isFull());
+        assertThrows(UnsupportedOperationException.class, () -> queue.enqueue(50));
+    }
+    
+    /**
+     * Test method for {@link QueueArray#enqueue(java.lang.Object) QueueArray.enqueue(T)}.
+     */
+    @Test
+    void enqueue_GrowableQueueArray_CapacityGrows() {
+        QueueArray<Integer> queue = new QueueArray<Integer>(4, true);
+        this.grow(queue);
+        
+        assertEquals(8, queue.capacity());
+        assertEquals(6, queue.highWaterMark());
+    }
+    
+    /**
+     * Test method for {@link DequeArray#isEmpty()}.
+     */
+    @Test
+    void isEmpty_DequeArray() {
+        this.isEmpty(new DequeArray<Integer>(4));
+    }
+    
+    /**
+     * Test method for {@link DequeArray#size()}.
+     */
+    @Test
+    void size_DequeArray() {
+        this.size(new DequeArray<Integer>(4));
+    }
+    
+    /**
+     * Test method for {@link DequeArray#enqueue(java.lang.Object) DequeArray.enqueue(T)} and
+     * {@link DequeArray#dequeue()}.
+     */
+    @Test
+    void enqueueAndDequeue_DequeArray_FirstInFirstOut() {
+        this.enqueueAndDequeue(new DequeArray<Integer>(4));
+    }
+    
+    /**
+     * Test method for {@link DequeArray#peek()}.
+     */
+    @Test
+    void peek_DequeArray() {
+        this.peek(new DequeArray<Integer>(4));
+    }
+    
+    /**
+     * Test method for {@link DequeArray#addFirst(java.lang.Object) DequeArray.addFirst(T)},
+     * {@link DequeArray#addLast(java.lang.Object) DequeArray.addLast(T)}, {@link DequeArray#removeFirst()} and
+     * {@link DequeArray#removeLast()}.
+     */
+    @Test
+    void addAndRemove_DequeArray_BothEnds() {
+        DequeArray<Integer> deque = new DequeArray<Integer>(4);
+        
+        deque.addFirst(20);  // Wraps around to the end of the array
+        deque.addFirst(10);
+        deque.addLast(30);
+        deque.addLast(40);
+        
+        assertTrue(deque.isFull());
+        assertThrows(UnsupportedOperationException.class, () -> deque.addFirst(50));
+        assertThrows(UnsupportedOperationException.class, () -> deque.addLast(50));
+        
+        assertEquals(10, deque.peekFirst());
+        assertEquals(40, deque.peekLast());
+        
+        assertEquals(40, deque.removeLast());
+        assertEquals(10, deque.removeFirst());
+        assertEquals(30, deque.removeLast());
+        assertEquals(20, deque.removeLast());
+        
+        assertTrue(deque.isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> deque.removeFirst());
+        assertThrows(UnsupportedOperationException.class, () -> deque.removeLast());
+        assertThrows(UnsupportedOperationException.class, () -> deque.peekFirst());
+        assertThrows(UnsupportedOperationException.class, () -> deque.peekLast());
+    }
+    
+    /**
+     * Test method for {@link DequeArray#addFirst(java.lang.Object) DequeArray.addFirst(T)}.
+     */
+    @Test
+    void addFirst_GrowableDequeArray_CapacityGrows() {
+        DequeArray<Integer> deque = new DequeArray<Integer>(2, true);
+        
+        for (int i = 1; i <= 5; i++) {
+            deque.addFirst(i);
+        }
+        
+        assertEquals(8, deque.capacity());
+        assertEquals(5, deque.highWaterMark());
+        
+        for (int i = 5; i >= 1; i--) {
+            assertEquals(i, deque.removeFirst());
+        }
+    }
+    
+    /**
+     * Test method for {@link DequeArray#addLast(java.lang.Object) DequeArray.addLast(T)}.
+     */
+    @Test
+    void addLast_GrowableDequeArray_CapacityGrows() {
+        DequeArray<Integer> deque = new DequeArray<Integer>(4, true);
+        this.grow(deque);
+        
+        assertEquals(8, deque.capacity());
+    }
+    
+    private void isEmpty(Queue<Integer> queue) {
+        assertTrue(queue.isEmpty());
+        
+        queue.enqueue(10);
+        
+        assertFalse(queue.isEmpty());
+        
+        queue.dequeue();
+        
+        assertTrue(queue.isEmpty());
+    }
+    
+    private void size(Queue<Integer> queue) {
+        assertEquals(0, queue.size());
+        
+        queue.enqueue(10);
+        queue.enqueue(20);
+        
+        assertEquals(2, queue.size());
+        
+        queue.dequeue();
+        
+        assertEquals(1, queue.size());
+    }
+    
+    /**
+     * Enqueues and dequeues more elements than the capacity, so the front and the rear wrap around the array.
+     */
+    private void enqueueAndDequeue(Queue<Integer> queue) {
+        int nextToEnqueue = 0;
+        int nextToDequeue = 0;
+        
+        for (int round = 0; round < 5; round++) {
+            queue.enqueue(nextToEnqueue++);
+            queue.enqueue(nextToEnqueue++);
+            queue.enqueue(nextToEnqueue++);
+            
+            assertEquals(nextToDequeue++, queue.dequeue());
+            assertEquals(nextToDequeue++, queue.dequeue());
+            assertEquals(nextToDequeue++, queue.dequeue());
+        }
+        
+        assertTrue(queue.isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> queue.dequeue());
+    }
+    
+    private void peek(Queue<Integer> queue) {
+        assertThrows(UnsupportedOperationException.class, () -> queue.peek());
+        
+        queue.enqueue(10);
+        queue.enqueue(20);
+        
+        assertEquals(10, queue.peek());
+        assertEquals(10, queue.peek());
+        
+        queue.dequeue();
+        
+        assertEquals(20, queue.peek());
+    }
+    
+    /**
+     * Grows a queue with capacity 4 while its elements wrap around the end of the array.
+     */
+    private void grow(Queue<Integer> queue) {
+        queue.enqueue(10);
+        queue.enqueue(20);
+        queue.enqueue(30);
+        queue.dequeue();
+        queue.enqueue(40);
+        queue.enqueue(50);  // Wraps around
+        queue.enqueue(60);  // Grows
+        queue.enqueue(70);
+        
+        assertEquals(6, queue.size());
+        
+        for (int expected = 20; expected <= 70; expected += 10) {
+            assertEquals(expected, queue.dequeue());
+        }
+    }
+}
\ No newline at end of file
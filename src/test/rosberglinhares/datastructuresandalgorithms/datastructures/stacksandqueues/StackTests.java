@@ -29,14 +29,23 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+
 import org.junit.jupiter.api.Test;
 
+import rosberglinhares.datastructuresandalgorithms.datastructures.ElementCodec;
+import rosberglinhares.datastructuresandalgorithms.datastructures.MemoryLayout;
+
 /**
  * Test cases for the following classes:
  * 
  * <ul>
  *     <li>{@link StackArray}</li>
  *     <li>{@link StackLinkedList}</li>
+ *     <li>{@link ConcurrentStack}</li>
  * </ul>
  */
 class StackTests {
@@ -119,6 +128,66 @@ class StackTests {
         });
     }
     
+    /**
+     * Test method for {@link StackArray#push(java.lang.Object) StackArray.push(T)}.
+     * When the stack is created with a growth factor, it should grow instead of throwing an exception.
+     */
+    @Test
+    void push_GrowableStackArray_CapacityGrows() {
+        StackArray<Integer> stack = new StackArray<Integer>(1, 2.0);
+        
+        for (int i = 0; i < 100; i++) {
+            stack.push(i);
+        }
+        
+        assertFalse(stack.isFull());
+        assertEquals(100, stack.size());
+        assertTrue(stack.capacity() >= 100);
+        
+        for (int i = 99; i >= 0; i--) {
+            assertEquals(i, stack.pop());
+        }
+    }
+    
+    /**
+     * Test method for {@link StackArray#ensureCapacity(int)} and {@link StackArray#trimToSize()}.
+     */
+    @Test
+    void ensureCapacityAndTrimToSize_StackArray() {
+        StackArray<Integer> stack = new StackArray<Integer>(2);
+        
+        stack.push(10);
+        stack.ensureCapacity(8);
+        
+        assertEquals(8, stack.capacity());
+        
+        stack.push(20);
+        stack.push(30);
+        stack.trimToSize();
+        
+        assertEquals(3, stack.capacity());
+        assertTrue(stack.isFull());
+        assertEquals(30, stack.pop());
+        assertEquals(20, stack.peek());
+    }
+    
+    /**
+     * Test method for {@link StackArray#highWaterMark()} and {@link StackArray#retainedBytes()}.
+     */
+    @Test
+    void statistics_StackArray() {
+        StackArray<Integer> stack = new StackArray<Integer>(5);
+        
+        stack.push(10);
+        stack.push(20);
+        stack.pop();
+        stack.push(30);
+        
+        assertEquals(5, stack.capacity());
+        assertEquals(2, stack.highWaterMark());
+        assertTrue(stack.retainedBytes() >= MemoryLayout.referenceArrayBytes(5));
+    }
+    
     /**
      * Test method for {@link StackArray#pop()}.
      */
@@ -155,6 +224,25 @@ class StackTests {
         this.size(stack);
     }
 
+    /**
+     * Test method for {@link StackLinkedList#highWaterMark()} and {@link StackLinkedList#retainedBytes()}.
+     */
+    @Test
+    void statistics_StackLinkedList() {
+        StackLinkedList<Integer> stack = new StackLinkedList<Integer>();
+        long emptyStackBytes = stack.retainedBytes();
+        
+        stack.push(10);
+        stack.push(20);
+        stack.push(30);
+        stack.pop();
+        stack.pop();
+        
+        assertEquals(1, stack.capacity());
+        assertEquals(3, stack.highWaterMark());
+        assertEquals(emptyStackBytes + MemoryLayout.shallowBytes(Node.class), stack.retainedBytes());
+    }
+    
     /**
      * Test method for {@link StackLinkedList#push(java.lang.Object) StackLinkedList.push(T)}.
      */
@@ -182,6 +270,92 @@ class StackTests {
         this.peek(stack);
     }
     
+    /**
+     * Test method for {@link ConcurrentStack#isEmpty()}.
+     */
+    @Test
+    void isEmpty_ConcurrentStack() {
+        Stack<Integer> stack = new ConcurrentStack<Integer>();
+        this.isEmpty(stack);
+    }
+    
+    /**
+     * Test method for {@link ConcurrentStack#size()}.
+     */
+    @Test
+    void size_ConcurrentStack() {
+        Stack<Integer> stack = new ConcurrentStack<Integer>();
+        this.size(stack);
+    }
+    
+    /**
+     * Test method for {@link ConcurrentStack#push(java.lang.Object) ConcurrentStack.push(T)}.
+     */
+    @Test
+    void push_ConcurrentStack() {
+        Stack<Integer> stack = new ConcurrentStack<Integer>();
+        this.push(stack);
+    }
+    
+    /**
+     * Test method for {@link ConcurrentStack#pop()}.
+     */
+    @Test
+    void pop_ConcurrentStack() {
+        Stack<Integer> stack = new ConcurrentStack<Integer>(4);
+        this.pop(stack);
+    }
+    
+    /**
+     * Test method for {@link ConcurrentStack#peek()}.
+     */
+    @Test
+    void peek_ConcurrentStack() {
+        Stack<Integer> stack = new ConcurrentStack<Integer>();
+        this.peek(stack);
+    }
+    
+    /**
+     * Test method for {@link StackArray#writeSnapshot(java.nio.channels.WritableByteChannel, ElementCodec)},
+     * {@link StackLinkedList#readSnapshot(java.nio.channels.ReadableByteChannel, ElementCodec)} and the other way
+     * around. Snapshots of either stack should restore into the other one with the same element on top.
+     */
+    @Test
+    void readSnapshot_SnapshotOfOtherStack_SameElements() throws IOException {
+        StackArray<Long> stackArray = new StackArray<Long>(3);
+        
+        stackArray.push(10L);
+        stackArray.push(20L);
+        stackArray.push(30L);
+        
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        stackArray.writeSnapshot(Channels.newChannel(output), ElementCodec.longs());
+        
+        StackLinkedList<Long> stackLinkedList = new StackLinkedList<Long>();
+        stackLinkedList.push(99L);
+        stackLinkedList.readSnapshot(Channels.newChannel(new ByteArrayInputStream(output.toByteArray())),
+                                     ElementCodec.longs());
+        
+        assertEquals(3, stackLinkedList.size());
+        assertEquals(30L, stackLinkedList.peek());
+        
+        stackLinkedList.pop();
+        stackLinkedList.push(40L);
+        
+        output.reset();
+        stackLinkedList.writeSnapshot(Channels.newChannel(output), ElementCodec.longs());
+        
+        StackArray<Long> restoredStackArray = new StackArray<Long>(1);
+        restoredStackArray.readSnapshot(Channels.newChannel(new ByteArrayInputStream(output.toByteArray())),
+                                        ElementCodec.longs());
+        
+        assertEquals(3, restoredStackArray.size());
+        assertEquals(40L, restoredStackArray.pop());
+        assertEquals(20L, restoredStackArray.pop());
+        assertEquals(10L, restoredStackArray.pop());
+        assertTrue(restoredStackArray.isEmpty());
+    }
+    
     private void isEmpty(Stack<Integer> stack) {
         assertTrue(stack.isEmpty());
         